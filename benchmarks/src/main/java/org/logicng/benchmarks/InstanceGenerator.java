@@ -0,0 +1,73 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+package org.logicng.benchmarks;
+
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.FormulaFactory;
+import org.logicng.io.writers.FormulaDimacsFileWriter;
+import org.logicng.transformations.cnf.PlaistedGreenbaumTransformation;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Generates the DIMACS instances of the benchmarks.  The instances are generated with fixed seeds, so running the
+ * generator again yields exactly the same files.
+ * @version 2.3.0
+ * @since 2.3.0
+ */
+public final class InstanceGenerator {
+
+    private InstanceGenerator() {
+        // Intentionally left empty.
+    }
+
+    /**
+     * Generates the DIMACS instances in the instances directory.
+     * @param args no arguments
+     * @throws IOException if an instance could not be written
+     */
+    public static void main(final String[] args) throws IOException {
+        final File directory = Instances.instancesDirectory();
+        if (!directory.exists() && !directory.mkdirs()) {
+            throw new IOException("Could not create the instances directory " + directory);
+        }
+        final FormulaFactory f = new FormulaFactory();
+        write(f, directory, "random-cnf-150", Instances.randomCNF(f, 150, 150));
+        write(f, directory, "random-cnf-200", Instances.randomCNF(f, 200, 200));
+        write(f, directory, "random-cnf-250", Instances.randomCNF(f, 250, 250));
+        write(f, directory, "constraints-200", Instances.constraints(f, 200, 300, 2, 200));
+    }
+
+    private static void write(final FormulaFactory f, final File directory, final String name, final List<Formula> formulas) throws IOException {
+        final Formula cnf = f.and(formulas).transform(new PlaistedGreenbaumTransformation(0));
+        FormulaDimacsFileWriter.write(new File(directory, name + ".cnf").getPath(), cnf, false);
+    }
+}
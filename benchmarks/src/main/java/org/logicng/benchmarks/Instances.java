@@ -0,0 +1,156 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+package org.logicng.benchmarks;
+
+import org.logicng.formulas.FType;
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.FormulaFactory;
+import org.logicng.io.readers.DimacsReader;
+import org.logicng.util.FormulaRandomizer;
+import org.logicng.util.FormulaRandomizerConfig;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The reproducible instance set of the benchmarks.  All instances are generated by a {@link FormulaRandomizer} with a
+ * fixed seed, so every run of the benchmarks works on exactly the same formulas.
+ * <p>
+ * The CNF instances for the SAT solver benchmarks are stored as DIMACS files in the directory {@code instances} (which
+ * can be changed by the system property {@code logicng.benchmarks.instances}).  They are generated by
+ * {@link InstanceGenerator}.
+ * @version 2.3.0
+ * @since 2.3.0
+ */
+public final class Instances {
+
+    /**
+     * The system property for the directory of the DIMACS instances.
+     */
+    public static final String INSTANCES_PROPERTY = "logicng.benchmarks.instances";
+
+    /**
+     * The names of the DIMACS instances.
+     */
+    public static final String[] DIMACS_INSTANCES = {"random-cnf-150", "random-cnf-200", "random-cnf-250", "constraints-200"};
+
+    private Instances() {
+        // Intentionally left empty.
+    }
+
+    /**
+     * Returns the random clauses of a random CNF instance with clauses of two and three literals.  The ratio of clauses
+     * to variables is 6, which lies near the phase transition for this mix of clause lengths.
+     * @param f       the formula factory
+     * @param numVars the number of variables
+     * @param seed    the seed
+     * @return the clauses
+     */
+    public static List<Formula> randomCNF(final FormulaFactory f, final int numVars, final long seed) {
+        final FormulaRandomizer randomizer = new FormulaRandomizer(f, FormulaRandomizerConfig.builder()
+                .seed(seed)
+                .numVars(numVars)
+                .weightConstant(0)
+                .maximumOperandsOr(4)
+                .build());
+        final List<Formula> clauses = new ArrayList<>();
+        while (clauses.size() < 6 * numVars) {
+            final Formula clause = randomizer.or(1);
+            if (clause.type() == FType.OR) {
+                clauses.add(clause);
+            }
+        }
+        return clauses;
+    }
+
+    /**
+     * Returns a random set of constraints.  Each constraint is a disjunction of arbitrary formulas which may also
+     * contain cardinality constraints and pseudo-Boolean constraints.
+     * @param f              the formula factory
+     * @param numVars        the number of variables
+     * @param numConstraints the number of constraints
+     * @param maxDepth       the maximal depth of the constraints
+     * @param seed           the seed
+     * @return the constraints
+     */
+    public static List<Formula> constraints(final FormulaFactory f, final int numVars, final int numConstraints, final int maxDepth, final long seed) {
+        final FormulaRandomizer randomizer = new FormulaRandomizer(f, FormulaRandomizerConfig.builder()
+                .seed(seed)
+                .numVars(numVars)
+                .weightConstant(0)
+                .weightPbc(1)
+                .weightCc(1)
+                .weightAmo(1)
+                .weightExo(1)
+                .build());
+        final List<Formula> constraints = new ArrayList<>(numConstraints);
+        for (int i = 0; i < numConstraints; i++) {
+            constraints.add(randomizer.or(maxDepth));
+        }
+        return constraints;
+    }
+
+    /**
+     * Returns a single random formula for the transformation and compilation benchmarks.
+     * @param f        the formula factory
+     * @param numVars  the number of variables
+     * @param maxDepth the maximal depth
+     * @param seed     the seed
+     * @return the formula
+     */
+    public static Formula formula(final FormulaFactory f, final int numVars, final int maxDepth, final long seed) {
+        final FormulaRandomizer randomizer = new FormulaRandomizer(f, FormulaRandomizerConfig.builder()
+                .seed(seed)
+                .numVars(numVars)
+                .weightConstant(0)
+                .build());
+        return randomizer.formula(maxDepth);
+    }
+
+    /**
+     * Reads a DIMACS instance.
+     * @param f    the formula factory
+     * @param name the name of the instance (without the suffix {@code .cnf})
+     * @return the clauses of the instance
+     * @throws IOException if the instance could not be read
+     */
+    public static List<Formula> readDimacs(final FormulaFactory f, final String name) throws IOException {
+        return DimacsReader.readCNF(new File(instancesDirectory(), name + ".cnf"), f);
+    }
+
+    /**
+     * Returns the directory of the DIMACS instances.
+     * @return the directory of the DIMACS instances
+     */
+    public static File instancesDirectory() {
+        return new File(System.getProperty(INSTANCES_PROPERTY, "instances"));
+    }
+}
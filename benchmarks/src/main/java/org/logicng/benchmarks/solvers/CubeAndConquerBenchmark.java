@@ -0,0 +1,95 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+
+package org.logicng.benchmarks.solvers;
+
+import org.logicng.benchmarks.Instances;
+import org.logicng.datastructures.Tristate;
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.FormulaFactory;
+import org.logicng.solvers.CubeAndConquerConfig;
+import org.logicng.solvers.CubeAndConquerSATSolver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for solving the DIMACS instances with the cube-and-conquer SAT solver.  Each invocation creates a new solver,
+ * adds all clauses, and solves them.  The speedup of the cube-and-conquer solver depends on the number of available processors.
+ * @version 2.3.0
+ * @since 2.3.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CubeAndConquerBenchmark {
+
+    @Param({"random-cnf-250", "constraints-200"})
+    private String instance;
+
+    @Param({"1", "2", "4", "8"})
+    private int parallelism;
+
+    @Param({"0", "4", "8"})
+    private int maxCubeDepth;
+
+    private FormulaFactory f;
+    private List<Formula> clauses;
+
+    @Setup
+    public void setup() throws IOException {
+        this.f = new FormulaFactory();
+        this.clauses = Instances.readDimacs(this.f, this.instance);
+    }
+
+    @Benchmark
+    public Tristate solve() {
+        final CubeAndConquerSATSolver solver = CubeAndConquerSATSolver.cubeAndConquer(this.f, CubeAndConquerConfig.builder()
+                .parallelism(this.parallelism)
+                .maxCubeDepth(this.maxCubeDepth)
+                .build());
+        solver.add(this.clauses);
+        return solver.sat();
+    }
+}
@@ -0,0 +1,112 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+package org.logicng.benchmarks.solvers;
+
+import org.logicng.benchmarks.Instances;
+import org.logicng.datastructures.Tristate;
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.FormulaFactory;
+import org.logicng.formulas.Literal;
+import org.logicng.formulas.Variable;
+import org.logicng.solvers.MiniSat;
+import org.logicng.solvers.sat.GlucoseConfig;
+import org.logicng.solvers.sat.MiniSatConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for an incremental session of the Glucose solver with the different managements of the learnt clauses.
+ * Each invocation creates a new solver, adds all clauses, and solves them under a fixed sequence of assumptions.
+ * @version 2.3.0
+ * @since 2.3.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LearntDatabaseBenchmark {
+
+    private static final int NUM_CALLS = 50;
+    private static final int NUM_ASSUMPTIONS = 5;
+
+    @Param({"random-cnf-150", "random-cnf-200", "random-cnf-250", "constraints-200"})
+    private String instance;
+
+    @Param({"GLUCOSE", "TIERED"})
+    private GlucoseConfig.LearntDatabase learntDatabase;
+
+    private FormulaFactory f;
+    private List<Formula> clauses;
+    private List<List<Literal>> assumptions;
+
+    @Setup
+    public void setup() throws IOException {
+        this.f = new FormulaFactory();
+        this.clauses = Instances.readDimacs(this.f, this.instance);
+        final List<Variable> variables = new ArrayList<>(this.f.and(this.clauses).variables());
+        final Random random = new Random(42);
+        this.assumptions = new ArrayList<>(NUM_CALLS);
+        for (int i = 0; i < NUM_CALLS; i++) {
+            final List<Literal> call = new ArrayList<>(NUM_ASSUMPTIONS);
+            for (int j = 0; j < NUM_ASSUMPTIONS; j++) {
+                final Variable var = variables.get(random.nextInt(variables.size()));
+                call.add(random.nextBoolean() ? var : var.negate());
+            }
+            this.assumptions.add(call);
+        }
+    }
+
+    @Benchmark
+    public void solve(final Blackhole blackhole) {
+        final MiniSat solver = MiniSat.glucose(this.f, MiniSatConfig.builder().incremental(true).build(),
+                GlucoseConfig.builder().learntDatabase(this.learntDatabase).build());
+        solver.add(this.clauses);
+        for (final List<Literal> call : this.assumptions) {
+            final Tristate result = solver.sat(call);
+            blackhole.consume(result);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+package org.logicng.benchmarks.solvers;
+
+import org.logicng.datastructures.Tristate;
+import org.logicng.formulas.CType;
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.FormulaFactory;
+import org.logicng.formulas.Literal;
+import org.logicng.formulas.Variable;
+import org.logicng.solvers.MiniSat;
+import org.logicng.solvers.sat.MiniSatConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for solving random instances with pseudo-Boolean constraints over fifteen literals and clauses over
+ * three literals.  The pseudo-Boolean constraints are either encoded to CNF or propagated natively.  Since the
+ * formula factory caches the encodings, each invocation works on freshly generated formulas and creates a new solver,
+ * adds all formulas, and solves them.
+ * @version 2.3.0
+ * @since 2.3.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PBPropagationBenchmark {
+
+    private static final int NUM_VARS = 50;
+    private static final int NUM_PBCS = 10;
+    private static final int PBC_SIZE = 15;
+    private static final int NUM_CLAUSES = 100;
+
+    @Param({"5", "20", "100"})
+    private int maxCoefficient;
+
+    private FormulaFactory f;
+    private List<Formula> formulas;
+
+    @Setup(Level.Invocation)
+    public void setup() {
+        this.f = new FormulaFactory();
+        final Random random = new Random(42);
+        final List<Variable> vars = new ArrayList<>();
+        for (int i = 0; i < NUM_VARS; i++) {
+            vars.add(this.f.variable("v" + i));
+        }
+        this.formulas = new ArrayList<>();
+        for (int i = 0; i < NUM_PBCS; i++) {
+            final List<Integer> coefficients = new ArrayList<>(PBC_SIZE);
+            int sum = 0;
+            for (int j = 0; j < PBC_SIZE; j++) {
+                final int coefficient = 1 + random.nextInt(this.maxCoefficient);
+                coefficients.add(coefficient);
+                sum += coefficient;
+            }
+            final CType comparator = i % 2 == 0 ? CType.LE : CType.GE;
+            this.formulas.add(this.f.pbc(comparator, sum / 2, randomLiterals(random, vars, PBC_SIZE), coefficients));
+        }
+        for (int i = 0; i < NUM_CLAUSES; i++) {
+            this.formulas.add(this.f.or(randomLiterals(random, vars, 3)));
+        }
+    }
+
+    private static List<Literal> randomLiterals(final Random random, final List<Variable> vars, final int size) {
+        final List<Literal> literals = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            final Variable var = vars.get(random.nextInt(vars.size()));
+            literals.add(random.nextBoolean() ? var : var.negate());
+        }
+        return literals;
+    }
+
+    @Benchmark
+    public Tristate cnf() {
+        final MiniSat solver = MiniSat.miniSat(this.f);
+        solver.add(this.formulas);
+        return solver.sat();
+    }
+
+    @Benchmark
+    public Tristate pbPropagation() {
+        final MiniSat solver = MiniSat.miniSat(this.f, MiniSatConfig.builder().pbPropagation(true).build());
+        solver.add(this.formulas);
+        return solver.sat();
+    }
+}
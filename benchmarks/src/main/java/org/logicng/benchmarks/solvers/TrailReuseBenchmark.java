@@ -0,0 +1,140 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+package org.logicng.benchmarks.solvers;
+
+import org.logicng.backbones.BackboneType;
+import org.logicng.benchmarks.Instances;
+import org.logicng.datastructures.Assignment;
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.FormulaFactory;
+import org.logicng.formulas.Literal;
+import org.logicng.formulas.Variable;
+import org.logicng.solvers.MiniSat;
+import org.logicng.solvers.sat.MiniSatConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.SortedSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the chronological backtracking and the trail reuse of the MiniSat solver on incremental workloads.
+ * The assumption benchmark solves a sequence of calls whose assumptions share a common prefix, the backbone benchmark
+ * computes the backbone of the instance.  Each invocation creates a new solver and adds all clauses.
+ * @version 2.3.0
+ * @since 2.3.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TrailReuseBenchmark {
+
+    private static final int NUM_CALLS = 50;
+    private static final int PREFIX_LENGTH = 10;
+
+    @Param({"random-cnf-150", "random-cnf-200", "random-cnf-250", "constraints-200"})
+    private String instance;
+
+    @Param({"false", "true"})
+    private boolean chronologicalBacktracking;
+
+    @Param({"false", "true"})
+    private boolean trailReuse;
+
+    private FormulaFactory f;
+    private List<Formula> clauses;
+    private SortedSet<Variable> variables;
+    private List<List<Literal>> assumptions;
+
+    @Setup
+    public void setup() throws IOException {
+        this.f = new FormulaFactory();
+        this.clauses = Instances.readDimacs(this.f, this.instance);
+        this.variables = this.f.and(this.clauses).variables();
+        final List<Variable> vars = new ArrayList<>(this.variables);
+        final MiniSat solver = MiniSat.miniSat(this.f);
+        solver.add(this.clauses);
+        solver.sat();
+        final Assignment model = solver.model();
+        final Random random = new Random(42);
+        final List<Literal> prefix = new ArrayList<>(PREFIX_LENGTH);
+        for (int i = 0; i < PREFIX_LENGTH; i++) {
+            final Variable var = vars.get(random.nextInt(vars.size()));
+            prefix.add(model == null || model.evaluateLit(var) ? var : var.negate());
+        }
+        this.assumptions = new ArrayList<>(NUM_CALLS);
+        for (int i = 0; i < NUM_CALLS; i++) {
+            final List<Literal> call = new ArrayList<>(prefix.subList(0, random.nextInt(PREFIX_LENGTH + 1)));
+            final Variable var = vars.get(random.nextInt(vars.size()));
+            call.add(random.nextBoolean() ? var : var.negate());
+            this.assumptions.add(call);
+        }
+    }
+
+    private MiniSat solver() {
+        final MiniSat solver = MiniSat.miniSat(this.f, MiniSatConfig.builder()
+                .chronologicalBacktracking(this.chronologicalBacktracking)
+                .trailReuse(this.trailReuse)
+                .build());
+        solver.add(this.clauses);
+        return solver;
+    }
+
+    @Benchmark
+    public void assumptions(final Blackhole blackhole) {
+        final MiniSat solver = solver();
+        for (final List<Literal> call : this.assumptions) {
+            blackhole.consume(solver.sat(call));
+        }
+        blackhole.consume(solver.underlyingSolver().savedPropagations());
+    }
+
+    @Benchmark
+    public void backbone(final Blackhole blackhole) {
+        final MiniSat solver = solver();
+        blackhole.consume(solver.backbone(this.variables, BackboneType.POSITIVE_AND_NEGATIVE));
+        blackhole.consume(solver.underlyingSolver().savedPropagations());
+    }
+}
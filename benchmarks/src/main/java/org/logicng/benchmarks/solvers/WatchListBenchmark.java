@@ -0,0 +1,197 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+package org.logicng.benchmarks.solvers;
+
+import org.logicng.collections.LNGIntVector;
+import org.logicng.collections.LNGVector;
+import org.logicng.solvers.datastructures.MSClause;
+import org.logicng.solvers.datastructures.MSWatchList;
+import org.logicng.solvers.datastructures.MSWatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the watch lists of {@link MSWatcher} objects with the packed {@link MSWatchList} on the inner loop of the
+ * unit propagation: for a sequence of falsified literals, the watchers of each literal are visited, satisfied
+ * blockers are kept, and the other watchers are moved to a new non-false literal of their clause.
+ * @version 2.3.0
+ * @since 2.3.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class WatchListBenchmark {
+
+    private static final int TRUE = 1;
+    private static final int FALSE = -1;
+
+    @Param({"10000"})
+    private int numVars;
+
+    @Param({"4"})
+    private int clauseRatio;
+
+    private int[] values;
+    private int[] falsified;
+    private LNGVector<LNGVector<MSWatcher>> objectWatches;
+    private LNGVector<MSWatchList> packedWatches;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        final Random random = new Random(42);
+        this.values = new int[2 * this.numVars];
+        for (int v = 0; v < this.numVars; v++) {
+            final int value = random.nextInt(3) - 1;
+            this.values[2 * v] = value;
+            this.values[2 * v + 1] = -value;
+        }
+        this.objectWatches = new LNGVector<>(2 * this.numVars);
+        this.packedWatches = new LNGVector<>(2 * this.numVars);
+        for (int i = 0; i < 2 * this.numVars; i++) {
+            this.objectWatches.push(new LNGVector<>());
+            this.packedWatches.push(new MSWatchList());
+        }
+        for (int i = 0; i < this.clauseRatio * this.numVars; i++) {
+            final LNGIntVector lits = new LNGIntVector();
+            final int size = 3 + random.nextInt(6);
+            for (int j = 0; j < size; j++) {
+                lits.push(2 * random.nextInt(this.numVars) + random.nextInt(2));
+            }
+            final MSClause objectClause = new MSClause(lits, false);
+            this.objectWatches.get(lits.get(0) ^ 1).push(new MSWatcher(objectClause, lits.get(1)));
+            this.objectWatches.get(lits.get(1) ^ 1).push(new MSWatcher(objectClause, lits.get(0)));
+            final MSClause packedClause = new MSClause(lits, false);
+            this.packedWatches.get(lits.get(0) ^ 1).push(packedClause, lits.get(1));
+            this.packedWatches.get(lits.get(1) ^ 1).push(packedClause, lits.get(0));
+        }
+        this.falsified = new int[this.numVars];
+        for (int i = 0; i < this.falsified.length; i++) {
+            this.falsified[i] = 2 * random.nextInt(this.numVars) + random.nextInt(2);
+        }
+    }
+
+    @Benchmark
+    public int objectWatchers() {
+        int moved = 0;
+        for (final int p : this.falsified) {
+            final LNGVector<MSWatcher> ws = this.objectWatches.get(p);
+            final int falseLit = p ^ 1;
+            int iInd = 0;
+            int jInd = 0;
+            while (iInd < ws.size()) {
+                final MSWatcher i = ws.get(iInd);
+                final int blocker = i.blocker();
+                if (this.values[blocker] == TRUE) {
+                    ws.set(jInd++, i);
+                    iInd++;
+                    continue;
+                }
+                final MSClause c = i.clause();
+                if (c.get(0) == falseLit) {
+                    c.set(0, c.get(1));
+                    c.set(1, falseLit);
+                }
+                iInd++;
+                final int first = c.get(0);
+                final MSWatcher w = new MSWatcher(c, first);
+                boolean foundWatch = false;
+                for (int k = 2; k < c.size() && !foundWatch; k++) {
+                    if (this.values[c.get(k)] != FALSE && (c.get(k) ^ 1) != p) {
+                        c.set(1, c.get(k));
+                        c.set(k, falseLit);
+                        this.objectWatches.get(c.get(1) ^ 1).push(w);
+                        foundWatch = true;
+                        moved++;
+                    }
+                }
+                if (!foundWatch) {
+                    ws.set(jInd++, w);
+                }
+            }
+            ws.removeElements(iInd - jInd);
+        }
+        return moved;
+    }
+
+    @Benchmark
+    public int packedWatchers() {
+        int moved = 0;
+        for (final int p : this.falsified) {
+            final MSWatchList ws = this.packedWatches.get(p);
+            final int falseLit = p ^ 1;
+            int iInd = 0;
+            int jInd = 0;
+            while (iInd < ws.size()) {
+                final int blocker = ws.blocker(iInd);
+                if (this.values[blocker] == TRUE) {
+                    ws.move(iInd++, jInd++);
+                    continue;
+                }
+                final MSClause c = ws.clause(iInd);
+                if (c.get(0) == falseLit) {
+                    c.set(0, c.get(1));
+                    c.set(1, falseLit);
+                }
+                iInd++;
+                final int first = c.get(0);
+                boolean foundWatch = false;
+                for (int k = 2; k < c.size() && !foundWatch; k++) {
+                    if (this.values[c.get(k)] != FALSE && (c.get(k) ^ 1) != p) {
+                        c.set(1, c.get(k));
+                        c.set(k, falseLit);
+                        this.packedWatches.get(c.get(1) ^ 1).push(c, first);
+                        foundWatch = true;
+                        moved++;
+                    }
+                }
+                if (!foundWatch) {
+                    ws.set(jInd++, c, first);
+                }
+            }
+            ws.removeElements(iInd - jInd);
+        }
+        return moved;
+    }
+}
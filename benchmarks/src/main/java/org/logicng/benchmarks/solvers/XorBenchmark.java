@@ -0,0 +1,118 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+package org.logicng.benchmarks.solvers;
+
+import org.logicng.datastructures.Tristate;
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.FormulaFactory;
+import org.logicng.formulas.Literal;
+import org.logicng.formulas.Variable;
+import org.logicng.solvers.MiniSat;
+import org.logicng.solvers.sat.MiniSatConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for solving random instances with XOR constraints over five literals and clauses over three literals.
+ * The XOR constraints are either transformed to CNF or propagated natively by Gaussian elimination.  Each invocation
+ * creates a new solver, adds all formulas, and solves them.
+ * @version 2.3.0
+ * @since 2.3.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class XorBenchmark {
+
+    private static final int NUM_VARS = 100;
+    private static final int NUM_CLAUSES = 200;
+
+    @Param({"40", "60", "80", "95"})
+    private int numXors;
+
+    private FormulaFactory f;
+    private List<Formula> formulas;
+
+    @Setup
+    public void setup() {
+        this.f = new FormulaFactory();
+        final Random random = new Random(42);
+        final List<Variable> vars = new ArrayList<>();
+        for (int i = 0; i < NUM_VARS; i++) {
+            vars.add(this.f.variable("v" + i));
+        }
+        this.formulas = new ArrayList<>();
+        for (int i = 0; i < this.numXors; i++) {
+            this.formulas.add(this.f.xor(randomLiterals(random, vars, 5)));
+        }
+        for (int i = 0; i < NUM_CLAUSES; i++) {
+            this.formulas.add(this.f.or(randomLiterals(random, vars, 3)));
+        }
+    }
+
+    private static List<Literal> randomLiterals(final Random random, final List<Variable> vars, final int size) {
+        final List<Literal> literals = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            final Variable var = vars.get(random.nextInt(vars.size()));
+            literals.add(random.nextBoolean() ? var : var.negate());
+        }
+        return literals;
+    }
+
+    @Benchmark
+    public Tristate cnf() {
+        final MiniSat solver = MiniSat.miniSat(this.f);
+        solver.add(this.formulas);
+        return solver.sat();
+    }
+
+    @Benchmark
+    public Tristate gaussianElimination() {
+        final MiniSat solver = MiniSat.miniSat(this.f, MiniSatConfig.builder().gaussianElimination(true).build());
+        solver.add(this.formulas);
+        return solver.sat();
+    }
+}
@@ -0,0 +1,115 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+package org.logicng.benchmarks.transformations;
+
+import org.logicng.benchmarks.Instances;
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.FormulaFactory;
+import org.logicng.formulas.FormulaTransformation;
+import org.logicng.transformations.cnf.CNFFactorization;
+import org.logicng.transformations.cnf.PlaistedGreenbaumTransformation;
+import org.logicng.transformations.cnf.TseitinTransformation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the CNF transformations.  Since the formula factory caches the results of the transformations, every
+ * invocation works on a new formula factory.
+ * @version 2.3.0
+ * @since 2.3.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CNFBenchmark {
+
+    /**
+     * The CNF transformations.
+     */
+    public enum Method {
+        FACTORIZATION, TSEITIN, PLAISTED_GREENBAUM
+    }
+
+    @Param({"FACTORIZATION", "TSEITIN", "PLAISTED_GREENBAUM"})
+    private Method method;
+
+    @Param({"100"})
+    private int numFormulas;
+
+    private List<Formula> formulas;
+    private FormulaTransformation transformation;
+
+    @Setup(Level.Invocation)
+    public void setup() {
+        final FormulaFactory f = new FormulaFactory();
+        this.formulas = new ArrayList<>(this.numFormulas);
+        for (int i = 0; i < this.numFormulas; i++) {
+            this.formulas.add(Instances.formula(f, 20, 3, i));
+        }
+        switch (this.method) {
+            case FACTORIZATION:
+                this.transformation = new CNFFactorization();
+                break;
+            case TSEITIN:
+                this.transformation = new TseitinTransformation();
+                break;
+            case PLAISTED_GREENBAUM:
+                this.transformation = new PlaistedGreenbaumTransformation();
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown CNF method: " + this.method);
+        }
+    }
+
+    @Benchmark
+    public int transform() {
+        int size = 0;
+        for (final Formula formula : this.formulas) {
+            size += formula.transform(this.transformation).numberOfOperands();
+        }
+        return size;
+    }
+}
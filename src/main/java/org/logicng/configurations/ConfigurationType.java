@@ -30,7 +30,7 @@ package org.logicng.configurations;
 
 /**
  * The different types of configurations in LogicNG.
- * @version 2.0.0
+ * @version 2.3.0
  * @since 1.1
  */
 public enum ConfigurationType {
@@ -38,6 +38,8 @@ public enum ConfigurationType {
     CNF,
     MINISAT,
     GLUCOSE,
+    PORTFOLIO,
+    CUBE_AND_CONQUER,
     MAXSAT,
     MUS,
     CC_ENCODER,
@@ -0,0 +1,112 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+
+package org.logicng.datastructures;
+
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.FormulaFactory;
+import org.logicng.formulas.Variable;
+
+import java.util.Collections;
+import java.util.Objects;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * An XOR constraint over a set of variables.  The constraint is satisfied iff the number of true variables is odd
+ * for the right-hand side {@code true} and even for the right-hand side {@code false}.
+ * @version 2.3.0
+ * @since 2.3.0
+ */
+public final class XorConstraint {
+
+    private final SortedSet<Variable> variables;
+    private final boolean rhs;
+
+    /**
+     * Constructs a new XOR constraint.
+     * @param variables the variables of the constraint
+     * @param rhs       the right-hand side of the constraint
+     */
+    public XorConstraint(final SortedSet<Variable> variables, final boolean rhs) {
+        this.variables = Collections.unmodifiableSortedSet(new TreeSet<>(variables));
+        this.rhs = rhs;
+    }
+
+    /**
+     * Returns the variables of this constraint.
+     * @return the variables of this constraint
+     */
+    public SortedSet<Variable> variables() {
+        return this.variables;
+    }
+
+    /**
+     * Returns the right-hand side of this constraint, i.e. the parity of the number of true variables.
+     * @return {@code true} if the number of true variables has to be odd, {@code false} if it has to be even
+     */
+    public boolean rhs() {
+        return this.rhs;
+    }
+
+    /**
+     * Returns a formula for this constraint.
+     * @param f the formula factory to generate the formula
+     * @return the formula for this constraint
+     */
+    public Formula formula(final FormulaFactory f) {
+        final Formula xor = f.xor(this.variables);
+        return this.rhs ? xor : f.not(xor);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final XorConstraint that = (XorConstraint) o;
+        return this.rhs == that.rhs && this.variables.equals(that.variables);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.variables, this.rhs);
+    }
+
+    @Override
+    public String toString() {
+        return "XorConstraint{" +
+                "variables=" + this.variables +
+                ", rhs=" + this.rhs +
+                '}';
+    }
+}
@@ -0,0 +1,180 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+package org.logicng.formulas;
+
+import org.logicng.formulas.cache.FormulaCache;
+import org.logicng.formulas.cache.LRUFormulaCache;
+import org.logicng.formulas.cache.UnboundedFormulaCache;
+import org.logicng.formulas.cache.WeakFormulaCache;
+import org.logicng.io.parsers.ParserException;
+import org.logicng.io.parsers.PseudoBooleanParser;
+import org.logicng.pseudobooleans.PBEncoder;
+import org.logicng.transformations.cnf.CNFEncoder;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A thread-safe version of the formula factory.
+ * <p>
+ * All unique tables (literals, negations, implications, equivalences, conjunctions, disjunctions, pseudo-Boolean and
+ * cardinality constraints) as well as unbounded formula caches are held in concurrent hash maps, bounded or weak
+ * formula caches and weak unique tables are synchronized.  New nodes are inserted atomically, so it is still
+ * guaranteed that equivalent formulas (in terms of associativity and commutativity) are hold exactly once in memory,
+ * even if they are constructed concurrently by different threads.  Formulas created by one thread can be freely
+ * shared with and used by other threads.
+ * <p>
+ * The CNF encoder, the pseudo-Boolean encoder and the parser of the factory are stateful, therefore each thread gets
+ * its own instance of them.
+ * <p>
+ * Configurations should be put into the factory before it is shared between threads.  The method {@link #clear()}
+ * must not be called while other threads are still working on the factory.
+ * @version 2.3.0
+ * @since 2.3.0
+ */
+public class ConcurrentFormulaFactory extends FormulaFactory {
+
+    private final Object counterLock = new Object();
+    private final ThreadLocal<CNFEncoder> cnfEncoders = ThreadLocal.withInitial(() -> new CNFEncoder(this));
+    private final ThreadLocal<PBEncoder> pbEncoders = ThreadLocal.withInitial(() -> new PBEncoder(this));
+    private final ThreadLocal<PseudoBooleanParser> parsers = ThreadLocal.withInitial(() -> new PseudoBooleanParser(this));
+
+    /**
+     * Constructor for a new concurrent formula factory.
+     * @param config the configuration for this formula factory
+     */
+    public ConcurrentFormulaFactory(final FormulaFactoryConfig config) {
+        super(config);
+    }
+
+    /**
+     * Constructor for a new concurrent formula factory with the default configuration.
+     */
+    public ConcurrentFormulaFactory() {
+        super();
+    }
+
+    @Override
+    public void clear() {
+        this.posLiterals = newUniqueTable();
+        this.negLiterals = newUniqueTable();
+        this.generatedVariables = ConcurrentHashMap.newKeySet();
+        this.nots = newUniqueTable();
+        this.implications = newUniqueTable();
+        this.equivalences = newUniqueTable();
+        this.ands2 = newUniqueTable();
+        this.ands3 = newUniqueTable();
+        this.ands4 = newUniqueTable();
+        this.andsN = newUniqueTable();
+        this.ors2 = newUniqueTable();
+        this.ors3 = newUniqueTable();
+        this.ors4 = newUniqueTable();
+        this.orsN = newUniqueTable();
+        this.pbConstraints = newUniqueTable();
+        this.cardinalityConstraints = newUniqueTable();
+        this.ccCounter = 0;
+        this.pbCounter = 0;
+        this.cnfCounter = 0;
+        this.transformationCache = newCache();
+        this.predicateCache = newCache();
+        this.functionCache = newCache();
+    }
+
+    @Override
+    protected <K, V extends Formula> Map<K, V> newUniqueTable() {
+        return this.weakUniqueTables ? Collections.synchronizedMap(new WeakValueHashMap<>()) : new ConcurrentHashMap<>();
+    }
+
+    @Override
+    protected <V> FormulaCache<V> newCache() {
+        if (this.weakUniqueTables) {
+            return new WeakFormulaCache<>();
+        }
+        return this.cacheSize < 0 ? new UnboundedFormulaCache<>(true) : new LRUFormulaCache<>(this.cacheSize);
+    }
+
+    /**
+     * Returns the CNF encoder of the current thread.
+     * @return the CNF encoder of the current thread
+     */
+    @Override
+    public CNFEncoder cnfEncoder() {
+        return this.cnfEncoders.get();
+    }
+
+    /**
+     * Returns the pseudo-Boolean encoder of the current thread.
+     * @return the pseudo-Boolean encoder of the current thread
+     */
+    @Override
+    public PBEncoder pbEncoder() {
+        return this.pbEncoders.get();
+    }
+
+    @Override
+    public Formula parse(final String string) throws ParserException {
+        return this.parsers.get().parse(string);
+    }
+
+    @Override
+    public Variable newCCVariable() {
+        synchronized (this.counterLock) {
+            return super.newCCVariable();
+        }
+    }
+
+    @Override
+    public Variable newPBVariable() {
+        synchronized (this.counterLock) {
+            return super.newPBVariable();
+        }
+    }
+
+    @Override
+    public Variable newCNFVariable() {
+        synchronized (this.counterLock) {
+            return super.newCNFVariable();
+        }
+    }
+
+    @Override
+    public Formula importFormula(final Formula formula) {
+        synchronized (this.counterLock) {
+            return super.importFormula(formula);
+        }
+    }
+
+    @Override
+    public FormulaFactoryStatistics statistics() {
+        synchronized (this.counterLock) {
+            return super.statistics();
+        }
+    }
+}
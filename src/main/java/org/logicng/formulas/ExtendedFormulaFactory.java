@@ -30,7 +30,6 @@ package org.logicng.formulas;
 
 import org.logicng.collections.LNGIntVector;
 
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -45,7 +44,7 @@ import java.util.Set;
  * <p>
  * A formula factory is NOT thread-safe.  If you generate formulas from more than one thread you either need to
  * synchronize the formula factory yourself or you use a formula factory for each single thread.
- * @version 2.2.0
+ * @version 2.3.0
  * @since 1.2
  */
 public class ExtendedFormulaFactory extends FormulaFactory {
@@ -122,9 +121,9 @@ public class ExtendedFormulaFactory extends FormulaFactory {
         this.ccCounter = 0;
         this.pbCounter = 0;
         this.cnfCounter = 0;
-        this.transformationCache = new HashMap<>();
-        this.predicateCache = new HashMap<>();
-        this.functionCache = new HashMap<>();
+        this.transformationCache = newCache();
+        this.predicateCache = newCache();
+        this.functionCache = newCache();
     }
 
     /**
@@ -0,0 +1,893 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+package org.logicng.formulas;
+
+import static org.logicng.formulas.FType.AND;
+import static org.logicng.formulas.FType.EQUIV;
+import static org.logicng.formulas.FType.IMPL;
+import static org.logicng.formulas.FType.LITERAL;
+import static org.logicng.formulas.FType.NOT;
+import static org.logicng.formulas.FType.OR;
+import static org.logicng.formulas.FType.dual;
+
+import org.logicng.collections.LNGByteVector;
+import org.logicng.collections.LNGIntVector;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A compact store for formulas which holds the formula DAG in primitive arrays.
+ * <p>
+ * In contrast to a formula of a {@link FormulaFactory}, a node of an arena is not a Java object but an integer
+ * handle.  The type, the literal code or operand offset, and the number of operands of each node are stored in
+ * primitive vectors, and all operand lists are stored consecutively in one integer vector.  The unique table which
+ * guarantees that each node is created only once is an open addressing hash table over the node handles.  Therefore
+ * a node requires about 17 bytes plus 4 bytes per operand, whereas a formula object additionally needs an object
+ * header, an operand set, and entries in the hash maps of its formula factory.
+ * <p>
+ * Nodes are created with the same simplifications as the formulas of a formula factory: constants are removed from
+ * conjunctions and disjunctions, nested operators of the same type are flattened, duplicate operands are removed, and
+ * complementary operands are detected.  Formulas can be imported into an arena with {@link #importFormula(Formula)}
+ * and converted back with {@link #toFormula(FormulaFactory, int)}.  The NNF, the CNF, and the variables of a node can
+ * be computed directly on the arena without creating any formula objects.
+ * <p>
+ * Pseudo-Boolean constraints cannot be stored in an arena.
+ * <p>
+ * An arena is NOT thread-safe.
+ * @version 2.3.0
+ * @since 2.3.0
+ */
+public final class FormulaArena {
+
+    /**
+     * The handle of the constant {@code $false}.
+     */
+    public static final int FALSE = 0;
+
+    /**
+     * The handle of the constant {@code $true}.
+     */
+    public static final int TRUE = 1;
+
+    private static final String PG_PREFIX = "@RESERVED_ARENA_PG_";
+    private static final FType[] TYPES = FType.values();
+    private static final int EMPTY = -1;
+
+    private final LNGByteVector types;
+    private final LNGIntVector data;
+    private final LNGIntVector sizes;
+    private final LNGIntVector operands;
+    private final LNGIntVector literalNodes;
+    private final List<String> variableNames;
+    private final Map<String, Integer> variableIndices;
+    private final LNGIntVector marks;
+    private final LNGIntVector scratch;
+    private final LNGIntVector nnfPosCache;
+    private final LNGIntVector nnfNegCache;
+    private final LNGIntVector cnfCache;
+    private final LNGIntVector pgVariables;
+    private int[] table;
+    private int tableEntries;
+    private int stamp;
+    private int pgCounter;
+
+    /**
+     * Constructs a new empty arena which only contains the two constants.
+     */
+    public FormulaArena() {
+        this.types = new LNGByteVector(1024);
+        this.data = new LNGIntVector(1024);
+        this.sizes = new LNGIntVector(1024);
+        this.operands = new LNGIntVector(1024);
+        this.literalNodes = new LNGIntVector();
+        this.variableNames = new ArrayList<>();
+        this.variableIndices = new HashMap<>();
+        this.marks = new LNGIntVector();
+        this.scratch = new LNGIntVector(1);
+        this.nnfPosCache = new LNGIntVector();
+        this.nnfNegCache = new LNGIntVector();
+        this.cnfCache = new LNGIntVector();
+        this.pgVariables = new LNGIntVector();
+        this.table = new int[1024];
+        Arrays.fill(this.table, EMPTY);
+        newNode(FType.FALSE, 0, 0);
+        newNode(FType.TRUE, 0, 0);
+    }
+
+    /**
+     * Returns the number of nodes in this arena (including the two constants).
+     * @return the number of nodes in this arena
+     */
+    public int numNodes() {
+        return this.types.size();
+    }
+
+    /**
+     * Returns the number of variables in this arena.
+     * @return the number of variables in this arena
+     */
+    public int numVariables() {
+        return this.variableNames.size();
+    }
+
+    /**
+     * Returns the name of the variable with the given index.
+     * @param variable the variable index
+     * @return the name of the variable
+     */
+    public String variableName(final int variable) {
+        return this.variableNames.get(variable);
+    }
+
+    /**
+     * Returns the type of a node.
+     * @param node the node
+     * @return the type of the node
+     */
+    public FType type(final int node) {
+        return TYPES[this.types.get(node)];
+    }
+
+    /**
+     * Returns the number of operands of a node.  Constants and literals have no operands, negations have one operand,
+     * implications and equivalences have two operands.
+     * @param node the node
+     * @return the number of operands of the node
+     */
+    public int numOperands(final int node) {
+        return this.sizes.get(node);
+    }
+
+    /**
+     * Returns an operand of a node.  The left-hand side of an implication or equivalence is the operand with index 0,
+     * the right-hand side the operand with index 1.
+     * @param node  the node
+     * @param index the index of the operand
+     * @return the operand with the given index
+     */
+    public int operand(final int node, final int index) {
+        return this.operands.get(this.data.get(node) + index);
+    }
+
+    /**
+     * Returns the variable index of a literal node.  The result is undefined if the node is not a literal.
+     * @param literal the literal node
+     * @return the variable index of the literal
+     */
+    public int variableIndex(final int literal) {
+        return this.data.get(literal) >> 1;
+    }
+
+    /**
+     * Returns the name of a literal node.  The result is undefined if the node is not a literal.
+     * @param literal the literal node
+     * @return the name of the literal
+     */
+    public String name(final int literal) {
+        return this.variableNames.get(variableIndex(literal));
+    }
+
+    /**
+     * Returns the phase of a literal node.  The result is undefined if the node is not a literal.
+     * @param literal the literal node
+     * @return the phase of the literal
+     */
+    public boolean phase(final int literal) {
+        return (this.data.get(literal) & 1) == 0;
+    }
+
+    /**
+     * Returns the node for a positive literal.
+     * @param name the name of the variable
+     * @return the node for the positive literal
+     */
+    public int variable(final String name) {
+        return literal(name, true);
+    }
+
+    /**
+     * Returns the node for a literal.
+     * @param name  the name of the variable
+     * @param phase the phase of the literal
+     * @return the node for the literal
+     */
+    public int literal(final String name, final boolean phase) {
+        Integer variable = this.variableIndices.get(name);
+        if (variable == null) {
+            variable = this.variableNames.size();
+            this.variableNames.add(name);
+            this.variableIndices.put(name, variable);
+            this.literalNodes.push(EMPTY);
+            this.literalNodes.push(EMPTY);
+        }
+        return literalNode(2 * variable + (phase ? 0 : 1));
+    }
+
+    /**
+     * Returns the node for the negation of a node.
+     * @param node the node
+     * @return the node for the negation
+     */
+    public int not(final int node) {
+        switch (type(node)) {
+            case FALSE:
+                return TRUE;
+            case TRUE:
+                return FALSE;
+            case LITERAL:
+                return literalNode(this.data.get(node) ^ 1);
+            case NOT:
+                return operand(node, 0);
+            default:
+                return unique(NOT, new LNGIntVector(new int[]{node}));
+        }
+    }
+
+    /**
+     * Returns the node for an implication.
+     * @param left  the left-hand side node
+     * @param right the right-hand side node
+     * @return the node for the implication
+     */
+    public int implication(final int left, final int right) {
+        if (left == FALSE || right == TRUE) {
+            return TRUE;
+        }
+        if (left == TRUE) {
+            return right;
+        }
+        if (right == FALSE) {
+            return not(left);
+        }
+        if (left == right) {
+            return TRUE;
+        }
+        return unique(IMPL, new LNGIntVector(new int[]{left, right}));
+    }
+
+    /**
+     * Returns the node for an equivalence.
+     * @param left  the left-hand side node
+     * @param right the right-hand side node
+     * @return the node for the equivalence
+     */
+    public int equivalence(final int left, final int right) {
+        if (left == TRUE) {
+            return right;
+        }
+        if (right == TRUE) {
+            return left;
+        }
+        if (left == FALSE) {
+            return not(right);
+        }
+        if (right == FALSE) {
+            return not(left);
+        }
+        if (left == right) {
+            return TRUE;
+        }
+        if (left == negationOrEmpty(right)) {
+            return FALSE;
+        }
+        return unique(EQUIV, new LNGIntVector(new int[]{left, right}));
+    }
+
+    /**
+     * Returns the node for a conjunction.
+     * @param operands the operand nodes
+     * @return the node for the conjunction
+     */
+    public int and(final int... operands) {
+        return naryOperator(AND, new LNGIntVector(operands));
+    }
+
+    /**
+     * Returns the node for a conjunction.
+     * @param operands the operand nodes
+     * @return the node for the conjunction
+     */
+    public int and(final LNGIntVector operands) {
+        return naryOperator(AND, operands);
+    }
+
+    /**
+     * Returns the node for a disjunction.
+     * @param operands the operand nodes
+     * @return the node for the disjunction
+     */
+    public int or(final int... operands) {
+        return naryOperator(OR, new LNGIntVector(operands));
+    }
+
+    /**
+     * Returns the node for a disjunction.
+     * @param operands the operand nodes
+     * @return the node for the disjunction
+     */
+    public int or(final LNGIntVector operands) {
+        return naryOperator(OR, operands);
+    }
+
+    /**
+     * Imports a formula into this arena.  Shared sub-formulas of the formula are imported only once.
+     * @param formula the formula
+     * @return the node for the formula
+     * @throws IllegalArgumentException if the formula contains a pseudo-Boolean constraint
+     */
+    public int importFormula(final Formula formula) {
+        return importRec(formula, new HashMap<>());
+    }
+
+    private int importRec(final Formula formula, final Map<Formula, Integer> cache) {
+        final Integer cached = cache.get(formula);
+        if (cached != null) {
+            return cached;
+        }
+        final int node;
+        switch (formula.type()) {
+            case FALSE:
+                node = FALSE;
+                break;
+            case TRUE:
+                node = TRUE;
+                break;
+            case LITERAL:
+                final Literal lit = (Literal) formula;
+                node = literal(lit.name(), lit.phase());
+                break;
+            case NOT:
+                node = not(importRec(((Not) formula).operand(), cache));
+                break;
+            case IMPL:
+                final BinaryOperator impl = (BinaryOperator) formula;
+                node = implication(importRec(impl.left(), cache), importRec(impl.right(), cache));
+                break;
+            case EQUIV:
+                final BinaryOperator equiv = (BinaryOperator) formula;
+                node = equivalence(importRec(equiv.left(), cache), importRec(equiv.right(), cache));
+                break;
+            case AND:
+            case OR:
+                final LNGIntVector ops = new LNGIntVector(formula.numberOfOperands());
+                for (final Formula op : formula) {
+                    ops.push(importRec(op, cache));
+                }
+                node = naryOperator(formula.type(), ops);
+                break;
+            default:
+                throw new IllegalArgumentException("Cannot import a formula of type " + formula.type() + " into a formula arena");
+        }
+        cache.put(formula, node);
+        return node;
+    }
+
+    /**
+     * Converts a node of this arena to a formula of the given formula factory.
+     * @param f    the formula factory
+     * @param node the node
+     * @return the formula for the node
+     */
+    public Formula toFormula(final FormulaFactory f, final int node) {
+        return toFormulaRec(f, node, new Formula[numNodes()]);
+    }
+
+    private Formula toFormulaRec(final FormulaFactory f, final int node, final Formula[] cache) {
+        if (cache[node] != null) {
+            return cache[node];
+        }
+        final Formula formula;
+        switch (type(node)) {
+            case FALSE:
+                formula = f.falsum();
+                break;
+            case TRUE:
+                formula = f.verum();
+                break;
+            case LITERAL:
+                formula = f.literal(name(node), phase(node));
+                break;
+            case NOT:
+                formula = f.not(toFormulaRec(f, operand(node, 0), cache));
+                break;
+            case IMPL:
+                formula = f.implication(toFormulaRec(f, operand(node, 0), cache), toFormulaRec(f, operand(node, 1), cache));
+                break;
+            case EQUIV:
+                formula = f.equivalence(toFormulaRec(f, operand(node, 0), cache), toFormulaRec(f, operand(node, 1), cache));
+                break;
+            case AND:
+            case OR:
+                final List<Formula> ops = new ArrayList<>(numOperands(node));
+                for (int i = 0; i < numOperands(node); i++) {
+                    ops.add(toFormulaRec(f, operand(node, i), cache));
+                }
+                formula = f.naryOperator(type(node), ops);
+                break;
+            default:
+                throw new IllegalStateException("Unknown node type " + type(node));
+        }
+        cache[node] = formula;
+        return formula;
+    }
+
+    /**
+     * Computes the negation normal form of a node.  The result is cached in the arena.
+     * @param node the node
+     * @return the node for the NNF
+     */
+    public int nnf(final int node) {
+        return nnfRec(node, true);
+    }
+
+    private int nnfRec(final int node, final boolean polarity) {
+        final LNGIntVector cache = polarity ? this.nnfPosCache : this.nnfNegCache;
+        if (node < cache.size() && cache.get(node) != EMPTY) {
+            return cache.get(node);
+        }
+        final int nnf;
+        final FType type = type(node);
+        switch (type) {
+            case FALSE:
+            case TRUE:
+            case LITERAL:
+                nnf = polarity ? node : not(node);
+                break;
+            case NOT:
+                nnf = nnfRec(operand(node, 0), !polarity);
+                break;
+            case AND:
+            case OR:
+                final LNGIntVector ops = new LNGIntVector(numOperands(node));
+                for (int i = 0; i < numOperands(node); i++) {
+                    ops.push(nnfRec(operand(node, i), polarity));
+                }
+                nnf = naryOperator(polarity ? type : dual(type), ops);
+                break;
+            case IMPL:
+                if (polarity) {
+                    nnf = or(nnfRec(operand(node, 0), false), nnfRec(operand(node, 1), true));
+                } else {
+                    nnf = and(nnfRec(operand(node, 0), true), nnfRec(operand(node, 1), false));
+                }
+                break;
+            case EQUIV:
+                final int left = operand(node, 0);
+                final int right = operand(node, 1);
+                if (polarity) {
+                    nnf = and(or(nnfRec(left, false), nnfRec(right, true)), or(nnfRec(left, true), nnfRec(right, false)));
+                } else {
+                    nnf = and(or(nnfRec(left, false), nnfRec(right, false)), or(nnfRec(left, true), nnfRec(right, true)));
+                }
+                break;
+            default:
+                throw new IllegalStateException("Unknown node type " + type);
+        }
+        cache.growTo(numNodes(), EMPTY);
+        cache.set(node, nnf);
+        return nnf;
+    }
+
+    /**
+     * Computes the conjunctive normal form of a node by factorization.  The result is cached in the arena.
+     * <p>
+     * The factorization yields an equivalent CNF, but its size can grow exponentially in the size of the node.  For
+     * large formulas {@link #plaistedGreenbaumCNF(int)} should be used instead.
+     * @param node the node
+     * @return the node for the CNF
+     */
+    public int cnf(final int node) {
+        final FType type = type(node);
+        if (type.precedence() >= LITERAL.precedence()) {
+            return node;
+        }
+        if (node < this.cnfCache.size() && this.cnfCache.get(node) != EMPTY) {
+            return this.cnfCache.get(node);
+        }
+        int cnf;
+        switch (type) {
+            case NOT:
+            case IMPL:
+            case EQUIV:
+                cnf = cnf(nnf(node));
+                break;
+            case OR:
+                cnf = cnf(operand(node, 0));
+                for (int i = 1; i < numOperands(node); i++) {
+                    cnf = distribute(cnf, cnf(operand(node, i)));
+                }
+                break;
+            case AND:
+                final LNGIntVector ops = new LNGIntVector(numOperands(node));
+                for (int i = 0; i < numOperands(node); i++) {
+                    ops.push(cnf(operand(node, i)));
+                }
+                cnf = and(ops);
+                break;
+            default:
+                throw new IllegalStateException("Unknown node type " + type);
+        }
+        this.cnfCache.growTo(numNodes(), EMPTY);
+        this.cnfCache.set(node, cnf);
+        return cnf;
+    }
+
+    private int distribute(final int n1, final int n2) {
+        if (type(n1) == AND || type(n2) == AND) {
+            final int and = type(n1) == AND ? n1 : n2;
+            final int other = and == n1 ? n2 : n1;
+            final LNGIntVector ops = new LNGIntVector(numOperands(and));
+            for (int i = 0; i < numOperands(and); i++) {
+                ops.push(distribute(operand(and, i), other));
+            }
+            return and(ops);
+        }
+        return or(n1, n2);
+    }
+
+    /**
+     * Computes an equisatisfiable conjunctive normal form of a node with the Plaisted &amp; Greenbaum transformation.
+     * <p>
+     * The size of the result is linear in the size of the node.  The auxiliary variables are reused for the same
+     * sub-formula across calls.
+     * @param node the node
+     * @return the node for the CNF
+     */
+    public int plaistedGreenbaumCNF(final int node) {
+        final int nnf = nnf(node);
+        if (isCNF(nnf)) {
+            return nnf;
+        }
+        final boolean[] defined = new boolean[numNodes()];
+        final LNGIntVector clauses = new LNGIntVector();
+        if (type(nnf) == AND) {
+            for (int i = 0; i < numOperands(nnf); i++) {
+                final int op = operand(nnf, i);
+                clauses.push(type(op) == AND ? pgLiteral(op, clauses, defined) : pgClause(op, clauses, defined));
+            }
+        } else {
+            clauses.push(pgClause(nnf, clauses, defined));
+        }
+        return and(clauses);
+    }
+
+    private int pgClause(final int node, final LNGIntVector clauses, final boolean[] defined) {
+        if (type(node) == LITERAL) {
+            return node;
+        }
+        final LNGIntVector literals = new LNGIntVector(numOperands(node));
+        for (int i = 0; i < numOperands(node); i++) {
+            literals.push(pgLiteral(operand(node, i), clauses, defined));
+        }
+        return or(literals);
+    }
+
+    private int pgLiteral(final int node, final LNGIntVector clauses, final boolean[] defined) {
+        if (type(node) == LITERAL) {
+            return node;
+        }
+        this.pgVariables.growTo(node + 1, EMPTY);
+        int pgVariable = this.pgVariables.get(node);
+        if (pgVariable == EMPTY) {
+            pgVariable = variable(PG_PREFIX + this.pgCounter++);
+            this.pgVariables.set(node, pgVariable);
+        }
+        if (!defined[node]) {
+            defined[node] = true;
+            final int negVariable = not(pgVariable);
+            if (type(node) == AND) {
+                for (int i = 0; i < numOperands(node); i++) {
+                    final int literal = pgLiteral(operand(node, i), clauses, defined);
+                    clauses.push(or(negVariable, literal));
+                }
+            } else {
+                final LNGIntVector literals = new LNGIntVector(numOperands(node) + 1);
+                literals.push(negVariable);
+                for (int i = 0; i < numOperands(node); i++) {
+                    literals.push(pgLiteral(operand(node, i), clauses, defined));
+                }
+                clauses.push(or(literals));
+            }
+        }
+        return pgVariable;
+    }
+
+    /**
+     * Returns whether a node is in conjunctive normal form.
+     * @param node the node
+     * @return {@code true} if the node is in CNF, {@code false} otherwise
+     */
+    public boolean isCNF(final int node) {
+        final FType type = type(node);
+        if (type.precedence() >= LITERAL.precedence()) {
+            return true;
+        }
+        if (type == OR) {
+            return isClause(node);
+        }
+        if (type != AND) {
+            return false;
+        }
+        for (int i = 0; i < numOperands(node); i++) {
+            if (!isClause(operand(node, i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isClause(final int node) {
+        if (type(node) == LITERAL) {
+            return true;
+        }
+        if (type(node) != OR) {
+            return false;
+        }
+        for (int i = 0; i < numOperands(node); i++) {
+            if (type(operand(node, i)) != LITERAL) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the indices of all variables occurring in a node in ascending order.
+     * @param node the node
+     * @return the variable indices of the node
+     */
+    public LNGIntVector variables(final int node) {
+        final boolean[] occurring = new boolean[numVariables()];
+        nextStamp();
+        collectVariables(node, occurring);
+        final LNGIntVector result = new LNGIntVector();
+        for (int i = 0; i < occurring.length; i++) {
+            if (occurring[i]) {
+                result.push(i);
+            }
+        }
+        return result;
+    }
+
+    private void collectVariables(final int node, final boolean[] occurring) {
+        if (isMarked(node)) {
+            return;
+        }
+        mark(node);
+        if (type(node) == LITERAL) {
+            occurring[variableIndex(node)] = true;
+        } else {
+            for (int i = 0; i < numOperands(node); i++) {
+                collectVariables(operand(node, i), occurring);
+            }
+        }
+    }
+
+    private int naryOperator(final FType type, final LNGIntVector input) {
+        final int neutral = type == AND ? TRUE : FALSE;
+        final int dominant = type == AND ? FALSE : TRUE;
+        nextStamp();
+        final LNGIntVector ops = new LNGIntVector(input.size());
+        for (int i = 0; i < input.size(); i++) {
+            final int op = input.get(i);
+            if (type(op) == type) {
+                for (int j = 0; j < numOperands(op); j++) {
+                    if (!addOperand(ops, operand(op, j), neutral, dominant)) {
+                        return dominant;
+                    }
+                }
+            } else if (!addOperand(ops, op, neutral, dominant)) {
+                return dominant;
+            }
+        }
+        if (ops.empty()) {
+            return neutral;
+        }
+        if (ops.size() == 1) {
+            return ops.get(0);
+        }
+        return unique(type, ops);
+    }
+
+    private boolean addOperand(final LNGIntVector ops, final int op, final int neutral, final int dominant) {
+        if (op == neutral || isMarked(op)) {
+            return true;
+        }
+        if (op == dominant) {
+            return false;
+        }
+        final int negation = negationOrEmpty(op);
+        if (negation != EMPTY && isMarked(negation)) {
+            return false;
+        }
+        mark(op);
+        ops.push(op);
+        return true;
+    }
+
+    /**
+     * Returns the negation of a node if it already exists in the arena, otherwise {@link #EMPTY}.
+     * @param node the node
+     * @return the negation of the node or {@link #EMPTY}
+     */
+    private int negationOrEmpty(final int node) {
+        switch (type(node)) {
+            case FALSE:
+                return TRUE;
+            case TRUE:
+                return FALSE;
+            case LITERAL:
+                return this.literalNodes.get(this.data.get(node) ^ 1);
+            case NOT:
+                return operand(node, 0);
+            default:
+                this.scratch.clear();
+                this.scratch.push(node);
+                return find(NOT, this.scratch, false);
+        }
+    }
+
+    private int literalNode(final int code) {
+        int node = this.literalNodes.get(code);
+        if (node == EMPTY) {
+            node = newNode(LITERAL, code, 0);
+            this.literalNodes.set(code, node);
+        }
+        return node;
+    }
+
+    private int newNode(final FType type, final int data, final int size) {
+        final int node = this.types.size();
+        this.types.push((byte) type.ordinal());
+        this.data.push(data);
+        this.sizes.push(size);
+        return node;
+    }
+
+    private int unique(final FType type, final LNGIntVector ops) {
+        return find(type, ops, true);
+    }
+
+    /**
+     * Looks up a node in the unique table.  For conjunctions and disjunctions the operands have to be marked with the
+     * current stamp.
+     * @param type   the type of the node
+     * @param ops    the operands of the node
+     * @param insert whether the node should be created if it does not exist yet
+     * @return the node or {@link #EMPTY} if the node does not exist and should not be created
+     */
+    private int find(final FType type, final LNGIntVector ops, final boolean insert) {
+        final int mask = this.table.length - 1;
+        int index = hash(type, ops, 0, ops.size()) & mask;
+        int node;
+        while ((node = this.table[index]) != EMPTY) {
+            if (equalsNode(node, type, ops)) {
+                return node;
+            }
+            index = (index + 1) & mask;
+        }
+        if (!insert) {
+            return EMPTY;
+        }
+        node = newNode(type, this.operands.size(), ops.size());
+        for (int i = 0; i < ops.size(); i++) {
+            this.operands.push(ops.get(i));
+        }
+        this.table[index] = node;
+        if (++this.tableEntries * 2 > this.table.length) {
+            rehash();
+        }
+        return node;
+    }
+
+    private boolean equalsNode(final int node, final FType type, final LNGIntVector ops) {
+        if (this.types.get(node) != type.ordinal() || this.sizes.get(node) != ops.size()) {
+            return false;
+        }
+        final int start = this.data.get(node);
+        switch (type) {
+            case NOT:
+            case IMPL:
+                for (int i = 0; i < ops.size(); i++) {
+                    if (this.operands.get(start + i) != ops.get(i)) {
+                        return false;
+                    }
+                }
+                return true;
+            case EQUIV:
+                final int left = this.operands.get(start);
+                final int right = this.operands.get(start + 1);
+                return left == ops.get(0) && right == ops.get(1) || left == ops.get(1) && right == ops.get(0);
+            default:
+                for (int i = 0; i < ops.size(); i++) {
+                    if (!isMarked(this.operands.get(start + i))) {
+                        return false;
+                    }
+                }
+                return true;
+        }
+    }
+
+    private void rehash() {
+        final int[] newTable = new int[this.table.length * 2];
+        Arrays.fill(newTable, EMPTY);
+        final int mask = newTable.length - 1;
+        for (final int node : this.table) {
+            if (node != EMPTY) {
+                int index = hash(type(node), this.operands, this.data.get(node), this.sizes.get(node)) & mask;
+                while (newTable[index] != EMPTY) {
+                    index = (index + 1) & mask;
+                }
+                newTable[index] = node;
+            }
+        }
+        this.table = newTable;
+    }
+
+    private static int hash(final FType type, final LNGIntVector ops, final int start, final int size) {
+        int hash = type.ordinal();
+        if (type == NOT || type == IMPL) {
+            for (int i = start; i < start + size; i++) {
+                hash = 31 * hash + ops.get(i);
+            }
+        } else {
+            for (int i = start; i < start + size; i++) {
+                hash += mix(ops.get(i));
+            }
+        }
+        return mix(hash);
+    }
+
+    private static int mix(final int value) {
+        final int h = value * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private void nextStamp() {
+        if (++this.stamp == Integer.MAX_VALUE) {
+            for (int i = 0; i < this.marks.size(); i++) {
+                this.marks.set(i, 0);
+            }
+            this.stamp = 1;
+        }
+    }
+
+    private boolean isMarked(final int node) {
+        return node < this.marks.size() && this.marks.get(node) == this.stamp;
+    }
+
+    private void mark(final int node) {
+        this.marks.growTo(numNodes(), 0);
+        this.marks.set(node, this.stamp);
+    }
+}
@@ -41,6 +41,11 @@ import org.logicng.configurations.Configuration;
 import org.logicng.configurations.ConfigurationType;
 import org.logicng.datastructures.Tristate;
 import org.logicng.formulas.cache.CacheEntry;
+import org.logicng.formulas.cache.CacheStatistics;
+import org.logicng.formulas.cache.FormulaCache;
+import org.logicng.formulas.cache.LRUFormulaCache;
+import org.logicng.formulas.cache.UnboundedFormulaCache;
+import org.logicng.formulas.cache.WeakFormulaCache;
 import org.logicng.formulas.printer.FormulaStringRepresentation;
 import org.logicng.functions.SubNodeFunction;
 import org.logicng.io.parsers.ParserException;
@@ -69,8 +74,8 @@ import java.util.Set;
  * formulas (in terms of associativity and commutativity) are hold exactly once in memory.
  * <p>
  * A formula factory is NOT thread-safe.  If you generate formulas from more than one thread you either need to synchronize the formula factory
- * yourself or you use a formula factory for each single thread.
- * @version 2.2.0
+ * yourself, you use a formula factory for each single thread, or you use a {@link ConcurrentFormulaFactory}.
+ * @version 2.3.0
  * @since 1.0
  */
 public class FormulaFactory {
@@ -86,6 +91,8 @@ public class FormulaFactory {
     private final FormulaStringRepresentation stringRepresentation;
     private final FormulaFactoryConfig.FormulaMergeStrategy formulaMergeStrategy;
     private final boolean simplifyComplementaryOperands;
+    final int cacheSize;
+    final boolean weakUniqueTables;
     private final Map<ConfigurationType, Configuration> configurations;
     private final String ccPrefix;
     private final String pbPrefix;
@@ -113,10 +120,9 @@ public class FormulaFactory {
     int ccCounter;
     int pbCounter;
     int cnfCounter;
-    Map<Formula, Map<CacheEntry, Formula>> transformationCache;
-    Map<Formula, Map<CacheEntry, Tristate>> predicateCache;
-    Map<Formula, Map<CacheEntry, Object>> functionCache;
-    private boolean cnfCheck;
+    FormulaCache<Formula> transformationCache;
+    FormulaCache<Tristate> predicateCache;
+    FormulaCache<Object> functionCache;
     private FormulaFactoryImporter importer;
 
     /**
@@ -128,6 +134,8 @@ public class FormulaFactory {
         this.stringRepresentation = config.stringRepresentation.get();
         this.formulaMergeStrategy = config.formulaMergeStrategy;
         this.simplifyComplementaryOperands = config.simplifyComplementaryOperands;
+        this.cacheSize = config.cacheSize;
+        this.weakUniqueTables = config.weakUniqueTables;
         this.cFalse = new CFalse(this);
         this.cTrue = new CTrue(this);
         this.clear();
@@ -191,28 +199,51 @@ public class FormulaFactory {
      * Removes all formulas from the factory cache.
      */
     public void clear() {
-        this.posLiterals = new HashMap<>();
-        this.negLiterals = new HashMap<>();
+        this.posLiterals = newUniqueTable();
+        this.negLiterals = newUniqueTable();
         this.generatedVariables = new HashSet<>();
-        this.nots = new HashMap<>();
-        this.implications = new HashMap<>();
-        this.equivalences = new HashMap<>();
-        this.ands2 = new HashMap<>();
-        this.ands3 = new HashMap<>();
-        this.ands4 = new HashMap<>();
-        this.andsN = new HashMap<>();
-        this.ors2 = new HashMap<>();
-        this.ors3 = new HashMap<>();
-        this.ors4 = new HashMap<>();
-        this.orsN = new HashMap<>();
-        this.pbConstraints = new HashMap<>();
-        this.cardinalityConstraints = new HashMap<>();
+        this.nots = newUniqueTable();
+        this.implications = newUniqueTable();
+        this.equivalences = newUniqueTable();
+        this.ands2 = newUniqueTable();
+        this.ands3 = newUniqueTable();
+        this.ands4 = newUniqueTable();
+        this.andsN = newUniqueTable();
+        this.ors2 = newUniqueTable();
+        this.ors3 = newUniqueTable();
+        this.ors4 = newUniqueTable();
+        this.orsN = newUniqueTable();
+        this.pbConstraints = newUniqueTable();
+        this.cardinalityConstraints = newUniqueTable();
         this.ccCounter = 0;
         this.pbCounter = 0;
         this.cnfCounter = 0;
-        this.transformationCache = new HashMap<>();
-        this.predicateCache = new HashMap<>();
-        this.functionCache = new HashMap<>();
+        this.transformationCache = newCache();
+        this.predicateCache = newCache();
+        this.functionCache = newCache();
+    }
+
+    /**
+     * Creates a new empty unique table of this factory with respect to the configured reference strength.
+     * @param <K> the type of the keys
+     * @param <V> the type of the formulas
+     * @return the new unique table
+     */
+    protected <K, V extends Formula> Map<K, V> newUniqueTable() {
+        return this.weakUniqueTables ? new WeakValueHashMap<>() : new HashMap<>();
+    }
+
+    /**
+     * Creates a new empty cache for the transformation, predicate or function cache of this factory with respect to
+     * the configured cache size and reference strength.
+     * @param <V> the type of the cached values
+     * @return the new cache
+     */
+    protected <V> FormulaCache<V> newCache() {
+        if (this.weakUniqueTables) {
+            return new WeakFormulaCache<>();
+        }
+        return this.cacheSize < 0 ? new UnboundedFormulaCache<>(false) : new LRUFormulaCache<>(this.cacheSize);
     }
 
     /**
@@ -313,12 +344,13 @@ public class FormulaFactory {
             return this.verum();
         }
         final Pair<Formula, Formula> key = new Pair<>(left, right);
-        Implication implication = this.implications.get(key);
-        if (implication == null) {
-            implication = new Implication(left, right, this);
-            this.implications.put(key, implication);
+        final Implication implication = this.implications.get(key);
+        if (implication != null) {
+            return implication;
         }
-        return implication;
+        final Implication newImplication = new Implication(left, right, this);
+        final Implication existing = this.implications.putIfAbsent(key, newImplication);
+        return existing == null ? newImplication : existing;
     }
 
     /**
@@ -349,12 +381,54 @@ public class FormulaFactory {
             return this.falsum();
         }
         final LinkedHashSet<Formula> key = new LinkedHashSet<>(Arrays.asList(left, right));
-        Equivalence equivalence = this.equivalences.get(key);
-        if (equivalence == null) {
-            equivalence = new Equivalence(left, right, this);
-            this.equivalences.put(key, equivalence);
+        final Equivalence equivalence = this.equivalences.get(key);
+        if (equivalence != null) {
+            return equivalence;
         }
-        return equivalence;
+        final Equivalence newEquivalence = new Equivalence(left, right, this);
+        final Equivalence existing = this.equivalences.putIfAbsent(key, newEquivalence);
+        return existing == null ? newEquivalence : existing;
+    }
+
+    /**
+     * Creates a new exclusive disjunction (XOR) of the given operands, i.e. a formula which is true iff an odd number
+     * of the operands is true.  The XOR is represented by a balanced tree of equivalences over the operands, which is
+     * negated for an even number of operands.  An XOR without operands is the constant "False".
+     * @param operands the operands
+     * @return a new exclusive disjunction
+     */
+    public Formula xor(final Formula... operands) {
+        if (operands.length == 0) {
+            return this.falsum();
+        }
+        final Formula equivalences = equivalenceTree(operands, 0, operands.length);
+        return operands.length % 2 == 1 ? equivalences : this.not(equivalences);
+    }
+
+    /**
+     * Creates a new exclusive disjunction (XOR) of the given operands, i.e. a formula which is true iff an odd number
+     * of the operands is true.  The XOR is represented by a balanced tree of equivalences over the operands, which is
+     * negated for an even number of operands.  An XOR without operands is the constant "False".
+     * @param operands the operands
+     * @return a new exclusive disjunction
+     */
+    public Formula xor(final Collection<? extends Formula> operands) {
+        return xor(operands.toArray(new Formula[0]));
+    }
+
+    /**
+     * Creates a balanced tree of equivalences over a range of operands.
+     * @param operands the operands
+     * @param from     the first operand of the range (inclusive)
+     * @param to       the last operand of the range (exclusive)
+     * @return the tree of equivalences
+     */
+    private Formula equivalenceTree(final Formula[] operands, final int from, final int to) {
+        if (to - from == 1) {
+            return importOrPanic(operands[from]);
+        }
+        final int mid = (from + to) >>> 1;
+        return this.equivalence(equivalenceTree(operands, from, mid), equivalenceTree(operands, mid, to));
     }
 
     /**
@@ -378,12 +452,13 @@ public class FormulaFactory {
         if (operand.type() == LITERAL || operand.type() == FALSE || operand.type() == TRUE || operand.type() == NOT) {
             return operand.negate();
         }
-        Not not = this.nots.get(operand);
-        if (not == null) {
-            not = new Not(operand, this);
-            this.nots.put(operand, not);
+        final Not not = this.nots.get(operand);
+        if (not != null) {
+            return not;
         }
-        return not;
+        final Not newNot = new Not(operand, this);
+        final Not existing = this.nots.putIfAbsent(operand, newNot);
+        return existing == null ? newNot : existing;
     }
 
     /**
@@ -608,9 +683,13 @@ public class FormulaFactory {
         and = condAndMap.get(condensedOperands);
         if (and == null) {
             tempAnd = new And(condensedOperands, this);
-            setCnfCaches(tempAnd, this.cnfCheck);
+            setCnfCaches(tempAnd, isCNFOperandsAnd(condensedOperands));
+            final And existing = condAndMap.putIfAbsent(condensedOperands, tempAnd);
+            if (existing != null) {
+                discardCaches(tempAnd);
+                tempAnd = existing;
+            }
             opAndMap.put(operands, tempAnd);
-            condAndMap.put(condensedOperands, tempAnd);
             return tempAnd;
         }
         opAndMap.put(operands, and);
@@ -673,13 +752,17 @@ public class FormulaFactory {
             default:
                 break;
         }
-        And tempAnd = opAndMap.get(clauses);
-        if (tempAnd != null) {
-            return tempAnd;
+        final And and = opAndMap.get(clauses);
+        if (and != null) {
+            return and;
         }
-        tempAnd = new And(clauses, this);
+        final And tempAnd = new And(clauses, this);
         setCnfCaches(tempAnd, true);
-        opAndMap.put(clauses, tempAnd);
+        final And existing = opAndMap.putIfAbsent(clauses, tempAnd);
+        if (existing != null) {
+            discardCaches(tempAnd);
+            return existing;
+        }
         return tempAnd;
     }
 
@@ -764,9 +847,13 @@ public class FormulaFactory {
         or = condOrMap.get(condensedOperands);
         if (or == null) {
             tempOr = new Or(condensedOperands, this);
-            setCnfCaches(tempOr, this.cnfCheck);
+            setCnfCaches(tempOr, isCNFOperandsOr(condensedOperands));
+            final Or existing = condOrMap.putIfAbsent(condensedOperands, tempOr);
+            if (existing != null) {
+                discardCaches(tempOr);
+                tempOr = existing;
+            }
             opOrMap.put(operands, tempOr);
-            condOrMap.put(condensedOperands, tempOr);
             return tempOr;
         }
         opOrMap.put(operands, or);
@@ -827,13 +914,17 @@ public class FormulaFactory {
             default:
                 break;
         }
-        Or tempOr = opOrMap.get(literals);
-        if (tempOr != null) {
-            return tempOr;
+        final Or or = opOrMap.get(literals);
+        if (or != null) {
+            return or;
         }
-        tempOr = new Or(literals, this);
+        final Or tempOr = new Or(literals, this);
         setCnfCaches(tempOr, true);
-        opOrMap.put(literals, tempOr);
+        final Or existing = opOrMap.putIfAbsent(literals, tempOr);
+        if (existing != null) {
+            discardCaches(tempOr);
+            return existing;
+        }
         return tempOr;
     }
 
@@ -846,6 +937,44 @@ public class FormulaFactory {
         }
     }
 
+    /**
+     * Removes the cache entries of a formula which was constructed, but lost the race for being inserted into
+     * the unique table.  This can only happen if the unique tables are accessed concurrently.
+     * @param formula the discarded formula
+     */
+    private void discardCaches(final Formula formula) {
+        this.predicateCache.remove(formula);
+        this.transformationCache.remove(formula);
+    }
+
+    /**
+     * Returns {@code true} if all given operands of a conjunction are literals or clauses, {@code false} otherwise.
+     * @param operands the condensed operands
+     * @return {@code true} if the conjunction of the operands is a CNF
+     */
+    private static boolean isCNFOperandsAnd(final Collection<? extends Formula> operands) {
+        for (final Formula op : operands) {
+            if (op.type != LITERAL && !(op.type == OR && ((Or) op).isCNFClause())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns {@code true} if all given operands of a disjunction are literals, {@code false} otherwise.
+     * @param operands the condensed operands
+     * @return {@code true} if the disjunction of the operands is a clause
+     */
+    private static boolean isCNFOperandsOr(final Collection<? extends Formula> operands) {
+        for (final Formula op : operands) {
+            if (op.type != LITERAL) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Creates a new literal instance with a given name and phase.
      * <p>
@@ -858,12 +987,13 @@ public class FormulaFactory {
         if (phase) {
             return this.variable(name);
         } else {
-            Literal lit = this.negLiterals.get(name);
-            if (lit == null) {
-                lit = new Literal(name, false, this);
-                this.negLiterals.put(name, lit);
+            final Literal lit = this.negLiterals.get(name);
+            if (lit != null) {
+                return lit;
             }
-            return lit;
+            final Literal newLit = new Literal(name, false, this);
+            final Literal existing = this.negLiterals.putIfAbsent(name, newLit);
+            return existing == null ? newLit : existing;
         }
     }
 
@@ -873,12 +1003,13 @@ public class FormulaFactory {
      * @return a new literal with the given name and positive phase
      */
     public Variable variable(final String name) {
-        Variable var = this.posLiterals.get(name);
-        if (var == null) {
-            var = new Variable(name, this);
-            this.posLiterals.put(name, var);
+        final Variable var = this.posLiterals.get(name);
+        if (var != null) {
+            return var;
         }
-        return var;
+        final Variable newVar = new Variable(name, this);
+        final Variable existing = this.posLiterals.putIfAbsent(name, newVar);
+        return existing == null ? newVar : existing;
     }
 
     /**
@@ -920,12 +1051,13 @@ public class FormulaFactory {
             return constructCCUnsafe(comparator, rhs, literals);
         }
         final PBOperands operands = new PBOperands(literals, coefficients, comparator, rhs);
-        PBConstraint constraint = this.pbConstraints.get(operands);
-        if (constraint == null) {
-            constraint = new PBConstraint(literals, coefficients, comparator, rhs, this);
-            this.pbConstraints.put(operands, constraint);
+        final PBConstraint constraint = this.pbConstraints.get(operands);
+        if (constraint != null) {
+            return constraint;
         }
-        return constraint;
+        final PBConstraint newConstraint = new PBConstraint(literals, coefficients, comparator, rhs, this);
+        final PBConstraint existing = this.pbConstraints.putIfAbsent(operands, newConstraint);
+        return existing == null ? newConstraint : existing;
     }
 
     /**
@@ -1025,12 +1157,13 @@ public class FormulaFactory {
             return this.constant(evaluateTrivialPBConstraint(comparator, rhs));
         }
         final CCOperands operands = new CCOperands(literals, comparator, rhs);
-        CardinalityConstraint constraint = this.cardinalityConstraints.get(operands);
-        if (constraint == null) {
-            constraint = new CardinalityConstraint(importOrPanic(literals), comparator, rhs, this);
-            this.cardinalityConstraints.put(operands, constraint);
+        final CardinalityConstraint constraint = this.cardinalityConstraints.get(operands);
+        if (constraint != null) {
+            return constraint;
         }
-        return constraint;
+        final CardinalityConstraint newConstraint = new CardinalityConstraint(importOrPanic(literals), comparator, rhs, this);
+        final CardinalityConstraint existing = this.cardinalityConstraints.putIfAbsent(operands, newConstraint);
+        return existing == null ? newConstraint : existing;
     }
 
     /**
@@ -1128,26 +1261,15 @@ public class FormulaFactory {
      */
     private LinkedHashSet<Formula> condenseOperandsOr(final Collection<? extends Formula> operands) {
         final LinkedHashSet<Formula> ops = new LinkedHashSet<>();
-        this.cnfCheck = true;
         for (final Formula form : operands) {
             if (form.type() == OR) {
                 for (final Formula op : ((NAryOperator) form).operands) {
-                    final byte ret = this.addFormulaOr(ops, op);
-                    if (ret == 0x00) {
+                    if (!this.addFormulaOr(ops, op)) {
                         return null;
                     }
-                    if (ret == 0x02) {
-                        this.cnfCheck = false;
-                    }
-                }
-            } else {
-                final byte ret = this.addFormulaOr(ops, form);
-                if (ret == 0x00) {
-                    return null;
-                }
-                if (ret == 0x02) {
-                    this.cnfCheck = false;
                 }
+            } else if (!this.addFormulaOr(ops, form)) {
+                return null;
             }
         }
         return ops;
@@ -1160,26 +1282,15 @@ public class FormulaFactory {
      */
     private LinkedHashSet<Formula> condenseOperandsAnd(final Collection<? extends Formula> operands) {
         final LinkedHashSet<Formula> ops = new LinkedHashSet<>();
-        this.cnfCheck = true;
         for (final Formula form : operands) {
             if (form.type() == AND) {
                 for (final Formula op : ((NAryOperator) form).operands) {
-                    final byte ret = this.addFormulaAnd(ops, op);
-                    if (ret == 0x00) {
+                    if (!this.addFormulaAnd(ops, op)) {
                         return null;
                     }
-                    if (ret == 0x02) {
-                        this.cnfCheck = false;
-                    }
-                }
-            } else {
-                final byte ret = this.addFormulaAnd(ops, form);
-                if (ret == 0x00) {
-                    return null;
-                }
-                if (ret == 0x02) {
-                    this.cnfCheck = false;
                 }
+            } else if (!this.addFormulaAnd(ops, form)) {
+                return null;
             }
         }
         return ops;
@@ -1216,38 +1327,38 @@ public class FormulaFactory {
     /**
      * Adds a given formula to a list of operands.  If the formula is the neutral element for the respective n-ary
      * operation it will be skipped.  If a complementary formula is already present in the list of operands or the
-     * formula is the dual element, 0x00 is returned.  If the added formula was a literal 0x01 is returned,
-     * otherwise 0x02 is returned.
+     * formula is the dual element, {@code false} is returned, otherwise {@code true}.
      * @param ops     the list of operands
      * @param formula the formula
+     * @return {@code false} if the disjunction became a tautology, {@code true} otherwise
      */
-    private byte addFormulaOr(final LinkedHashSet<Formula> ops, final Formula formula) {
+    private boolean addFormulaOr(final LinkedHashSet<Formula> ops, final Formula formula) {
         if (formula.type == FALSE) {
-            return 0x01;
+            return true;
         } else if (formula.type == TRUE || containsComplement(ops, formula)) {
-            return 0x00;
+            return false;
         } else {
             ops.add(formula);
-            return (byte) (formula.type == LITERAL ? 0x01 : 0x02);
+            return true;
         }
     }
 
     /**
      * Adds a given formula to a list of operands.  If the formula is the neutral element for the respective n-ary
      * operation it will be skipped.  If a complementary formula is already present in the list of operands or the
-     * formula is the dual element, 0x00 is returned.  If the added formula was a clause, 0x01 is returned,
-     * otherwise 0x02 is returned.
+     * formula is the dual element, {@code false} is returned, otherwise {@code true}.
      * @param ops     the list of operands
      * @param formula the formula
+     * @return {@code false} if the conjunction became a contradiction, {@code true} otherwise
      */
-    private byte addFormulaAnd(final LinkedHashSet<Formula> ops, final Formula formula) {
+    private boolean addFormulaAnd(final LinkedHashSet<Formula> ops, final Formula formula) {
         if (formula.type() == TRUE) {
-            return 0x01;
+            return true;
         } else if (formula.type == FALSE || containsComplement(ops, formula)) {
-            return 0x00;
+            return false;
         } else {
             ops.add(formula);
-            return (byte) (formula.type == LITERAL || formula.type == OR && ((Or) formula).isCNFClause() ? 0x01 : 0x02);
+            return true;
         }
     }
 
@@ -1299,8 +1410,7 @@ public class FormulaFactory {
      * @return the cache value or {@code null} if the key is not found
      */
     protected Formula transformationCacheEntry(final Formula formula, final CacheEntry key) {
-        final Map<CacheEntry, Formula> cache = this.transformationCache.get(formula);
-        return cache == null ? null : cache.get(key);
+        return this.transformationCache.get(formula, key);
     }
 
     /**
@@ -1310,7 +1420,7 @@ public class FormulaFactory {
      * @param value   the cache value
      */
     protected void setTransformationCacheEntry(final Formula formula, final CacheEntry key, final Formula value) {
-        this.transformationCache.computeIfAbsent(formula, k -> new HashMap<>()).put(key, value);
+        this.transformationCache.put(formula, key, value);
     }
 
     /**
@@ -1320,13 +1430,8 @@ public class FormulaFactory {
      * @return the cache value (which is {@code UNDEF} if nothing is present)
      */
     protected Tristate predicateCacheEntry(final Formula formula, final CacheEntry key) {
-        final Map<CacheEntry, Tristate> cache = this.predicateCache.get(formula);
-        if (cache == null) {
-            return Tristate.UNDEF;
-        } else {
-            final Tristate tristate = cache.get(key);
-            return tristate == null ? Tristate.UNDEF : tristate;
-        }
+        final Tristate tristate = this.predicateCache.get(formula, key);
+        return tristate == null ? Tristate.UNDEF : tristate;
     }
 
     /**
@@ -1346,7 +1451,7 @@ public class FormulaFactory {
      * @param value   the cache value
      */
     protected void setPredicateCacheEntry(final Formula formula, final CacheEntry key, final Tristate value) {
-        this.predicateCache.computeIfAbsent(formula, k -> new HashMap<>()).put(key, value);
+        this.predicateCache.put(formula, key, value);
     }
 
     /**
@@ -1356,8 +1461,7 @@ public class FormulaFactory {
      * @return the cache value or {@code null} if the key is not found
      */
     protected Object functionCacheEntry(final Formula formula, final CacheEntry key) {
-        final Map<CacheEntry, Object> cache = this.functionCache.get(formula);
-        return cache == null ? null : cache.get(key);
+        return this.functionCache.get(formula, key);
     }
 
     /**
@@ -1367,7 +1471,7 @@ public class FormulaFactory {
      * @param value   the cache value
      */
     protected void setFunctionCacheEntry(final Formula formula, final CacheEntry key, final Object value) {
-        this.functionCache.computeIfAbsent(formula, k -> new HashMap<>()).put(key, value);
+        this.functionCache.put(formula, key, value);
     }
 
     /**
@@ -1379,6 +1483,30 @@ public class FormulaFactory {
         this.functionCache.remove(formula);
     }
 
+    /**
+     * Returns the statistics of the transformation cache of this factory.
+     * @return the statistics of the transformation cache
+     */
+    public CacheStatistics transformationCacheStatistics() {
+        return this.transformationCache.statistics();
+    }
+
+    /**
+     * Returns the statistics of the predicate cache of this factory.
+     * @return the statistics of the predicate cache
+     */
+    public CacheStatistics predicateCacheStatistics() {
+        return this.predicateCache.statistics();
+    }
+
+    /**
+     * Returns the statistics of the function cache of this factory.
+     * @return the statistics of the function cache
+     */
+    public CacheStatistics functionCacheStatistics() {
+        return this.functionCache.statistics();
+    }
+
     /**
      * Returns a string representation of a formula with this factories string representation
      * @param formula the formula
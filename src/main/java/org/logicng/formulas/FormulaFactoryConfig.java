@@ -37,7 +37,7 @@ import java.util.function.Supplier;
 
 /**
  * The configuration object for a formula factory.
- * @version 2.0.0
+ * @version 2.3.0
  * @since 2.0.0
  */
 public final class FormulaFactoryConfig extends Configuration {
@@ -61,6 +61,8 @@ public final class FormulaFactoryConfig extends Configuration {
     final FormulaMergeStrategy formulaMergeStrategy;
     final Supplier<FormulaStringRepresentation> stringRepresentation;
     final boolean simplifyComplementaryOperands;
+    final int cacheSize;
+    final boolean weakUniqueTables;
 
     private FormulaFactoryConfig(final Builder builder) {
         super(ConfigurationType.FORMULA_FACTORY);
@@ -68,6 +70,8 @@ public final class FormulaFactoryConfig extends Configuration {
         this.formulaMergeStrategy = builder.formulaMergeStrategy;
         this.stringRepresentation = builder.stringRepresentation;
         this.simplifyComplementaryOperands = builder.simplifyComplementaryOperands;
+        this.cacheSize = builder.cacheSize;
+        this.weakUniqueTables = builder.weakUniqueTables;
     }
 
     /**
@@ -80,7 +84,7 @@ public final class FormulaFactoryConfig extends Configuration {
 
     /**
      * The builder for a formula factory configuration.
-     * @version 2.0.0
+     * @version 2.3.0
      * @since 2.0.0
      */
     public static class Builder {
@@ -88,6 +92,8 @@ public final class FormulaFactoryConfig extends Configuration {
         private FormulaMergeStrategy formulaMergeStrategy = FormulaMergeStrategy.PANIC;
         private Supplier<FormulaStringRepresentation> stringRepresentation = DefaultStringRepresentation::new;
         private boolean simplifyComplementaryOperands = true;
+        private int cacheSize = -1;
+        private boolean weakUniqueTables = false;
 
         /**
          * Sets the name of this formula factory. The default is an empty string.
@@ -139,6 +145,38 @@ public final class FormulaFactoryConfig extends Configuration {
             return this;
         }
 
+        /**
+         * Sets the maximum number of formulas for which the transformation, predicate and function caches of the
+         * formula factory hold values.  If the bound is exceeded, the cached values of the least recently used formula
+         * are evicted.  Cache entries which are required for the correctness of an algorithm (like the auxiliary
+         * variables of the Tseitin and Plaisted &amp; Greenbaum transformations) are never evicted.  A negative value
+         * means that the caches are unbounded.  The default is {@code -1}.
+         * @param cacheSize the maximum number of formulas in each cache or a negative value for unbounded caches
+         * @return the builder
+         */
+        public Builder cacheSize(final int cacheSize) {
+            this.cacheSize = cacheSize;
+            return this;
+        }
+
+        /**
+         * Sets the flag whether the unique tables and caches of the formula factory hold their formulas by weak
+         * references.  If set to true, formulas which are not referenced from outside the formula factory anymore can
+         * be garbage collected together with their cached values.  It is still guaranteed that all live formulas are
+         * hold exactly once in memory.  If set to false, all formulas are kept until the formula factory is cleared.
+         * If weak unique tables are used, the {@link #cacheSize(int) cache size} is ignored.  The default is
+         * {@code false}.
+         * <p>
+         * The {@link ExtendedFormulaFactory} ignores this flag, since its states rely on the insertion order of its
+         * unique tables.
+         * @param weakUniqueTables the flag whether to hold formulas by weak references
+         * @return the builder
+         */
+        public Builder weakUniqueTables(final boolean weakUniqueTables) {
+            this.weakUniqueTables = weakUniqueTables;
+            return this;
+        }
+
         /**
          * Builds the configuration.
          * @return the configuration.
@@ -0,0 +1,141 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+package org.logicng.formulas;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.AbstractMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * A hash map which holds its values by weak references.  Entries whose value was garbage collected are removed from
+ * the map.  Keys are held strongly as long as their value is alive.  Stale entries are removed whenever the map is
+ * accessed, so formulas which are only referenced by the key of a stale entry (e.g. the operands of a collected
+ * conjunction) become collectable after the next access.
+ * <p>
+ * This map is used for the unique tables of a formula factory with weak unique tables.  It is NOT thread-safe.
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ * @version 2.3.0
+ * @since 2.3.0
+ */
+final class WeakValueHashMap<K, V> extends AbstractMap<K, V> {
+
+    private final HashMap<K, ValueReference<K, V>> map = new HashMap<>();
+    private final ReferenceQueue<V> queue = new ReferenceQueue<>();
+
+    @Override
+    public V get(final Object key) {
+        expungeStaleEntries();
+        final ValueReference<K, V> reference = this.map.get(key);
+        return reference == null ? null : reference.get();
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public V put(final K key, final V value) {
+        expungeStaleEntries();
+        final ValueReference<K, V> old = this.map.put(key, new ValueReference<>(key, value, this.queue));
+        return old == null ? null : old.get();
+    }
+
+    @Override
+    public V putIfAbsent(final K key, final V value) {
+        final V existing = get(key);
+        if (existing != null) {
+            return existing;
+        }
+        this.map.put(key, new ValueReference<>(key, value, this.queue));
+        return null;
+    }
+
+    @Override
+    public V remove(final Object key) {
+        expungeStaleEntries();
+        final ValueReference<K, V> old = this.map.remove(key);
+        return old == null ? null : old.get();
+    }
+
+    @Override
+    public void clear() {
+        this.map.clear();
+        while (this.queue.poll() != null) {
+            // drain the queue
+        }
+    }
+
+    @Override
+    public int size() {
+        expungeStaleEntries();
+        return this.map.size();
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        expungeStaleEntries();
+        final Set<Entry<K, V>> entries = new LinkedHashSet<>();
+        for (final Entry<K, ValueReference<K, V>> entry : this.map.entrySet()) {
+            final V value = entry.getValue().get();
+            if (value != null) {
+                entries.add(new SimpleImmutableEntry<>(entry.getKey(), value));
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Removes all entries whose values were garbage collected.
+     */
+    private void expungeStaleEntries() {
+        ValueReference<?, ?> reference;
+        while ((reference = (ValueReference<?, ?>) this.queue.poll()) != null) {
+            this.map.remove(reference.key, reference);
+        }
+    }
+
+    /**
+     * A weak reference to a value which remembers its key.
+     * @param <K> the type of the key
+     * @param <V> the type of the value
+     */
+    private static final class ValueReference<K, V> extends WeakReference<V> {
+        private final K key;
+
+        private ValueReference(final K key, final V value, final ReferenceQueue<V> queue) {
+            super(value, queue);
+            this.key = key;
+        }
+    }
+}
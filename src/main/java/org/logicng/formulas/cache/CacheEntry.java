@@ -30,7 +30,7 @@ package org.logicng.formulas.cache;
 
 /**
  * Interface for a cache entry in the formula cache.
- * @version 1.0
+ * @version 2.3.0
  * @since 1.0
  */
 public interface CacheEntry {
@@ -39,4 +39,14 @@ public interface CacheEntry {
      * @return the description for this entry
      */
     String description();
+
+    /**
+     * Returns whether this entry may be evicted from a bounded cache.  Entries which are required for the correctness
+     * of an algorithm, e.g. the auxiliary variables of a CNF transformation, are never evicted.  The default is
+     * {@code true}.
+     * @return {@code true} if this entry may be evicted from a bounded cache, {@code false} otherwise
+     */
+    default boolean evictable() {
+        return true;
+    }
 }
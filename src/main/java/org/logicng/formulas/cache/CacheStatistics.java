@@ -0,0 +1,129 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+package org.logicng.formulas.cache;
+
+import java.util.Objects;
+
+/**
+ * Statistics of a {@link FormulaCache}.
+ * @version 2.3.0
+ * @since 2.3.0
+ */
+public final class CacheStatistics {
+
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+    private final int size;
+
+    /**
+     * Constructs new cache statistics.
+     * @param hits      the number of lookups which found a value
+     * @param misses    the number of lookups which found no value
+     * @param evictions the number of formulas evicted from the cache
+     * @param size      the number of formulas currently in the cache
+     */
+    public CacheStatistics(final long hits, final long misses, final long evictions, final int size) {
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.size = size;
+    }
+
+    /**
+     * Returns the number of lookups which found a value.
+     * @return the number of lookups which found a value
+     */
+    public long hits() {
+        return this.hits;
+    }
+
+    /**
+     * Returns the number of lookups which found no value.
+     * @return the number of lookups which found no value
+     */
+    public long misses() {
+        return this.misses;
+    }
+
+    /**
+     * Returns the number of formulas which were evicted from the cache.
+     * @return the number of formulas which were evicted from the cache
+     */
+    public long evictions() {
+        return this.evictions;
+    }
+
+    /**
+     * Returns the number of formulas currently in the cache.
+     * @return the number of formulas currently in the cache
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the ratio of lookups which found a value or 0 if there were no lookups.
+     * @return the hit ratio
+     */
+    public double hitRatio() {
+        final long lookups = this.hits + this.misses;
+        return lookups == 0 ? 0.0 : (double) this.hits / lookups;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CacheStatistics)) {
+            return false;
+        }
+        final CacheStatistics that = (CacheStatistics) o;
+        return this.hits == that.hits &&
+                this.misses == that.misses &&
+                this.evictions == that.evictions &&
+                this.size == that.size;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.hits, this.misses, this.evictions, this.size);
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStatistics{" +
+                "hits=" + this.hits +
+                ", misses=" + this.misses +
+                ", evictions=" + this.evictions +
+                ", size=" + this.size +
+                '}';
+    }
+}
@@ -0,0 +1,90 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+package org.logicng.formulas.cache;
+
+import org.logicng.formulas.Formula;
+
+import java.util.Map;
+
+/**
+ * A cache which stores values for pairs of formulas and cache entries.
+ * <p>
+ * Formula caches are used by the formula factory for its transformation, predicate and function caches.
+ * @param <V> the type of the cached values
+ * @version 2.3.0
+ * @since 2.3.0
+ */
+public interface FormulaCache<V> {
+
+    /**
+     * Returns the cached value for the given formula and key.
+     * @param formula the formula
+     * @param key     the cache key
+     * @return the cached value or {@code null} if there is no value
+     */
+    V get(Formula formula, CacheEntry key);
+
+    /**
+     * Returns all cached values for the given formula.
+     * @param formula the formula
+     * @return the cached values or {@code null} if there are no cached values for the formula
+     */
+    Map<CacheEntry, V> get(Formula formula);
+
+    /**
+     * Caches a value for the given formula and key.  If the value is {@code null}, an existing value is removed.
+     * @param formula the formula
+     * @param key     the cache key
+     * @param value   the value
+     */
+    void put(Formula formula, CacheEntry key, V value);
+
+    /**
+     * Removes all cached values for the given formula.
+     * @param formula the formula
+     */
+    void remove(Formula formula);
+
+    /**
+     * Removes all cached values.
+     */
+    void clear();
+
+    /**
+     * Returns the number of formulas for which values are cached.
+     * @return the number of formulas for which values are cached
+     */
+    int size();
+
+    /**
+     * Returns the statistics of this cache.
+     * @return the statistics of this cache
+     */
+    CacheStatistics statistics();
+}
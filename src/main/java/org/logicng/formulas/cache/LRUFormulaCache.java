@@ -0,0 +1,155 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+package org.logicng.formulas.cache;
+
+import org.logicng.formulas.Formula;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A formula cache which holds the values of at most a given number of formulas.  If the bound is exceeded, the values
+ * of the least recently used formula are evicted.
+ * <p>
+ * Values for cache entries which are not {@link CacheEntry#evictable() evictable} are held in a separate unbounded
+ * part of the cache and do not count towards the bound.
+ * <p>
+ * All methods of this cache are synchronized, so it can also be used by a formula factory which is shared between
+ * threads.
+ * @param <V> the type of the cached values
+ * @version 2.3.0
+ * @since 2.3.0
+ */
+public class LRUFormulaCache<V> implements FormulaCache<V> {
+
+    private final int maximumSize;
+    private final LinkedHashMap<Formula, Map<CacheEntry, V>> evictableCache;
+    private final Map<Formula, Map<CacheEntry, V>> pinnedCache;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * Constructs a new LRU cache.
+     * @param maximumSize the maximum number of formulas with evictable values in the cache
+     * @throws IllegalArgumentException if the maximum size is negative
+     */
+    public LRUFormulaCache(final int maximumSize) {
+        if (maximumSize < 0) {
+            throw new IllegalArgumentException("The maximum size of a cache must not be negative.");
+        }
+        this.maximumSize = maximumSize;
+        this.evictableCache = new LinkedHashMap<Formula, Map<CacheEntry, V>>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Formula, Map<CacheEntry, V>> eldest) {
+                if (size() > LRUFormulaCache.this.maximumSize) {
+                    LRUFormulaCache.this.evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+        this.pinnedCache = new HashMap<>();
+    }
+
+    /**
+     * Returns the maximum number of formulas with evictable values in this cache.
+     * @return the maximum number of formulas with evictable values in this cache
+     */
+    public int maximumSize() {
+        return this.maximumSize;
+    }
+
+    @Override
+    public synchronized V get(final Formula formula, final CacheEntry key) {
+        final Map<CacheEntry, V> entries = key.evictable() ? this.evictableCache.get(formula) : this.pinnedCache.get(formula);
+        final V value = entries == null ? null : entries.get(key);
+        if (value == null) {
+            this.misses++;
+        } else {
+            this.hits++;
+        }
+        return value;
+    }
+
+    @Override
+    public synchronized Map<CacheEntry, V> get(final Formula formula) {
+        final Map<CacheEntry, V> evictableEntries = this.evictableCache.get(formula);
+        final Map<CacheEntry, V> pinnedEntries = this.pinnedCache.get(formula);
+        if (evictableEntries == null && pinnedEntries == null) {
+            return null;
+        }
+        final Map<CacheEntry, V> result = new HashMap<>();
+        if (evictableEntries != null) {
+            result.putAll(evictableEntries);
+        }
+        if (pinnedEntries != null) {
+            result.putAll(pinnedEntries);
+        }
+        return result;
+    }
+
+    @Override
+    public synchronized void put(final Formula formula, final CacheEntry key, final V value) {
+        final Map<Formula, Map<CacheEntry, V>> cache = key.evictable() ? this.evictableCache : this.pinnedCache;
+        if (value == null) {
+            final Map<CacheEntry, V> entries = cache.get(formula);
+            if (entries != null) {
+                entries.remove(key);
+            }
+        } else {
+            cache.computeIfAbsent(formula, k -> new HashMap<>()).put(key, value);
+        }
+    }
+
+    @Override
+    public synchronized void remove(final Formula formula) {
+        this.evictableCache.remove(formula);
+        this.pinnedCache.remove(formula);
+    }
+
+    @Override
+    public synchronized void clear() {
+        this.evictableCache.clear();
+        this.pinnedCache.clear();
+    }
+
+    @Override
+    public synchronized int size() {
+        return this.evictableCache.size() + this.pinnedCache.size();
+    }
+
+    @Override
+    public synchronized CacheStatistics statistics() {
+        return new CacheStatistics(this.hits, this.misses, this.evictions, this.evictableCache.size() + this.pinnedCache.size());
+    }
+}
@@ -30,29 +30,45 @@ package org.logicng.formulas.cache;
 
 /**
  * The pre-defined predicate cache entries.
- * @version 1.5.1
+ * @version 2.3.0
  * @since 1.0
  */
 public enum PredicateCacheEntry implements CacheEntry {
     IS_NNF("negation normal form"),
-    IS_CNF("conjunctive normal form"),
+    IS_CNF("conjunctive normal form", false),
     IS_DNF("disjunctive normal form"),
     IS_AIG("and-inverter graph"),
     IS_SAT("satisfiable"),
     IS_TAUTOLOGY("tautology");
 
     private final String description;
+    private final boolean evictable;
 
     /**
      * Constructs a new entry.
      * @param description the description of this entry
      */
     PredicateCacheEntry(final String description) {
+        this(description, true);
+    }
+
+    /**
+     * Constructs a new entry.
+     * @param description the description of this entry
+     * @param evictable   whether this entry may be evicted from a bounded cache
+     */
+    PredicateCacheEntry(final String description, final boolean evictable) {
         this.description = description;
+        this.evictable = evictable;
     }
 
     @Override
     public String description() {
         return "PredicateCacheEntry{description=" + description + "}";
     }
+
+    @Override
+    public boolean evictable() {
+        return this.evictable;
+    }
 }
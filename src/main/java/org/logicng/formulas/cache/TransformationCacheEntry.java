@@ -30,16 +30,16 @@ package org.logicng.formulas.cache;
 
 /**
  * The pre-defined transformation cache entries.
- * @version 1.3
+ * @version 2.3.0
  * @since 1.0
  */
 public enum TransformationCacheEntry implements CacheEntry {
     NNF("negation normal form"),
-    PLAISTED_GREENBAUM_POS("Plaisted & Greenbaum conjunctive normal form (positive polarity)"),
-    PLAISTED_GREENBAUM_NEG("Plaisted & Greenbaum conjunctive normal form (negative polarity)"),
-    PLAISTED_GREENBAUM_VARIABLE("Plaisted & Greenbaum variable"),
-    TSEITIN("Tseitin conjunctive normal form"),
-    TSEITIN_VARIABLE("Tseitin variable"),
+    PLAISTED_GREENBAUM_POS("Plaisted & Greenbaum conjunctive normal form (positive polarity)", false),
+    PLAISTED_GREENBAUM_NEG("Plaisted & Greenbaum conjunctive normal form (negative polarity)", false),
+    PLAISTED_GREENBAUM_VARIABLE("Plaisted & Greenbaum variable", false),
+    TSEITIN("Tseitin conjunctive normal form", false),
+    TSEITIN_VARIABLE("Tseitin variable", false),
     FACTORIZED_CNF("factorized conjunctive normal form"),
     BDD_CNF("conjunctive normal form via BDD"),
     FACTORIZED_DNF("factorized disjunctive normal form"),
@@ -49,17 +49,33 @@ public enum TransformationCacheEntry implements CacheEntry {
     ANONYMIZATION("anonymization");
 
     private final String description;
+    private final boolean evictable;
 
     /**
      * Constructs a new entry.
      * @param description the description of this entry
      */
     TransformationCacheEntry(final String description) {
+        this(description, true);
+    }
+
+    /**
+     * Constructs a new entry.
+     * @param description the description of this entry
+     * @param evictable   whether this entry may be evicted from a bounded cache
+     */
+    TransformationCacheEntry(final String description, final boolean evictable) {
         this.description = description;
+        this.evictable = evictable;
     }
 
     @Override
     public String description() {
         return "TransformationCacheEntry{description=" + this.description + "}";
     }
+
+    @Override
+    public boolean evictable() {
+        return this.evictable;
+    }
 }
@@ -0,0 +1,111 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+package org.logicng.formulas.cache;
+
+import org.logicng.formulas.Formula;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A formula cache without any bound.  Values are only removed if they are explicitly removed or if the cache is
+ * cleared.
+ * <p>
+ * If the cache is created for concurrent use, it is backed by concurrent hash maps.  In this case the hit and miss
+ * counters of the statistics are not exact.
+ * @param <V> the type of the cached values
+ * @version 2.3.0
+ * @since 2.3.0
+ */
+public class UnboundedFormulaCache<V> implements FormulaCache<V> {
+
+    private final boolean concurrent;
+    private final Map<Formula, Map<CacheEntry, V>> cache;
+    private long hits;
+    private long misses;
+
+    /**
+     * Constructs a new unbounded cache.
+     * @param concurrent {@code true} if the cache is accessed by more than one thread, {@code false} otherwise
+     */
+    public UnboundedFormulaCache(final boolean concurrent) {
+        this.concurrent = concurrent;
+        this.cache = concurrent ? new ConcurrentHashMap<>() : new HashMap<>();
+    }
+
+    @Override
+    public V get(final Formula formula, final CacheEntry key) {
+        final Map<CacheEntry, V> entries = this.cache.get(formula);
+        final V value = entries == null ? null : entries.get(key);
+        if (value == null) {
+            this.misses++;
+        } else {
+            this.hits++;
+        }
+        return value;
+    }
+
+    @Override
+    public Map<CacheEntry, V> get(final Formula formula) {
+        return this.cache.get(formula);
+    }
+
+    @Override
+    public void put(final Formula formula, final CacheEntry key, final V value) {
+        if (value == null) {
+            final Map<CacheEntry, V> entries = this.cache.get(formula);
+            if (entries != null) {
+                entries.remove(key);
+            }
+        } else {
+            this.cache.computeIfAbsent(formula, k -> this.concurrent ? new ConcurrentHashMap<>() : new HashMap<>()).put(key, value);
+        }
+    }
+
+    @Override
+    public void remove(final Formula formula) {
+        this.cache.remove(formula);
+    }
+
+    @Override
+    public void clear() {
+        this.cache.clear();
+    }
+
+    @Override
+    public int size() {
+        return this.cache.size();
+    }
+
+    @Override
+    public CacheStatistics statistics() {
+        return new CacheStatistics(this.hits, this.misses, 0, this.cache.size());
+    }
+}
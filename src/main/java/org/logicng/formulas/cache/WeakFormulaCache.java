@@ -0,0 +1,126 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+package org.logicng.formulas.cache;
+
+import org.logicng.formulas.Formula;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * A formula cache which holds its formulas by weak references.  If a formula is garbage collected, all its cached
+ * values are removed from the cache.
+ * <p>
+ * The values are held strongly.  A value which is the formula itself (e.g. the NNF of a formula in NNF) is stored
+ * as a marker, so it does not keep its formula alive.
+ * <p>
+ * All methods of this cache are synchronized, so it can also be used by a formula factory which is shared between
+ * threads.
+ * @param <V> the type of the cached values
+ * @version 2.3.0
+ * @since 2.3.0
+ */
+public class WeakFormulaCache<V> implements FormulaCache<V> {
+
+    private static final Object SELF = new Object();
+
+    private final WeakHashMap<Formula, Map<CacheEntry, Object>> cache;
+    private long hits;
+    private long misses;
+
+    /**
+     * Constructs a new weak cache.
+     */
+    public WeakFormulaCache() {
+        this.cache = new WeakHashMap<>();
+    }
+
+    @Override
+    public synchronized V get(final Formula formula, final CacheEntry key) {
+        final Map<CacheEntry, Object> entries = this.cache.get(formula);
+        final Object value = entries == null ? null : entries.get(key);
+        if (value == null) {
+            this.misses++;
+            return null;
+        }
+        this.hits++;
+        return resolve(formula, value);
+    }
+
+    @Override
+    public synchronized Map<CacheEntry, V> get(final Formula formula) {
+        final Map<CacheEntry, Object> entries = this.cache.get(formula);
+        if (entries == null) {
+            return null;
+        }
+        final Map<CacheEntry, V> result = new HashMap<>();
+        for (final Map.Entry<CacheEntry, Object> entry : entries.entrySet()) {
+            result.put(entry.getKey(), resolve(formula, entry.getValue()));
+        }
+        return result;
+    }
+
+    @Override
+    public synchronized void put(final Formula formula, final CacheEntry key, final V value) {
+        if (value == null) {
+            final Map<CacheEntry, Object> entries = this.cache.get(formula);
+            if (entries != null) {
+                entries.remove(key);
+            }
+        } else {
+            this.cache.computeIfAbsent(formula, k -> new HashMap<>()).put(key, value == formula ? SELF : value);
+        }
+    }
+
+    @Override
+    public synchronized void remove(final Formula formula) {
+        this.cache.remove(formula);
+    }
+
+    @Override
+    public synchronized void clear() {
+        this.cache.clear();
+    }
+
+    @Override
+    public synchronized int size() {
+        return this.cache.size();
+    }
+
+    @Override
+    public synchronized CacheStatistics statistics() {
+        return new CacheStatistics(this.hits, this.misses, 0, this.cache.size());
+    }
+
+    @SuppressWarnings("unchecked")
+    private V resolve(final Formula formula, final Object value) {
+        return value == SELF ? (V) formula : (V) value;
+    }
+}
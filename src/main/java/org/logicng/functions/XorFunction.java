@@ -0,0 +1,110 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+
+package org.logicng.functions;
+
+import org.logicng.datastructures.XorConstraint;
+import org.logicng.formulas.BinaryOperator;
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.FormulaFunction;
+import org.logicng.formulas.Literal;
+import org.logicng.formulas.Not;
+import org.logicng.formulas.Variable;
+
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * A function that recognizes XOR constraints.  A formula is an XOR constraint if it consists only of literals,
+ * constants, negations, and equivalences, e.g. a formula created by
+ * {@link org.logicng.formulas.FormulaFactory#xor(Formula...)}.  Such a formula is an affine function over GF(2), since
+ * {@code a <=> b} is equivalent to {@code a + b + 1} and {@code ~a} is equivalent to {@code a + 1}.  Variables which
+ * occur an even number of times cancel each other out.
+ * <p>
+ * The function returns {@code null} if the formula is not an XOR constraint.  The result is not cached.
+ * @version 2.3.0
+ * @since 2.3.0
+ */
+public final class XorFunction implements FormulaFunction<XorConstraint> {
+
+    private final static XorFunction INSTANCE = new XorFunction();
+
+    /**
+     * Private empty constructor.  Singleton class.
+     */
+    private XorFunction() {
+        // Intentionally left empty
+    }
+
+    /**
+     * Returns the singleton of the function.
+     * @return the function instance
+     */
+    public static XorFunction get() {
+        return INSTANCE;
+    }
+
+    @Override
+    public XorConstraint apply(final Formula formula, final boolean cache) {
+        final SortedSet<Variable> variables = new TreeSet<>();
+        final Boolean constant = collect(formula, variables);
+        return constant == null ? null : new XorConstraint(variables, !constant);
+    }
+
+    /**
+     * Collects the variables of an XOR formula and computes its constant term.
+     * @param formula   the formula
+     * @param variables the variables collected so far, variables are removed if they occur again
+     * @return the constant term of the formula or {@code null} if the formula is not an XOR constraint
+     */
+    private static Boolean collect(final Formula formula, final SortedSet<Variable> variables) {
+        switch (formula.type()) {
+            case FALSE:
+                return false;
+            case TRUE:
+                return true;
+            case LITERAL:
+                final Literal lit = (Literal) formula;
+                if (!variables.add(lit.variable())) {
+                    variables.remove(lit.variable());
+                }
+                return !lit.phase();
+            case NOT:
+                final Boolean operand = collect(((Not) formula).operand(), variables);
+                return operand == null ? null : !operand;
+            case EQUIV:
+                final BinaryOperator equiv = (BinaryOperator) formula;
+                final Boolean left = collect(equiv.left(), variables);
+                final Boolean right = left == null ? null : collect(equiv.right(), variables);
+                return right == null ? null : left == right;
+            default:
+                return null;
+        }
+    }
+}
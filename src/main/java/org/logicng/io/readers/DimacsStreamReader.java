@@ -0,0 +1,576 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+
+package org.logicng.io.readers;
+
+import org.logicng.collections.LNGIntVector;
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.FormulaFactory;
+import org.logicng.formulas.Literal;
+import org.logicng.formulas.Variable;
+import org.logicng.solvers.MiniSat;
+import org.logicng.solvers.sat.MiniSatStyleSolver;
+import org.tukaani.xz.XZInputStream;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * A streaming reader for DIMACS CNF files.
+ * <p>
+ * In contrast to the {@link DimacsReader} this reader does not work line by line on strings, but parses the bytes of
+ * the input directly.  Uncompressed files are memory-mapped.  The clauses can either be loaded directly into a SAT
+ * solver as integer literals - without creating any formulas - or be returned as a list of formulas.
+ * <p>
+ * Clauses may span multiple lines and multiple clauses may be in one line, every clause is terminated by '0'.  Lines
+ * starting with 'c' are comments and the problem line 'p cnf &lt;variables&gt; &lt;clauses&gt;' is optional.  A line
+ * starting with '%' (as in the SATLIB benchmarks) ends the input.  The variable {@code n} of the DIMACS input is
+ * mapped to the variable with the name {@code <prefix>n}.
+ * <p>
+ * Inputs compressed with gzip or xz are detected automatically.  Reading xz-compressed input requires the optional
+ * dependency {@code org.tukaani:xz} on the classpath.
+ * @version 2.3.0
+ * @since 2.3.0
+ */
+public final class DimacsStreamReader {
+
+    private static final int MAPPING_SIZE = 1 << 28;
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final byte[] GZIP_MAGIC = {(byte) 0x1f, (byte) 0x8b};
+    private static final byte[] XZ_MAGIC = {(byte) 0xfd, '7', 'z', 'X', 'Z', 0};
+
+    /**
+     * Private constructor.
+     */
+    private DimacsStreamReader() {
+        // Intentionally left empty.
+    }
+
+    /**
+     * Reads a given DIMACS CNF file and adds its clauses to the given solver.
+     * @param file   the file
+     * @param solver the solver
+     * @return the number of clauses read
+     * @throws IOException if there was a problem reading the file
+     */
+    public static int readCNF(final File file, final MiniSat solver) throws IOException {
+        return readCNF(file, solver, "v");
+    }
+
+    /**
+     * Reads a given DIMACS CNF file and adds its clauses to the given solver.
+     * @param file   the file
+     * @param solver the solver
+     * @param prefix the prefix for the variable names
+     * @return the number of clauses read
+     * @throws IOException if there was a problem reading the file
+     */
+    public static int readCNF(final File file, final MiniSat solver, final String prefix) throws IOException {
+        solver.setSolverToUndef();
+        return readCNF(file, solver.underlyingSolver(), prefix, solver.getConfig().initialPhase());
+    }
+
+    /**
+     * Reads a given DIMACS CNF file and adds its clauses to the given underlying solver.
+     * @param file         the file
+     * @param solver       the underlying solver
+     * @param prefix       the prefix for the variable names
+     * @param initialPhase the initial phase of new variables
+     * @return the number of clauses read
+     * @throws IOException if there was a problem reading the file
+     */
+    public static int readCNF(final File file, final MiniSatStyleSolver solver, final String prefix, final boolean initialPhase)
+            throws IOException {
+        try (final ByteInput input = open(file)) {
+            return parse(input, new SolverLoader(solver, prefix, initialPhase));
+        }
+    }
+
+    /**
+     * Reads DIMACS CNF input from the given stream and adds its clauses to the given solver.  The stream is closed
+     * afterwards.
+     * @param stream the input stream
+     * @param solver the solver
+     * @param prefix the prefix for the variable names
+     * @return the number of clauses read
+     * @throws IOException if there was a problem reading the stream
+     */
+    public static int readCNF(final InputStream stream, final MiniSat solver, final String prefix) throws IOException {
+        solver.setSolverToUndef();
+        return readCNF(stream, solver.underlyingSolver(), prefix, solver.getConfig().initialPhase());
+    }
+
+    /**
+     * Reads DIMACS CNF input from the given stream and adds its clauses to the given underlying solver.  The stream
+     * is closed afterwards.
+     * @param stream       the input stream
+     * @param solver       the underlying solver
+     * @param prefix       the prefix for the variable names
+     * @param initialPhase the initial phase of new variables
+     * @return the number of clauses read
+     * @throws IOException if there was a problem reading the stream
+     */
+    public static int readCNF(final InputStream stream, final MiniSatStyleSolver solver, final String prefix, final boolean initialPhase)
+            throws IOException {
+        try (final ByteInput input = open(stream)) {
+            return parse(input, new SolverLoader(solver, prefix, initialPhase));
+        }
+    }
+
+    /**
+     * Reads a given DIMACS CNF file and returns the contained clauses as a list of formulas.
+     * @param file the file
+     * @param f    the formula factory
+     * @return the list of formulas (clauses)
+     * @throws IOException if there was a problem reading the file
+     */
+    public static List<Formula> readFormulas(final File file, final FormulaFactory f) throws IOException {
+        return readFormulas(file, f, "v");
+    }
+
+    /**
+     * Reads a given DIMACS CNF file and returns the contained clauses as a list of formulas.
+     * @param file   the file
+     * @param f      the formula factory
+     * @param prefix the prefix for the variable names
+     * @return the list of formulas (clauses)
+     * @throws IOException if there was a problem reading the file
+     */
+    public static List<Formula> readFormulas(final File file, final FormulaFactory f, final String prefix) throws IOException {
+        final FormulaLoader loader = new FormulaLoader(f, prefix);
+        try (final ByteInput input = open(file)) {
+            parse(input, loader);
+        }
+        return loader.clauses;
+    }
+
+    /**
+     * Reads DIMACS CNF input from the given stream and returns the contained clauses as a list of formulas.  The
+     * stream is closed afterwards.
+     * @param stream the input stream
+     * @param f      the formula factory
+     * @param prefix the prefix for the variable names
+     * @return the list of formulas (clauses)
+     * @throws IOException if there was a problem reading the stream
+     */
+    public static List<Formula> readFormulas(final InputStream stream, final FormulaFactory f, final String prefix) throws IOException {
+        final FormulaLoader loader = new FormulaLoader(f, prefix);
+        try (final ByteInput input = open(stream)) {
+            parse(input, loader);
+        }
+        return loader.clauses;
+    }
+
+    /**
+     * Parses the DIMACS input and passes every clause to the given loader.
+     * @param input  the input
+     * @param loader the loader
+     * @return the number of clauses
+     * @throws IOException if there was a problem reading the input
+     */
+    private static int parse(final ByteInput input, final Loader loader) throws IOException {
+        final LNGIntVector clause = new LNGIntVector();
+        int numClauses = 0;
+        int c = input.read();
+        while (c != -1) {
+            if (c == '-' || isDigit(c)) {
+                final boolean negative = c == '-';
+                if (negative) {
+                    c = input.read();
+                    if (!isDigit(c)) {
+                        throw new IllegalArgumentException("Expected a variable index after '-' at byte " + input.offset() + ".");
+                    }
+                }
+                int value = 0;
+                while (isDigit(c)) {
+                    if (value > (Integer.MAX_VALUE - (c - '0')) / 10) {
+                        throw new IllegalArgumentException("Variable index too large at byte " + input.offset() + ".");
+                    }
+                    value = value * 10 + (c - '0');
+                    c = input.read();
+                }
+                if (c != -1 && !isWhitespace(c)) {
+                    throw new IllegalArgumentException("Unexpected character '" + (char) c + "' at byte " + input.offset() + ".");
+                }
+                if (value == 0) {
+                    loader.addClause(clause);
+                    clause.clear();
+                    numClauses++;
+                } else {
+                    clause.push(negative ? -value : value);
+                }
+            } else if (isWhitespace(c)) {
+                c = input.read();
+            } else if (c == 'c') {
+                c = skipLine(input);
+            } else if (c == 'p') {
+                c = readProblemLine(input, loader);
+            } else if (c == '%') {
+                break;
+            } else {
+                throw new IllegalArgumentException("Unexpected character '" + (char) c + "' at byte " + input.offset() + ".");
+            }
+        }
+        if (!clause.empty()) {
+            throw new IllegalArgumentException("The last clause did not end with 0.");
+        }
+        return numClauses;
+    }
+
+    private static int skipLine(final ByteInput input) throws IOException {
+        int c = input.read();
+        while (c != -1 && c != '\n') {
+            c = input.read();
+        }
+        return c;
+    }
+
+    private static int readProblemLine(final ByteInput input, final Loader loader) throws IOException {
+        final StringBuilder sb = new StringBuilder("p");
+        int c = input.read();
+        while (c != -1 && c != '\n') {
+            sb.append((char) c);
+            c = input.read();
+        }
+        final String line = sb.toString().trim();
+        final String[] split = line.split("\\s+");
+        if (split.length != 4 || !"cnf".equals(split[1])) {
+            throw new IllegalArgumentException("Malformed problem line '" + line + "'.");
+        }
+        try {
+            loader.problem(Integer.parseInt(split[2]), Integer.parseInt(split[3]));
+        } catch (final NumberFormatException e) {
+            throw new IllegalArgumentException("Malformed problem line '" + line + "'.", e);
+        }
+        return c;
+    }
+
+    private static boolean isDigit(final int c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isWhitespace(final int c) {
+        return c == ' ' || c == '\n' || c == '\r' || c == '\t' || c == '\f';
+    }
+
+    /**
+     * Opens the given file.  Uncompressed files are memory-mapped, compressed files are decompressed as a stream.
+     * @param file the file
+     * @return the byte input
+     * @throws IOException if the file could not be opened
+     */
+    private static ByteInput open(final File file) throws IOException {
+        final FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        try {
+            final ByteBuffer magic = ByteBuffer.allocate(XZ_MAGIC.length);
+            while (magic.hasRemaining() && channel.read(magic, magic.position()) > 0) {
+                // read the magic bytes of the file
+            }
+            final byte[] header = Arrays.copyOf(magic.array(), magic.position());
+            if (startsWith(header, GZIP_MAGIC) || startsWith(header, XZ_MAGIC)) {
+                return open(Channels.newInputStream(channel));
+            }
+            return new ByteInput(channel);
+        } catch (final IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Opens the given stream and decompresses it if required.
+     * @param stream the stream
+     * @return the byte input
+     * @throws IOException if the stream could not be opened
+     */
+    private static ByteInput open(final InputStream stream) throws IOException {
+        final BufferedInputStream buffered = new BufferedInputStream(stream, BUFFER_SIZE);
+        buffered.mark(XZ_MAGIC.length);
+        final byte[] magic = new byte[XZ_MAGIC.length];
+        int length = 0;
+        int read;
+        while (length < magic.length && (read = buffered.read(magic, length, magic.length - length)) > 0) {
+            length += read;
+        }
+        buffered.reset();
+        final byte[] header = Arrays.copyOf(magic, length);
+        if (startsWith(header, GZIP_MAGIC)) {
+            return new ByteInput(new GZIPInputStream(buffered, BUFFER_SIZE));
+        } else if (startsWith(header, XZ_MAGIC)) {
+            try {
+                return new ByteInput(XZSupport.decompress(buffered));
+            } catch (final NoClassDefFoundError e) {
+                buffered.close();
+                throw new IOException("Reading xz-compressed input requires the library org.tukaani:xz on the classpath.", e);
+            }
+        }
+        return new ByteInput(buffered);
+    }
+
+    private static boolean startsWith(final byte[] bytes, final byte[] prefix) {
+        if (bytes.length < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (bytes[i] != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The byte input of the reader.  The input is either a memory-mapped file channel which is mapped in windows of
+     * {@link #MAPPING_SIZE} bytes, or a stream which is read into a buffer of {@link #BUFFER_SIZE} bytes.
+     */
+    private static final class ByteInput implements Closeable {
+        private final FileChannel channel;
+        private final InputStream stream;
+        private final long size;
+        private long mapped;
+        private long consumed;
+        private ByteBuffer buffer;
+
+        private ByteInput(final FileChannel channel) throws IOException {
+            this.channel = channel;
+            this.stream = null;
+            this.size = channel.size();
+            this.buffer = ByteBuffer.allocate(0);
+        }
+
+        private ByteInput(final InputStream stream) {
+            this.channel = null;
+            this.stream = stream;
+            this.size = -1;
+            this.buffer = ByteBuffer.wrap(new byte[BUFFER_SIZE]);
+            this.buffer.limit(0);
+        }
+
+        /**
+         * Returns the next byte of the input or -1 if the end of the input is reached.
+         * @return the next byte
+         * @throws IOException if there was a problem reading the input
+         */
+        private int read() throws IOException {
+            if (!this.buffer.hasRemaining() && !refill()) {
+                return -1;
+            }
+            return this.buffer.get() & 0xff;
+        }
+
+        /**
+         * Returns the offset of the last byte read.
+         * @return the offset of the last byte read
+         */
+        private long offset() {
+            return this.consumed + this.buffer.position() - 1;
+        }
+
+        private boolean refill() throws IOException {
+            this.consumed += this.buffer.limit();
+            if (this.channel != null) {
+                if (this.mapped >= this.size) {
+                    this.buffer.limit(0);
+                    return false;
+                }
+                final long length = Math.min(MAPPING_SIZE, this.size - this.mapped);
+                this.buffer = this.channel.map(FileChannel.MapMode.READ_ONLY, this.mapped, length);
+                this.mapped += length;
+                return true;
+            }
+            final int read = this.stream.read(this.buffer.array());
+            this.buffer.position(0);
+            this.buffer.limit(Math.max(read, 0));
+            return read > 0;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (this.channel != null) {
+                this.channel.close();
+            } else {
+                this.stream.close();
+            }
+        }
+    }
+
+    /**
+     * A loader which gets the clauses of the DIMACS input.
+     */
+    private interface Loader {
+
+        /**
+         * Is called with the numbers of the problem line.
+         * @param numVars    the number of variables
+         * @param numClauses the number of clauses
+         */
+        void problem(int numVars, int numClauses);
+
+        /**
+         * Adds a clause.  The vector must not be stored by the loader since it is reused.
+         * @param clause the clause as DIMACS literals
+         */
+        void addClause(LNGIntVector clause);
+    }
+
+    /**
+     * A loader which adds the clauses to a solver.
+     */
+    private static final class SolverLoader implements Loader {
+        private final MiniSatStyleSolver solver;
+        private final String prefix;
+        private final boolean initialPhase;
+        private final LNGIntVector ps;
+        private int[] indices;
+
+        private SolverLoader(final MiniSatStyleSolver solver, final String prefix, final boolean initialPhase) {
+            this.solver = solver;
+            this.prefix = prefix;
+            this.initialPhase = initialPhase;
+            this.ps = new LNGIntVector();
+            this.indices = new int[0];
+        }
+
+        @Override
+        public void problem(final int numVars, final int numClauses) {
+            ensureCapacity(numVars);
+        }
+
+        @Override
+        public void addClause(final LNGIntVector clause) {
+            this.ps.clear();
+            for (int i = 0; i < clause.size(); i++) {
+                final int lit = clause.get(i);
+                this.ps.push(MiniSatStyleSolver.mkLit(index(Math.abs(lit)), lit < 0));
+            }
+            this.solver.addClause(this.ps, null);
+        }
+
+        private int index(final int var) {
+            ensureCapacity(var);
+            int index = this.indices[var];
+            if (index == -1) {
+                final String name = this.prefix + var;
+                index = this.solver.idxForName(name);
+                if (index == -1) {
+                    index = this.solver.newVar(!this.initialPhase, true);
+                    this.solver.addName(name, index);
+                }
+                this.indices[var] = index;
+            }
+            return index;
+        }
+
+        private void ensureCapacity(final int var) {
+            if (var >= this.indices.length) {
+                final int oldLength = this.indices.length;
+                this.indices = Arrays.copyOf(this.indices, Math.max(var + 1, oldLength * 2));
+                Arrays.fill(this.indices, oldLength, this.indices.length, -1);
+            }
+        }
+    }
+
+    /**
+     * A loader which collects the clauses as formulas.
+     */
+    private static final class FormulaLoader implements Loader {
+        private final FormulaFactory f;
+        private final String prefix;
+        private final ArrayList<Formula> clauses;
+        private final List<Literal> literals;
+        private Variable[] variables;
+
+        private FormulaLoader(final FormulaFactory f, final String prefix) {
+            this.f = f;
+            this.prefix = prefix;
+            this.clauses = new ArrayList<>();
+            this.literals = new ArrayList<>();
+            this.variables = new Variable[0];
+        }
+
+        @Override
+        public void problem(final int numVars, final int numClauses) {
+            if (numVars >= this.variables.length) {
+                this.variables = Arrays.copyOf(this.variables, numVars + 1);
+            }
+            if (this.clauses.isEmpty()) {
+                this.clauses.ensureCapacity(numClauses);
+            }
+        }
+
+        @Override
+        public void addClause(final LNGIntVector clause) {
+            this.literals.clear();
+            for (int i = 0; i < clause.size(); i++) {
+                final int lit = clause.get(i);
+                final Variable var = variable(Math.abs(lit));
+                this.literals.add(lit > 0 ? var : var.negate());
+            }
+            this.clauses.add(this.f.or(this.literals));
+        }
+
+        private Variable variable(final int var) {
+            if (var >= this.variables.length) {
+                this.variables = Arrays.copyOf(this.variables, Math.max(var + 1, this.variables.length * 2));
+            }
+            Variable variable = this.variables[var];
+            if (variable == null) {
+                variable = this.f.variable(this.prefix + var);
+                this.variables[var] = variable;
+            }
+            return variable;
+        }
+    }
+
+    /**
+     * Decompression of xz input.  This class is only loaded if xz input is read, so the optional dependency is only
+     * required in this case.
+     */
+    private static final class XZSupport {
+
+        private XZSupport() {
+            // Intentionally left empty.
+        }
+
+        private static InputStream decompress(final InputStream stream) throws IOException {
+            return new XZInputStream(stream);
+        }
+    }
+}
@@ -0,0 +1,186 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+
+package org.logicng.solvers;
+
+import org.logicng.configurations.Configuration;
+import org.logicng.configurations.ConfigurationType;
+import org.logicng.solvers.sat.MiniSatConfig;
+
+/**
+ * The configuration object for the cube-and-conquer SAT solver.
+ * @version 2.3.0
+ * @since 2.3.0
+ */
+public final class CubeAndConquerConfig extends Configuration {
+
+    final PortfolioConfig.Worker worker;
+    final int parallelism;
+    final int maxCubeDepth;
+    final int lookaheadCandidates;
+
+    /**
+     * Constructs a new cube-and-conquer configuration from a given builder.
+     * @param builder the builder
+     */
+    private CubeAndConquerConfig(final Builder builder) {
+        super(ConfigurationType.CUBE_AND_CONQUER);
+        this.worker = builder.worker;
+        this.parallelism = Math.max(1, builder.parallelism);
+        this.maxCubeDepth = builder.maxCubeDepth >= 0 ? builder.maxCubeDepth : defaultCubeDepth(this.parallelism);
+        this.lookaheadCandidates = Math.max(1, builder.lookaheadCandidates);
+    }
+
+    /**
+     * Returns a new builder for the configuration.
+     * @return the builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the default maximal cube depth for a given parallelism.  The cubes are split until there are about
+     * sixteen cubes per thread, so threads which finish their cubes early can take over the cubes of other threads.
+     * @param parallelism the parallelism
+     * @return the default maximal cube depth
+     */
+    static int defaultCubeDepth(final int parallelism) {
+        return 32 - Integer.numberOfLeadingZeros(parallelism - 1) + 4;
+    }
+
+    /**
+     * Returns the configuration of the workers.
+     * @return the configuration of the workers
+     */
+    public PortfolioConfig.Worker worker() {
+        return this.worker;
+    }
+
+    /**
+     * Returns the number of threads and workers.
+     * @return the number of threads and workers
+     */
+    public int parallelism() {
+        return this.parallelism;
+    }
+
+    /**
+     * Returns the maximal depth of the cubes, i.e. the maximal number of branching literals in a cube.
+     * @return the maximal depth of the cubes
+     */
+    public int maxCubeDepth() {
+        return this.maxCubeDepth;
+    }
+
+    /**
+     * Returns the maximal number of variables which are probed in a lookahead.
+     * @return the maximal number of variables which are probed in a lookahead
+     */
+    public int lookaheadCandidates() {
+        return this.lookaheadCandidates;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("CubeAndConquerConfig{").append(System.lineSeparator());
+        sb.append("worker=").append(this.worker).append(System.lineSeparator());
+        sb.append("parallelism=").append(this.parallelism).append(System.lineSeparator());
+        sb.append("maxCubeDepth=").append(this.maxCubeDepth).append(System.lineSeparator());
+        sb.append("lookaheadCandidates=").append(this.lookaheadCandidates).append(System.lineSeparator());
+        sb.append("}");
+        return sb.toString();
+    }
+
+    /**
+     * The builder for a cube-and-conquer configuration.
+     */
+    public static class Builder {
+        private PortfolioConfig.Worker worker = PortfolioConfig.Worker.miniSat(MiniSatConfig.builder().build());
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+        private int maxCubeDepth = -1;
+        private int lookaheadCandidates = 64;
+
+        private Builder() {
+            // Initialize only via factory
+        }
+
+        /**
+         * Sets the configuration of the workers.  All workers use the same configuration, since the cubes are shared
+         * between the workers.  The default is a MiniSat solver with the default configuration.
+         * @param worker the configuration of the workers
+         * @return the builder
+         */
+        public Builder worker(final PortfolioConfig.Worker worker) {
+            this.worker = worker;
+            return this;
+        }
+
+        /**
+         * Sets the number of threads of the fork-join pool.  The solver holds one worker per thread.  The default
+         * value is the number of available processors.
+         * @param parallelism the number of threads
+         * @return the builder
+         */
+        public Builder parallelism(final int parallelism) {
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * Sets the maximal depth of the cubes, i.e. the maximal number of branching literals in a cube.  A depth of
+         * 0 solves the formula without splitting.  The default value is {@code log2(parallelism) + 4}.
+         * @param maxCubeDepth the maximal depth of the cubes
+         * @return the builder
+         */
+        public Builder maxCubeDepth(final int maxCubeDepth) {
+            this.maxCubeDepth = maxCubeDepth;
+            return this;
+        }
+
+        /**
+         * Sets the maximal number of variables which are probed in a lookahead.  The variables with the most watching
+         * clauses are probed.  The default value is 64.
+         * @param lookaheadCandidates the maximal number of probed variables
+         * @return the builder
+         */
+        public Builder lookaheadCandidates(final int lookaheadCandidates) {
+            this.lookaheadCandidates = lookaheadCandidates;
+            return this;
+        }
+
+        /**
+         * Builds the cube-and-conquer configuration.
+         * @return the configuration
+         */
+        public CubeAndConquerConfig build() {
+            return new CubeAndConquerConfig(this);
+        }
+    }
+}
@@ -0,0 +1,347 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+
+package org.logicng.solvers;
+
+import static org.logicng.datastructures.Tristate.UNDEF;
+
+import org.logicng.collections.LNGIntVector;
+import org.logicng.datastructures.Assignment;
+import org.logicng.datastructures.Tristate;
+import org.logicng.formulas.FormulaFactory;
+import org.logicng.formulas.Literal;
+import org.logicng.formulas.Variable;
+import org.logicng.handlers.Handler;
+import org.logicng.handlers.SATHandler;
+import org.logicng.solvers.sat.Lookahead;
+import org.logicng.solvers.sat.MiniSatStyleSolver;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A cube-and-conquer SAT solver.  The formula is split into cubes by a {@link Lookahead lookahead} and the cubes are
+ * solved concurrently on a fork-join pool.  Each thread solves its cubes as assumptions on one of the workers, i.e.
+ * identically configured MiniSat-style solvers holding all added formulas.  The workers are incremental, so learnt
+ * clauses of a cube are reused for the following cubes of the same worker.
+ * <p>
+ * If a cube is satisfiable, the other cubes are canceled and the model is taken from the worker which solved the cube.
+ * If all cubes are unsatisfiable, the formula is unsatisfiable under the given assumptions and
+ * {@link #assumptionCore()} returns the assumptions which were needed to refute the cubes.
+ * @version 2.3.0
+ * @since 2.3.0
+ */
+public class CubeAndConquerSATSolver extends ParallelSATSolver {
+
+    protected final CubeAndConquerConfig config;
+    protected final BlockingQueue<MiniSat> idleWorkers;
+    protected MiniSat winner;
+    protected SortedSet<Literal> assumptionCore;
+    protected int numCubes;
+    protected ForkJoinPool pool;
+
+    /**
+     * Constructs a new cube-and-conquer SAT solver.
+     * @param f      the formula factory
+     * @param config the configuration
+     */
+    protected CubeAndConquerSATSolver(final FormulaFactory f, final CubeAndConquerConfig config) {
+        super(f, createWorkers(f, config));
+        this.config = config;
+        this.idleWorkers = new LinkedBlockingQueue<>(this.workers);
+    }
+
+    /**
+     * Returns a new cube-and-conquer SAT solver with the default configuration.
+     * @param f the formula factory
+     * @return the solver
+     */
+    public static CubeAndConquerSATSolver cubeAndConquer(final FormulaFactory f) {
+        return new CubeAndConquerSATSolver(f, CubeAndConquerConfig.builder().build());
+    }
+
+    /**
+     * Returns a new cube-and-conquer SAT solver with a given configuration.
+     * @param f      the formula factory
+     * @param config the configuration
+     * @return the solver
+     */
+    public static CubeAndConquerSATSolver cubeAndConquer(final FormulaFactory f, final CubeAndConquerConfig config) {
+        return new CubeAndConquerSATSolver(f, config);
+    }
+
+    private static List<MiniSat> createWorkers(final FormulaFactory f, final CubeAndConquerConfig config) {
+        final List<MiniSat> workers = new ArrayList<>(config.parallelism);
+        for (int i = 0; i < config.parallelism; i++) {
+            workers.add(new MiniSat(f, config.worker.solverStyle(), config.worker.miniSatConfig(), config.worker.glucoseConfig()));
+        }
+        return workers;
+    }
+
+    @Override
+    public Tristate sat(final SATHandler handler) {
+        return solve(handler, Collections.emptyList());
+    }
+
+    @Override
+    public Tristate sat(final SATHandler handler, final Literal literal) {
+        return solve(handler, Collections.singletonList(literal));
+    }
+
+    @Override
+    public Tristate sat(final SATHandler handler, final Collection<? extends Literal> assumptions) {
+        return solve(handler, assumptions);
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        this.winner = null;
+        this.assumptionCore = null;
+    }
+
+    @Override
+    public Assignment model(final Collection<Variable> variables) {
+        if (this.result == UNDEF) {
+            throw new IllegalStateException("Cannot get a model as long as the formula is not solved.  Call 'sat' first.");
+        }
+        return this.result == Tristate.TRUE ? this.winner.model(variables) : null;
+    }
+
+    /**
+     * Returns the assumptions of the last {@code sat} call which were needed to refute all cubes.  The formula on the
+     * solver together with these assumptions is unsatisfiable.  If the set is empty, the formula itself is
+     * unsatisfiable.
+     * @return the assumptions needed to refute the cubes or {@code null} if the last call was not unsatisfiable
+     */
+    public SortedSet<Literal> assumptionCore() {
+        return this.result == Tristate.FALSE ? this.assumptionCore : null;
+    }
+
+    /**
+     * Returns the number of cubes which were solved or refuted in the last {@code sat} call.
+     * @return the number of cubes of the last {@code sat} call
+     */
+    public int numCubes() {
+        return this.numCubes;
+    }
+
+    /**
+     * Returns the configuration of this solver.
+     * @return the configuration of this solver
+     */
+    public CubeAndConquerConfig getConfig() {
+        return this.config;
+    }
+
+    /**
+     * Splits the formula into cubes and solves them in the fork-join pool of this solver.
+     * @param handler     the SAT handler
+     * @param assumptions the assumptions
+     * @return the result
+     */
+    private Tristate solve(final SATHandler handler, final Collection<? extends Literal> assumptions) {
+        Handler.start(handler);
+        final Map<Integer, Literal> assumptionLits = new HashMap<>();
+        LNGIntVector assumptionVec = null;
+        for (final MiniSat worker : this.workers) {
+            final LNGIntVector vec = worker.generateClauseVector(assumptions);
+            if (assumptionVec == null) {
+                assumptionVec = vec;
+                int i = 0;
+                for (final Literal lit : assumptions) {
+                    assumptionLits.put(vec.get(i++), lit);
+                }
+            } else if (!equal(assumptionVec, vec) || worker.underlyingSolver().nVars() != this.workers.get(0).underlyingSolver().nVars()) {
+                throw new IllegalStateException("The workers of the cube-and-conquer solver have diverged.");
+            }
+        }
+        final Run run = new Run(handler, assumptionVec, assumptionLits);
+        this.result = UNDEF;
+        this.winner = null;
+        this.assumptionCore = null;
+        if (this.pool == null) {
+            this.pool = new ForkJoinPool(this.config.parallelism);
+        }
+        this.pool.invoke(new CubeTask(run, new LNGIntVector(), 0));
+        this.numCubes = run.cubes.get();
+        if (run.winner != null) {
+            this.winner = run.winner;
+            this.result = Tristate.TRUE;
+        } else if (!run.cancellation.canceled()) {
+            this.assumptionCore = new TreeSet<>();
+            for (final int lit : run.core) {
+                this.assumptionCore.add(assumptionLits.get(lit));
+            }
+            this.result = Tristate.FALSE;
+        }
+        if (this.winner != null) {
+            this.winner.setResult(Tristate.TRUE);
+        }
+        SATHandler.finishSolving(handler);
+        return this.result;
+    }
+
+    private static boolean equal(final LNGIntVector v1, final LNGIntVector v2) {
+        if (v1.size() != v2.size()) {
+            return false;
+        }
+        for (int i = 0; i < v1.size(); i++) {
+            if (v1.get(i) != v2.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The state of a single {@code sat} call.
+     */
+    private static final class Run {
+        private final SATHandler handler;
+        private final LNGIntVector assumptions;
+        private final Map<Integer, Literal> assumptionLits;
+        private final CancellationFlag cancellation;
+        private final AtomicInteger cubes;
+        private final Collection<Integer> core;
+        private volatile MiniSat winner;
+
+        private Run(final SATHandler handler, final LNGIntVector assumptions, final Map<Integer, Literal> assumptionLits) {
+            this.handler = handler;
+            this.assumptions = assumptions;
+            this.assumptionLits = assumptionLits;
+            this.cancellation = new CancellationFlag();
+            this.cubes = new AtomicInteger();
+            this.core = Collections.synchronizedSet(new TreeSet<>());
+        }
+    }
+
+    /**
+     * A task which splits a cube by a lookahead or solves it if it should not be split any further.  A task only holds
+     * a worker while it computes the lookahead or solves its cube, so waiting for the subtasks never blocks a worker.
+     */
+    private final class CubeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final Run run;
+        private final LNGIntVector cube;
+        private final int depth;
+
+        private CubeTask(final Run run, final LNGIntVector cube, final int depth) {
+            this.run = run;
+            this.cube = cube;
+            this.depth = depth;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.run.cancellation.canceled()) {
+                return;
+            }
+            final MiniSat worker;
+            try {
+                worker = CubeAndConquerSATSolver.this.idleWorkers.take();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                this.run.cancellation.cancel();
+                return;
+            }
+            int branchingLit = MiniSatStyleSolver.LIT_UNDEF;
+            try {
+                if (this.run.cancellation.canceled()) {
+                    return;
+                }
+                if (this.depth < CubeAndConquerSATSolver.this.config.maxCubeDepth) {
+                    branchingLit = Lookahead.branchingLiteral(worker.underlyingSolver(), this.cube,
+                            CubeAndConquerSATSolver.this.config.lookaheadCandidates);
+                    if (branchingLit == Lookahead.CONFLICT) {
+                        this.run.cubes.incrementAndGet();
+                        return;
+                    }
+                }
+                if (branchingLit == MiniSatStyleSolver.LIT_UNDEF) {
+                    solveCube(worker);
+                }
+            } finally {
+                CubeAndConquerSATSolver.this.idleWorkers.add(worker);
+            }
+            if (branchingLit != MiniSatStyleSolver.LIT_UNDEF) {
+                invokeAll(subtask(branchingLit), subtask(MiniSatStyleSolver.not(branchingLit)));
+            }
+        }
+
+        private CubeTask subtask(final int lit) {
+            final LNGIntVector subcube = new LNGIntVector(this.cube.size() + 1);
+            for (int i = 0; i < this.cube.size(); i++) {
+                subcube.push(this.cube.get(i));
+            }
+            subcube.push(lit);
+            return new CubeTask(this.run, subcube, this.depth + 1);
+        }
+
+        private void solveCube(final MiniSat worker) {
+            this.run.cubes.incrementAndGet();
+            final LNGIntVector assumptions = new LNGIntVector(this.run.assumptions.size() + this.cube.size());
+            for (int i = 0; i < this.run.assumptions.size(); i++) {
+                assumptions.push(this.run.assumptions.get(i));
+            }
+            for (int i = 0; i < this.cube.size(); i++) {
+                assumptions.push(this.cube.get(i));
+            }
+            final MiniSatStyleSolver solver = worker.underlyingSolver();
+            final Tristate result = solver.solve(new WorkerHandler(this.run.handler, this.run.cancellation), assumptions);
+            if (result == Tristate.TRUE) {
+                synchronized (this.run) {
+                    if (this.run.winner == null) {
+                        this.run.winner = worker;
+                        this.run.cancellation.cancel();
+                    }
+                }
+            } else if (result == Tristate.FALSE) {
+                final LNGIntVector conflict = solver.conflict();
+                for (int i = 0; i < conflict.size(); i++) {
+                    final int lit = MiniSatStyleSolver.not(conflict.get(i));
+                    if (this.run.assumptionLits.containsKey(lit)) {
+                        this.run.core.add(lit);
+                    }
+                }
+            }
+        }
+    }
+}
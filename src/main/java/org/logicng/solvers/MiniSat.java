@@ -38,6 +38,7 @@ import org.logicng.collections.LNGIntVector;
 import org.logicng.datastructures.Assignment;
 import org.logicng.datastructures.EncodingResult;
 import org.logicng.datastructures.Tristate;
+import org.logicng.datastructures.XorConstraint;
 import org.logicng.formulas.CType;
 import org.logicng.formulas.CardinalityConstraint;
 import org.logicng.formulas.FType;
@@ -46,12 +47,14 @@ import org.logicng.formulas.FormulaFactory;
 import org.logicng.formulas.Literal;
 import org.logicng.formulas.PBConstraint;
 import org.logicng.formulas.Variable;
+import org.logicng.functions.XorFunction;
 import org.logicng.handlers.SATHandler;
 import org.logicng.propositions.Proposition;
 import org.logicng.solvers.functions.SolverFunction;
 import org.logicng.solvers.sat.GlucoseConfig;
 import org.logicng.solvers.sat.GlucoseSyrup;
 import org.logicng.solvers.sat.MiniCard;
+import org.logicng.solvers.sat.MiniSat2ArenaSolver;
 import org.logicng.solvers.sat.MiniSat2Solver;
 import org.logicng.solvers.sat.MiniSatConfig;
 import org.logicng.solvers.sat.MiniSatStyleSolver;
@@ -66,7 +69,7 @@ import java.util.TreeSet;
 
 /**
  * Wrapper for the MiniSAT-style SAT solvers.
- * @version 2.2.0
+ * @version 2.3.0
  * @since 1.0
  */
 public class MiniSat extends SATSolver {
@@ -101,7 +104,9 @@ public class MiniSat extends SATSolver {
         this.initialPhase = miniSatConfig.initialPhase();
         switch (solverStyle) {
             case MINISAT:
-                this.solver = new MiniSat2Solver(miniSatConfig);
+                this.solver = miniSatConfig.getClauseStorage() == MiniSatConfig.ClauseStorage.ARENA
+                        ? new MiniSat2ArenaSolver(miniSatConfig)
+                        : new MiniSat2Solver(miniSatConfig);
                 break;
             case GLUCOSE:
                 this.solver = new GlucoseSyrup(miniSatConfig, glucoseConfig);
@@ -185,7 +190,10 @@ public class MiniSat extends SATSolver {
         this.result = UNDEF;
         if (formula.type() == FType.PBC) {
             final PBConstraint constraint = (PBConstraint) formula;
-            if (constraint.isCC()) {
+            if (this.solver instanceof MiniSat2Solver && ((MiniSat2Solver) this.solver).pbPropagator() != null) {
+                ((MiniSat2Solver) this.solver).addPBConstraint(generateClauseVector(Arrays.asList(constraint.operands())),
+                        new LNGIntVector(constraint.coefficients()), constraint.comparator(), constraint.rhs());
+            } else if (constraint.isCC()) {
                 if (this.style == SolverStyle.MINICARD) {
                     if (constraint.comparator() == CType.LE) {
                         ((MiniCard) this.solver).addAtMost(generateClauseVector(Arrays.asList(constraint.operands())), constraint.rhs());
@@ -204,11 +212,34 @@ public class MiniSat extends SATSolver {
             } else {
                 addFormulaAsCNF(constraint, proposition);
             }
-        } else {
+        } else if (!addAsXor(formula)) {
             addFormulaAsCNF(formula, proposition);
         }
     }
 
+    /**
+     * Adds a formula as native XOR constraint to the solver if Gaussian elimination is activated and the formula is
+     * an XOR constraint over at least three variables.  Smaller XOR constraints are added as clauses.  Variables of
+     * the formula which cancel each other out in the XOR constraint are still added to the solver.
+     * @param formula the formula
+     * @return {@code true} if the formula was added as XOR constraint, {@code false} otherwise
+     */
+    private boolean addAsXor(final Formula formula) {
+        if (!(this.solver instanceof MiniSat2Solver) || ((MiniSat2Solver) this.solver).gaussianElimination() == null ||
+                formula.type() != FType.NOT && formula.type() != FType.EQUIV) {
+            return false;
+        }
+        final XorConstraint xor = formula.apply(XorFunction.get(), false);
+        if (xor == null || xor.variables().size() < 3) {
+            return false;
+        }
+        for (final Variable var : formula.variables()) {
+            getOrAddIndex(var);
+        }
+        ((MiniSat2Solver) this.solver).addXor(generateClauseVector(xor.variables()), xor.rhs());
+        return true;
+    }
+
     protected void addFormulaAsCNF(final Formula formula, final Proposition proposition) {
         if (this.config.getCnfMethod() == MiniSatConfig.CNFMethod.FACTORY_CNF) {
             this.addClauseSet(formula.cnf(), proposition);
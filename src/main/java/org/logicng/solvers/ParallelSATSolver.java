@@ -0,0 +1,239 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+
+package org.logicng.solvers;
+
+import static org.logicng.datastructures.Tristate.UNDEF;
+
+import org.logicng.cardinalityconstraints.CCIncrementalData;
+import org.logicng.formulas.CardinalityConstraint;
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.FormulaFactory;
+import org.logicng.formulas.Literal;
+import org.logicng.formulas.Variable;
+import org.logicng.handlers.SATHandler;
+import org.logicng.propositions.Proposition;
+import org.logicng.solvers.functions.SolverFunction;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+
+/**
+ * The super class for SAT solvers which solve a formula with several MiniSat-style solvers (the workers) in parallel.
+ * <p>
+ * All formulas are added to all workers.  The workers run in threads of the solver, so the solver itself must not be
+ * used by several threads at once.  A given {@link SATHandler} is called by all workers, calls to the handler are
+ * synchronized on the handler.
+ * <p>
+ * Solver functions, incremental cardinality constraints, and unsat cores are not supported by parallel solvers.
+ * Solver states can only be saved if all workers support it, i.e. if there is no Glucose worker.
+ * @version 2.3.0
+ * @since 2.3.0
+ */
+public abstract class ParallelSATSolver extends SATSolver {
+
+    protected final List<MiniSat> workers;
+    protected final Map<Integer, SolverState[]> validStates;
+    protected int nextStateId;
+
+    /**
+     * Constructs a new parallel SAT solver.
+     * @param f       the formula factory
+     * @param workers the workers
+     */
+    protected ParallelSATSolver(final FormulaFactory f, final List<MiniSat> workers) {
+        super(f);
+        this.workers = workers;
+        this.validStates = new HashMap<>();
+        this.result = UNDEF;
+    }
+
+    @Override
+    public void add(final Formula formula, final Proposition proposition) {
+        this.result = UNDEF;
+        for (final MiniSat worker : this.workers) {
+            worker.add(formula, proposition);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void addWithoutUnknown(final Formula formula) {
+        this.result = UNDEF;
+        for (final MiniSat worker : this.workers) {
+            worker.addWithoutUnknown(formula);
+        }
+    }
+
+    @Override
+    public CCIncrementalData addIncrementalCC(final CardinalityConstraint cc) {
+        throw new UnsupportedOperationException("Incremental cardinality constraints are not supported by parallel solvers.");
+    }
+
+    @Override
+    protected void addClause(final Formula formula, final Proposition proposition) {
+        this.result = UNDEF;
+        for (final MiniSat worker : this.workers) {
+            worker.addClause(formula, proposition);
+        }
+    }
+
+    @Override
+    public void reset() {
+        for (final MiniSat worker : this.workers) {
+            worker.reset();
+        }
+        this.validStates.clear();
+        this.result = UNDEF;
+    }
+
+    @Override
+    public <RESULT> RESULT execute(final SolverFunction<RESULT> function) {
+        throw new UnsupportedOperationException("Solver functions are not supported by parallel solvers.");
+    }
+
+    /**
+     * {@inheritDoc}
+     * @throws UnsupportedOperationException if a worker does not support saving its state, e.g. a Glucose worker
+     */
+    @Override
+    public SolverState saveState() {
+        final SolverState[] states = new SolverState[this.workers.size()];
+        for (int i = 0; i < this.workers.size(); i++) {
+            states[i] = this.workers.get(i).saveState();
+        }
+        final int id = this.nextStateId++;
+        this.validStates.put(id, states);
+        return new SolverState(id, new int[0]);
+    }
+
+    @Override
+    public void loadState(final SolverState state) {
+        final SolverState[] states = this.validStates.get(state.id());
+        if (states == null) {
+            throw new IllegalArgumentException("The given solver state is not valid anymore.");
+        }
+        this.validStates.keySet().removeIf(id -> id > state.id());
+        for (int i = 0; i < this.workers.size(); i++) {
+            this.workers.get(i).loadState(states[i]);
+        }
+        this.result = UNDEF;
+    }
+
+    @Override
+    public SortedSet<Variable> knownVariables() {
+        return this.workers.get(0).knownVariables();
+    }
+
+    @Override
+    protected void setSelectionOrder(final List<? extends Literal> selectionOrder) {
+        for (final MiniSat worker : this.workers) {
+            worker.setSelectionOrder(selectionOrder);
+        }
+    }
+
+    @Override
+    protected void resetSelectionOrder() {
+        for (final MiniSat worker : this.workers) {
+            worker.resetSelectionOrder();
+        }
+    }
+
+    @Override
+    public void setSolverToUndef() {
+        super.setSolverToUndef();
+        for (final MiniSat worker : this.workers) {
+            worker.setSolverToUndef();
+        }
+    }
+
+    /**
+     * A flag which cancels all workers of a parallel computation.
+     */
+    protected static final class CancellationFlag {
+        private volatile boolean canceled;
+
+        /**
+         * Returns whether the computation was canceled.
+         * @return {@code true} if the computation was canceled, {@code false} otherwise
+         */
+        public boolean canceled() {
+            return this.canceled;
+        }
+
+        /**
+         * Cancels the computation.
+         */
+        public void cancel() {
+            this.canceled = true;
+        }
+    }
+
+    /**
+     * The SAT handler of a worker.  It cancels the worker if the cancellation flag of the computation is set or if
+     * the handler of the parallel solver cancels the computation.  In the latter case, the flag is set, too.
+     */
+    protected static final class WorkerHandler implements SATHandler {
+        private final SATHandler handler;
+        private final CancellationFlag cancellation;
+
+        /**
+         * Constructs a new worker handler.
+         * @param handler      the handler of the parallel solver, may be {@code null}
+         * @param cancellation the cancellation flag of the computation
+         */
+        public WorkerHandler(final SATHandler handler, final CancellationFlag cancellation) {
+            this.handler = handler;
+            this.cancellation = cancellation;
+        }
+
+        @Override
+        public boolean detectedConflict() {
+            if (this.cancellation.canceled) {
+                return false;
+            }
+            if (this.handler != null) {
+                synchronized (this.handler) {
+                    if (!this.handler.detectedConflict()) {
+                        this.cancellation.canceled = true;
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public boolean aborted() {
+            return this.cancellation.canceled;
+        }
+    }
+}
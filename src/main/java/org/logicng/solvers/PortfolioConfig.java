@@ -0,0 +1,261 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+
+package org.logicng.solvers;
+
+import org.logicng.configurations.Configuration;
+import org.logicng.configurations.ConfigurationType;
+import org.logicng.solvers.sat.GlucoseConfig;
+import org.logicng.solvers.sat.MiniSatConfig;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The configuration object for the portfolio SAT solver.
+ * @version 2.3.0
+ * @since 2.3.0
+ */
+public final class PortfolioConfig extends Configuration {
+
+    final List<Worker> workers;
+    final boolean clauseSharing;
+    final int maxSharedClauseSize;
+
+    /**
+     * Constructs a new portfolio configuration from a given builder.
+     * @param builder the builder
+     */
+    private PortfolioConfig(final Builder builder) {
+        super(ConfigurationType.PORTFOLIO);
+        this.workers = Collections.unmodifiableList(builder.workers.isEmpty() ? defaultWorkers(builder.numWorkers) : new ArrayList<>(builder.workers));
+        this.clauseSharing = builder.clauseSharing;
+        this.maxSharedClauseSize = builder.maxSharedClauseSize;
+    }
+
+    /**
+     * Returns a new builder for the configuration.
+     * @return the builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the default workers of a portfolio.  The workers are MiniSat, Glucose, and MiniCard solvers with
+     * different phases, restart strategies, and clause minimizations.
+     * @param numWorkers the number of workers (at most 8)
+     * @return the default workers
+     */
+    static List<Worker> defaultWorkers(final int numWorkers) {
+        final List<Worker> workers = new ArrayList<>();
+        workers.add(Worker.miniSat(MiniSatConfig.builder().build()));
+        workers.add(Worker.glucose(MiniSatConfig.builder().build(), GlucoseConfig.builder().build()));
+        workers.add(Worker.miniCard(MiniSatConfig.builder().build()));
+        workers.add(Worker.miniSat(MiniSatConfig.builder().initialPhase(true).build()));
+        workers.add(Worker.glucose(MiniSatConfig.builder().initialPhase(true).build(), GlucoseConfig.builder().reduceOnSize(true).build()));
+        workers.add(Worker.miniSat(MiniSatConfig.builder().varDecay(0.85).restartFirst(50).restartInc(1.5).build()));
+        workers.add(Worker.glucose(MiniSatConfig.builder().build(), GlucoseConfig.builder().factorK(0.7).factorR(1.2).build()));
+        workers.add(Worker.miniSat(MiniSatConfig.builder().clMinimization(MiniSatConfig.ClauseMinimization.BASIC)
+                .restartFirst(200).clauseStorage(MiniSatConfig.ClauseStorage.ARENA).build()));
+        return new ArrayList<>(workers.subList(0, Math.max(1, Math.min(numWorkers, workers.size()))));
+    }
+
+    /**
+     * Returns the workers of the portfolio.
+     * @return the workers of the portfolio
+     */
+    public List<Worker> workers() {
+        return this.workers;
+    }
+
+    /**
+     * Returns whether learnt clauses are shared between the workers.
+     * @return {@code true} if learnt clauses are shared between the workers, {@code false} otherwise
+     */
+    public boolean clauseSharing() {
+        return this.clauseSharing;
+    }
+
+    /**
+     * Returns the maximal size of learnt clauses which are shared between the workers.
+     * @return the maximal size of shared learnt clauses
+     */
+    public int maxSharedClauseSize() {
+        return this.maxSharedClauseSize;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("PortfolioConfig{").append(System.lineSeparator());
+        sb.append("workers=").append(this.workers.size()).append(System.lineSeparator());
+        sb.append("clauseSharing=").append(this.clauseSharing).append(System.lineSeparator());
+        sb.append("maxSharedClauseSize=").append(this.maxSharedClauseSize).append(System.lineSeparator());
+        sb.append("}");
+        return sb.toString();
+    }
+
+    /**
+     * The configuration of a single worker of the portfolio.
+     */
+    public static final class Worker {
+        private final MiniSat.SolverStyle solverStyle;
+        private final MiniSatConfig miniSatConfig;
+        private final GlucoseConfig glucoseConfig;
+
+        private Worker(final MiniSat.SolverStyle solverStyle, final MiniSatConfig miniSatConfig, final GlucoseConfig glucoseConfig) {
+            this.solverStyle = solverStyle;
+            this.miniSatConfig = miniSatConfig;
+            this.glucoseConfig = glucoseConfig;
+        }
+
+        /**
+         * Returns a MiniSat worker with a given configuration.
+         * @param config the configuration
+         * @return the worker
+         */
+        public static Worker miniSat(final MiniSatConfig config) {
+            return new Worker(MiniSat.SolverStyle.MINISAT, config, null);
+        }
+
+        /**
+         * Returns a Glucose worker with a given configuration.
+         * @param miniSatConfig the MiniSat configuration
+         * @param glucoseConfig the Glucose configuration
+         * @return the worker
+         */
+        public static Worker glucose(final MiniSatConfig miniSatConfig, final GlucoseConfig glucoseConfig) {
+            return new Worker(MiniSat.SolverStyle.GLUCOSE, miniSatConfig, glucoseConfig);
+        }
+
+        /**
+         * Returns a MiniCard worker with a given configuration.
+         * @param config the configuration
+         * @return the worker
+         */
+        public static Worker miniCard(final MiniSatConfig config) {
+            return new Worker(MiniSat.SolverStyle.MINICARD, config, null);
+        }
+
+        /**
+         * Returns the solver style of this worker.
+         * @return the solver style of this worker
+         */
+        public MiniSat.SolverStyle solverStyle() {
+            return this.solverStyle;
+        }
+
+        /**
+         * Returns the MiniSat configuration of this worker.
+         * @return the MiniSat configuration of this worker
+         */
+        public MiniSatConfig miniSatConfig() {
+            return this.miniSatConfig;
+        }
+
+        /**
+         * Returns the Glucose configuration of this worker or {@code null} if it is no Glucose worker.
+         * @return the Glucose configuration of this worker
+         */
+        public GlucoseConfig glucoseConfig() {
+            return this.glucoseConfig;
+        }
+
+        @Override
+        public String toString() {
+            return "Worker{solverStyle=" + this.solverStyle + "}";
+        }
+    }
+
+    /**
+     * The builder for a portfolio configuration.
+     */
+    public static class Builder {
+        private final List<Worker> workers = new ArrayList<>();
+        private int numWorkers = Runtime.getRuntime().availableProcessors();
+        private boolean clauseSharing = false;
+        private int maxSharedClauseSize = 8;
+
+        private Builder() {
+            // Initialize only via factory
+        }
+
+        /**
+         * Adds a worker to the portfolio.  If no worker is added, the portfolio consists of the default workers.
+         * @param worker the worker
+         * @return the builder
+         */
+        public Builder worker(final Worker worker) {
+            this.workers.add(worker);
+            return this;
+        }
+
+        /**
+         * Sets the number of default workers.  This value is only used if no worker is added explicitly.  The default
+         * value is the number of available processors, but at most eight default workers are used.
+         * @param numWorkers the number of default workers
+         * @return the builder
+         */
+        public Builder numWorkers(final int numWorkers) {
+            this.numWorkers = numWorkers;
+            return this;
+        }
+
+        /**
+         * Sets whether short learnt clauses should be shared between the workers.  Only clauses over variables of the
+         * added formulas are shared, so the workers may use different CNF transformations and cardinality constraint
+         * encodings.  Clauses are not shared with workers using proof generation.  The default value is {@code false}.
+         * @param clauseSharing {@code true} if learnt clauses should be shared, {@code false} otherwise
+         * @return the builder
+         */
+        public Builder clauseSharing(final boolean clauseSharing) {
+            this.clauseSharing = clauseSharing;
+            return this;
+        }
+
+        /**
+         * Sets the maximal size of learnt clauses which are shared between the workers.  The default value is 8.
+         * @param maxSharedClauseSize the maximal size of shared learnt clauses
+         * @return the builder
+         */
+        public Builder maxSharedClauseSize(final int maxSharedClauseSize) {
+            this.maxSharedClauseSize = maxSharedClauseSize;
+            return this;
+        }
+
+        /**
+         * Builds the portfolio configuration.
+         * @return the configuration
+         */
+        public PortfolioConfig build() {
+            return new PortfolioConfig(this);
+        }
+    }
+}
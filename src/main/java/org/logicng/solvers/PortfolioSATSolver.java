@@ -0,0 +1,384 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+
+package org.logicng.solvers;
+
+import static org.logicng.datastructures.Tristate.UNDEF;
+
+import org.logicng.collections.LNGIntVector;
+import org.logicng.datastructures.Assignment;
+import org.logicng.datastructures.Tristate;
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.FormulaFactory;
+import org.logicng.formulas.Literal;
+import org.logicng.formulas.Variable;
+import org.logicng.handlers.Handler;
+import org.logicng.handlers.SATHandler;
+import org.logicng.propositions.Proposition;
+import org.logicng.solvers.sat.LearntClauseExchange;
+import org.logicng.solvers.sat.MiniSatStyleSolver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+/**
+ * A portfolio SAT solver which runs several differently configured MiniSat, Glucose, and MiniCard solvers (the
+ * workers) in parallel on the same formula.  The first worker which decides the satisfiability of the formula wins,
+ * the other workers are canceled.  Models are taken from the winning worker.
+ * <p>
+ * All formulas are added to all workers.  The workers run in threads of the portfolio, so the portfolio itself must
+ * not be used by several threads at once.  A given {@link SATHandler} is called by all workers, calls to the handler
+ * are synchronized on the handler.
+ * <p>
+ * Optionally, the workers can share short learnt clauses (see {@link PortfolioConfig.Builder#clauseSharing(boolean)}).
+ * <p>
+ * Solver functions, incremental cardinality constraints, and unsat cores are not supported by the portfolio.  They
+ * can be used on the individual {@link #workers() workers}.  Solver states can only be saved if all workers support
+ * it, i.e. if the portfolio contains no Glucose worker.
+ * @version 2.3.0
+ * @since 2.3.0
+ */
+public class PortfolioSATSolver extends ParallelSATSolver {
+
+    protected final PortfolioConfig config;
+    protected final Map<String, Integer> sharedVariables;
+    protected MiniSat winner;
+    protected ExecutorService executor;
+
+    /**
+     * Constructs a new portfolio SAT solver.
+     * @param f      the formula factory
+     * @param config the configuration
+     */
+    protected PortfolioSATSolver(final FormulaFactory f, final PortfolioConfig config) {
+        super(f, createWorkers(f, config));
+        this.config = config;
+        this.sharedVariables = new LinkedHashMap<>();
+    }
+
+    /**
+     * Returns a new portfolio SAT solver with the default workers.
+     * @param f the formula factory
+     * @return the solver
+     */
+    public static PortfolioSATSolver portfolio(final FormulaFactory f) {
+        return new PortfolioSATSolver(f, PortfolioConfig.builder().build());
+    }
+
+    /**
+     * Returns a new portfolio SAT solver with a given configuration.
+     * @param f      the formula factory
+     * @param config the configuration
+     * @return the solver
+     */
+    public static PortfolioSATSolver portfolio(final FormulaFactory f, final PortfolioConfig config) {
+        return new PortfolioSATSolver(f, config);
+    }
+
+    private static List<MiniSat> createWorkers(final FormulaFactory f, final PortfolioConfig config) {
+        final List<MiniSat> workers = new ArrayList<>(config.workers.size());
+        for (final PortfolioConfig.Worker worker : config.workers) {
+            workers.add(new MiniSat(f, worker.solverStyle(), worker.miniSatConfig(), worker.glucoseConfig()));
+        }
+        return workers;
+    }
+
+    @Override
+    public void add(final Formula formula, final Proposition proposition) {
+        registerVariables(formula);
+        super.add(formula, proposition);
+    }
+
+    @Override
+    @Deprecated
+    public void addWithoutUnknown(final Formula formula) {
+        registerVariables(formula);
+        super.addWithoutUnknown(formula);
+    }
+
+    @Override
+    protected void addClause(final Formula formula, final Proposition proposition) {
+        registerVariables(formula);
+        super.addClause(formula, proposition);
+    }
+
+    @Override
+    public Tristate sat(final SATHandler handler) {
+        return solve(handler, run -> run.solver.sat(run.handler));
+    }
+
+    @Override
+    public Tristate sat(final SATHandler handler, final Literal literal) {
+        return solve(handler, run -> run.solver.sat(run.handler, literal));
+    }
+
+    @Override
+    public Tristate sat(final SATHandler handler, final Collection<? extends Literal> assumptions) {
+        return solve(handler, run -> run.solver.sat(run.handler, assumptions));
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        this.sharedVariables.clear();
+        this.winner = null;
+    }
+
+    @Override
+    public Assignment model(final Collection<Variable> variables) {
+        if (this.result == UNDEF) {
+            throw new IllegalStateException("Cannot get a model as long as the formula is not solved.  Call 'sat' first.");
+        }
+        return this.result == Tristate.TRUE ? this.winner.model(variables) : null;
+    }
+
+    /**
+     * Returns the workers of this portfolio.  Formulas added to a worker directly are not added to the other workers.
+     * @return the workers of this portfolio
+     */
+    public List<MiniSat> workers() {
+        return Collections.unmodifiableList(this.workers);
+    }
+
+    /**
+     * Returns the worker which decided the satisfiability in the last call of a {@code sat} method or {@code null} if
+     * the last call was canceled.
+     * @return the winning worker
+     */
+    public MiniSat winner() {
+        return this.result == UNDEF ? null : this.winner;
+    }
+
+    /**
+     * Returns the configuration of this solver.
+     * @return the configuration of this solver
+     */
+    public PortfolioConfig getConfig() {
+        return this.config;
+    }
+
+    private void registerVariables(final Formula formula) {
+        for (final Variable var : formula.variables()) {
+            this.sharedVariables.putIfAbsent(var.name(), this.sharedVariables.size());
+        }
+    }
+
+    /**
+     * Runs the given call on all workers in parallel and returns the result of the first worker which decides the
+     * satisfiability.
+     * @param handler the SAT handler
+     * @param call    the call on a worker
+     * @return the result of the winning worker or {@link Tristate#UNDEF} if all workers were canceled
+     */
+    private Tristate solve(final SATHandler handler, final Function<WorkerRun, Tristate> call) {
+        Handler.start(handler);
+        final CancellationFlag cancellation = new CancellationFlag();
+        final ClauseExchange exchange = this.config.clauseSharing && this.workers.size() > 1 ? new ClauseExchange() : null;
+        final List<WorkerRun> runs = new ArrayList<>(this.workers.size());
+        for (final MiniSat worker : this.workers) {
+            final WorkerRun run = new WorkerRun(worker, new WorkerHandler(handler, cancellation));
+            runs.add(run);
+            if (exchange != null) {
+                exchange.register(worker.underlyingSolver());
+            }
+            worker.underlyingSolver().setClauseExchange(exchange);
+        }
+        this.result = UNDEF;
+        this.winner = null;
+        if (this.executor == null) {
+            this.executor = Executors.newCachedThreadPool(runnable -> {
+                final Thread thread = new Thread(runnable, "logicng-portfolio-worker");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        final CompletionService<WorkerRun> completion = new ExecutorCompletionService<>(this.executor);
+        for (final WorkerRun run : runs) {
+            completion.submit(() -> {
+                run.result = call.apply(run);
+                return run;
+            });
+        }
+        RuntimeException exception = null;
+        boolean interrupted = false;
+        int finished = 0;
+        while (finished < runs.size()) {
+            final Future<WorkerRun> future;
+            try {
+                future = completion.take();
+            } catch (final InterruptedException e) {
+                interrupted = true;
+                cancellation.cancel();
+                continue;
+            }
+            finished++;
+            try {
+                final WorkerRun run = future.get();
+                if (this.winner == null && run.result != UNDEF) {
+                    this.winner = run.solver;
+                    this.result = run.result;
+                    cancellation.cancel();
+                }
+            } catch (final ExecutionException e) {
+                cancellation.cancel();
+                if (exception == null) {
+                    exception = e.getCause() instanceof RuntimeException
+                            ? (RuntimeException) e.getCause()
+                            : new IllegalStateException("A worker of the portfolio failed.", e.getCause());
+                }
+            } catch (final InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        for (final MiniSat worker : this.workers) {
+            worker.underlyingSolver().setClauseExchange(null);
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        if (exception != null) {
+            this.result = UNDEF;
+            this.winner = null;
+            throw exception;
+        }
+        SATHandler.finishSolving(handler);
+        return this.result;
+    }
+
+    /**
+     * A run of a worker.
+     */
+    private static final class WorkerRun {
+        private final MiniSat solver;
+        private final SATHandler handler;
+        private Tristate result;
+
+        private WorkerRun(final MiniSat solver, final SATHandler handler) {
+            this.solver = solver;
+            this.handler = handler;
+            this.result = UNDEF;
+        }
+    }
+
+    /**
+     * The exchange of learnt clauses between the workers.  The literals of the clauses are stored wrt. a global
+     * numbering of the variables of the added formulas.  Clauses containing other variables, e.g. auxiliary variables
+     * of CNF transformations or cardinality constraint encodings, are not shared since their definition may be
+     * different in the workers.
+     */
+    private final class ClauseExchange implements LearntClauseExchange {
+        private final Map<MiniSatStyleSolver, Integer> solverIds = new HashMap<>();
+        private final List<int[]> toGlobal = new ArrayList<>();
+        private final List<int[]> toLocal = new ArrayList<>();
+        private final List<int[]> clauses = new ArrayList<>();
+        private final LNGIntVector origins = new LNGIntVector();
+        private final LNGIntVector positions = new LNGIntVector();
+
+        private void register(final MiniSatStyleSolver solver) {
+            final int[] global = new int[solver.nVars()];
+            Arrays.fill(global, -1);
+            final int[] local = new int[PortfolioSATSolver.this.sharedVariables.size()];
+            Arrays.fill(local, -1);
+            for (final Map.Entry<String, Integer> entry : PortfolioSATSolver.this.sharedVariables.entrySet()) {
+                final int index = solver.idxForName(entry.getKey());
+                if (index >= 0 && index < global.length) {
+                    global[index] = entry.getValue();
+                    local[entry.getValue()] = index;
+                }
+            }
+            this.solverIds.put(solver, this.toGlobal.size());
+            this.toGlobal.add(global);
+            this.toLocal.add(local);
+            this.positions.push(0);
+        }
+
+        @Override
+        public int maxClauseSize() {
+            return PortfolioSATSolver.this.config.maxSharedClauseSize;
+        }
+
+        @Override
+        public void exportClause(final MiniSatStyleSolver solver, final LNGIntVector clause) {
+            final int id = this.solverIds.get(solver);
+            final int[] global = this.toGlobal.get(id);
+            final int[] translated = new int[clause.size()];
+            for (int i = 0; i < clause.size(); i++) {
+                final int lit = clause.get(i);
+                final int var = MiniSatStyleSolver.var(lit);
+                if (var >= global.length || global[var] == -1) {
+                    return;
+                }
+                translated[i] = MiniSatStyleSolver.mkLit(global[var], MiniSatStyleSolver.sign(lit));
+            }
+            synchronized (this) {
+                this.clauses.add(translated);
+                this.origins.push(id);
+            }
+        }
+
+        @Override
+        public List<LNGIntVector> importClauses(final MiniSatStyleSolver solver) {
+            final int id = this.solverIds.get(solver);
+            final int[] local = this.toLocal.get(id);
+            final List<int[]> imported;
+            synchronized (this) {
+                final int position = this.positions.get(id);
+                imported = new ArrayList<>(this.clauses.size() - position);
+                for (int i = position; i < this.clauses.size(); i++) {
+                    if (this.origins.get(i) != id) {
+                        imported.add(this.clauses.get(i));
+                    }
+                }
+                this.positions.set(id, this.clauses.size());
+            }
+            final List<LNGIntVector> result = new ArrayList<>(imported.size());
+            for (final int[] clause : imported) {
+                final LNGIntVector translated = new LNGIntVector(clause.length);
+                for (final int lit : clause) {
+                    translated.push(MiniSatStyleSolver.mkLit(local[MiniSatStyleSolver.var(lit)], MiniSatStyleSolver.sign(lit)));
+                }
+                result.add(translated);
+            }
+            return result;
+        }
+    }
+}
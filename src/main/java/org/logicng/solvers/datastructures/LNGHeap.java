@@ -49,7 +49,7 @@ import org.logicng.solvers.sat.MiniSatStyleSolver;
 
 /**
  * A minimalistic heap implementation.
- * @version 1.3
+ * @version 2.3.0
  * @since 1.0
  */
 public final class LNGHeap {
@@ -140,6 +140,15 @@ public final class LNGHeap {
         this.percolateUp(this.indices.get(n));
     }
 
+    /**
+     * Increase an element's position in the heap
+     * @param n the element
+     */
+    public void increase(final int n) {
+        assert this.inHeap(n);
+        this.percolateDown(this.indices.get(n));
+    }
+
     /**
      * Inserts a given element in the heap.
      * @param n the element
@@ -50,7 +50,7 @@ import java.util.Comparator;
 
 /**
  * A clause of the SAT solver for MiniSAT-style solvers.
- * @version 2.0.0
+ * @version 2.3.0
  * @since 1.0
  */
 public final class MSClause {
@@ -92,6 +92,8 @@ public final class MSClause {
     private boolean canBeDel;
     private boolean oneWatched;
     private int atMostWatchers;
+    private int tier;
+    private int touched;
 
     /**
      * Constructs a new clause
@@ -244,6 +246,38 @@ public final class MSClause {
         this.canBeDel = canBeDel;
     }
 
+    /**
+     * Returns the tier of this learnt clause in a tiered clause database.
+     * @return the tier of this clause
+     */
+    public int tier() {
+        return this.tier;
+    }
+
+    /**
+     * Sets the tier of this learnt clause in a tiered clause database.
+     * @param tier the tier of this clause
+     */
+    public void setTier(final int tier) {
+        this.tier = tier;
+    }
+
+    /**
+     * Returns the number of conflicts of the solver when this clause was used in a conflict analysis the last time.
+     * @return the number of conflicts when this clause was used the last time
+     */
+    public int touched() {
+        return this.touched;
+    }
+
+    /**
+     * Sets the number of conflicts of the solver when this clause was used in a conflict analysis the last time.
+     * @param touched the number of conflicts when this clause was used the last time
+     */
+    public void setTouched(final int touched) {
+        this.touched = touched;
+    }
+
     /**
      * Returns {@code true} if this clause is a one literal watched clause, {@code false} otherwise
      * @return {@code true} if this clause is a one literal watched clause
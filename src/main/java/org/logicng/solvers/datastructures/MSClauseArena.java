@@ -0,0 +1,249 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+/*
+ * MiniSat -- Copyright (c) 2003-2006, Niklas Een, Niklas Sorensson
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT
+ * OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.logicng.solvers.datastructures;
+
+import org.logicng.collections.LNGIntVector;
+
+import java.util.Arrays;
+
+/**
+ * A clause arena for MiniSAT-style solvers which stores all clauses consecutively in one integer array.
+ * <p>
+ * A clause is referenced by the index of its header word in the arena.  The header word stores the size of the clause
+ * and its flags, it is followed by the literals of the clause.  Learnt clauses additionally store their activity in
+ * two words after their literals.  Removed clauses are only marked as deleted, their memory is reclaimed by copying
+ * all live clauses to a new arena (see {@link #relocate(int, MSClauseArena)}).
+ * @version 2.3.0
+ * @since 2.3.0
+ */
+public final class MSClauseArena {
+
+    /**
+     * The reference for an undefined clause.
+     */
+    public static final int CREF_UNDEF = -1;
+
+    private static final int LEARNT = 1;
+    private static final int DELETED = 2;
+    private static final int RELOCATED = 4;
+    private static final int FLAG_BITS = 3;
+
+    private int[] memory;
+    private int size;
+    private int wasted;
+
+    /**
+     * Constructs a new clause arena with a given initial capacity.
+     * @param capacity the initial capacity in words
+     */
+    public MSClauseArena(final int capacity) {
+        this.memory = new int[Math.max(capacity, 16)];
+    }
+
+    /**
+     * Allocates a new clause in the arena.
+     * @param ps     the literals of the clause
+     * @param learnt {@code true} if it is a learnt clause, {@code false} otherwise
+     * @return the reference of the new clause
+     */
+    public int alloc(final LNGIntVector ps, final boolean learnt) {
+        final int cref = this.size;
+        final int words = 1 + ps.size() + (learnt ? 2 : 0);
+        ensure(this.size + words);
+        this.memory[cref] = ps.size() << FLAG_BITS | (learnt ? LEARNT : 0);
+        for (int i = 0; i < ps.size(); i++) {
+            this.memory[cref + 1 + i] = ps.get(i);
+        }
+        if (learnt) {
+            this.memory[cref + 1 + ps.size()] = 0;
+            this.memory[cref + 2 + ps.size()] = 0;
+        }
+        this.size += words;
+        return cref;
+    }
+
+    /**
+     * Marks a clause as deleted.  Its memory is reclaimed during the next relocation.
+     * @param cref the clause reference
+     */
+    public void free(final int cref) {
+        this.memory[cref] |= DELETED;
+        this.wasted += words(cref);
+    }
+
+    /**
+     * Returns the number of literals of a clause.
+     * @param cref the clause reference
+     * @return the number of literals
+     */
+    public int size(final int cref) {
+        return this.memory[cref] >>> FLAG_BITS;
+    }
+
+    /**
+     * Returns the literal at a given position of a clause.
+     * @param cref the clause reference
+     * @param i    the position
+     * @return the literal
+     */
+    public int get(final int cref, final int i) {
+        return this.memory[cref + 1 + i];
+    }
+
+    /**
+     * Sets the literal at a given position of a clause.
+     * @param cref the clause reference
+     * @param i    the position
+     * @param lit  the literal
+     */
+    public void set(final int cref, final int i, final int lit) {
+        this.memory[cref + 1 + i] = lit;
+    }
+
+    /**
+     * Returns whether a clause is learnt.
+     * @param cref the clause reference
+     * @return {@code true} if the clause is learnt, {@code false} otherwise
+     */
+    public boolean learnt(final int cref) {
+        return (this.memory[cref] & LEARNT) != 0;
+    }
+
+    /**
+     * Returns whether a clause is deleted.
+     * @param cref the clause reference
+     * @return {@code true} if the clause is deleted, {@code false} otherwise
+     */
+    public boolean deleted(final int cref) {
+        return (this.memory[cref] & DELETED) != 0;
+    }
+
+    /**
+     * Returns the activity of a learnt clause.
+     * @param cref the clause reference
+     * @return the activity
+     */
+    public double activity(final int cref) {
+        final int pos = cref + 1 + size(cref);
+        return Double.longBitsToDouble((long) this.memory[pos] << 32 | this.memory[pos + 1] & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Sets the activity of a learnt clause.
+     * @param cref     the clause reference
+     * @param activity the activity
+     */
+    public void setActivity(final int cref, final double activity) {
+        final int pos = cref + 1 + size(cref);
+        final long bits = Double.doubleToRawLongBits(activity);
+        this.memory[pos] = (int) (bits >>> 32);
+        this.memory[pos + 1] = (int) bits;
+    }
+
+    /**
+     * Removes the last literal of a clause.
+     * @param cref the clause reference
+     */
+    public void pop(final int cref) {
+        final boolean learnt = learnt(cref);
+        final double activity = learnt ? activity(cref) : 0;
+        this.memory[cref] -= 1 << FLAG_BITS;
+        if (learnt) {
+            setActivity(cref, activity);
+        }
+        this.wasted++;
+    }
+
+    /**
+     * Copies a clause to another arena.  If the clause was already copied, the existing copy is returned.
+     * @param cref the clause reference in this arena
+     * @param to   the target arena
+     * @return the clause reference in the target arena
+     */
+    public int relocate(final int cref, final MSClauseArena to) {
+        if ((this.memory[cref] & RELOCATED) != 0) {
+            return this.memory[cref + 1];
+        }
+        final int words = words(cref);
+        final int newCref = to.size;
+        to.ensure(to.size + words);
+        System.arraycopy(this.memory, cref, to.memory, newCref, words);
+        to.size += words;
+        this.memory[cref] |= RELOCATED;
+        this.memory[cref + 1] = newCref;
+        return newCref;
+    }
+
+    /**
+     * Returns the number of words used by this arena.
+     * @return the number of words used by this arena
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the number of words occupied by deleted clauses and removed literals.
+     * @return the number of wasted words
+     */
+    public int wasted() {
+        return this.wasted;
+    }
+
+    private int words(final int cref) {
+        return 1 + size(cref) + (learnt(cref) ? 2 : 0);
+    }
+
+    private void ensure(final int newSize) {
+        if (newSize > this.memory.length) {
+            this.memory = Arrays.copyOf(this.memory, Math.max(newSize, this.memory.length * 2));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("MSClauseArena{size=%d, wasted=%d}", this.size, this.wasted);
+    }
+}
@@ -50,7 +50,7 @@ import java.util.Locale;
 
 /**
  * A variable of the SAT solver for MiniSAT-style solvers.
- * @version 2.0.0
+ * @version 2.3.0
  * @since 1.0
  */
 public final class MSVariable {
@@ -145,6 +145,14 @@ public final class MSVariable {
         return this.activity;
     }
 
+    /**
+     * Sets the activity of this variable.
+     * @param activity the activity of this variable
+     */
+    public void setActivity(final double activity) {
+        this.activity = activity;
+    }
+
     /**
      * Sets the polarity of this variable.
      * @param polarity the polarity of this variable
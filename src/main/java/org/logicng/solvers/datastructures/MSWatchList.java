@@ -0,0 +1,189 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+/*
+ * MiniSat -- Copyright (c) 2003-2006, Niklas Een, Niklas Sorensson
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT
+ * OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.logicng.solvers.datastructures;
+
+import java.util.Arrays;
+
+/**
+ * A watch list for MiniSAT-style solvers.
+ * <p>
+ * The watchers of a literal are stored as packed pairs of a clause and its blocking literal in two parallel arrays.
+ * In contrast to a vector of {@link MSWatcher} objects, adding, moving, and removing watchers does not allocate any
+ * objects, which keeps the unit propagation allocation-free.
+ * @version 2.3.0
+ * @since 2.3.0
+ */
+public final class MSWatchList {
+
+    private MSClause[] clauses;
+    private int[] blockers;
+    private int size;
+
+    /**
+     * Constructs a new empty watch list.
+     */
+    public MSWatchList() {
+        this(4);
+    }
+
+    /**
+     * Constructs a new empty watch list with a given initial capacity.
+     * @param capacity the initial capacity
+     */
+    public MSWatchList(final int capacity) {
+        this.clauses = new MSClause[capacity];
+        this.blockers = new int[capacity];
+    }
+
+    /**
+     * Returns the number of watchers in this list.
+     * @return the number of watchers
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns whether this list is empty.
+     * @return {@code true} if this list is empty, {@code false} otherwise
+     */
+    public boolean empty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Returns the clause of the watcher at a given position.
+     * @param i the position
+     * @return the clause
+     */
+    public MSClause clause(final int i) {
+        return this.clauses[i];
+    }
+
+    /**
+     * Returns the blocking literal of the watcher at a given position.
+     * @param i the position
+     * @return the blocking literal
+     */
+    public int blocker(final int i) {
+        return this.blockers[i];
+    }
+
+    /**
+     * Appends a watcher to this list.
+     * @param clause  the watched clause
+     * @param blocker the blocking literal
+     */
+    public void push(final MSClause clause, final int blocker) {
+        if (this.size == this.clauses.length) {
+            final int newCapacity = Math.max(this.size * 2, 4);
+            this.clauses = Arrays.copyOf(this.clauses, newCapacity);
+            this.blockers = Arrays.copyOf(this.blockers, newCapacity);
+        }
+        this.clauses[this.size] = clause;
+        this.blockers[this.size++] = blocker;
+    }
+
+    /**
+     * Sets the watcher at a given position.
+     * @param i       the position
+     * @param clause  the watched clause
+     * @param blocker the blocking literal
+     */
+    public void set(final int i, final MSClause clause, final int blocker) {
+        this.clauses[i] = clause;
+        this.blockers[i] = blocker;
+    }
+
+    /**
+     * Copies the watcher at position {@code from} to position {@code to}.
+     * @param from the source position
+     * @param to   the target position
+     */
+    public void move(final int from, final int to) {
+        this.clauses[to] = this.clauses[from];
+        this.blockers[to] = this.blockers[from];
+    }
+
+    /**
+     * Removes the given number of watchers from the end of this list.
+     * @param num the number of watchers to remove
+     */
+    public void removeElements(final int num) {
+        final int newSize = this.size - num;
+        Arrays.fill(this.clauses, newSize, this.size, null);
+        this.size = newSize;
+    }
+
+    /**
+     * Removes the first watcher of a given clause from this list.  The order of the remaining watchers is preserved.
+     * @param clause the clause
+     * @return {@code true} if a watcher was removed, {@code false} if there was no watcher for the clause
+     */
+    public boolean remove(final MSClause clause) {
+        for (int i = 0; i < this.size; i++) {
+            if (this.clauses[i] == clause) {
+                System.arraycopy(this.clauses, i + 1, this.clauses, i, this.size - i - 1);
+                System.arraycopy(this.blockers, i + 1, this.blockers, i, this.size - i - 1);
+                this.clauses[--this.size] = null;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Removes all watchers from this list.
+     */
+    public void clear() {
+        Arrays.fill(this.clauses, 0, this.size, null);
+        this.size = 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("MSWatchList{size=%d, blockers=%s}", this.size, Arrays.toString(Arrays.copyOf(this.blockers, this.size)));
+    }
+}
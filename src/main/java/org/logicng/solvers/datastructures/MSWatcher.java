@@ -46,9 +46,12 @@ package org.logicng.solvers.datastructures;
 
 /**
  * A watcher for clauses for MiniSAT-style solvers.
- * @version 1.0.1
+ * @version 2.3.0
  * @since 1.0
+ * @deprecated the solvers store their watchers in a {@link MSWatchList} now, this class will be removed in future
+ * versions
  */
+@Deprecated
 public final class MSWatcher {
     private final MSClause clause;
     private final int blocker;
@@ -0,0 +1,199 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+
+package org.logicng.solvers.sat;
+
+import org.logicng.datastructures.Tristate;
+import org.logicng.solvers.datastructures.MSVariable;
+
+/**
+ * A heuristic for the selection of the next decision variable of a MiniSat-style solver as an alternative to the
+ * VSIDS heuristic which is implemented directly in the solver.
+ * <p>
+ * The solver notifies the heuristic about new variables, assignments, the variables of a conflict analysis and the
+ * end of a conflict.  Heuristics which store their score in the activity of the variables can use the order heap of
+ * the solver, all other heuristics maintain their own order of the variables.
+ * @version 2.3.0
+ * @since 2.3.0
+ */
+abstract class BranchingHeuristic {
+
+    protected final MiniSatStyleSolver solver;
+
+    /**
+     * Constructs a new branching heuristic for a given solver.
+     * @param solver the solver
+     */
+    protected BranchingHeuristic(final MiniSatStyleSolver solver) {
+        this.solver = solver;
+    }
+
+    /**
+     * Returns a new branching heuristic of the given type for a given solver.
+     * @param solver    the solver
+     * @param heuristic the type of the heuristic
+     * @return the branching heuristic or {@code null} for VSIDS which is implemented directly in the solver
+     */
+    static BranchingHeuristic create(final MiniSatStyleSolver solver, final MiniSatConfig.DecisionHeuristic heuristic) {
+        switch (heuristic) {
+            case VSIDS:
+                return null;
+            case LRB:
+                return new LRBHeuristic(solver);
+            case CHB:
+                return new CHBHeuristic(solver);
+            case VMTF:
+                return new VMTFHeuristic(solver);
+            default:
+                throw new IllegalArgumentException("Unknown decision heuristic: " + heuristic);
+        }
+    }
+
+    /**
+     * Returns {@code true} if this heuristic selects the decision variables via the order heap of the solver,
+     * {@code false} if it maintains its own order of the variables.
+     * @return {@code true} if this heuristic uses the order heap of the solver
+     */
+    boolean usesOrderHeap() {
+        return true;
+    }
+
+    /**
+     * Is called when a new variable is added to the solver, before it is inserted in the variable order.
+     * @param v the variable index
+     */
+    abstract void newVar(int v);
+
+    /**
+     * Is called when a variable is assigned.
+     * @param v the variable index
+     */
+    void assigned(final int v) {
+        // does nothing by default
+    }
+
+    /**
+     * Is called when a variable is unassigned by backtracking, before it is inserted in the variable order.
+     * @param v the variable index
+     */
+    void unassigned(final int v) {
+        // does nothing by default
+    }
+
+    /**
+     * Inserts an unassigned variable in the order of this heuristic.  Is only called if this heuristic does not use
+     * the order heap of the solver.
+     * @param v the variable index
+     */
+    void insert(final int v) {
+        // does nothing by default
+    }
+
+    /**
+     * Is called after a unit propagation.
+     * @param from     the position on the trail of the first literal assigned by the propagation or its decision
+     * @param conflict {@code true} if the propagation led to a conflict, {@code false} otherwise
+     */
+    void propagated(final int from, final boolean conflict) {
+        // does nothing by default
+    }
+
+    /**
+     * Is called for each variable of a conflict analysis.
+     * @param v the variable index
+     */
+    abstract void bump(int v);
+
+    /**
+     * Is called at the end of each conflict, after the learnt clause was added.
+     */
+    abstract void conflict();
+
+    /**
+     * Is called after the variables with an index greater or equal than the given number of variables were removed
+     * from the solver and all other variables were unassigned.
+     * @param numVars the new number of variables
+     */
+    abstract void shrink(int numVars);
+
+    /**
+     * Returns the next decision variable without removing it from the variable order.  Assigned variables and
+     * variables which are no decision variables are skipped.
+     * @return the next decision variable or -1 if all decision variables are assigned
+     */
+    int peek() {
+        while (!this.solver.orderHeap.empty()) {
+            final MSVariable var = this.solver.vars.get(this.solver.orderHeap.get(0));
+            if (var.assignment() == Tristate.UNDEF && var.decision()) {
+                return this.solver.orderHeap.get(0);
+            }
+            this.solver.orderHeap.removeMin();
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the next decision variable and removes it from the variable order.
+     * @return the next decision variable or -1 if all decision variables are assigned
+     */
+    int next() {
+        final int v = peek();
+        if (v >= 0) {
+            this.solver.orderHeap.removeMin();
+        }
+        return v;
+    }
+
+    /**
+     * Returns the score of a variable.  Variables with a higher score are decided first.
+     * @param v the variable index
+     * @return the score of the variable
+     */
+    double score(final int v) {
+        return this.solver.vars.get(v).activity();
+    }
+
+    /**
+     * Sets the score of a variable to a new value and restores the order heap of the solver.
+     * @param v     the variable index
+     * @param score the new score
+     */
+    protected void updateScore(final int v, final double score) {
+        final MSVariable var = this.solver.vars.get(v);
+        final double old = var.activity();
+        var.setActivity(score);
+        if (this.solver.orderHeap.inHeap(v)) {
+            if (score > old) {
+                this.solver.orderHeap.decrease(v);
+            } else {
+                this.solver.orderHeap.increase(v);
+            }
+        }
+    }
+}
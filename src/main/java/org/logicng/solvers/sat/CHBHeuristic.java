@@ -0,0 +1,101 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+
+package org.logicng.solvers.sat;
+
+import static org.logicng.solvers.sat.MiniSatStyleSolver.var;
+
+import org.logicng.collections.LNGLongVector;
+
+/**
+ * The conflict history based branching heuristic (CHB) by Liang et al.
+ * <p>
+ * After each unit propagation, all variables assigned by the propagation are rewarded.  The reward is the reciprocal
+ * of the number of conflicts since the variable last participated in a conflict analysis.  It is multiplied by 1.0
+ * if the propagation led to a conflict and by 0.9 otherwise.  The score of a variable is the exponential moving
+ * average of its rewards, the step size of the average decreases from 0.4 to 0.06 over the first conflicts.
+ * @version 2.3.0
+ * @since 2.3.0
+ */
+final class CHBHeuristic extends BranchingHeuristic {
+
+    private static final double STEP_SIZE = 0.4;
+    private static final double STEP_SIZE_DECREMENT = 1e-6;
+    private static final double MIN_STEP_SIZE = 0.06;
+    private static final double CONFLICT_MULTIPLIER = 1.0;
+    private static final double NO_CONFLICT_MULTIPLIER = 0.9;
+
+    private final LNGLongVector lastConflict;
+    private double stepSize;
+    private long conflicts;
+
+    /**
+     * Constructs a new CHB heuristic for a given solver.
+     * @param solver the solver
+     */
+    CHBHeuristic(final MiniSatStyleSolver solver) {
+        super(solver);
+        this.lastConflict = new LNGLongVector();
+        this.stepSize = STEP_SIZE;
+        this.conflicts = 0;
+    }
+
+    @Override
+    void newVar(final int v) {
+        this.lastConflict.push(0);
+    }
+
+    @Override
+    void propagated(final int from, final boolean conflict) {
+        final double multiplier = conflict ? CONFLICT_MULTIPLIER : NO_CONFLICT_MULTIPLIER;
+        for (int i = from; i < this.solver.trail.size(); i++) {
+            final int v = var(this.solver.trail.get(i));
+            final double reward = multiplier / (this.conflicts - this.lastConflict.get(v) + 1);
+            updateScore(v, this.stepSize * reward + (1 - this.stepSize) * score(v));
+        }
+    }
+
+    @Override
+    void bump(final int v) {
+        this.lastConflict.set(v, this.conflicts + 1);
+    }
+
+    @Override
+    void conflict() {
+        this.conflicts++;
+        if (this.stepSize > MIN_STEP_SIZE) {
+            this.stepSize -= STEP_SIZE_DECREMENT;
+        }
+    }
+
+    @Override
+    void shrink(final int numVars) {
+        this.lastConflict.shrinkTo(numVars);
+    }
+}
@@ -0,0 +1,503 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+
+package org.logicng.solvers.sat;
+
+import static org.logicng.solvers.sat.MiniSatStyleSolver.mkLit;
+import static org.logicng.solvers.sat.MiniSatStyleSolver.var;
+
+import org.logicng.collections.LNGBooleanVector;
+import org.logicng.collections.LNGIntVector;
+import org.logicng.collections.LNGVector;
+import org.logicng.datastructures.Tristate;
+import org.logicng.solvers.datastructures.MSClause;
+import org.logicng.solvers.datastructures.MSVariable;
+
+import java.util.Arrays;
+
+/**
+ * A Gauss-Jordan elimination module for the native XOR constraints of the MiniSat solver.
+ * <p>
+ * The XOR constraints form a matrix over GF(2) whose columns are the variables of the constraints.  Before the search,
+ * the matrix is brought into reduced row echelon form, so each row has a basic column which occurs in no other row.
+ * Each row watches two columns.  As long as a row has at least two unassigned columns, it watches its basic column
+ * and another unassigned column.  If the basic column of a row is assigned, another unassigned column of the row
+ * becomes its basic column and is eliminated from all other rows (pivoting).  The matrix is therefore kept in reduced
+ * row echelon form wrt. the unassigned variables during the search, and propagations which follow from combinations of
+ * XOR constraints are found as soon as a row has only one unassigned column left.  Since all row operations preserve
+ * the solutions of the matrix, the matrix does not need to be restored on backtracking.
+ * <p>
+ * Implications and conflicts are explained by clauses over the columns of the respective row.  These clauses are not
+ * attached to the solver, they only serve as reasons for the conflict analysis.
+ * @version 2.3.0
+ * @since 2.3.0
+ */
+public final class GaussianElimination {
+
+    private final MiniSat2Solver s;
+    private final LNGVector<LNGIntVector> xorVars;
+    private final LNGBooleanVector xorRhs;
+    private boolean dirty;
+
+    private int numCols;
+    private int numRows;
+    private int words;
+    private int[] colVar;
+    private int[] varCol;
+    private long[][] rows;
+    private boolean[] rhs;
+    private int[] basic;
+    private int[] watchA;
+    private int[] watchB;
+    private LNGIntVector[] watches;
+    private int[] rowStamps;
+    private int stamp;
+    private final LNGIntVector pending;
+    private final LNGBooleanVector isPending;
+    private int qhead;
+
+    private long numPropagations;
+    private long numConflicts;
+    private long numPivots;
+
+    /**
+     * Constructs a new Gauss-Jordan elimination module for a given solver.
+     * @param solver the solver
+     */
+    GaussianElimination(final MiniSat2Solver solver) {
+        this.s = solver;
+        this.xorVars = new LNGVector<>();
+        this.xorRhs = new LNGBooleanVector();
+        this.pending = new LNGIntVector();
+        this.isPending = new LNGBooleanVector();
+        this.dirty = false;
+        this.numRows = 0;
+        this.numCols = 0;
+        this.varCol = new int[0];
+        this.watches = new LNGIntVector[0];
+    }
+
+    /**
+     * Returns the number of XOR constraints.
+     * @return the number of XOR constraints
+     */
+    public int numXorConstraints() {
+        return this.xorVars.size();
+    }
+
+    /**
+     * Returns the number of rows of the matrix after the initial elimination.  Rows which are linear combinations of
+     * other rows are removed by the elimination.
+     * @return the number of rows of the matrix
+     */
+    public int numRows() {
+        return this.numRows;
+    }
+
+    /**
+     * Returns the number of propagations by the matrix.
+     * @return the number of propagations by the matrix
+     */
+    public long numPropagations() {
+        return this.numPropagations;
+    }
+
+    /**
+     * Returns the number of conflicts found by the matrix.
+     * @return the number of conflicts found by the matrix
+     */
+    public long numConflicts() {
+        return this.numConflicts;
+    }
+
+    /**
+     * Returns the number of pivot operations during the search.
+     * @return the number of pivot operations
+     */
+    public long numPivots() {
+        return this.numPivots;
+    }
+
+    /**
+     * Returns {@code true} if a given variable occurs in the matrix, {@code false} otherwise.
+     * @param var the variable index
+     * @return {@code true} if the variable occurs in the matrix
+     */
+    boolean containsVariable(final int var) {
+        return var < this.varCol.length && this.varCol[var] >= 0;
+    }
+
+    /**
+     * Adds a new XOR constraint.  The constraint is satisfied if the number of true variables is odd for
+     * {@code rhs = true} and even for {@code rhs = false}.  The matrix is rebuilt before the next search.
+     * @param vars the variable indices, variables which occur twice cancel each other out
+     * @param rhs  the parity of the constraint
+     */
+    void add(final LNGIntVector vars, final boolean rhs) {
+        this.xorVars.push(new LNGIntVector(vars));
+        this.xorRhs.push(rhs);
+        this.dirty = true;
+    }
+
+    /**
+     * Removes the XOR constraints which were added after the constraint with the given index.  The matrix is rebuilt
+     * before the next search and is not propagated until then.
+     * @param numXorConstraints the new number of XOR constraints
+     */
+    void shrinkTo(final int numXorConstraints) {
+        this.xorVars.shrinkTo(numXorConstraints);
+        this.xorRhs.shrinkTo(numXorConstraints);
+        this.dirty = true;
+    }
+
+    /**
+     * Returns {@code true} if the matrix has to be rebuilt before the next search, {@code false} otherwise.
+     * @return {@code true} if the matrix has to be rebuilt
+     */
+    boolean dirty() {
+        return this.dirty;
+    }
+
+    /**
+     * Notifies the module that the solver backtracked, so all literals from the given trail position on have to be
+     * propagated again.
+     * @param trailPosition the trail position
+     */
+    void backtrack(final int trailPosition) {
+        this.qhead = Math.min(this.qhead, trailPosition);
+    }
+
+    /**
+     * Rebuilds the matrix from the XOR constraints and brings it into reduced row echelon form.  The rows are
+     * evaluated under the current assignment of the solver, which may already propagate literals.  The solver has to
+     * be on decision level 0.
+     * @return {@code false} if the XOR constraints are inconsistent, {@code true} otherwise
+     */
+    boolean rebuild() {
+        this.dirty = false;
+        this.qhead = 0;
+        this.varCol = new int[this.s.nVars()];
+        Arrays.fill(this.varCol, -1);
+        final LNGIntVector cols = new LNGIntVector();
+        for (final LNGIntVector xor : this.xorVars) {
+            for (int i = 0; i < xor.size(); i++) {
+                if (this.varCol[xor.get(i)] < 0) {
+                    this.varCol[xor.get(i)] = cols.size();
+                    cols.push(xor.get(i));
+                }
+            }
+        }
+        this.numCols = cols.size();
+        this.colVar = cols.toArray();
+        this.words = (this.numCols + 63) >>> 6;
+        final int numXors = this.xorVars.size();
+        this.rows = new long[numXors][this.words];
+        this.rhs = new boolean[numXors];
+        for (int r = 0; r < numXors; r++) {
+            final LNGIntVector xor = this.xorVars.get(r);
+            for (int i = 0; i < xor.size(); i++) {
+                final int c = this.varCol[xor.get(i)];
+                this.rows[r][c >>> 6] ^= 1L << c;
+            }
+            this.rhs[r] = this.xorRhs.get(r);
+        }
+        this.basic = new int[numXors];
+        int rank = 0;
+        for (int c = 0; c < this.numCols && rank < numXors; c++) {
+            int pivot = rank;
+            while (pivot < numXors && !contains(pivot, c)) {
+                pivot++;
+            }
+            if (pivot == numXors) {
+                continue;
+            }
+            swapRows(rank, pivot);
+            for (int r = 0; r < numXors; r++) {
+                if (r != rank && contains(r, c)) {
+                    addRow(r, rank);
+                }
+            }
+            this.basic[rank] = c;
+            rank++;
+        }
+        for (int r = rank; r < numXors; r++) {
+            if (this.rhs[r]) {
+                return false;
+            }
+        }
+        this.numRows = rank;
+        this.watchA = new int[rank];
+        this.watchB = new int[rank];
+        Arrays.fill(this.watchA, -1);
+        Arrays.fill(this.watchB, -1);
+        this.rowStamps = new int[rank];
+        this.stamp = 0;
+        this.watches = new LNGIntVector[this.numCols];
+        for (int c = 0; c < this.numCols; c++) {
+            this.watches[c] = new LNGIntVector();
+        }
+        this.pending.clear();
+        this.isPending.clear();
+        this.isPending.growTo(rank, false);
+        for (int r = 0; r < rank; r++) {
+            if (updateRow(r) != null || processPending() != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Propagates all literals on the trail of the solver which were not yet propagated by the matrix.
+     * @return the conflict clause if a conflict was found or {@code null} otherwise
+     */
+    MSClause propagate() {
+        while (this.qhead < this.s.trail.size()) {
+            final int v = var(this.s.trail.get(this.qhead++));
+            if (v >= this.varCol.length || this.varCol[v] < 0) {
+                continue;
+            }
+            final int c = this.varCol[v];
+            final LNGIntVector ws = this.watches[c];
+            final int end = ws.size();
+            this.stamp++;
+            MSClause confl = null;
+            int i = 0;
+            int j = 0;
+            while (i < end) {
+                final int r = ws.get(i++);
+                if (this.rowStamps[r] == this.stamp || this.watchA[r] != c && this.watchB[r] != c) {
+                    continue;
+                }
+                this.rowStamps[r] = this.stamp;
+                confl = updateRow(r);
+                if (confl == null) {
+                    confl = processPending();
+                }
+                if (this.watchA[r] == c || this.watchB[r] == c) {
+                    ws.set(j++, r);
+                }
+                if (confl != null) {
+                    break;
+                }
+            }
+            while (i < ws.size()) {
+                ws.set(j++, ws.get(i++));
+            }
+            ws.shrinkTo(j);
+            if (confl != null) {
+                return confl;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Evaluates all rows which were changed by pivot operations.
+     * @return the conflict clause if a conflict was found or {@code null} otherwise
+     */
+    private MSClause processPending() {
+        while (!this.pending.empty()) {
+            final int r = this.pending.back();
+            this.pending.pop();
+            this.isPending.set(r, false);
+            final MSClause confl = updateRow(r);
+            if (confl != null) {
+                while (!this.pending.empty()) {
+                    this.isPending.set(this.pending.back(), false);
+                    this.pending.pop();
+                }
+                return confl;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Evaluates a row under the current assignment.  If the row has at least two unassigned columns, its basic column
+     * is made unassigned by a pivot operation if necessary and the row watches its basic column and another unassigned
+     * column.  If the row has only one unassigned column, its variable is propagated.  If all columns are assigned,
+     * the row is checked for a conflict.  In the latter two cases, the row watches its columns with the highest
+     * levels, so it is evaluated again as soon as it has an unassigned column after backtracking.
+     * @param r the row
+     * @return the conflict clause if the row is conflicting or {@code null} otherwise
+     */
+    private MSClause updateRow(final int r) {
+        int unassigned1 = -1;
+        int unassigned2 = -1;
+        boolean parity = this.rhs[r];
+        for (int w = 0; w < this.words; w++) {
+            long bits = this.rows[r][w];
+            while (bits != 0) {
+                final int c = (w << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+                final Tristate value = this.s.vars.get(this.colVar[c]).assignment();
+                if (value == Tristate.UNDEF) {
+                    if (unassigned1 < 0) {
+                        unassigned1 = c;
+                    } else if (unassigned2 < 0) {
+                        unassigned2 = c;
+                    }
+                } else if (value == Tristate.TRUE) {
+                    parity = !parity;
+                }
+            }
+        }
+        if (unassigned2 >= 0) {
+            if (this.s.vars.get(this.colVar[this.basic[r]]).assignment() != Tristate.UNDEF) {
+                pivot(r, unassigned1);
+            }
+            setWatches(r, this.basic[r], this.basic[r] == unassigned1 ? unassigned2 : unassigned1);
+            return null;
+        }
+        final LNGIntVector lits = new LNGIntVector();
+        if (unassigned1 >= 0) {
+            lits.push(mkLit(this.colVar[unassigned1], !parity));
+        }
+        int highest = -1;
+        int second = -1;
+        for (int w = 0; w < this.words; w++) {
+            long bits = this.rows[r][w];
+            while (bits != 0) {
+                final int c = (w << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+                if (c == unassigned1) {
+                    continue;
+                }
+                final MSVariable var = this.s.vars.get(this.colVar[c]);
+                lits.push(mkLit(this.colVar[c], var.assignment() == Tristate.TRUE));
+                if (highest < 0 || var.level() > level(highest)) {
+                    second = highest;
+                    highest = c;
+                } else if (second < 0 || var.level() > level(second)) {
+                    second = c;
+                }
+            }
+        }
+        if (unassigned1 >= 0) {
+            setWatches(r, unassigned1, highest);
+            this.numPropagations++;
+            this.s.uncheckedEnqueue(lits.get(0), new MSClause(lits, false));
+            return null;
+        }
+        setWatches(r, highest, second);
+        if (!parity) {
+            return null;
+        }
+        this.numConflicts++;
+        moveToFront(lits, highest, 0);
+        if (second >= 0) {
+            moveToFront(lits, second, 1);
+        }
+        return new MSClause(lits, false);
+    }
+
+    /**
+     * Makes a given column the new basic column of a row and eliminates it from all other rows.  The changed rows are
+     * evaluated again afterwards.
+     * @param r the row
+     * @param c the new basic column
+     */
+    private void pivot(final int r, final int c) {
+        this.numPivots++;
+        this.basic[r] = c;
+        for (int other = 0; other < this.numRows; other++) {
+            if (other != r && contains(other, c)) {
+                addRow(other, r);
+                if (!this.isPending.get(other)) {
+                    this.isPending.set(other, true);
+                    this.pending.push(other);
+                }
+            }
+        }
+    }
+
+    /**
+     * Sets the watched columns of a row.  The row is added to the watch lists of all newly watched columns, outdated
+     * entries in the watch lists are removed lazily.
+     * @param r the row
+     * @param a the first watched column
+     * @param b the second watched column or -1 if the row has only one column
+     */
+    private void setWatches(final int r, final int a, final int b) {
+        final int oldA = this.watchA[r];
+        final int oldB = this.watchB[r];
+        if (a != oldA && a != oldB) {
+            this.watches[a].push(r);
+        }
+        if (b >= 0 && b != oldA && b != oldB) {
+            this.watches[b].push(r);
+        }
+        this.watchA[r] = a;
+        this.watchB[r] = b;
+    }
+
+    /**
+     * Moves the literal of a given column to a given position of a clause.
+     * @param lits the literals of the clause
+     * @param c    the column
+     * @param pos  the position
+     */
+    private void moveToFront(final LNGIntVector lits, final int c, final int pos) {
+        for (int i = pos; i < lits.size(); i++) {
+            if (var(lits.get(i)) == this.colVar[c]) {
+                final int tmp = lits.get(pos);
+                lits.set(pos, lits.get(i));
+                lits.set(i, tmp);
+                return;
+            }
+        }
+    }
+
+    private int level(final int c) {
+        return this.s.vars.get(this.colVar[c]).level();
+    }
+
+    private boolean contains(final int r, final int c) {
+        return (this.rows[r][c >>> 6] & (1L << c)) != 0;
+    }
+
+    private void addRow(final int target, final int source) {
+        final long[] t = this.rows[target];
+        final long[] src = this.rows[source];
+        for (int w = 0; w < this.words; w++) {
+            t[w] ^= src[w];
+        }
+        this.rhs[target] ^= this.rhs[source];
+    }
+
+    private void swapRows(final int r1, final int r2) {
+        final long[] row = this.rows[r1];
+        this.rows[r1] = this.rows[r2];
+        this.rows[r2] = row;
+        final boolean b = this.rhs[r1];
+        this.rhs[r1] = this.rhs[r2];
+        this.rhs[r2] = b;
+    }
+}
@@ -33,11 +33,27 @@ import org.logicng.configurations.ConfigurationType;
 
 /**
  * The configuration object for the Glucose SAT solver.
- * @version 2.0.0
+ * @version 2.3.0
  * @since 1.0
  */
 public final class GlucoseConfig extends Configuration {
 
+    /**
+     * The different managements of the learnt clauses.
+     * <ul>
+     * <li> {@code GLUCOSE} - all learnt clauses are sorted by their LBD and activity and the worse half is removed
+     * on each reduction
+     * <li> {@code TIERED} - the learnt clauses are kept in three tiers: core clauses with a small LBD are never
+     * removed, tier 2 clauses with a medium LBD are kept as long as they are used in conflict analyses, and local
+     * clauses are sorted by their activity and the worse half is removed on each reduction.  The LBD of a clause is
+     * updated when the clause is used in a conflict analysis and the clause moves to a better tier if its LBD
+     * decreases.
+     * </ul>
+     */
+    public enum LearntDatabase {
+        GLUCOSE, TIERED
+    }
+
     final int lbLBDMinimizingClause;
     final int lbLBDFrozenClause;
     final int lbSizeMinimizingClause;
@@ -51,6 +67,18 @@ public final class GlucoseConfig extends Configuration {
     final boolean reduceOnSize;
     final int reduceOnSizeSize;
     final double maxVarDecay;
+    final boolean inprocessing;
+    final int inprocessingInterval;
+    final long inprocessingTimeBudget;
+    final boolean vivification;
+    final boolean learntSubsumption;
+    final boolean failedLiteralProbing;
+    final LearntDatabase learntDatabase;
+    final int coreLBD;
+    final int tier2LBD;
+    final int tier2UnusedConflicts;
+    final int tier2ReduceInterval;
+    final int localReduceInterval;
 
     /**
      * Constructs a new Glucose configuration from a given builder.
@@ -71,6 +99,18 @@ public final class GlucoseConfig extends Configuration {
         this.reduceOnSize = builder.reduceOnSize;
         this.reduceOnSizeSize = builder.reduceOnSizeSize;
         this.maxVarDecay = builder.maxVarDecay;
+        this.inprocessing = builder.inprocessing;
+        this.inprocessingInterval = builder.inprocessingInterval;
+        this.inprocessingTimeBudget = builder.inprocessingTimeBudget;
+        this.vivification = builder.vivification;
+        this.learntSubsumption = builder.learntSubsumption;
+        this.failedLiteralProbing = builder.failedLiteralProbing;
+        this.learntDatabase = builder.learntDatabase;
+        this.coreLBD = builder.coreLBD;
+        this.tier2LBD = builder.tier2LBD;
+        this.tier2UnusedConflicts = builder.tier2UnusedConflicts;
+        this.tier2ReduceInterval = builder.tier2ReduceInterval;
+        this.localReduceInterval = builder.localReduceInterval;
     }
 
     /**
@@ -81,6 +121,14 @@ public final class GlucoseConfig extends Configuration {
         return new Builder();
     }
 
+    /**
+     * Returns whether inprocessing is activated.
+     * @return {@code true} if inprocessing is activated, {@code false} otherwise
+     */
+    public boolean inprocessing() {
+        return this.inprocessing;
+    }
+
     @Override
     public String toString() {
         final StringBuilder sb = new StringBuilder("GlucoseConfig{").append(System.lineSeparator());
@@ -97,6 +145,18 @@ public final class GlucoseConfig extends Configuration {
         sb.append("reduceOnSize=").append(this.reduceOnSize).append(System.lineSeparator());
         sb.append("reduceOnSizeSize=").append(this.reduceOnSizeSize).append(System.lineSeparator());
         sb.append("maxVarDecay=").append(this.maxVarDecay).append(System.lineSeparator());
+        sb.append("inprocessing=").append(this.inprocessing).append(System.lineSeparator());
+        sb.append("inprocessingInterval=").append(this.inprocessingInterval).append(System.lineSeparator());
+        sb.append("inprocessingTimeBudget=").append(this.inprocessingTimeBudget).append(System.lineSeparator());
+        sb.append("vivification=").append(this.vivification).append(System.lineSeparator());
+        sb.append("learntSubsumption=").append(this.learntSubsumption).append(System.lineSeparator());
+        sb.append("failedLiteralProbing=").append(this.failedLiteralProbing).append(System.lineSeparator());
+        sb.append("learntDatabase=").append(this.learntDatabase).append(System.lineSeparator());
+        sb.append("coreLBD=").append(this.coreLBD).append(System.lineSeparator());
+        sb.append("tier2LBD=").append(this.tier2LBD).append(System.lineSeparator());
+        sb.append("tier2UnusedConflicts=").append(this.tier2UnusedConflicts).append(System.lineSeparator());
+        sb.append("tier2ReduceInterval=").append(this.tier2ReduceInterval).append(System.lineSeparator());
+        sb.append("localReduceInterval=").append(this.localReduceInterval).append(System.lineSeparator());
         sb.append("}");
         return sb.toString();
     }
@@ -118,6 +178,18 @@ public final class GlucoseConfig extends Configuration {
         private boolean reduceOnSize = false;
         private int reduceOnSizeSize = 12;
         private double maxVarDecay = 0.95;
+        private boolean inprocessing = false;
+        private int inprocessingInterval = 5000;
+        private long inprocessingTimeBudget = 20;
+        private boolean vivification = true;
+        private boolean learntSubsumption = true;
+        private boolean failedLiteralProbing = true;
+        private LearntDatabase learntDatabase = LearntDatabase.GLUCOSE;
+        private int coreLBD = 2;
+        private int tier2LBD = 6;
+        private int tier2UnusedConflicts = 5000;
+        private int tier2ReduceInterval = 1000;
+        private int localReduceInterval = 2000;
 
         private Builder() {
             // Initialize only via factory
@@ -256,6 +328,138 @@ public final class GlucoseConfig extends Configuration {
             return this;
         }
 
+        /**
+         * Turns on the inprocessing between restarts by a {@link GlucoseInprocessor}.  The inprocessing vivifies learnt
+         * and original clauses, removes subsumed learnt clauses, and probes for failed literals.  The default value is
+         * {@code false}.
+         * @param inprocessing {@code true} if the inprocessing is turned on, {@code false} otherwise
+         * @return the builder
+         */
+        public Builder inprocessing(final boolean inprocessing) {
+            this.inprocessing = inprocessing;
+            return this;
+        }
+
+        /**
+         * Sets the minimal number of conflicts between two inprocessing passes to a given value.  The default value is
+         * 5000.
+         * @param inprocessingInterval the value (should be at least 1)
+         * @return the builder
+         */
+        public Builder inprocessingInterval(final int inprocessingInterval) {
+            this.inprocessingInterval = inprocessingInterval;
+            return this;
+        }
+
+        /**
+         * Sets the time budget of a single inprocessing pass in milliseconds to a given value.  The budget is split
+         * evenly among the activated techniques.  The default value is 20.
+         * @param inprocessingTimeBudget the value
+         * @return the builder
+         */
+        public Builder inprocessingTimeBudget(final long inprocessingTimeBudget) {
+            this.inprocessingTimeBudget = inprocessingTimeBudget;
+            return this;
+        }
+
+        /**
+         * Turns on the vivification of learnt and original clauses during inprocessing.  The default value is
+         * {@code true}.
+         * @param vivification {@code true} if the vivification is turned on, {@code false} otherwise
+         * @return the builder
+         */
+        public Builder vivification(final boolean vivification) {
+            this.vivification = vivification;
+            return this;
+        }
+
+        /**
+         * Turns on the removal of subsumed learnt clauses during inprocessing.  The default value is {@code true}.
+         * @param learntSubsumption {@code true} if the learnt clause subsumption is turned on, {@code false} otherwise
+         * @return the builder
+         */
+        public Builder learntSubsumption(final boolean learntSubsumption) {
+            this.learntSubsumption = learntSubsumption;
+            return this;
+        }
+
+        /**
+         * Turns on the failed literal probing during inprocessing.  The default value is {@code true}.
+         * @param failedLiteralProbing {@code true} if the failed literal probing is turned on, {@code false} otherwise
+         * @return the builder
+         */
+        public Builder failedLiteralProbing(final boolean failedLiteralProbing) {
+            this.failedLiteralProbing = failedLiteralProbing;
+            return this;
+        }
+
+        /**
+         * Sets the management of the learnt clauses.  The default value is {@code GLUCOSE}.  The options
+         * {@code coreLBD}, {@code tier2LBD}, {@code tier2UnusedConflicts}, {@code tier2ReduceInterval}, and
+         * {@code localReduceInterval} are only used by the {@code TIERED} management, the options
+         * {@code firstReduceDB}, {@code specialIncReduceDB}, {@code incReduceDB}, and {@code lbLBDFrozenClause} are
+         * only used by the {@code GLUCOSE} management.
+         * @param learntDatabase the management of the learnt clauses
+         * @return the builder
+         */
+        public Builder learntDatabase(final LearntDatabase learntDatabase) {
+            this.learntDatabase = learntDatabase;
+            return this;
+        }
+
+        /**
+         * Sets the maximal LBD of a core learnt clause to a given value.  The default value is 2.
+         * @param coreLBD the value
+         * @return the builder
+         */
+        public Builder coreLBD(final int coreLBD) {
+            this.coreLBD = coreLBD;
+            return this;
+        }
+
+        /**
+         * Sets the maximal LBD of a tier 2 learnt clause to a given value.  The default value is 6.
+         * @param tier2LBD the value (should be at least the maximal LBD of a core clause)
+         * @return the builder
+         */
+        public Builder tier2LBD(final int tier2LBD) {
+            this.tier2LBD = tier2LBD;
+            return this;
+        }
+
+        /**
+         * Sets the number of conflicts after which an unused tier 2 learnt clause is moved to the local tier to a given
+         * value.  The default value is 5000.
+         * @param tier2UnusedConflicts the value
+         * @return the builder
+         */
+        public Builder tier2UnusedConflicts(final int tier2UnusedConflicts) {
+            this.tier2UnusedConflicts = tier2UnusedConflicts;
+            return this;
+        }
+
+        /**
+         * Sets the number of conflicts between two checks for unused tier 2 learnt clauses to a given value.  The
+         * default value is 1000.
+         * @param tier2ReduceInterval the value (should be at least 1)
+         * @return the builder
+         */
+        public Builder tier2ReduceInterval(final int tier2ReduceInterval) {
+            this.tier2ReduceInterval = tier2ReduceInterval;
+            return this;
+        }
+
+        /**
+         * Sets the number of conflicts between two reductions of the local learnt clauses to a given value.  The
+         * default value is 2000.
+         * @param localReduceInterval the value (should be at least 1)
+         * @return the builder
+         */
+        public Builder localReduceInterval(final int localReduceInterval) {
+            this.localReduceInterval = localReduceInterval;
+            return this;
+        }
+
         /**
          * Builds the Glucose configuration.
          * @return the configuration
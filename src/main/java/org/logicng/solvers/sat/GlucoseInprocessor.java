@@ -0,0 +1,536 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+
+package org.logicng.solvers.sat;
+
+import static org.logicng.solvers.sat.MiniSatStyleSolver.mkLit;
+import static org.logicng.solvers.sat.MiniSatStyleSolver.not;
+import static org.logicng.solvers.sat.MiniSatStyleSolver.sign;
+import static org.logicng.solvers.sat.MiniSatStyleSolver.var;
+
+import org.logicng.collections.LNGIntVector;
+import org.logicng.collections.LNGVector;
+import org.logicng.datastructures.Tristate;
+import org.logicng.solvers.datastructures.MSClause;
+import org.logicng.solvers.datastructures.MSVariable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * An inprocessor for the Glucose solver.
+ * <p>
+ * The inprocessor runs periodically between two restarts of the solver at decision level 0.  Each pass is bounded by a
+ * time budget which is split evenly among the activated techniques:
+ * <ul>
+ * <li>failed literal probing: both phases of the variables are propagated and the negation of a literal which leads
+ * to a conflict is added as unit clause</li>
+ * <li>learnt clause subsumption: learnt clauses which are subsumed by another learnt clause are removed</li>
+ * <li>vivification: the negated literals of a clause are propagated one by one without the clause itself, and the
+ * clause is shortened if the propagation leads to a conflict, implies a literal of the clause, or falsifies a literal of
+ * the clause.  Learnt clauses with a low LBD are vivified first, original clauses are vivified round-robin.</li>
+ * </ul>
+ * All derived clauses are implied by unit propagation, so they are also written to the DRUP proof if proof generation
+ * is activated.  The saved phases of the variables are not changed by the inprocessing.
+ * @version 2.3.0
+ * @since 2.3.0
+ */
+public final class GlucoseInprocessor {
+
+    private static final int BUDGET_CHECK_INTERVAL = 16;
+
+    private final GlucoseSyrup solver;
+    private final int interval;
+    private final long budgetNanos;
+    private final boolean vivification;
+    private final boolean learntSubsumption;
+    private final boolean failedLiteralProbing;
+    private final Set<MSClause> vivifiedLearnts;
+
+    private int nextRun;
+    private int probeIdx;
+    private int originalsIdx;
+    private long deadline;
+    private int[] marks;
+    private int stamp;
+
+    private int numRuns;
+    private int numFailedLiterals;
+    private int numVivifiedClauses;
+    private int numRemovedLiterals;
+    private int numSubsumedLearnts;
+
+    /**
+     * Constructs a new inprocessor for a given solver.
+     * @param solver the solver
+     */
+    GlucoseInprocessor(final GlucoseSyrup solver) {
+        final GlucoseConfig config = solver.glucoseConfig;
+        this.solver = solver;
+        this.interval = config.inprocessingInterval;
+        this.budgetNanos = config.inprocessingTimeBudget * 1_000_000L;
+        this.vivification = config.vivification;
+        this.learntSubsumption = config.learntSubsumption;
+        this.failedLiteralProbing = config.failedLiteralProbing;
+        this.vivifiedLearnts = Collections.newSetFromMap(new IdentityHashMap<>());
+        this.nextRun = this.interval;
+    }
+
+    /**
+     * Returns the number of inprocessing passes.
+     * @return the number of inprocessing passes
+     */
+    public int numRuns() {
+        return this.numRuns;
+    }
+
+    /**
+     * Returns the number of failed literals found by probing.
+     * @return the number of failed literals
+     */
+    public int numFailedLiterals() {
+        return this.numFailedLiterals;
+    }
+
+    /**
+     * Returns the number of clauses which were shortened by vivification.
+     * @return the number of vivified clauses
+     */
+    public int numVivifiedClauses() {
+        return this.numVivifiedClauses;
+    }
+
+    /**
+     * Returns the number of literals which were removed from clauses by vivification.
+     * @return the number of removed literals
+     */
+    public int numRemovedLiterals() {
+        return this.numRemovedLiterals;
+    }
+
+    /**
+     * Returns the number of learnt clauses which were removed by subsumption.
+     * @return the number of subsumed learnt clauses
+     */
+    public int numSubsumedLearnts() {
+        return this.numSubsumedLearnts;
+    }
+
+    /**
+     * Performs an inprocessing pass if the number of conflicts since the last pass reached the interval.  The solver is
+     * backtracked to decision level 0 before the pass.
+     * @return {@code false} if the inprocessing found the formula to be unsatisfiable, {@code true} otherwise
+     */
+    boolean inprocessIfDue() {
+        if (this.solver.conflicts < this.nextRun || !this.solver.ok) {
+            return this.solver.ok;
+        }
+        this.solver.cancelUntil(0);
+        this.nextRun = this.solver.conflicts + this.interval;
+        return inprocess();
+    }
+
+    /**
+     * Performs an inprocessing pass.  The solver must be on decision level 0.
+     * @return {@code false} if the inprocessing found the formula to be unsatisfiable, {@code true} otherwise
+     */
+    boolean inprocess() {
+        final GlucoseSyrup s = this.solver;
+        assert s.decisionLevel() == 0;
+        this.numRuns++;
+        if (s.propagate() != null) {
+            return s.ok = false;
+        }
+        this.marks = new int[2 * s.nVars()];
+        final int techniques = (this.failedLiteralProbing ? 1 : 0) + (this.learntSubsumption ? 1 : 0) + (this.vivification ? 2 : 0);
+        final long slice = techniques == 0 ? 0 : this.budgetNanos / techniques;
+        if (this.failedLiteralProbing) {
+            this.deadline = System.nanoTime() + slice;
+            probeFailedLiterals();
+        }
+        if (this.learntSubsumption && s.ok) {
+            this.deadline = System.nanoTime() + slice;
+            subsumeLearnts();
+        }
+        if (this.vivification && s.ok) {
+            this.deadline = System.nanoTime() + slice;
+            vivifyLearnts();
+        }
+        if (this.vivification && s.ok) {
+            this.deadline = System.nanoTime() + slice;
+            vivifyOriginals();
+        }
+        this.marks = null;
+        return s.ok;
+    }
+
+    private boolean budgetExhausted(final int step) {
+        return step % BUDGET_CHECK_INTERVAL == 0 && System.nanoTime() > this.deadline;
+    }
+
+    /**
+     * Probes both phases of the variables round-robin, starting with the variable after the last probed variable of
+     * the previous pass.
+     */
+    private void probeFailedLiterals() {
+        final GlucoseSyrup s = this.solver;
+        final int nVars = s.nVars();
+        for (int step = 0; step < nVars && s.ok; step++) {
+            if (budgetExhausted(step + 1)) {
+                return;
+            }
+            final int v = this.probeIdx;
+            this.probeIdx = (this.probeIdx + 1) % nVars;
+            final MSVariable var = s.vars.get(v);
+            if (!var.decision() || var.assignment() != Tristate.UNDEF) {
+                continue;
+            }
+            for (final boolean phase : new boolean[]{false, true}) {
+                final int lit = mkLit(v, phase);
+                if (s.value(lit) != Tristate.UNDEF) {
+                    break;
+                }
+                s.trailLim.push(s.trail.size());
+                s.uncheckedEnqueue(lit, null);
+                final boolean failed = s.propagate() != null;
+                backtrack();
+                if (failed) {
+                    this.numFailedLiterals++;
+                    addUnit(not(lit));
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes the learnt clauses which are subsumed by a smaller learnt clause.  Each remaining clause is stored in the
+     * occurrence list of only one of its literals, since a subsuming clause must contain every literal of the clause.
+     */
+    private void subsumeLearnts() {
+        final GlucoseSyrup s = this.solver;
+        final List<MSClause> candidates = new ArrayList<>(s.learnts.size());
+        for (final MSClause c : s.learnts) {
+            if (!s.satisfied(c)) {
+                candidates.add(c);
+            }
+        }
+        candidates.sort((c1, c2) -> Integer.compare(c1.size(), c2.size()));
+        final List<List<MSClause>> occs = new ArrayList<>(this.marks.length);
+        for (int i = 0; i < this.marks.length; i++) {
+            occs.add(null);
+        }
+        final Set<MSClause> subsumed = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int step = 0; step < candidates.size(); step++) {
+            if (budgetExhausted(step + 1)) {
+                break;
+            }
+            final MSClause d = candidates.get(step);
+            mark(d);
+            final MSClause subsuming = findSubsuming(d, occs);
+            if (subsuming != null) {
+                subsuming.setLBD(Math.min(subsuming.lbd(), d.lbd()));
+                subsuming.setTier(Math.min(subsuming.tier(), d.tier()));
+                subsuming.setTouched(Math.max(subsuming.touched(), d.touched()));
+                s.removeClause(d);
+                subsumed.add(d);
+                this.numSubsumedLearnts++;
+            } else {
+                int best = d.get(0);
+                for (int i = 1; i < d.size(); i++) {
+                    if (occurrences(occs, d.get(i)) < occurrences(occs, best)) {
+                        best = d.get(i);
+                    }
+                }
+                if (occs.get(best) == null) {
+                    occs.set(best, new ArrayList<>());
+                }
+                occs.get(best).add(d);
+            }
+        }
+        if (!subsumed.isEmpty()) {
+            final LNGVector<MSClause> learnts = new LNGVector<>(s.learnts.size() - subsumed.size());
+            for (final MSClause c : s.learnts) {
+                if (!subsumed.contains(c)) {
+                    learnts.push(c);
+                }
+            }
+            s.learnts = learnts;
+        }
+    }
+
+    private MSClause findSubsuming(final MSClause d, final List<List<MSClause>> occs) {
+        for (int i = 0; i < d.size(); i++) {
+            final List<MSClause> occurrences = occs.get(d.get(i));
+            if (occurrences == null) {
+                continue;
+            }
+            for (final MSClause c : occurrences) {
+                if (c.size() <= d.size() && allMarked(c)) {
+                    return c;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static int occurrences(final List<List<MSClause>> occs, final int lit) {
+        final List<MSClause> occurrences = occs.get(lit);
+        return occurrences == null ? 0 : occurrences.size();
+    }
+
+    private void mark(final MSClause c) {
+        this.stamp++;
+        for (int i = 0; i < c.size(); i++) {
+            this.marks[c.get(i)] = this.stamp;
+        }
+    }
+
+    private boolean allMarked(final MSClause c) {
+        for (int i = 0; i < c.size(); i++) {
+            if (this.marks[c.get(i)] != this.stamp) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Vivifies the learnt clauses which were not vivified before in the order of their LBD.
+     */
+    private void vivifyLearnts() {
+        final GlucoseSyrup s = this.solver;
+        final List<MSClause> candidates = new ArrayList<>();
+        final Set<MSClause> current = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (final MSClause c : s.learnts) {
+            current.add(c);
+            if (c.size() > 2 && !this.vivifiedLearnts.contains(c)) {
+                candidates.add(c);
+            }
+        }
+        this.vivifiedLearnts.retainAll(current);
+        candidates.sort((c1, c2) -> Long.compare(c1.lbd(), c2.lbd()));
+        final List<MSClause> replaced = new ArrayList<>();
+        final LNGVector<MSClause> additional = new LNGVector<>();
+        for (int step = 0; step < candidates.size() && s.ok; step++) {
+            if (budgetExhausted(step + 1)) {
+                break;
+            }
+            final MSClause c = candidates.get(step);
+            if (s.satisfied(c)) {
+                continue;
+            }
+            final MSClause vivified = vivify(c);
+            if (vivified != c) {
+                replaced.add(c);
+                if (vivified != null) {
+                    additional.push(vivified);
+                    this.vivifiedLearnts.add(vivified);
+                }
+            } else {
+                this.vivifiedLearnts.add(c);
+            }
+        }
+        s.learnts = replaceClauses(s.learnts, replaced, additional);
+    }
+
+    /**
+     * Vivifies the original clauses round-robin, starting with the clause after the last vivified clause of the
+     * previous pass.
+     */
+    private void vivifyOriginals() {
+        final GlucoseSyrup s = this.solver;
+        final int size = s.clauses.size();
+        final List<MSClause> replaced = new ArrayList<>();
+        final LNGVector<MSClause> additional = new LNGVector<>();
+        for (int step = 0; step < size && s.ok; step++) {
+            if (budgetExhausted(step + 1)) {
+                break;
+            }
+            if (this.originalsIdx >= size) {
+                this.originalsIdx = 0;
+            }
+            final MSClause c = s.clauses.get(this.originalsIdx++);
+            if (c.size() <= 2 || s.satisfied(c)) {
+                continue;
+            }
+            final MSClause vivified = vivify(c);
+            if (vivified != c) {
+                replaced.add(c);
+                if (vivified != null) {
+                    additional.push(vivified);
+                }
+            }
+        }
+        s.clauses = replaceClauses(s.clauses, replaced, additional);
+    }
+
+    private static LNGVector<MSClause> replaceClauses(final LNGVector<MSClause> clauses, final List<MSClause> replaced,
+                                                      final LNGVector<MSClause> additional) {
+        if (replaced.isEmpty()) {
+            return clauses;
+        }
+        final Set<MSClause> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+        removed.addAll(replaced);
+        final LNGVector<MSClause> result = new LNGVector<>(clauses.size() - removed.size() + additional.size());
+        for (final MSClause c : clauses) {
+            if (!removed.contains(c)) {
+                result.push(c);
+            }
+        }
+        for (final MSClause c : additional) {
+            result.push(c);
+        }
+        return result;
+    }
+
+    /**
+     * Vivifies a clause which is not satisfied on decision level 0.
+     * @param c the clause
+     * @return the clause itself if it could not be shortened, the shortened clause if it could be shortened to at
+     * least two literals, or {@code null} if it was shortened to a unit clause which was added to the solver
+     */
+    private MSClause vivify(final MSClause c) {
+        final GlucoseSyrup s = this.solver;
+        s.detachClause(c);
+        final LNGIntVector lits = new LNGIntVector(c.size());
+        for (int i = 0; i < c.size(); i++) {
+            final int lit = c.get(i);
+            final Tristate value = s.value(lit);
+            if (value == Tristate.TRUE) {
+                lits.push(lit);
+                break;
+            } else if (value == Tristate.UNDEF) {
+                lits.push(lit);
+                s.trailLim.push(s.trail.size());
+                s.uncheckedEnqueue(not(lit), null);
+                if (s.propagate() != null) {
+                    break;
+                }
+            }
+        }
+        backtrack();
+        if (lits.size() == c.size()) {
+            s.attachClause(c);
+            return c;
+        }
+        this.numVivifiedClauses++;
+        this.numRemovedLiterals += c.size() - lits.size();
+        if (lits.size() == 1) {
+            addUnit(lits.get(0));
+            addProofClause(c, -1);
+            return null;
+        }
+        addProofClause(lits, 1);
+        addProofClause(c, -1);
+        final MSClause vivified = new MSClause(lits, c.learnt());
+        if (c.learnt()) {
+            vivified.setLBD(Math.min(c.lbd(), lits.size()));
+            vivified.setTier(s.tieredLearnts ? Math.min(c.tier(), s.learntTier(vivified.lbd())) : c.tier());
+            vivified.setTouched(c.touched());
+            vivified.setCanBeDel(c.canBeDel());
+            vivified.incrementActivity(c.activity());
+            int sizeWithoutSelectors = 0;
+            for (int i = 0; i < lits.size(); i++) {
+                if (!s.isSelector(var(lits.get(i)))) {
+                    sizeWithoutSelectors++;
+                }
+            }
+            vivified.setSizeWithoutSelectors(sizeWithoutSelectors);
+        }
+        s.attachClause(vivified);
+        return vivified;
+    }
+
+    /**
+     * Adds a unit clause on decision level 0 and propagates it.
+     * @param lit the literal of the unit clause
+     */
+    private void addUnit(final int lit) {
+        final GlucoseSyrup s = this.solver;
+        if (s.value(lit) == Tristate.TRUE) {
+            return;
+        }
+        if (s.value(lit) == Tristate.UNDEF) {
+            if (s.config.proofGeneration) {
+                final LNGIntVector unit = new LNGIntVector(1);
+                unit.push(lit);
+                addProofClause(unit, 1);
+            }
+            s.uncheckedEnqueue(lit, null);
+        }
+        if (s.value(lit) == Tristate.FALSE || s.propagate() != null) {
+            s.ok = false;
+        }
+    }
+
+    private void addProofClause(final LNGIntVector lits, final int type) {
+        if (this.solver.config.proofGeneration) {
+            final LNGIntVector vec = new LNGIntVector(lits.size() + 1);
+            vec.push(type);
+            for (int i = 0; i < lits.size(); i++) {
+                vec.push((var(lits.get(i)) + 1) * (-2 * (sign(lits.get(i)) ? 1 : 0) + 1));
+            }
+            this.solver.pgProof.push(vec);
+        }
+    }
+
+    private void addProofClause(final MSClause c, final int type) {
+        if (this.solver.config.proofGeneration) {
+            final LNGIntVector vec = new LNGIntVector(c.size() + 1);
+            vec.push(type);
+            for (int i = 0; i < c.size(); i++) {
+                vec.push((var(c.get(i)) + 1) * (-2 * (sign(c.get(i)) ? 1 : 0) + 1));
+            }
+            this.solver.pgProof.push(vec);
+        }
+    }
+
+    /**
+     * Backtracks to decision level 0 without changing the saved phases of the variables.
+     */
+    private void backtrack() {
+        final GlucoseSyrup s = this.solver;
+        if (s.decisionLevel() == 0) {
+            return;
+        }
+        final int start = s.trailLim.get(0);
+        for (int i = s.trail.size() - 1; i >= start; i--) {
+            final int v = var(s.trail.get(i));
+            s.vars.get(v).assign(Tristate.UNDEF);
+            s.insertVarOrder(v);
+        }
+        s.qhead = start;
+        s.trail.shrinkTo(start);
+        s.trailLim.clear();
+    }
+}
@@ -90,11 +90,18 @@ import org.logicng.solvers.datastructures.LNGBoundedIntQueue;
 import org.logicng.solvers.datastructures.LNGBoundedLongQueue;
 import org.logicng.solvers.datastructures.MSClause;
 import org.logicng.solvers.datastructures.MSVariable;
-import org.logicng.solvers.datastructures.MSWatcher;
+import org.logicng.solvers.datastructures.MSWatchList;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
 
 /**
  * Glucose 4.0 solver.
- * @version 2.1.0
+ * <p>
+ * If inprocessing is activated in the configuration, the clauses are simplified by a {@link GlucoseInprocessor}
+ * between restarts.
+ * @version 2.3.0
  * @since 1.0
  */
 public class GlucoseSyrup extends MiniSatStyleSolver {
@@ -109,11 +116,17 @@ public class GlucoseSyrup extends MiniSatStyleSolver {
      */
     protected static final int LB_BLOCKING_RESTART = 10000;
 
+    /**
+     * the tiers of the learnt clauses in a tiered learnt clause database
+     */
+    protected static final int TIER_CORE = 0;
+    protected static final int TIER_2 = 1;
+    protected static final int TIER_LOCAL = 2;
+
     // external solver configuration
     protected final GlucoseConfig glucoseConfig;
 
     // internal solver state
-    protected LNGVector<LNGVector<MSWatcher>> watchesBin;
     protected LNGIntVector permDiff;
     protected LNGIntVector lastDecisionLevel;
     protected LNGBoundedLongQueue lbdQueue;
@@ -127,6 +140,9 @@ public class GlucoseSyrup extends MiniSatStyleSolver {
     protected int conflictsRestarts;
     protected double sumLBD;
     protected int curRestart;
+    protected GlucoseInprocessor inprocessor;
+    protected int nextTier2Reduce;
+    protected int nextLocalReduce;
 
     // solver configuration
     protected int lbLBDMinimizingClause;
@@ -142,6 +158,12 @@ public class GlucoseSyrup extends MiniSatStyleSolver {
     protected boolean reduceOnSize;
     protected int reduceOnSizeSize;
     protected double maxVarDecay;
+    protected boolean tieredLearnts;
+    protected int coreLBD;
+    protected int tier2LBD;
+    protected int tier2UnusedConflicts;
+    protected int tier2ReduceInterval;
+    protected int localReduceInterval;
 
     /**
      * Constructs a new Glucose 2 solver with the default values for solver configuration.  By default, incremental mode
@@ -167,7 +189,6 @@ public class GlucoseSyrup extends MiniSatStyleSolver {
      */
     protected void initializeGlucose() {
         this.initializeGlucoseConfig();
-        this.watchesBin = new LNGVector<>();
         this.permDiff = new LNGIntVector();
         this.lastDecisionLevel = new LNGIntVector();
         this.lbdQueue = new LNGBoundedLongQueue();
@@ -184,6 +205,10 @@ public class GlucoseSyrup extends MiniSatStyleSolver {
         this.conflictsRestarts = 0;
         this.sumLBD = 0;
         this.curRestart = 1;
+        this.nextTier2Reduce = this.tier2ReduceInterval;
+        this.nextLocalReduce = this.localReduceInterval;
+        this.inprocessor = this.glucoseConfig.inprocessing ? new GlucoseInprocessor(this) : null;
+        this.branchingHeuristic = BranchingHeuristic.create(this, this.config.decisionHeuristic);
     }
 
     /**
@@ -203,28 +228,45 @@ public class GlucoseSyrup extends MiniSatStyleSolver {
         this.reduceOnSize = this.glucoseConfig.reduceOnSize;
         this.reduceOnSizeSize = this.glucoseConfig.reduceOnSizeSize;
         this.maxVarDecay = this.glucoseConfig.maxVarDecay;
+        this.tieredLearnts = this.glucoseConfig.learntDatabase == GlucoseConfig.LearntDatabase.TIERED;
+        this.coreLBD = this.glucoseConfig.coreLBD;
+        this.tier2LBD = this.glucoseConfig.tier2LBD;
+        this.tier2UnusedConflicts = this.glucoseConfig.tier2UnusedConflicts;
+        this.tier2ReduceInterval = this.glucoseConfig.tier2ReduceInterval;
+        this.localReduceInterval = this.glucoseConfig.localReduceInterval;
     }
 
     @Override
     public int newVar(final boolean sign, final boolean dvar) {
         final int v = nVars();
         final MSVariable newVar = new MSVariable(sign);
-        this.watches.push(new LNGVector<>());
-        this.watches.push(new LNGVector<>());
-        this.watchesBin.push(new LNGVector<>());
-        this.watchesBin.push(new LNGVector<>());
+        this.watches.push(new MSWatchList());
+        this.watches.push(new MSWatchList());
+        this.watchesBin.push(new MSWatchList());
+        this.watchesBin.push(new MSWatchList());
         this.vars.push(newVar);
         this.seen.push(false);
         this.permDiff.push(0);
         this.assump.push(false);
         newVar.setDecision(dvar);
+        if (this.branchingHeuristic != null) {
+            this.branchingHeuristic.newVar(v);
+        }
         insertVarOrder(v);
         return v;
     }
 
     @Override
     public boolean addClause(final LNGIntVector ps, final Proposition proposition) {
-        assert decisionLevel() == 0;
+        if (decisionLevel() > 0 && (!this.ok || this.config.proofGeneration || !prepareClauseOnKeptLevels(ps))) {
+            cancelUntil(0);
+        }
+        if (decisionLevel() > 0) {
+            final MSClause c = new MSClause(ps, false);
+            this.clauses.push(c);
+            attachClause(c);
+            return true;
+        }
         int p;
         int i;
         int j;
@@ -311,13 +353,20 @@ public class GlucoseSyrup extends MiniSatStyleSolver {
         if (!this.ok) {
             return Tristate.FALSE;
         }
+        reuseAssumptionLevels();
         for (int i = 0; i < this.assumptions.size(); i++) {
             this.assump.set(var(this.assumptions.get(i)), !sign(this.assumptions.get(i)));
         }
 
         Tristate status = Tristate.UNDEF;
         while (status == Tristate.UNDEF && !this.canceledByHandler) {
-            status = search();
+            if (decisionLevel() == 0 && !importLearntClauses()) {
+                status = Tristate.FALSE;
+            } else if (this.inprocessor != null && !this.inprocessor.inprocessIfDue()) {
+                status = Tristate.FALSE;
+            } else {
+                status = search();
+            }
         }
 
         if (this.config.proofGeneration && this.assumptions.empty()) {
@@ -335,7 +384,7 @@ public class GlucoseSyrup extends MiniSatStyleSolver {
             this.ok = false;
         }
         finishSolving(handler);
-        cancelUntil(0);
+        keepAssumptionLevels(status);
         this.handler = null;
         this.canceledByHandler = false;
         for (int i = 0; i < this.assumptions.size(); i++) {
@@ -360,25 +409,36 @@ public class GlucoseSyrup extends MiniSatStyleSolver {
         throw new UnsupportedOperationException("The Glucose solver does not support state loading/saving");
     }
 
+    /**
+     * Returns the inprocessor of this solver or {@code null} if inprocessing is not activated.
+     * @return the inprocessor of this solver
+     */
+    public GlucoseInprocessor inprocessor() {
+        return this.inprocessor;
+    }
+
     @Override
     protected void uncheckedEnqueue(final int lit, final MSClause reason) {
         assert value(lit) == Tristate.UNDEF;
         final MSVariable var = v(lit);
         var.assign(Tristate.fromBool(!sign(lit)));
         var.setReason(reason);
-        var.setLevel(decisionLevel());
+        var.setLevel(assignmentLevel(lit, reason));
         this.trail.push(lit);
+        if (this.branchingHeuristic != null) {
+            this.branchingHeuristic.assigned(var(lit));
+        }
     }
 
     @Override
     protected void attachClause(final MSClause c) {
         assert c.size() > 1;
         if (c.size() == 2) {
-            this.watchesBin.get(not(c.get(0))).push(new MSWatcher(c, c.get(1)));
-            this.watchesBin.get(not(c.get(1))).push(new MSWatcher(c, c.get(0)));
+            this.watchesBin.get(not(c.get(0))).push(c, c.get(1));
+            this.watchesBin.get(not(c.get(1))).push(c, c.get(0));
         } else {
-            this.watches.get(not(c.get(0))).push(new MSWatcher(c, c.get(1)));
-            this.watches.get(not(c.get(1))).push(new MSWatcher(c, c.get(0)));
+            this.watches.get(not(c.get(0))).push(c, c.get(1));
+            this.watches.get(not(c.get(1))).push(c, c.get(0));
         }
         if (c.learnt()) {
             this.learntsLiterals += c.size();
@@ -391,11 +451,11 @@ public class GlucoseSyrup extends MiniSatStyleSolver {
     protected void detachClause(final MSClause c) {
         assert c.size() > 1;
         if (c.size() == 2) {
-            this.watchesBin.get(not(c.get(0))).remove(new MSWatcher(c, c.get(1)));
-            this.watchesBin.get(not(c.get(1))).remove(new MSWatcher(c, c.get(0)));
+            this.watchesBin.get(not(c.get(0))).remove(c);
+            this.watchesBin.get(not(c.get(1))).remove(c);
         } else {
-            this.watches.get(not(c.get(0))).remove(new MSWatcher(c, c.get(1)));
-            this.watches.get(not(c.get(1))).remove(new MSWatcher(c, c.get(0)));
+            this.watches.get(not(c.get(0))).remove(c);
+            this.watches.get(not(c.get(1))).remove(c);
         }
         if (c.learnt()) {
             this.learntsLiterals -= c.size();
@@ -427,29 +487,27 @@ public class GlucoseSyrup extends MiniSatStyleSolver {
         int numProps = 0;
         while (this.qhead < this.trail.size()) {
             final int p = this.trail.get(this.qhead++);
-            final LNGVector<MSWatcher> ws = this.watches.get(p);
+            final MSWatchList ws = this.watches.get(p);
             int iInd = 0;
             int jInd = 0;
             numProps++;
-            final LNGVector<MSWatcher> wbin = this.watchesBin.get(p);
+            final MSWatchList wbin = this.watchesBin.get(p);
             for (int k = 0; k < wbin.size(); k++) {
-                final int imp = wbin.get(k).blocker();
+                final int imp = wbin.blocker(k);
                 if (value(imp) == Tristate.FALSE) {
-                    return wbin.get(k).clause();
+                    return wbin.clause(k);
                 }
                 if (value(imp) == Tristate.UNDEF) {
-                    uncheckedEnqueue(imp, wbin.get(k).clause());
+                    uncheckedEnqueue(imp, wbin.clause(k));
                 }
             }
             while (iInd < ws.size()) {
-                final MSWatcher i = ws.get(iInd);
-                final int blocker = i.blocker();
+                final int blocker = ws.blocker(iInd);
                 if (value(blocker) == Tristate.TRUE) {
-                    ws.set(jInd++, i);
-                    iInd++;
+                    ws.move(iInd++, jInd++);
                     continue;
                 }
-                final MSClause c = i.clause();
+                final MSClause c = ws.clause(iInd);
                 assert !c.oneWatched();
                 final int falseLit = not(p);
                 if (c.get(0) == falseLit) {
@@ -459,9 +517,8 @@ public class GlucoseSyrup extends MiniSatStyleSolver {
                 assert c.get(1) == falseLit;
                 iInd++;
                 final int first = c.get(0);
-                final MSWatcher w = new MSWatcher(c, first);
                 if (first != blocker && value(first) == Tristate.TRUE) {
-                    ws.set(jInd++, w);
+                    ws.set(jInd++, c, first);
                     continue;
                 }
                 boolean foundWatch = false;
@@ -483,7 +540,7 @@ public class GlucoseSyrup extends MiniSatStyleSolver {
                     if (choosenPos != -1) {
                         c.set(1, c.get(choosenPos));
                         c.set(choosenPos, falseLit);
-                        this.watches.get(not(c.get(1))).push(w);
+                        this.watches.get(not(c.get(1))).push(c, first);
                         foundWatch = true;
                     }
                 } else {
@@ -491,18 +548,18 @@ public class GlucoseSyrup extends MiniSatStyleSolver {
                         if (value(c.get(k)) != Tristate.FALSE) {
                             c.set(1, c.get(k));
                             c.set(k, falseLit);
-                            this.watches.get(not(c.get(1))).push(w);
+                            this.watches.get(not(c.get(1))).push(c, first);
                             foundWatch = true;
                         }
                     }
                 }
                 if (!foundWatch) {
-                    ws.set(jInd++, w);
+                    ws.set(jInd++, c, first);
                     if (value(first) == Tristate.FALSE) {
                         confl = c;
                         this.qhead = this.trail.size();
                         while (iInd < ws.size()) {
-                            ws.set(jInd++, ws.get(iInd++));
+                            ws.move(iInd++, jInd++);
                         }
                     } else {
                         uncheckedEnqueue(first, c);
@@ -608,6 +665,83 @@ public class GlucoseSyrup extends MiniSatStyleSolver {
         this.learnts.removeElements(i - j);
     }
 
+    /**
+     * Reduces the tiered learnt clause database.  Tier 2 clauses which were not used for a given number of conflicts
+     * are moved to the local tier, and the worse half of the local clauses is removed periodically.
+     */
+    protected void reduceTiers() {
+        if (this.conflicts >= this.nextTier2Reduce) {
+            this.nextTier2Reduce = this.conflicts + this.tier2ReduceInterval;
+            for (final MSClause c : this.learnts) {
+                if (c.tier() == TIER_2 && this.conflicts - c.touched() > this.tier2UnusedConflicts) {
+                    c.setTier(TIER_LOCAL);
+                }
+            }
+        }
+        if (this.conflicts >= this.nextLocalReduce) {
+            this.nextLocalReduce = this.conflicts + this.localReduceInterval;
+            reduceLocalLearnts();
+        }
+    }
+
+    /**
+     * Removes the half of the local learnt clauses with the lowest activity.  Binary and locked clauses are kept.
+     */
+    protected void reduceLocalLearnts() {
+        final LNGVector<MSClause> local = new LNGVector<>();
+        for (final MSClause c : this.learnts) {
+            if (c.tier() == TIER_LOCAL) {
+                local.push(c);
+            }
+        }
+        local.manualSort(MSClause.minisatComparator);
+        final Set<MSClause> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int i = 0; i < local.size() / 2; i++) {
+            final MSClause c = local.get(i);
+            if (c.size() > 2 && !locked(c)) {
+                removeClause(c);
+                removed.add(c);
+            }
+        }
+        if (!removed.isEmpty()) {
+            int j = 0;
+            for (int i = 0; i < this.learnts.size(); i++) {
+                if (!removed.contains(this.learnts.get(i))) {
+                    this.learnts.set(j++, this.learnts.get(i));
+                }
+            }
+            this.learnts.shrinkTo(j);
+        }
+    }
+
+    /**
+     * Updates a learnt clause of the tiered learnt clause database which is used in a conflict analysis.  The LBD of
+     * the clause is recomputed and the clause is moved to a better tier if its LBD decreased.
+     * @param c the learnt clause
+     */
+    protected void updateLearntTier(final MSClause c) {
+        c.setTouched(this.conflicts);
+        if (c.tier() != TIER_CORE) {
+            final long nblevels = computeLBD(c);
+            if (nblevels < c.lbd()) {
+                c.setLBD(nblevels);
+                c.setTier(Math.min(c.tier(), learntTier(nblevels)));
+            }
+        }
+    }
+
+    /**
+     * Returns the tier of a learnt clause with a given LBD.
+     * @param lbd the LBD
+     * @return the tier
+     */
+    protected int learntTier(final long lbd) {
+        if (lbd <= this.coreLBD) {
+            return TIER_CORE;
+        }
+        return lbd <= this.tier2LBD ? TIER_2 : TIER_LOCAL;
+    }
+
     @Override
     protected void removeSatisfied(final LNGVector<MSClause> cs) {
         int i;
@@ -771,8 +905,9 @@ public class GlucoseSyrup extends MiniSatStyleSolver {
                 this.permDiff.set(var(outLearnt.get(i)), this.myflag);
             }
             int nb = 0;
-            for (final MSWatcher wbin : this.watchesBin.get(p)) {
-                final int imp = wbin.blocker();
+            final MSWatchList wbin = this.watchesBin.get(p);
+            for (int k = 0; k < wbin.size(); k++) {
+                final int imp = wbin.blocker(k);
                 if (this.permDiff.get(var(imp)) == this.myflag && value(imp) == Tristate.TRUE) {
                     nb++;
                     this.permDiff.set(var(imp), this.myflag - 1);
@@ -806,12 +941,19 @@ public class GlucoseSyrup extends MiniSatStyleSolver {
         boolean blocked = false;
         this.selectionOrderIdx = 0;
         while (true) {
+            final int propagationStart = this.qhead;
             final MSClause confl = propagate();
+            if (this.branchingHeuristic != null) {
+                this.branchingHeuristic.propagated(propagationStart, confl != null);
+            }
             if (confl != null) {
                 if (this.handler != null && !this.handler.detectedConflict()) {
                     this.canceledByHandler = true;
                     return Tristate.UNDEF;
                 }
+                if (this.chronologicalBacktracking && backtrackToConflictLevel(confl) < 0) {
+                    continue;
+                }
                 this.conflicts++;
                 this.conflictsRestarts++;
                 if (this.conflicts % 5000 == 0 && this.varDecay < this.maxVarDecay) {
@@ -832,9 +974,9 @@ public class GlucoseSyrup extends MiniSatStyleSolver {
                 analyze(confl, learntClause, selectors);
                 this.lbdQueue.push(this.analyzeLBD);
                 this.sumLBD += this.analyzeLBD;
-                cancelUntil(this.analyzeBtLevel);
-                if (this.analyzeBtLevel < this.selectionOrder.size()) {
-                    this.selectionOrderIdx = this.analyzeBtLevel;
+                backjump(learntClause.size() == 1);
+                if (decisionLevel() < this.selectionOrder.size()) {
+                    this.selectionOrderIdx = decisionLevel();
                 }
 
                 if (this.config.proofGeneration) {
@@ -853,11 +995,16 @@ public class GlucoseSyrup extends MiniSatStyleSolver {
                     cr.setLBD(this.analyzeLBD);
                     cr.setOneWatched(false);
                     cr.setSizeWithoutSelectors(this.analyzeSzWithoutSelectors);
+                    if (this.tieredLearnts) {
+                        cr.setTier(learntTier(this.analyzeLBD));
+                        cr.setTouched(this.conflicts);
+                    }
                     this.learnts.push(cr);
                     attachClause(cr);
                     claBumpActivity(cr);
                     uncheckedEnqueue(learntClause.get(0), cr);
                 }
+                exportLearntClause(learntClause);
                 varDecayActivity();
                 claDecayActivity();
             } else {
@@ -867,13 +1014,15 @@ public class GlucoseSyrup extends MiniSatStyleSolver {
                     if (this.incremental) {
                         bt = Math.min(decisionLevel(), this.assumptions.size());
                     }
-                    cancelUntil(bt);
+                    cancelUntil(restartLevel(bt));
                     return Tristate.UNDEF;
                 }
                 if (decisionLevel() == 0 && !simplify()) {
                     return Tristate.FALSE;
                 }
-                if (this.conflicts >= (this.curRestart * this.nbclausesbeforereduce) && this.learnts.size() > 0) {
+                if (this.tieredLearnts) {
+                    reduceTiers();
+                } else if (this.conflicts >= (this.curRestart * this.nbclausesbeforereduce) && this.learnts.size() > 0) {
                     this.curRestart = (this.conflicts / this.nbclausesbeforereduce) + 1;
                     reduceDB();
                     this.nbclausesbeforereduce += this.incReduceDB;
@@ -932,7 +1081,9 @@ public class GlucoseSyrup extends MiniSatStyleSolver {
                     c.setSeen(true);
                 }
             }
-            if (c.learnt() && c.lbd() > 2) {
+            if (c.learnt() && this.tieredLearnts) {
+                updateLearntTier(c);
+            } else if (c.learnt() && c.lbd() > 2) {
                 final long nblevels = computeLBD(c);
                 if (nblevels + 1 < c.lbd()) {
                     if (c.lbd() <= this.lbLBDFrozenClause) {
@@ -963,9 +1114,9 @@ public class GlucoseSyrup extends MiniSatStyleSolver {
                     }
                 }
             }
-            while (!this.seen.get(var(this.trail.get(index--)))) {
-            }
-            p = this.trail.get(index + 1);
+            do {
+                p = this.trail.get(index--);
+            } while (!this.seen.get(var(p)) || v(p).level() < decisionLevel());
             c = v(p).reason();
             this.seen.set(var(p), false);
             pathC--;
@@ -1060,17 +1211,5 @@ public class GlucoseSyrup extends MiniSatStyleSolver {
         }
     }
 
-    @Override
-    protected boolean isRotatable(final int lit) {
-        if (!super.isRotatable(lit)) {
-            return false;
-        }
-        for (final MSWatcher watcher : this.watchesBin.get(not(lit))) {
-            if (isUnit(lit, watcher.clause())) {
-                return false;
-            }
-        }
-        return true;
-    }
 }
 
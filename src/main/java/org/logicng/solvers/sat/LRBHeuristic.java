@@ -0,0 +1,135 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+
+package org.logicng.solvers.sat;
+
+import org.logicng.collections.LNGIntVector;
+import org.logicng.collections.LNGLongVector;
+import org.logicng.datastructures.Tristate;
+import org.logicng.solvers.datastructures.MSVariable;
+
+/**
+ * The learning rate branching heuristic (LRB) by Liang et al.
+ * <p>
+ * The interval of a variable is the number of conflicts between its assignment and its unassignment.  When a
+ * variable is unassigned, it is rewarded by the fraction of the conflicts in its interval it participated in.  The
+ * score of a variable is the exponential moving average of its rewards, the step size of the average decreases from
+ * 0.4 to 0.06 over the first conflicts.  Additionally, the scores of unassigned variables are decayed by 0.95 per
+ * conflict (locality extension).  This decay is performed lazily when a variable reaches the top of the order heap.
+ * @version 2.3.0
+ * @since 2.3.0
+ */
+final class LRBHeuristic extends BranchingHeuristic {
+
+    private static final double STEP_SIZE = 0.4;
+    private static final double STEP_SIZE_DECREMENT = 1e-6;
+    private static final double MIN_STEP_SIZE = 0.06;
+    private static final double LOCALITY_DECAY = 0.95;
+
+    private final LNGLongVector assignedAt;
+    private final LNGLongVector unassignedAt;
+    private final LNGIntVector participated;
+    private double stepSize;
+    private long conflicts;
+
+    /**
+     * Constructs a new LRB heuristic for a given solver.
+     * @param solver the solver
+     */
+    LRBHeuristic(final MiniSatStyleSolver solver) {
+        super(solver);
+        this.assignedAt = new LNGLongVector();
+        this.unassignedAt = new LNGLongVector();
+        this.participated = new LNGIntVector();
+        this.stepSize = STEP_SIZE;
+        this.conflicts = 0;
+    }
+
+    @Override
+    void newVar(final int v) {
+        this.assignedAt.push(0);
+        this.unassignedAt.push(0);
+        this.participated.push(0);
+    }
+
+    @Override
+    void assigned(final int v) {
+        this.assignedAt.set(v, this.conflicts);
+        this.participated.set(v, 0);
+    }
+
+    @Override
+    void unassigned(final int v) {
+        final long interval = this.conflicts - this.assignedAt.get(v);
+        if (interval > 0) {
+            final double reward = this.participated.get(v) / (double) interval;
+            updateScore(v, this.stepSize * reward + (1 - this.stepSize) * score(v));
+        }
+        this.unassignedAt.set(v, this.conflicts);
+    }
+
+    @Override
+    void bump(final int v) {
+        this.participated.set(v, this.participated.get(v) + 1);
+    }
+
+    @Override
+    void conflict() {
+        this.conflicts++;
+        if (this.stepSize > MIN_STEP_SIZE) {
+            this.stepSize -= STEP_SIZE_DECREMENT;
+        }
+    }
+
+    @Override
+    void shrink(final int numVars) {
+        this.assignedAt.shrinkTo(numVars);
+        this.unassignedAt.shrinkTo(numVars);
+        this.participated.shrinkTo(numVars);
+    }
+
+    @Override
+    int peek() {
+        while (!this.solver.orderHeap.empty()) {
+            final int v = this.solver.orderHeap.get(0);
+            final MSVariable var = this.solver.vars.get(v);
+            if (var.assignment() != Tristate.UNDEF || !var.decision()) {
+                this.solver.orderHeap.removeMin();
+                continue;
+            }
+            final long age = this.conflicts - this.unassignedAt.get(v);
+            if (age == 0) {
+                return v;
+            }
+            this.unassignedAt.set(v, this.conflicts);
+            updateScore(v, score(v) * Math.pow(LOCALITY_DECAY, age));
+        }
+        return -1;
+    }
+}
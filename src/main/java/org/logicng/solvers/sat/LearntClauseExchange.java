@@ -0,0 +1,68 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+
+package org.logicng.solvers.sat;
+
+import org.logicng.collections.LNGIntVector;
+
+import java.util.List;
+
+/**
+ * An exchange of learnt clauses between several solvers which work on the same formula in parallel, e.g. the
+ * solvers of a portfolio.
+ * <p>
+ * A solver exports its short learnt clauses to the exchange and imports the clauses learnt by the other solvers at
+ * its restarts.  The exchange is responsible for translating the literals between the solvers and must only pass
+ * clauses which are implied by the formula of the importing solver.  The methods are called concurrently by the
+ * solvers.
+ * @version 2.3.0
+ * @since 2.3.0
+ */
+public interface LearntClauseExchange {
+
+    /**
+     * Returns the maximal size of learnt clauses which are exported.
+     * @return the maximal size of learnt clauses which are exported
+     */
+    int maxClauseSize();
+
+    /**
+     * Exports a clause learnt by the given solver.  The vector is reused by the solver and must not be stored.
+     * @param solver the solver
+     * @param clause the learnt clause in the literals of the solver
+     */
+    void exportClause(MiniSatStyleSolver solver, LNGIntVector clause);
+
+    /**
+     * Returns the clauses learnt by other solvers since the last import of the given solver.
+     * @param solver the solver
+     * @return the clauses in the literals of the solver
+     */
+    List<LNGIntVector> importClauses(MiniSatStyleSolver solver);
+}
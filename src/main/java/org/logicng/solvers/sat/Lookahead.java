@@ -0,0 +1,176 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+
+package org.logicng.solvers.sat;
+
+import static org.logicng.solvers.sat.MiniSatStyleSolver.LIT_UNDEF;
+import static org.logicng.solvers.sat.MiniSatStyleSolver.mkLit;
+
+import org.logicng.collections.LNGIntVector;
+import org.logicng.datastructures.Tristate;
+import org.logicng.solvers.datastructures.MSVariable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A lookahead on a MiniSat-style solver for splitting a formula into cubes.
+ * <p>
+ * The lookahead propagates a cube on the first decision level and then probes both phases of a set of candidate
+ * variables on the second decision level.  The variable whose two phases imply the most assignments is the
+ * branching variable.  If one phase of a variable leads to a conflict, the other phase is implied by the cube
+ * (failed literal) and added to the cube.  If both phases lead to a conflict, the cube is refuted.
+ * <p>
+ * The lookahead only uses the clauses of the solver and no assumptions, so a refuted cube is refuted by the formula
+ * on the solver itself.  The solver is on decision level 0 after the lookahead.
+ * @version 2.3.0
+ * @since 2.3.0
+ */
+public final class Lookahead {
+
+    /**
+     * The result of a lookahead for a cube which is refuted by unit propagation.
+     */
+    public static final int CONFLICT = -2;
+
+    /**
+     * Private constructor.
+     */
+    private Lookahead() {
+        // Intentionally left empty
+    }
+
+    /**
+     * Computes the branching literal for a given cube.
+     * @param solver        the solver
+     * @param cube          the solver literals of the cube, implied failed literals are added to this vector
+     * @param maxCandidates the maximal number of variables which are probed, the variables are preselected by their
+     *                      number of watching clauses
+     * @return the branching literal, {@link MiniSatStyleSolver#LIT_UNDEF} if all variables are assigned by the cube,
+     * or {@link #CONFLICT} if the cube is refuted
+     */
+    public static int branchingLiteral(final MiniSatStyleSolver solver, final LNGIntVector cube, final int maxCandidates) {
+        solver.cancelUntil(0);
+        if (!solver.ok || solver.propagate() != null) {
+            solver.ok = false;
+            return CONFLICT;
+        }
+        solver.trailLim.push(solver.trail.size());
+        try {
+            for (int i = 0; i < cube.size(); i++) {
+                final int lit = cube.get(i);
+                final Tristate value = solver.value(lit);
+                if (value == Tristate.FALSE) {
+                    return CONFLICT;
+                } else if (value == Tristate.UNDEF) {
+                    solver.uncheckedEnqueue(lit, null);
+                }
+            }
+            if (solver.propagate() != null) {
+                return CONFLICT;
+            }
+            final List<Integer> candidates = candidates(solver, maxCandidates);
+            final long[] scores = new long[candidates.size()];
+            for (int i = 0; i < candidates.size(); i++) {
+                final int var = candidates.get(i);
+                scores[i] = -1;
+                if (solver.vars.get(var).assignment() != Tristate.UNDEF) {
+                    continue;
+                }
+                final int pos = probe(solver, mkLit(var, false));
+                final int neg = probe(solver, mkLit(var, true));
+                if (pos < 0 && neg < 0) {
+                    return CONFLICT;
+                } else if (pos < 0 || neg < 0) {
+                    final int implied = mkLit(var, pos < 0);
+                    solver.uncheckedEnqueue(implied, null);
+                    cube.push(implied);
+                    if (solver.propagate() != null) {
+                        return CONFLICT;
+                    }
+                } else {
+                    scores[i] = (long) pos * neg + pos + neg;
+                }
+            }
+            int best = LIT_UNDEF;
+            long bestScore = -1;
+            for (int i = 0; i < candidates.size(); i++) {
+                if (scores[i] > bestScore && solver.vars.get(candidates.get(i)).assignment() == Tristate.UNDEF) {
+                    best = mkLit(candidates.get(i), false);
+                    bestScore = scores[i];
+                }
+            }
+            return best;
+        } finally {
+            solver.cancelUntil(0);
+        }
+    }
+
+    /**
+     * Returns the unassigned decision variables with the most watching clauses.
+     * @param solver        the solver
+     * @param maxCandidates the maximal number of candidates
+     * @return the candidate variables
+     */
+    private static List<Integer> candidates(final MiniSatStyleSolver solver, final int maxCandidates) {
+        final List<Integer> candidates = new ArrayList<>();
+        for (int v = 0; v < solver.nVars(); v++) {
+            final MSVariable var = solver.vars.get(v);
+            if (var.decision() && var.assignment() == Tristate.UNDEF) {
+                candidates.add(v);
+            }
+        }
+        if (candidates.size() > maxCandidates) {
+            final int[] counts = new int[solver.nVars()];
+            for (final int v : candidates) {
+                counts[v] = solver.watchCount(mkLit(v, false)) + solver.watchCount(mkLit(v, true));
+            }
+            candidates.sort((v1, v2) -> Integer.compare(counts[v2], counts[v1]));
+            return new ArrayList<>(candidates.subList(0, maxCandidates));
+        }
+        return candidates;
+    }
+
+    /**
+     * Assigns a literal on a new decision level and propagates it.
+     * @param solver the solver
+     * @param lit    the literal
+     * @return the number of assigned literals or -1 if the propagation led to a conflict
+     */
+    private static int probe(final MiniSatStyleSolver solver, final int lit) {
+        final int level = solver.decisionLevel();
+        final int start = solver.trail.size();
+        solver.trailLim.push(start);
+        solver.uncheckedEnqueue(lit, null);
+        final boolean conflict = solver.propagate() != null;
+        final int assigned = solver.trail.size() - start;
+        solver.cancelUntil(level);
+        return conflict ? -1 : assigned;
+    }
+}
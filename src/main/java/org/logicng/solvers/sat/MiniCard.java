@@ -61,11 +61,11 @@ import org.logicng.handlers.SATHandler;
 import org.logicng.propositions.Proposition;
 import org.logicng.solvers.datastructures.MSClause;
 import org.logicng.solvers.datastructures.MSVariable;
-import org.logicng.solvers.datastructures.MSWatcher;
+import org.logicng.solvers.datastructures.MSWatchList;
 
 /**
  * A cardinality solver based on MiniCard.
- * @version 2.1.0
+ * @version 2.3.0
  * @since 1.0
  */
 public class MiniCard extends MiniSatStyleSolver {
@@ -107,8 +107,10 @@ public class MiniCard extends MiniSatStyleSolver {
         final int v = this.vars.size();
         final MSVariable newVar = new MSVariable(sign);
         this.vars.push(newVar);
-        this.watches.push(new LNGVector<>());
-        this.watches.push(new LNGVector<>());
+        this.watches.push(new MSWatchList());
+        this.watches.push(new MSWatchList());
+        this.watchesBin.push(new MSWatchList());
+        this.watchesBin.push(new MSWatchList());
         this.seen.push(false);
         newVar.setDecision(dvar);
         insertVarOrder(v);
@@ -167,9 +169,13 @@ public class MiniCard extends MiniSatStyleSolver {
         Tristate status = Tristate.UNDEF;
         int currRestarts = 0;
         while (status == Tristate.UNDEF && !this.canceledByHandler) {
-            final double restBase = luby(this.restartInc, currRestarts);
-            status = search((int) (restBase * this.restartFirst));
-            currRestarts++;
+            if (decisionLevel() == 0 && !importLearntClauses()) {
+                status = Tristate.FALSE;
+            } else {
+                final double restBase = luby(this.restartInc, currRestarts);
+                status = search((int) (restBase * this.restartFirst));
+                currRestarts++;
+            }
         }
         if (status == Tristate.TRUE) {
             this.model = new LNGBooleanVector(this.vars.size());
@@ -238,6 +244,7 @@ public class MiniCard extends MiniSatStyleSolver {
         }
         this.learnts.shrinkTo(newLearntsSize);
         this.watches.shrinkTo(newVarsSize * 2);
+        this.watchesBin.shrinkTo(newVarsSize * 2);
         this.unitClauses.shrinkTo(state[4]);
         for (i = 0; this.ok && i < this.unitClauses.size(); i++) {
             uncheckedEnqueue(this.unitClauses.get(i), null);
@@ -260,13 +267,14 @@ public class MiniCard extends MiniSatStyleSolver {
         if (c.isAtMost()) {
             for (int i = 0; i < c.atMostWatchers(); i++) {
                 final int l = c.get(i);
-                this.watches.get(l).push(new MSWatcher(c, LIT_UNDEF));
+                this.watches.get(l).push(c, LIT_UNDEF);
             }
             this.clausesLiterals += c.size();
         } else {
             assert c.size() > 1;
-            this.watches.get(not(c.get(0))).push(new MSWatcher(c, c.get(1)));
-            this.watches.get(not(c.get(1))).push(new MSWatcher(c, c.get(0)));
+            final LNGVector<MSWatchList> ws = c.size() == 2 ? this.watchesBin : this.watches;
+            ws.get(not(c.get(0))).push(c, c.get(1));
+            ws.get(not(c.get(1))).push(c, c.get(0));
             if (c.learnt()) {
                 this.learntsLiterals += c.size();
             } else {
@@ -279,8 +287,9 @@ public class MiniCard extends MiniSatStyleSolver {
     protected void detachClause(final MSClause c) {
         assert !c.isAtMost();
         assert c.size() > 1;
-        this.watches.get(not(c.get(0))).remove(new MSWatcher(c, c.get(1)));
-        this.watches.get(not(c.get(1))).remove(new MSWatcher(c, c.get(0)));
+        final LNGVector<MSWatchList> ws = c.size() == 2 ? this.watchesBin : this.watches;
+        ws.get(not(c.get(0))).remove(c);
+        ws.get(not(c.get(1))).remove(c);
         if (c.learnt()) {
             this.learntsLiterals -= c.size();
         } else {
@@ -311,19 +320,35 @@ public class MiniCard extends MiniSatStyleSolver {
         int numProps = 0;
         while (this.qhead < this.trail.size()) {
             final int p = this.trail.get(this.qhead++);
-            final LNGVector<MSWatcher> ws = this.watches.get(p);
+            numProps++;
+            final MSWatchList wbin = this.watchesBin.get(p);
+            for (int k = 0; k < wbin.size(); k++) {
+                final int imp = wbin.blocker(k);
+                if (value(imp) == Tristate.FALSE) {
+                    confl = wbin.clause(k);
+                    this.qhead = this.trail.size();
+                    break;
+                }
+                if (value(imp) == Tristate.UNDEF) {
+                    final MSClause c = wbin.clause(k);
+                    c.set(0, imp);
+                    c.set(1, not(p));
+                    uncheckedEnqueue(imp, c);
+                }
+            }
+            if (confl != null) {
+                break;
+            }
+            final MSWatchList ws = this.watches.get(p);
             int iInd = 0;
             int jInd = 0;
-            numProps++;
             while (iInd < ws.size()) {
-                final MSWatcher i = ws.get(iInd);
-                final int blocker = i.blocker();
+                final int blocker = ws.blocker(iInd);
                 if (blocker != LIT_UNDEF && value(blocker) == Tristate.TRUE) {
-                    ws.set(jInd++, i);
-                    iInd++;
+                    ws.move(iInd++, jInd++);
                     continue;
                 }
-                final MSClause c = i.clause();
+                final MSClause c = ws.clause(iInd);
 
                 if (c.isAtMost()) {
                     final int newWatch = findNewWatch(c, p);
@@ -334,19 +359,18 @@ public class MiniCard extends MiniSatStyleSolver {
                                 uncheckedEnqueue(not(c.get(k)), c);
                             }
                         }
-                        ws.set(jInd++, ws.get(iInd++));
+                        ws.move(iInd++, jInd++);
                     } else if (newWatch == LIT_ERROR) {
                         confl = c;
                         this.qhead = this.trail.size();
                         while (iInd < ws.size()) {
-                            ws.set(jInd++, ws.get(iInd++));
+                            ws.move(iInd++, jInd++);
                         }
                     } else if (newWatch == p) {
-                        ws.set(jInd++, ws.get(iInd++));
+                        ws.move(iInd++, jInd++);
                     } else {
                         iInd++;
-                        final MSWatcher w = new MSWatcher(c, LIT_UNDEF);
-                        this.watches.get(newWatch).push(w);
+                        this.watches.get(newWatch).push(c, LIT_UNDEF);
                     }
                 } else {
                     final int falseLit = not(p);
@@ -357,9 +381,8 @@ public class MiniCard extends MiniSatStyleSolver {
                     assert c.get(1) == falseLit;
                     iInd++;
                     final int first = c.get(0);
-                    final MSWatcher w = new MSWatcher(c, first);
                     if (first != blocker && value(first) == Tristate.TRUE) {
-                        ws.set(jInd++, w);
+                        ws.set(jInd++, c, first);
                         continue;
                     }
                     boolean foundWatch = false;
@@ -367,17 +390,17 @@ public class MiniCard extends MiniSatStyleSolver {
                         if (value(c.get(k)) != Tristate.FALSE) {
                             c.set(1, c.get(k));
                             c.set(k, falseLit);
-                            this.watches.get(not(c.get(1))).push(w);
+                            this.watches.get(not(c.get(1))).push(c, first);
                             foundWatch = true;
                         }
                     }
                     if (!foundWatch) {
-                        ws.set(jInd++, w);
+                        ws.set(jInd++, c, first);
                         if (value(first) == Tristate.FALSE) {
                             confl = c;
                             this.qhead = this.trail.size();
                             while (iInd < ws.size()) {
-                                ws.set(jInd++, ws.get(iInd++));
+                                ws.move(iInd++, jInd++);
                             }
                         } else {
                             uncheckedEnqueue(first, c);
@@ -615,7 +638,7 @@ public class MiniCard extends MiniSatStyleSolver {
      */
     protected void detachAtMost(final MSClause c) {
         for (int i = 0; i < c.atMostWatchers(); i++) {
-            this.watches.get(c.get(i)).remove(new MSWatcher(c, c.get(i)));
+            this.watches.get(c.get(i)).remove(c);
         }
         this.clausesLiterals -= c.size();
     }
@@ -661,6 +684,7 @@ public class MiniCard extends MiniSatStyleSolver {
                     }
                     uncheckedEnqueue(learntClause.get(0), cr);
                 }
+                exportLearntClause(learntClause);
                 decayActivities();
             } else {
                 if (nofConflicts >= 0 && conflictC >= nofConflicts) {
@@ -880,11 +904,12 @@ public class MiniCard extends MiniSatStyleSolver {
     protected void simpleRemoveClause(final MSClause c) {
         if (c.isAtMost()) {
             for (int i = 0; i < c.atMostWatchers(); i++) {
-                this.watches.get(c.get(i)).remove(new MSWatcher(c, c.get(i)));
+                this.watches.get(c.get(i)).remove(c);
             }
         } else {
-            this.watches.get(not(c.get(0))).remove(new MSWatcher(c, c.get(1)));
-            this.watches.get(not(c.get(1))).remove(new MSWatcher(c, c.get(0)));
+            final LNGVector<MSWatchList> ws = c.size() == 2 ? this.watchesBin : this.watches;
+            ws.get(not(c.get(0))).remove(c);
+            ws.get(not(c.get(1))).remove(c);
         }
     }
 }
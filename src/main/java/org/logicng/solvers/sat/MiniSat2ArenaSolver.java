@@ -0,0 +1,1034 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+/*
+ * MiniSat -- Copyright (c) 2003-2006, Niklas Een, Niklas Sorensson
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT
+ * OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.logicng.solvers.sat;
+
+import static org.logicng.handlers.Handler.start;
+import static org.logicng.handlers.SATHandler.finishSolving;
+import static org.logicng.solvers.datastructures.MSClauseArena.CREF_UNDEF;
+
+import org.logicng.collections.LNGBooleanVector;
+import org.logicng.collections.LNGIntVector;
+import org.logicng.collections.LNGVector;
+import org.logicng.datastructures.Tristate;
+import org.logicng.handlers.SATHandler;
+import org.logicng.propositions.Proposition;
+import org.logicng.solvers.datastructures.MSClause;
+import org.logicng.solvers.datastructures.MSClauseArena;
+import org.logicng.solvers.datastructures.MSVariable;
+
+/**
+ * A solver based on MiniSAT 2.2.0 which stores its clauses in a {@link MSClauseArena}.
+ * <p>
+ * The solver behaves like the {@link MiniSat2Solver}, but instead of one {@link MSClause} object per clause and one
+ * watcher object per watch, all clauses are stored consecutively in one integer array and referenced by their
+ * position in this array.  The watch list of a literal is an integer vector of (clause reference, blocker) pairs and
+ * the reasons of the assignments are stored as clause references.  Deleted clauses are reclaimed by a compacting
+ * garbage collection as soon as they occupy more than 20% of the arena.  This avoids millions of small objects on
+ * large industrial formulas and improves the memory locality of the unit propagation.
+ * <p>
+ * The solver is selected by {@link MiniSatConfig.ClauseStorage#ARENA}.  Since it does not use clause objects, the
+ * methods of the super class which operate on {@link MSClause} objects are not supported.  {@link #clauses()} returns
+ * copies of the original clauses.
+ * @version 2.3.0
+ * @since 2.3.0
+ */
+public class MiniSat2ArenaSolver extends MiniSatStyleSolver {
+
+    protected static final double GARBAGE_FRACTION = 0.2;
+
+    protected MSClauseArena arena;
+    protected LNGIntVector clauseRefs;
+    protected LNGIntVector learntRefs;
+    protected LNGVector<LNGIntVector> watchLists;
+    protected LNGIntVector reasons;
+    protected LNGIntVector unitClauses;
+
+    /**
+     * Constructs a new MiniSAT 2 arena solver with the default values for solver configuration.  By default,
+     * incremental mode is activated.
+     */
+    public MiniSat2ArenaSolver() {
+        this(MiniSatConfig.builder().clauseStorage(MiniSatConfig.ClauseStorage.ARENA).build());
+    }
+
+    /**
+     * Constructs a new MiniSAT 2 arena solver with a given solver configuration.
+     * @param config the solver configuration
+     */
+    public MiniSat2ArenaSolver(final MiniSatConfig config) {
+        super(config);
+        this.initializeMiniSAT();
+    }
+
+    /**
+     * Initializes the additional parameters.
+     */
+    protected void initializeMiniSAT() {
+        this.arena = new MSClauseArena(1024);
+        this.clauseRefs = new LNGIntVector();
+        this.learntRefs = new LNGIntVector();
+        this.watchLists = new LNGVector<>();
+        this.reasons = new LNGIntVector();
+        this.unitClauses = new LNGIntVector();
+        this.learntsizeAdjustConfl = 0;
+        this.learntsizeAdjustCnt = 0;
+        this.learntsizeAdjustStartConfl = 100;
+        this.learntsizeAdjustInc = 1.5;
+        this.maxLearnts = 0;
+    }
+
+    @Override
+    public int newVar(final boolean sign, final boolean dvar) {
+        final int v = this.vars.size();
+        final MSVariable newVar = new MSVariable(sign);
+        this.vars.push(newVar);
+        this.watchLists.push(new LNGIntVector());
+        this.watchLists.push(new LNGIntVector());
+        this.reasons.push(CREF_UNDEF);
+        this.seen.push(false);
+        newVar.setDecision(dvar);
+        insertVarOrder(v);
+        return v;
+    }
+
+    @Override
+    public boolean addClause(final LNGIntVector ps, final Proposition proposition) {
+        assert decisionLevel() == 0;
+        int p;
+        int i;
+        int j;
+        if (this.config.proofGeneration) {
+            final LNGIntVector vec = new LNGIntVector(ps.size());
+            for (i = 0; i < ps.size(); i++) {
+                vec.push((var(ps.get(i)) + 1) * (-2 * (sign(ps.get(i)) ? 1 : 0) + 1));
+            }
+            this.pgOriginalClauses.push(new ProofInformation(vec, proposition));
+        }
+        if (!this.ok) {
+            return false;
+        }
+        ps.sort();
+
+        boolean flag = false;
+        LNGIntVector oc = null;
+        if (this.config.proofGeneration) {
+            oc = new LNGIntVector();
+            for (i = 0, p = LIT_UNDEF; i < ps.size(); i++) {
+                oc.push(ps.get(i));
+                if (value(ps.get(i)) == Tristate.TRUE || ps.get(i) == not(p) || value(ps.get(i)) == Tristate.FALSE) {
+                    flag = true;
+                }
+            }
+        }
+
+        for (i = 0, j = 0, p = LIT_UNDEF; i < ps.size(); i++) {
+            if (value(ps.get(i)) == Tristate.TRUE || ps.get(i) == not(p)) {
+                return true;
+            } else if (value(ps.get(i)) != Tristate.FALSE && ps.get(i) != p) {
+                p = ps.get(i);
+                ps.set(j++, p);
+            }
+        }
+        ps.removeElements(i - j);
+
+        if (flag) {
+            LNGIntVector vec = new LNGIntVector(ps.size() + 1);
+            vec.push(1);
+            for (i = 0; i < ps.size(); i++) {
+                vec.push((var(ps.get(i)) + 1) * (-2 * (sign(ps.get(i)) ? 1 : 0) + 1));
+            }
+            this.pgProof.push(vec);
+
+            vec = new LNGIntVector(oc.size() + 1);
+            vec.push(-1);
+            for (i = 0; i < oc.size(); i++) {
+                vec.push((var(oc.get(i)) + 1) * (-2 * (sign(oc.get(i)) ? 1 : 0) + 1));
+            }
+            this.pgProof.push(vec);
+        }
+
+        if (ps.empty()) {
+            this.ok = false;
+            if (this.config.proofGeneration) {
+                this.pgProof.push(new LNGIntVector(1, 0));
+            }
+            return false;
+        } else if (ps.size() == 1) {
+            uncheckedEnqueue(ps.get(0), CREF_UNDEF);
+            this.ok = propagateArena() == CREF_UNDEF;
+            if (this.incremental) {
+                this.unitClauses.push(ps.get(0));
+            }
+            if (!this.ok && this.config.proofGeneration) {
+                this.pgProof.push(new LNGIntVector(1, 0));
+            }
+            return this.ok;
+        } else {
+            final int cref = this.arena.alloc(ps, false);
+            this.clauseRefs.push(cref);
+            attachClause(cref);
+        }
+        return true;
+    }
+
+    @Override
+    public Tristate solve(final SATHandler handler) {
+        this.handler = handler;
+        start(handler);
+        this.model.clear();
+        this.conflict.clear();
+        if (!this.ok) {
+            return Tristate.FALSE;
+        }
+        this.learntsizeAdjustConfl = this.learntsizeAdjustStartConfl;
+        this.learntsizeAdjustCnt = (int) this.learntsizeAdjustConfl;
+        this.maxLearnts = this.clauseRefs.size() * this.learntsizeFactor;
+        Tristate status = Tristate.UNDEF;
+        int currRestarts = 0;
+        while (status == Tristate.UNDEF && !this.canceledByHandler) {
+            if (decisionLevel() == 0 && !importLearntClauses()) {
+                status = Tristate.FALSE;
+            } else {
+                final double restBase = luby(this.restartInc, currRestarts);
+                status = search((int) (restBase * this.restartFirst));
+                currRestarts++;
+            }
+        }
+
+        if (this.config.proofGeneration) {
+            if (status == Tristate.FALSE) {
+                this.pgProof.push(new LNGIntVector(1, 0));
+            }
+        }
+
+        if (status == Tristate.TRUE) {
+            this.model = new LNGBooleanVector(this.vars.size());
+            for (final MSVariable v : this.vars) {
+                this.model.push(v.assignment() == Tristate.TRUE);
+            }
+        } else if (status == Tristate.FALSE && this.conflict.empty()) {
+            this.ok = false;
+        }
+        finishSolving(handler);
+        cancelUntil(0);
+        this.handler = null;
+        this.canceledByHandler = false;
+        return status;
+    }
+
+    @Override
+    public void reset() {
+        super.initialize();
+        this.initializeMiniSAT();
+    }
+
+    /**
+     * Saves and returns the solver state expressed as an integer array which stores the length of the internal data
+     * structures.  The array has length 7 and has the following layout:
+     * <p>
+     * {@code | current solver state | #vars | #clauses | #learnt clauses | #unit clauses | #pg original | #pg proof}
+     * @return the current solver state
+     */
+    @Override
+    public int[] saveState() {
+        if (!this.incremental) {
+            throw new IllegalStateException("Cannot save a state when the incremental mode is deactivated");
+        }
+        final int[] state;
+        state = new int[7];
+        state[0] = this.ok ? 1 : 0;
+        state[1] = this.vars.size();
+        state[2] = this.clauseRefs.size();
+        state[3] = this.learntRefs.size();
+        state[4] = this.unitClauses.size();
+        if (this.config.proofGeneration) {
+            state[5] = this.pgOriginalClauses.size();
+            state[6] = this.pgProof.size();
+        }
+        return state;
+    }
+
+    @Override
+    public void loadState(final int[] state) {
+        if (!this.incremental) {
+            throw new IllegalStateException("Cannot load a state when the incremental mode is deactivated");
+        }
+        int i;
+        completeBacktrack();
+        this.ok = state[0] == 1;
+        final int newVarsSize = Math.min(state[1], this.vars.size());
+        for (i = this.vars.size() - 1; i >= newVarsSize; i--) {
+            this.orderHeap.remove(this.name2idx.remove(this.idx2name.remove(i)));
+        }
+        this.vars.shrinkTo(newVarsSize);
+        final int newClausesSize = Math.min(state[2], this.clauseRefs.size());
+        for (i = this.clauseRefs.size() - 1; i >= newClausesSize; i--) {
+            simpleRemoveClause(this.clauseRefs.get(i));
+        }
+        this.clauseRefs.shrinkTo(newClausesSize);
+        final int newLearntsSize = Math.min(state[3], this.learntRefs.size());
+        for (i = this.learntRefs.size() - 1; i >= newLearntsSize; i--) {
+            simpleRemoveClause(this.learntRefs.get(i));
+        }
+        this.learntRefs.shrinkTo(newLearntsSize);
+        this.watchLists.shrinkTo(newVarsSize * 2);
+        this.reasons.shrinkTo(newVarsSize);
+        checkGarbage();
+        this.unitClauses.shrinkTo(state[4]);
+        for (i = 0; this.ok && i < this.unitClauses.size(); i++) {
+            uncheckedEnqueue(this.unitClauses.get(i), CREF_UNDEF);
+            this.ok = propagateArena() == CREF_UNDEF;
+        }
+        if (this.config.proofGeneration) {
+            final int newPgOriginalSize = Math.min(state[5], this.pgOriginalClauses.size());
+            this.pgOriginalClauses.shrinkTo(newPgOriginalSize);
+            final int newPgProofSize = Math.min(state[6], this.pgProof.size());
+            this.pgProof.shrinkTo(newPgProofSize);
+        }
+    }
+
+    /**
+     * Returns copies of the original clauses loaded on the solver.
+     * @return copies of the original clauses loaded on the solver
+     */
+    @Override
+    public LNGVector<MSClause> clauses() {
+        final LNGVector<MSClause> result = new LNGVector<>(this.clauseRefs.size());
+        for (int i = 0; i < this.clauseRefs.size(); i++) {
+            result.push(new MSClause(literals(this.clauseRefs.get(i)), false));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the clause arena of this solver.
+     * @return the clause arena
+     */
+    public MSClauseArena arena() {
+        return this.arena;
+    }
+
+    /**
+     * Assigns a literal (= a variable to the respective value).
+     * @param lit    the literal
+     * @param reason the reference of the reason clause of the assignment or {@link MSClauseArena#CREF_UNDEF} if it
+     *               was a decision
+     */
+    protected void uncheckedEnqueue(final int lit, final int reason) {
+        assert value(lit) == Tristate.UNDEF;
+        final MSVariable var = v(lit);
+        var.assign(Tristate.fromBool(!sign(lit)));
+        this.reasons.set(var(lit), reason);
+        var.setLevel(decisionLevel());
+        this.trail.push(lit);
+    }
+
+    @Override
+    protected int watchCount(final int lit) {
+        return this.watchLists.get(lit).size() / 2;
+    }
+
+    @Override
+    protected void uncheckedEnqueue(final int lit, final MSClause reason) {
+        if (reason != null) {
+            throw new UnsupportedOperationException("The arena solver does not support clause objects as reasons");
+        }
+        uncheckedEnqueue(lit, CREF_UNDEF);
+    }
+
+    /**
+     * Attaches a given clause to the solver (i.e. the watchers for this clause are initialized).
+     * @param cref the clause reference
+     */
+    protected void attachClause(final int cref) {
+        assert this.arena.size(cref) > 1;
+        final int lit0 = this.arena.get(cref, 0);
+        final int lit1 = this.arena.get(cref, 1);
+        final LNGIntVector ws0 = this.watchLists.get(not(lit0));
+        ws0.push(cref);
+        ws0.push(lit1);
+        final LNGIntVector ws1 = this.watchLists.get(not(lit1));
+        ws1.push(cref);
+        ws1.push(lit0);
+        if (this.arena.learnt(cref)) {
+            this.learntsLiterals += this.arena.size(cref);
+        } else {
+            this.clausesLiterals += this.arena.size(cref);
+        }
+    }
+
+    /**
+     * Detaches a given clause (e.g. removes all watchers pointing to this clause).
+     * @param cref the clause reference
+     */
+    protected void detachClause(final int cref) {
+        assert this.arena.size(cref) > 1;
+        removeWatch(this.watchLists.get(not(this.arena.get(cref, 0))), cref);
+        removeWatch(this.watchLists.get(not(this.arena.get(cref, 1))), cref);
+        if (this.arena.learnt(cref)) {
+            this.learntsLiterals -= this.arena.size(cref);
+        } else {
+            this.clausesLiterals -= this.arena.size(cref);
+        }
+    }
+
+    /**
+     * Removes a given clause and frees its memory in the arena.
+     * @param cref the clause reference
+     */
+    protected void removeClause(final int cref) {
+        if (this.config.proofGeneration) {
+            final int size = this.arena.size(cref);
+            final LNGIntVector vec = new LNGIntVector(size);
+            vec.push(-1);
+            for (int i = 0; i < size; i++) {
+                final int lit = this.arena.get(cref, i);
+                vec.push((var(lit) + 1) * (-2 * (sign(lit) ? 1 : 0) + 1));
+            }
+            this.pgProof.push(vec);
+        }
+        detachClause(cref);
+        if (locked(cref)) {
+            this.reasons.set(var(this.arena.get(cref, 0)), CREF_UNDEF);
+        }
+        this.arena.free(cref);
+    }
+
+    /**
+     * Returns {@code true} if the given clause is locked and therefore cannot be removed, {@code false} otherwise.
+     * @param cref the clause reference
+     * @return {@code true} if the given clause is locked
+     */
+    protected boolean locked(final int cref) {
+        final int lit0 = this.arena.get(cref, 0);
+        return value(lit0) == Tristate.TRUE && this.reasons.get(var(lit0)) == cref;
+    }
+
+    /**
+     * Bumps the activity of the given learnt clause.
+     * @param cref the clause reference
+     */
+    protected void claBumpActivity(final int cref) {
+        final double activity = this.arena.activity(cref) + this.claInc;
+        this.arena.setActivity(cref, activity);
+        if (activity > 1e20) {
+            for (int i = 0; i < this.learntRefs.size(); i++) {
+                final int learnt = this.learntRefs.get(i);
+                this.arena.setActivity(learnt, this.arena.activity(learnt) * 1e-20);
+            }
+            this.claInc *= 1e-20;
+        }
+    }
+
+    /**
+     * Performs unit propagation.
+     * @return the reference of the conflicting clause if a conflict arose during unit propagation or
+     * {@link MSClauseArena#CREF_UNDEF} if there was none
+     */
+    protected int propagateArena() {
+        int confl = CREF_UNDEF;
+        int numProps = 0;
+        while (this.qhead < this.trail.size()) {
+            final int p = this.trail.get(this.qhead++);
+            final LNGIntVector ws = this.watchLists.get(p);
+            final int falseLit = not(p);
+            int iInd = 0;
+            int jInd = 0;
+            numProps++;
+            while (iInd < ws.size()) {
+                final int cref = ws.get(iInd);
+                final int blocker = ws.get(iInd + 1);
+                if (value(blocker) == Tristate.TRUE) {
+                    ws.set(jInd++, cref);
+                    ws.set(jInd++, blocker);
+                    iInd += 2;
+                    continue;
+                }
+                if (this.arena.get(cref, 0) == falseLit) {
+                    this.arena.set(cref, 0, this.arena.get(cref, 1));
+                    this.arena.set(cref, 1, falseLit);
+                }
+                assert this.arena.get(cref, 1) == falseLit;
+                iInd += 2;
+                final int first = this.arena.get(cref, 0);
+                if (first != blocker && value(first) == Tristate.TRUE) {
+                    ws.set(jInd++, cref);
+                    ws.set(jInd++, first);
+                    continue;
+                }
+                boolean foundWatch = false;
+                final int size = this.arena.size(cref);
+                for (int k = 2; k < size && !foundWatch; k++) {
+                    final int lit = this.arena.get(cref, k);
+                    if (value(lit) != Tristate.FALSE) {
+                        this.arena.set(cref, 1, lit);
+                        this.arena.set(cref, k, falseLit);
+                        final LNGIntVector otherWs = this.watchLists.get(not(lit));
+                        otherWs.push(cref);
+                        otherWs.push(first);
+                        foundWatch = true;
+                    }
+                }
+                if (!foundWatch) {
+                    ws.set(jInd++, cref);
+                    ws.set(jInd++, first);
+                    if (value(first) == Tristate.FALSE) {
+                        confl = cref;
+                        this.qhead = this.trail.size();
+                        while (iInd < ws.size()) {
+                            ws.set(jInd++, ws.get(iInd++));
+                        }
+                    } else {
+                        uncheckedEnqueue(first, cref);
+                    }
+                }
+            }
+            ws.removeElements(iInd - jInd);
+        }
+        this.simpDBProps -= numProps;
+        return confl;
+    }
+
+    @Override
+    protected MSClause propagate() {
+        final int confl = propagateArena();
+        return confl == CREF_UNDEF ? null : new MSClause(literals(confl), this.arena.learnt(confl));
+    }
+
+    @Override
+    protected boolean litRedundant(final int p, final int abstractLevels) {
+        this.analyzeStack.clear();
+        this.analyzeStack.push(p);
+        final int top = this.analyzeToClear.size();
+        while (this.analyzeStack.size() > 0) {
+            assert this.reasons.get(var(this.analyzeStack.back())) != CREF_UNDEF;
+            final int c = this.reasons.get(var(this.analyzeStack.back()));
+            this.analyzeStack.pop();
+            for (int i = 1; i < this.arena.size(c); i++) {
+                final int q = this.arena.get(c, i);
+                if (!this.seen.get(var(q)) && v(q).level() > 0) {
+                    if (this.reasons.get(var(q)) != CREF_UNDEF && (abstractLevel(var(q)) & abstractLevels) != 0) {
+                        this.seen.set(var(q), true);
+                        this.analyzeStack.push(q);
+                        this.analyzeToClear.push(q);
+                    } else {
+                        for (int j = top; j < this.analyzeToClear.size(); j++) {
+                            this.seen.set(var(this.analyzeToClear.get(j)), false);
+                        }
+                        this.analyzeToClear.removeElements(this.analyzeToClear.size() - top);
+                        return false;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    protected void analyzeFinal(final int p, final LNGIntVector outConflict) {
+        outConflict.clear();
+        outConflict.push(p);
+        if (decisionLevel() == 0) {
+            return;
+        }
+        this.seen.set(var(p), true);
+        int x;
+        for (int i = this.trail.size() - 1; i >= this.trailLim.get(0); i--) {
+            x = var(this.trail.get(i));
+            if (this.seen.get(x)) {
+                final int c = this.reasons.get(x);
+                if (c == CREF_UNDEF) {
+                    assert this.vars.get(x).level() > 0;
+                    outConflict.push(not(this.trail.get(i)));
+                } else {
+                    for (int j = 1; j < this.arena.size(c); j++) {
+                        if (v(this.arena.get(c, j)).level() > 0) {
+                            this.seen.set(var(this.arena.get(c, j)), true);
+                        }
+                    }
+                }
+                this.seen.set(x, false);
+            }
+        }
+        this.seen.set(var(p), false);
+    }
+
+    @Override
+    protected void reduceDB() {
+        int i;
+        int j;
+        final double extraLim = this.claInc / this.learntRefs.size();
+        sortLearnts();
+        for (i = j = 0; i < this.learntRefs.size(); i++) {
+            final int c = this.learntRefs.get(i);
+            if (this.arena.size(c) > 2 && !locked(c) && (i < this.learntRefs.size() / 2 || this.arena.activity(c) < extraLim)) {
+                removeClause(c);
+            } else {
+                this.learntRefs.set(j++, c);
+            }
+        }
+        this.learntRefs.removeElements(i - j);
+        checkGarbage();
+    }
+
+    /**
+     * Sorts the learnt clauses like the {@link MSClause#minisatComparator}.
+     */
+    protected void sortLearnts() {
+        final LNGVector<Integer> refs = new LNGVector<>(this.learntRefs.size());
+        for (int i = 0; i < this.learntRefs.size(); i++) {
+            refs.push(this.learntRefs.get(i));
+        }
+        refs.manualSort((x, y) -> this.arena.size(x) > 2 && (this.arena.size(y) == 2 || this.arena.activity(x) < this.arena.activity(y)) ? -1 : 1);
+        for (int i = 0; i < refs.size(); i++) {
+            this.learntRefs.set(i, refs.get(i));
+        }
+    }
+
+    /**
+     * Removes all clauses which are satisfied under the current assignment of a set of clauses.
+     * @param cs the references of the set of clauses
+     */
+    protected void removeSatisfied(final LNGIntVector cs) {
+        int i;
+        int j;
+        for (i = j = 0; i < cs.size(); i++) {
+            final int c = cs.get(i);
+            if (satisfied(c)) {
+                removeClause(c);
+            } else {
+                assert value(this.arena.get(c, 0)) == Tristate.UNDEF && value(this.arena.get(c, 1)) == Tristate.UNDEF;
+                if (!this.config.proofGeneration) {
+                    // This simplification does not work with proof generation
+                    for (int k = 2; k < this.arena.size(c); k++) {
+                        if (value(this.arena.get(c, k)) == Tristate.FALSE) {
+                            this.arena.set(c, k--, this.arena.get(c, this.arena.size(c) - 1));
+                            this.arena.pop(c);
+                        }
+                    }
+                }
+                cs.set(j++, c);
+            }
+        }
+        cs.removeElements(i - j);
+    }
+
+    /**
+     * Returns {@code true} if a given clause is satisfied under the current assignment, {@code false} otherwise.
+     * @param cref the clause reference
+     * @return {@code true} if a given clause is satisfied under the current assignment
+     */
+    protected boolean satisfied(final int cref) {
+        for (int i = 0; i < this.arena.size(cref); i++) {
+            if (value(this.arena.get(cref, i)) == Tristate.TRUE) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    protected boolean simplify() {
+        assert decisionLevel() == 0;
+        if (!this.ok || propagateArena() != CREF_UNDEF) {
+            this.ok = false;
+            return false;
+        }
+        if (nAssigns() == this.simpDBAssigns || (this.simpDBProps > 0)) {
+            return true;
+        }
+        removeSatisfied(this.learntRefs);
+        if (this.shouldRemoveSatsisfied) {
+            removeSatisfied(this.clauseRefs);
+        }
+        checkGarbage();
+        rebuildOrderHeap();
+        this.simpDBAssigns = nAssigns();
+        this.simpDBProps = this.clausesLiterals + this.learntsLiterals;
+        return true;
+    }
+
+    /**
+     * The main search procedure of the CDCL algorithm.
+     * @param nofConflicts the number of conflicts till the next restart
+     * @return a {@link Tristate} representing the result.  {@code FALSE} if the formula is UNSAT, {@code TRUE} if the
+     * formula is SAT, and {@code UNDEF} if the state is not known yet (restart) or the handler canceled the computation
+     */
+    protected Tristate search(final int nofConflicts) {
+        if (!this.ok) {
+            return Tristate.FALSE;
+        }
+        int conflictC = 0;
+        this.selectionOrderIdx = 0;
+        while (true) {
+            final int confl = propagateArena();
+            if (confl != CREF_UNDEF) {
+                if (this.handler != null && !this.handler.detectedConflict()) {
+                    this.canceledByHandler = true;
+                    return Tristate.UNDEF;
+                }
+                conflictC++;
+                if (decisionLevel() == 0) {
+                    return Tristate.FALSE;
+                }
+                final LNGIntVector learntClause = new LNGIntVector();
+                analyze(confl, learntClause);
+                cancelUntil(this.analyzeBtLevel);
+                if (this.analyzeBtLevel < this.selectionOrder.size()) {
+                    this.selectionOrderIdx = this.analyzeBtLevel;
+                }
+
+                if (this.config.proofGeneration) {
+                    final LNGIntVector vec = new LNGIntVector(learntClause.size());
+                    vec.push(1);
+                    for (int i = 0; i < learntClause.size(); i++) {
+                        vec.push((var(learntClause.get(i)) + 1) * (-2 * (sign(learntClause.get(i)) ? 1 : 0) + 1));
+                    }
+                    this.pgProof.push(vec);
+                }
+
+                if (learntClause.size() == 1) {
+                    uncheckedEnqueue(learntClause.get(0), CREF_UNDEF);
+                    this.unitClauses.push(learntClause.get(0));
+                } else {
+                    final int cr = this.arena.alloc(learntClause, true);
+                    this.learntRefs.push(cr);
+                    attachClause(cr);
+                    if (!this.incremental) {
+                        claBumpActivity(cr);
+                    }
+                    uncheckedEnqueue(learntClause.get(0), cr);
+                }
+                exportLearntClause(learntClause);
+                decayActivities();
+            } else {
+                if (nofConflicts >= 0 && conflictC >= nofConflicts) {
+                    cancelUntil(0);
+                    return Tristate.UNDEF;
+                }
+                if (!this.incremental) {
+                    if (decisionLevel() == 0 && !simplify()) {
+                        return Tristate.FALSE;
+                    }
+                    if (this.learntRefs.size() - nAssigns() >= this.maxLearnts) {
+                        reduceDB();
+                    }
+                }
+                int next = LIT_UNDEF;
+                while (decisionLevel() < this.assumptions.size()) {
+                    final int p = this.assumptions.get(decisionLevel());
+                    if (value(p) == Tristate.TRUE) {
+                        this.trailLim.push(this.trail.size());
+                    } else if (value(p) == Tristate.FALSE) {
+                        analyzeFinal(not(p), this.conflict);
+                        return Tristate.FALSE;
+                    } else {
+                        next = p;
+                        break;
+                    }
+                }
+                if (next == LIT_UNDEF) {
+                    next = pickBranchLit();
+                    if (next == LIT_UNDEF) {
+                        return Tristate.TRUE;
+                    }
+                }
+                this.trailLim.push(this.trail.size());
+                uncheckedEnqueue(next, CREF_UNDEF);
+            }
+        }
+    }
+
+    /**
+     * Analyzes a given conflict clause wrt. the current solver state.  A 1-UIP clause is created during this procedure
+     * and the new backtracking level is stored in the solver state.
+     * @param conflictClause the reference of the conflict clause to start the resolution analysis with
+     * @param outLearnt      the vector where the new learnt 1-UIP clause is stored
+     */
+    protected void analyze(final int conflictClause, final LNGIntVector outLearnt) {
+        int c = conflictClause;
+        int pathC = 0;
+        int p = LIT_UNDEF;
+        outLearnt.push(-1);
+        int index = this.trail.size() - 1;
+        do {
+            assert c != CREF_UNDEF;
+            if (!this.incremental && this.arena.learnt(c)) {
+                claBumpActivity(c);
+            }
+            final int size = this.arena.size(c);
+            for (int j = (p == LIT_UNDEF) ? 0 : 1; j < size; j++) {
+                final int q = this.arena.get(c, j);
+                if (!this.seen.get(var(q)) && v(q).level() > 0) {
+                    varBumpActivity(var(q));
+                    this.seen.set(var(q), true);
+                    if (v(q).level() >= decisionLevel()) {
+                        pathC++;
+                    } else {
+                        outLearnt.push(q);
+                    }
+                }
+            }
+            while (!this.seen.get(var(this.trail.get(index--)))) {
+            }
+            p = this.trail.get(index + 1);
+            c = this.reasons.get(var(p));
+            this.seen.set(var(p), false);
+            pathC--;
+        } while (pathC > 0);
+        outLearnt.set(0, not(p));
+        simplifyClause(outLearnt);
+    }
+
+    /**
+     * Minimizes a given learnt clause depending on the minimization method of the solver configuration.
+     * @param outLearnt the learnt clause which should be minimized
+     */
+    protected void simplifyClause(final LNGIntVector outLearnt) {
+        int i;
+        int j;
+        this.analyzeToClear = new LNGIntVector(outLearnt);
+        if (this.ccminMode == MiniSatConfig.ClauseMinimization.DEEP) {
+            int abstractLevel = 0;
+            for (i = 1; i < outLearnt.size(); i++) {
+                abstractLevel |= abstractLevel(var(outLearnt.get(i)));
+            }
+            for (i = j = 1; i < outLearnt.size(); i++) {
+                if (this.reasons.get(var(outLearnt.get(i))) == CREF_UNDEF || !litRedundant(outLearnt.get(i), abstractLevel)) {
+                    outLearnt.set(j++, outLearnt.get(i));
+                }
+            }
+        } else if (this.ccminMode == MiniSatConfig.ClauseMinimization.BASIC) {
+            for (i = j = 1; i < outLearnt.size(); i++) {
+                final int c = this.reasons.get(var(outLearnt.get(i)));
+                if (c == CREF_UNDEF) {
+                    outLearnt.set(j++, outLearnt.get(i));
+                } else {
+                    for (int k = 1; k < this.arena.size(c); k++) {
+                        if (!this.seen.get(var(this.arena.get(c, k))) && v(this.arena.get(c, k)).level() > 0) {
+                            outLearnt.set(j++, outLearnt.get(i));
+                            break;
+                        }
+                    }
+                }
+            }
+        } else {
+            i = j = outLearnt.size();
+        }
+        outLearnt.removeElements(i - j);
+        this.analyzeBtLevel = 0;
+        if (outLearnt.size() > 1) {
+            int max = 1;
+            for (int k = 2; k < outLearnt.size(); k++) {
+                if (v(outLearnt.get(k)).level() > v(outLearnt.get(max)).level()) {
+                    max = k;
+                }
+            }
+            final int p = outLearnt.get(max);
+            outLearnt.set(max, outLearnt.get(1));
+            outLearnt.set(1, p);
+            this.analyzeBtLevel = v(p).level();
+        }
+        for (int l = 0; l < this.analyzeToClear.size(); l++) {
+            this.seen.set(var(this.analyzeToClear.get(l)), false);
+        }
+    }
+
+    /**
+     * Performs an unconditional backtrack to level zero.
+     */
+    protected void completeBacktrack() {
+        for (int v = 0; v < this.vars.size(); v++) {
+            final MSVariable var = this.vars.get(v);
+            var.assign(Tristate.UNDEF);
+            this.reasons.set(v, CREF_UNDEF);
+            if (!this.orderHeap.inHeap(v) && var.decision()) {
+                this.orderHeap.insert(v);
+            }
+        }
+        this.trail.clear();
+        this.trailLim.clear();
+        this.qhead = 0;
+    }
+
+    /**
+     * Performs a simple removal of clauses used during the loading of an older state.
+     * @param cref the clause reference
+     */
+    protected void simpleRemoveClause(final int cref) {
+        removeWatch(this.watchLists.get(not(this.arena.get(cref, 0))), cref);
+        removeWatch(this.watchLists.get(not(this.arena.get(cref, 1))), cref);
+        this.arena.free(cref);
+    }
+
+    /**
+     * Performs a garbage collection of the clause arena if the deleted clauses occupy too much memory.
+     */
+    protected void checkGarbage() {
+        if (this.arena.wasted() > this.arena.size() * GARBAGE_FRACTION) {
+            garbageCollect();
+        }
+    }
+
+    /**
+     * Copies all live clauses to a new compact arena and updates all clause references.
+     */
+    protected void garbageCollect() {
+        final MSClauseArena to = new MSClauseArena(this.arena.size() - this.arena.wasted());
+        for (int i = 0; i < this.watchLists.size(); i++) {
+            final LNGIntVector ws = this.watchLists.get(i);
+            for (int j = 0; j < ws.size(); j += 2) {
+                ws.set(j, this.arena.relocate(ws.get(j), to));
+            }
+        }
+        for (int i = 0; i < this.trail.size(); i++) {
+            final int v = var(this.trail.get(i));
+            final int reason = this.reasons.get(v);
+            if (reason != CREF_UNDEF) {
+                this.reasons.set(v, this.arena.relocate(reason, to));
+            }
+        }
+        for (int i = 0; i < this.learntRefs.size(); i++) {
+            this.learntRefs.set(i, this.arena.relocate(this.learntRefs.get(i), to));
+        }
+        for (int i = 0; i < this.clauseRefs.size(); i++) {
+            this.clauseRefs.set(i, this.arena.relocate(this.clauseRefs.get(i), to));
+        }
+        this.arena = to;
+    }
+
+    @Override
+    protected boolean isRotatable(final int lit) {
+        // A rotatable literal MUST NOT be a unit propagated literal
+        if (this.reasons.get(var(lit)) != CREF_UNDEF) {
+            return false;
+        }
+        // A rotatable literal MUST NOT be unit
+        final LNGIntVector ws = this.watchLists.get(not(lit));
+        for (int i = 0; i < ws.size(); i += 2) {
+            if (isUnit(lit, ws.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Tests the given literal whether it is unit in the given clause.
+     * @param lit  literal to test
+     * @param cref reference of the clause containing the literal
+     * @return {@code true} if the literal is unit, {@code false} otherwise
+     */
+    protected boolean isUnit(final int lit, final int cref) {
+        for (int i = 0; i < this.arena.size(cref); ++i) {
+            final int clauseLit = this.arena.get(cref, i);
+            if (lit != clauseLit && this.model.get(var(clauseLit)) != sign(clauseLit)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    protected void attachClause(final MSClause c) {
+        throw new UnsupportedOperationException("The arena solver does not support clause objects");
+    }
+
+    @Override
+    protected void detachClause(final MSClause c) {
+        throw new UnsupportedOperationException("The arena solver does not support clause objects");
+    }
+
+    @Override
+    protected void removeClause(final MSClause c) {
+        throw new UnsupportedOperationException("The arena solver does not support clause objects");
+    }
+
+    @Override
+    protected void removeSatisfied(final LNGVector<MSClause> cs) {
+        throw new UnsupportedOperationException("The arena solver does not support clause objects");
+    }
+
+    @Override
+    protected boolean satisfied(final MSClause c) {
+        throw new UnsupportedOperationException("The arena solver does not support clause objects");
+    }
+
+    private LNGIntVector literals(final int cref) {
+        final LNGIntVector lits = new LNGIntVector(this.arena.size(cref));
+        for (int i = 0; i < this.arena.size(cref); i++) {
+            lits.push(this.arena.get(cref, i));
+        }
+        return lits;
+    }
+
+    private static void removeWatch(final LNGIntVector ws, final int cref) {
+        for (int i = 0; i < ws.size(); i += 2) {
+            if (ws.get(i) == cref) {
+                for (int j = i + 2; j < ws.size(); j++) {
+                    ws.set(j - 2, ws.get(j));
+                }
+                ws.removeElements(2);
+                return;
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder();
+        sb.append("ok            ").append(this.ok).append(System.lineSeparator());
+        sb.append("qhead         ").append(this.qhead).append(System.lineSeparator());
+        sb.append("#clauses      ").append(this.clauseRefs.size()).append(System.lineSeparator());
+        sb.append("#learnts      ").append(this.learntRefs.size()).append(System.lineSeparator());
+        sb.append("#watches      ").append(this.watchLists.size()).append(System.lineSeparator());
+        sb.append("#vars         ").append(this.vars.size()).append(System.lineSeparator());
+        sb.append("#orderheap    ").append(this.orderHeap.size()).append(System.lineSeparator());
+        sb.append("#trail        ").append(this.trail.size()).append(System.lineSeparator());
+        sb.append("#trailLim     ").append(this.trailLim.size()).append(System.lineSeparator());
+        sb.append("arena         ").append(this.arena).append(System.lineSeparator());
+        return sb.toString();
+    }
+}
@@ -47,15 +47,27 @@ package org.logicng.solvers.sat;
 import static org.logicng.handlers.Handler.start;
 import static org.logicng.handlers.SATHandler.finishSolving;
 
+import org.logicng.backbones.Backbone;
+import org.logicng.backbones.BackboneType;
 import org.logicng.collections.LNGBooleanVector;
 import org.logicng.collections.LNGIntVector;
+import org.logicng.collections.LNGLongVector;
 import org.logicng.collections.LNGVector;
 import org.logicng.datastructures.Tristate;
+import org.logicng.formulas.CType;
+import org.logicng.formulas.Literal;
+import org.logicng.formulas.Variable;
 import org.logicng.handlers.SATHandler;
 import org.logicng.propositions.Proposition;
 import org.logicng.solvers.datastructures.MSClause;
 import org.logicng.solvers.datastructures.MSVariable;
-import org.logicng.solvers.datastructures.MSWatcher;
+import org.logicng.solvers.datastructures.MSWatchList;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * A solver based on MiniSAT 2.2.0.  If the incremental mode is deactivated, this version should behave exactly
@@ -65,12 +77,22 @@ import org.logicng.solvers.datastructures.MSWatcher;
  * Therefore clause deletion and simplifications are deactivated in this mode.  This mode is most efficient on small
  * to mid-size industrial formulas (up to 50,000 variables, 100,000 clauses).  Whenever you have lots of small formulas
  * to solve or need the ability to add and delete formulas from the solver, we recommend to consider this mode.
- * @version 2.1.0
+ * <p>
+ * If preprocessing is activated in the configuration, the original clauses are simplified by a {@link SatElite}
+ * preprocessor before solving.
+ * <p>
+ * If Gaussian elimination is activated in the configuration, the solver supports native XOR constraints which are
+ * propagated by a {@link GaussianElimination} module during the search.  If pseudo-Boolean propagation is activated,
+ * the solver supports native pseudo-Boolean constraints which are propagated by a {@link PBPropagator}.
+ * @version 2.3.0
  * @since 1.0
  */
 public class MiniSat2Solver extends MiniSatStyleSolver {
 
     protected LNGIntVector unitClauses;
+    protected SatElite preprocessor;
+    protected GaussianElimination gauss;
+    protected PBPropagator pbPropagator;
 
     /**
      * Constructs a new MiniSAT 2 solver with the default values for solver configuration.  By default, incremental mode
@@ -94,6 +116,10 @@ public class MiniSat2Solver extends MiniSatStyleSolver {
      */
     protected void initializeMiniSAT() {
         this.unitClauses = new LNGIntVector();
+        this.preprocessor = this.config.preprocessing && !this.config.proofGeneration ? new SatElite(this) : null;
+        this.branchingHeuristic = BranchingHeuristic.create(this, this.config.decisionHeuristic);
+        this.gauss = this.config.gaussianElimination && !this.config.proofGeneration ? new GaussianElimination(this) : null;
+        this.pbPropagator = this.config.pbPropagation && !this.config.proofGeneration ? new PBPropagator(this) : null;
         this.learntsizeAdjustConfl = 0;
         this.learntsizeAdjustCnt = 0;
         this.learntsizeAdjustStartConfl = 100;
@@ -106,17 +132,30 @@ public class MiniSat2Solver extends MiniSatStyleSolver {
         final int v = this.vars.size();
         final MSVariable newVar = new MSVariable(sign);
         this.vars.push(newVar);
-        this.watches.push(new LNGVector<>());
-        this.watches.push(new LNGVector<>());
+        this.watches.push(new MSWatchList());
+        this.watches.push(new MSWatchList());
+        this.watchesBin.push(new MSWatchList());
+        this.watchesBin.push(new MSWatchList());
         this.seen.push(false);
         newVar.setDecision(dvar);
+        if (this.branchingHeuristic != null) {
+            this.branchingHeuristic.newVar(v);
+        }
         insertVarOrder(v);
         return v;
     }
 
     @Override
     public boolean addClause(final LNGIntVector ps, final Proposition proposition) {
-        assert decisionLevel() == 0;
+        if (decisionLevel() > 0 && (!this.ok || this.preprocessor != null || this.config.proofGeneration || !prepareClauseOnKeptLevels(ps))) {
+            cancelUntil(0);
+        }
+        if (decisionLevel() > 0) {
+            final MSClause c = new MSClause(ps, false);
+            this.clauses.push(c);
+            attachClause(c);
+            return true;
+        }
         int p;
         int i;
         int j;
@@ -130,6 +169,9 @@ public class MiniSat2Solver extends MiniSatStyleSolver {
         if (!this.ok) {
             return false;
         }
+        if (this.preprocessor != null) {
+            this.preprocessor.newClause(ps);
+        }
         ps.sort();
 
         boolean flag = false;
@@ -200,6 +242,17 @@ public class MiniSat2Solver extends MiniSatStyleSolver {
         start(handler);
         this.model.clear();
         this.conflict.clear();
+        reuseAssumptionLevels();
+        if (this.preprocessor != null && this.ok) {
+            this.preprocessor.prepareAssumptions(this.assumptions);
+            this.preprocessor.preprocess();
+        }
+        if (this.ok && (this.gauss != null && this.gauss.dirty() || this.pbPropagator != null && this.pbPropagator.dirty())) {
+            cancelUntil(0);
+            this.ok = (this.gauss == null || !this.gauss.dirty() || this.gauss.rebuild())
+                    && (this.pbPropagator == null || !this.pbPropagator.dirty() || this.pbPropagator.rebuild())
+                    && propagate() == null;
+        }
         if (!this.ok) {
             return Tristate.FALSE;
         }
@@ -209,9 +262,13 @@ public class MiniSat2Solver extends MiniSatStyleSolver {
         Tristate status = Tristate.UNDEF;
         int currRestarts = 0;
         while (status == Tristate.UNDEF && !this.canceledByHandler) {
-            final double restBase = luby(this.restartInc, currRestarts);
-            status = search((int) (restBase * this.restartFirst));
-            currRestarts++;
+            if (decisionLevel() == 0 && !importLearntClauses()) {
+                status = Tristate.FALSE;
+            } else {
+                final double restBase = luby(this.restartInc, currRestarts);
+                status = search((int) (restBase * this.restartFirst));
+                currRestarts++;
+            }
         }
 
         if (this.config.proofGeneration) {
@@ -225,11 +282,14 @@ public class MiniSat2Solver extends MiniSatStyleSolver {
             for (final MSVariable v : this.vars) {
                 this.model.push(v.assignment() == Tristate.TRUE);
             }
+            if (this.preprocessor != null) {
+                this.preprocessor.extendModel(this.model);
+            }
         } else if (status == Tristate.FALSE && this.conflict.empty()) {
             this.ok = false;
         }
         finishSolving(handler);
-        cancelUntil(0);
+        keepAssumptionLevels(status);
         this.handler = null;
         this.canceledByHandler = false;
         return status;
@@ -243,9 +303,14 @@ public class MiniSat2Solver extends MiniSatStyleSolver {
 
     /**
      * Saves and returns the solver state expressed as an integer array which stores the length of the internal data
-     * structures.  The array has length 5 and has the following layout:
+     * structures.  The array has length 7 and has the following layout:
      * <p>
      * {@code | current solver state | #vars | #clauses | #learnt clauses | #unit clauses | #pg original | #pg proof}
+     * <p>
+     * If preprocessing is activated, the array has an eighth entry with the number of restored variables and the formula is preprocessed before the state is saved for the first time and not
+     * preprocessed anymore afterwards.  If Gaussian elimination or pseudo-Boolean propagation is activated, the array
+     * has length 10 and its last two entries are the number of XOR constraints and the number of native pseudo-Boolean
+     * constraints.
      * @return the current solver state
      */
     @Override
@@ -253,8 +318,12 @@ public class MiniSat2Solver extends MiniSatStyleSolver {
         if (!this.incremental) {
             throw new IllegalStateException("Cannot save a state when the incremental mode is deactivated");
         }
+        if (this.preprocessor != null) {
+            this.preprocessor.preprocess();
+            this.preprocessor.lock();
+        }
         final int[] state;
-        state = new int[7];
+        state = new int[this.gauss != null || this.pbPropagator != null ? 10 : this.preprocessor == null ? 7 : 8];
         state[0] = this.ok ? 1 : 0;
         state[1] = this.vars.size();
         state[2] = this.clauses.size();
@@ -264,6 +333,15 @@ public class MiniSat2Solver extends MiniSatStyleSolver {
             state[5] = this.pgOriginalClauses.size();
             state[6] = this.pgProof.size();
         }
+        if (this.preprocessor != null) {
+            state[7] = this.preprocessor.restoreLogSize();
+        }
+        if (this.gauss != null) {
+            state[8] = this.gauss.numXorConstraints();
+        }
+        if (this.pbPropagator != null) {
+            state[9] = this.pbPropagator.numConstraints();
+        }
         return state;
     }
 
@@ -280,6 +358,9 @@ public class MiniSat2Solver extends MiniSatStyleSolver {
             this.orderHeap.remove(this.name2idx.remove(this.idx2name.remove(i)));
         }
         this.vars.shrinkTo(newVarsSize);
+        if (this.branchingHeuristic != null) {
+            this.branchingHeuristic.shrink(newVarsSize);
+        }
         final int newClausesSize = Math.min(state[2], this.clauses.size());
         for (i = this.clauses.size() - 1; i >= newClausesSize; i--) {
             simpleRemoveClause(this.clauses.get(i));
@@ -290,7 +371,17 @@ public class MiniSat2Solver extends MiniSatStyleSolver {
             simpleRemoveClause(this.learnts.get(i));
         }
         this.learnts.shrinkTo(newLearntsSize);
+        if (this.preprocessor != null) {
+            this.preprocessor.undoRestores(state[7]);
+        }
+        if (this.gauss != null) {
+            this.gauss.shrinkTo(state[8]);
+        }
+        if (this.pbPropagator != null) {
+            this.pbPropagator.shrinkTo(state[9]);
+        }
         this.watches.shrinkTo(newVarsSize * 2);
+        this.watchesBin.shrinkTo(newVarsSize * 2);
         this.unitClauses.shrinkTo(state[4]);
         for (i = 0; this.ok && i < this.unitClauses.size(); i++) {
             uncheckedEnqueue(this.unitClauses.get(i), null);
@@ -304,21 +395,216 @@ public class MiniSat2Solver extends MiniSatStyleSolver {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Eliminated variables of the backbone are restored and frozen before the computation.
+     */
+    @Override
+    public Backbone computeBackbone(final Collection<Variable> variables, final BackboneType type, final SATHandler handler) {
+        if (this.preprocessor != null) {
+            final LNGIntVector lits = new LNGIntVector(variables.size());
+            for (final int var : getRelevantVarIndices(variables)) {
+                lits.push(mkLit(var, false));
+            }
+            this.preprocessor.prepareAssumptions(lits);
+        }
+        return super.computeBackbone(variables, type, handler);
+    }
+
+    @Override
+    public void setSelectionOrder(final List<? extends Literal> selectionOrder) {
+        super.setSelectionOrder(selectionOrder);
+        if (this.preprocessor != null) {
+            this.preprocessor.prepareAssumptions(this.selectionOrder);
+        }
+    }
+
+    /**
+     * Returns the preprocessor of this solver or {@code null} if preprocessing is not activated.
+     * @return the preprocessor of this solver
+     */
+    public SatElite preprocessor() {
+        return this.preprocessor;
+    }
+
+    /**
+     * Returns the Gaussian elimination module of this solver or {@code null} if Gaussian elimination is not activated.
+     * @return the Gaussian elimination module of this solver
+     */
+    public GaussianElimination gaussianElimination() {
+        return this.gauss;
+    }
+
+    /**
+     * Returns the pseudo-Boolean propagator of this solver or {@code null} if native pseudo-Boolean propagation is not
+     * activated.
+     * @return the pseudo-Boolean propagator of this solver
+     */
+    public PBPropagator pbPropagator() {
+        return this.pbPropagator;
+    }
+
+    /**
+     * Adds a new pseudo-Boolean constraint {@code a_1 * l_1 + ... + a_n * l_n <comparator> rhs} to the solver.  The
+     * constraint is propagated natively, which has to be activated in the configuration.  An equality is added as two
+     * constraints.
+     * @param lits       the literals of the constraint
+     * @param coeffs     the coefficients of the constraint
+     * @param comparator the comparator of the constraint
+     * @param rhs        the right-hand side of the constraint
+     * @return {@code false} if the solver is known to be unsatisfiable after adding the constraint, {@code true}
+     * otherwise
+     * @throws IllegalStateException if native pseudo-Boolean propagation is not activated
+     */
+    public boolean addPBConstraint(final LNGIntVector lits, final LNGIntVector coeffs, final CType comparator, final int rhs) {
+        if (this.pbPropagator == null) {
+            throw new IllegalStateException("Native pseudo-Boolean propagation is not activated in the solver configuration");
+        }
+        cancelUntil(0);
+        if (!this.ok) {
+            return false;
+        }
+        if (this.preprocessor != null) {
+            this.preprocessor.prepareAssumptions(lits);
+        }
+        switch (comparator) {
+            case GE:
+                return addNormalizedPBConstraint(lits, coeffs, rhs, 1);
+            case GT:
+                return addNormalizedPBConstraint(lits, coeffs, rhs + 1L, 1);
+            case LE:
+                return addNormalizedPBConstraint(lits, coeffs, rhs, -1);
+            case LT:
+                return addNormalizedPBConstraint(lits, coeffs, rhs - 1L, -1);
+            case EQ:
+                return addNormalizedPBConstraint(lits, coeffs, rhs, 1) && addNormalizedPBConstraint(lits, coeffs, rhs, -1);
+            default:
+                throw new IllegalArgumentException("Unknown comparator: " + comparator);
+        }
+    }
+
+    /**
+     * Normalizes the constraint {@code factor * (a_1 * l_1 + ... + a_n * l_n) >= factor * rhs} to the form
+     * {@code c_1 * l'_1 + ... + c_m * l'_m >= k} with distinct variables and positive coefficients and adds it to the
+     * pseudo-Boolean propagator.  Coefficients greater than {@code k} are reduced to {@code k}.
+     * @param lits   the literals
+     * @param coeffs the coefficients
+     * @param rhs    the right-hand side
+     * @param factor 1 for a greater-or-equal constraint, -1 for a less-or-equal constraint
+     * @return {@code false} if the constraint can never be satisfied, {@code true} otherwise
+     */
+    private boolean addNormalizedPBConstraint(final LNGIntVector lits, final LNGIntVector coeffs, final long rhs, final int factor) {
+        final TreeMap<Integer, Long> coeffsByVar = new TreeMap<>();
+        long k = factor * rhs;
+        for (int i = 0; i < lits.size(); i++) {
+            long coeff = factor * (long) coeffs.get(i);
+            if (sign(lits.get(i))) {
+                k -= coeff;
+                coeff = -coeff;
+            }
+            coeffsByVar.merge(var(lits.get(i)), coeff, Long::sum);
+        }
+        final LNGIntVector normalizedLits = new LNGIntVector(coeffsByVar.size());
+        final LNGLongVector normalizedCoeffs = new LNGLongVector(coeffsByVar.size());
+        for (final Map.Entry<Integer, Long> entry : coeffsByVar.entrySet()) {
+            final long coeff = entry.getValue();
+            if (coeff != 0) {
+                if (coeff < 0) {
+                    k -= coeff;
+                }
+                normalizedLits.push(mkLit(entry.getKey(), coeff < 0));
+                normalizedCoeffs.push(Math.abs(coeff));
+            }
+        }
+        if (k <= 0) {
+            return true;
+        }
+        long sum = 0;
+        final Integer[] order = new Integer[normalizedLits.size()];
+        for (int i = 0; i < order.length; i++) {
+            normalizedCoeffs.set(i, Math.min(normalizedCoeffs.get(i), k));
+            sum += normalizedCoeffs.get(i);
+            order[i] = i;
+        }
+        if (sum < k) {
+            this.ok = false;
+            return false;
+        }
+        Arrays.sort(order, (i1, i2) -> Long.compare(normalizedCoeffs.get(i2), normalizedCoeffs.get(i1)));
+        final int[] sortedLits = new int[order.length];
+        final long[] sortedCoeffs = new long[order.length];
+        for (int i = 0; i < order.length; i++) {
+            sortedLits[i] = normalizedLits.get(order[i]);
+            sortedCoeffs[i] = normalizedCoeffs.get(order[i]);
+        }
+        this.pbPropagator.add(sortedLits, sortedCoeffs, k);
+        return true;
+    }
+
+    /**
+     * Adds a new XOR constraint to the solver.  The constraint is satisfied if an odd number of the given literals is
+     * true for {@code rhs = true} and if an even number of them is true for {@code rhs = false}.  The constraint is
+     * propagated natively by Gaussian elimination, which has to be activated in the configuration.
+     * @param lits the literals of the constraint
+     * @param rhs  the parity of the constraint
+     * @return {@code false} if the solver is already known to be unsatisfiable, {@code true} otherwise
+     * @throws IllegalStateException if Gaussian elimination is not activated
+     */
+    public boolean addXor(final LNGIntVector lits, final boolean rhs) {
+        if (this.gauss == null) {
+            throw new IllegalStateException("Gaussian elimination is not activated in the solver configuration");
+        }
+        cancelUntil(0);
+        if (!this.ok) {
+            return false;
+        }
+        if (this.preprocessor != null) {
+            this.preprocessor.prepareAssumptions(lits);
+        }
+        final LNGIntVector xorVars = new LNGIntVector(lits.size());
+        boolean parity = rhs;
+        for (int i = 0; i < lits.size(); i++) {
+            xorVars.push(var(lits.get(i)));
+            parity ^= sign(lits.get(i));
+        }
+        xorVars.sort();
+        int j = 0;
+        for (int i = 0; i < xorVars.size(); i++) {
+            if (j > 0 && xorVars.get(j - 1) == xorVars.get(i)) {
+                j--;
+            } else {
+                xorVars.set(j++, xorVars.get(i));
+            }
+        }
+        xorVars.shrinkTo(j);
+        if (xorVars.empty()) {
+            this.ok = !parity;
+            return this.ok;
+        }
+        this.gauss.add(xorVars, parity);
+        return true;
+    }
+
     @Override
     protected void uncheckedEnqueue(final int lit, final MSClause reason) {
         assert value(lit) == Tristate.UNDEF;
         final MSVariable var = v(lit);
         var.assign(Tristate.fromBool(!sign(lit)));
         var.setReason(reason);
-        var.setLevel(decisionLevel());
+        var.setLevel(assignmentLevel(lit, reason));
         this.trail.push(lit);
+        if (this.branchingHeuristic != null) {
+            this.branchingHeuristic.assigned(var(lit));
+        }
     }
 
     @Override
     protected void attachClause(final MSClause c) {
         assert c.size() > 1;
-        this.watches.get(not(c.get(0))).push(new MSWatcher(c, c.get(1)));
-        this.watches.get(not(c.get(1))).push(new MSWatcher(c, c.get(0)));
+        final LNGVector<MSWatchList> ws = c.size() == 2 ? this.watchesBin : this.watches;
+        ws.get(not(c.get(0))).push(c, c.get(1));
+        ws.get(not(c.get(1))).push(c, c.get(0));
         if (c.learnt()) {
             this.learntsLiterals += c.size();
         } else {
@@ -329,8 +615,7 @@ public class MiniSat2Solver extends MiniSatStyleSolver {
     @Override
     protected void detachClause(final MSClause c) {
         assert c.size() > 1;
-        this.watches.get(not(c.get(0))).remove(new MSWatcher(c, c.get(1)));
-        this.watches.get(not(c.get(1))).remove(new MSWatcher(c, c.get(0)));
+        simpleRemoveClause(c);
         if (c.learnt()) {
             this.learntsLiterals -= c.size();
         } else {
@@ -355,26 +640,99 @@ public class MiniSat2Solver extends MiniSatStyleSolver {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * With Gaussian elimination or pseudo-Boolean propagation, the clauses, the XOR constraints, and the
+     * pseudo-Boolean constraints are propagated alternately until a fixpoint or a conflict is reached.
+     */
     @Override
     protected MSClause propagate() {
+        MSClause confl = propagateClauses();
+        final boolean propagateXors = this.gauss != null && !this.gauss.dirty();
+        final boolean propagatePBs = this.pbPropagator != null && !this.pbPropagator.dirty();
+        if (!propagateXors && !propagatePBs) {
+            return confl;
+        }
+        while (confl == null) {
+            final int trailSize = this.trail.size();
+            if (propagateXors) {
+                confl = this.gauss.propagate();
+            }
+            if (confl == null && propagatePBs) {
+                confl = this.pbPropagator.propagate();
+            }
+            if (confl != null || this.trail.size() == trailSize) {
+                break;
+            }
+            confl = propagateClauses();
+        }
+        return confl;
+    }
+
+    @Override
+    protected void cancelUntil(final int level) {
+        if (this.pbPropagator != null && decisionLevel() > level) {
+            this.pbPropagator.backtrack(this.trailLim.get(level));
+        }
+        super.cancelUntil(level);
+        if (this.gauss != null) {
+            this.gauss.backtrack(this.qhead);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Variables of XOR constraints are never rotatable, since flipping them always falsifies an XOR constraint.  The
+     * variables of native pseudo-Boolean constraints are not considered rotatable either.
+     */
+    @Override
+    protected boolean isRotatable(final int lit) {
+        return (this.gauss == null || !this.gauss.containsVariable(var(lit)))
+                && (this.pbPropagator == null || !this.pbPropagator.containsVariable(var(lit)))
+                && super.isRotatable(lit);
+    }
+
+    /**
+     * Propagates the clauses of the solver.
+     * @return the conflict clause if a conflict was found or {@code null} otherwise
+     */
+    protected MSClause propagateClauses() {
         MSClause confl = null;
         int numProps = 0;
         while (this.qhead < this.trail.size()) {
             final int p = this.trail.get(this.qhead++);
-            final LNGVector<MSWatcher> ws = this.watches.get(p);
+            final int falseLit = not(p);
+            numProps++;
+            final MSWatchList wbin = this.watchesBin.get(p);
+            for (int k = 0; k < wbin.size(); k++) {
+                final int imp = wbin.blocker(k);
+                if (value(imp) == Tristate.FALSE) {
+                    confl = wbin.clause(k);
+                    this.qhead = this.trail.size();
+                    break;
+                }
+                if (value(imp) == Tristate.UNDEF) {
+                    final MSClause c = wbin.clause(k);
+                    c.set(0, imp);
+                    c.set(1, falseLit);
+                    uncheckedEnqueue(imp, c);
+                }
+            }
+            if (confl != null) {
+                break;
+            }
+            final MSWatchList ws = this.watches.get(p);
             int iInd = 0;
             int jInd = 0;
-            numProps++;
             while (iInd < ws.size()) {
-                final MSWatcher i = ws.get(iInd);
-                final int blocker = i.blocker();
+                final int blocker = ws.blocker(iInd);
                 if (value(blocker) == Tristate.TRUE) {
-                    ws.set(jInd++, i);
-                    iInd++;
+                    ws.move(iInd++, jInd++);
                     continue;
                 }
-                final MSClause c = i.clause();
-                final int falseLit = not(p);
+                final MSClause c = ws.clause(iInd);
                 if (c.get(0) == falseLit) {
                     c.set(0, c.get(1));
                     c.set(1, falseLit);
@@ -382,9 +740,8 @@ public class MiniSat2Solver extends MiniSatStyleSolver {
                 assert c.get(1) == falseLit;
                 iInd++;
                 final int first = c.get(0);
-                final MSWatcher w = new MSWatcher(c, first);
                 if (first != blocker && value(first) == Tristate.TRUE) {
-                    ws.set(jInd++, w);
+                    ws.set(jInd++, c, first);
                     continue;
                 }
                 boolean foundWatch = false;
@@ -392,17 +749,17 @@ public class MiniSat2Solver extends MiniSatStyleSolver {
                     if (value(c.get(k)) != Tristate.FALSE) {
                         c.set(1, c.get(k));
                         c.set(k, falseLit);
-                        this.watches.get(not(c.get(1))).push(w);
+                        this.watches.get(not(c.get(1))).push(c, first);
                         foundWatch = true;
                     }
                 }
                 if (!foundWatch) {
-                    ws.set(jInd++, w);
+                    ws.set(jInd++, c, first);
                     if (value(first) == Tristate.FALSE) {
                         confl = c;
                         this.qhead = this.trail.size();
                         while (iInd < ws.size()) {
-                            ws.set(jInd++, ws.get(iInd++));
+                            ws.move(iInd++, jInd++);
                         }
                     } else {
                         uncheckedEnqueue(first, c);
@@ -504,12 +861,20 @@ public class MiniSat2Solver extends MiniSatStyleSolver {
                 assert value(c.get(0)) == Tristate.UNDEF && value(c.get(1)) == Tristate.UNDEF;
                 if (!this.config.proofGeneration) {
                     // This simplification does not work with proof generation
+                    final boolean wasBinary = c.size() == 2;
                     for (int k = 2; k < c.size(); k++) {
                         if (value(c.get(k)) == Tristate.FALSE) {
                             c.set(k--, c.get(c.size() - 1));
                             c.pop();
                         }
                     }
+                    if (!wasBinary && c.size() == 2) {
+                        // the clause has become binary, so it is moved to the binary watch lists
+                        this.watches.get(not(c.get(0))).remove(c);
+                        this.watches.get(not(c.get(1))).remove(c);
+                        this.watchesBin.get(not(c.get(0))).push(c, c.get(1));
+                        this.watchesBin.get(not(c.get(1))).push(c, c.get(0));
+                    }
                 }
                 cs.set(j++, cs.get(i));
             }
@@ -560,21 +925,28 @@ public class MiniSat2Solver extends MiniSatStyleSolver {
         int conflictC = 0;
         this.selectionOrderIdx = 0;
         while (true) {
+            final int propagationStart = this.qhead;
             final MSClause confl = propagate();
+            if (this.branchingHeuristic != null) {
+                this.branchingHeuristic.propagated(propagationStart, confl != null);
+            }
             if (confl != null) {
                 if (this.handler != null && !this.handler.detectedConflict()) {
                     this.canceledByHandler = true;
                     return Tristate.UNDEF;
                 }
+                if ((this.chronologicalBacktracking || this.gauss != null || this.pbPropagator != null) && backtrackToConflictLevel(confl) < 0) {
+                    continue;
+                }
                 conflictC++;
                 if (decisionLevel() == 0) {
                     return Tristate.FALSE;
                 }
                 final LNGIntVector learntClause = new LNGIntVector();
                 analyze(confl, learntClause);
-                cancelUntil(this.analyzeBtLevel);
-                if (this.analyzeBtLevel < this.selectionOrder.size()) {
-                    this.selectionOrderIdx = this.analyzeBtLevel;
+                backjump(learntClause.size() == 1);
+                if (decisionLevel() < this.selectionOrder.size()) {
+                    this.selectionOrderIdx = decisionLevel();
                 }
 
                 if (this.config.proofGeneration) {
@@ -598,10 +970,11 @@ public class MiniSat2Solver extends MiniSatStyleSolver {
                     }
                     uncheckedEnqueue(learntClause.get(0), cr);
                 }
+                exportLearntClause(learntClause);
                 decayActivities();
             } else {
                 if (nofConflicts >= 0 && conflictC >= nofConflicts) {
-                    cancelUntil(0);
+                    cancelUntil(restartLevel(0));
                     return Tristate.UNDEF;
                 }
                 if (!this.incremental) {
@@ -666,9 +1039,9 @@ public class MiniSat2Solver extends MiniSatStyleSolver {
                     }
                 }
             }
-            while (!this.seen.get(var(this.trail.get(index--)))) {
-            }
-            p = this.trail.get(index + 1);
+            do {
+                p = this.trail.get(index--);
+            } while (!this.seen.get(var(p)) || v(p).level() < decisionLevel());
             c = v(p).reason();
             this.seen.set(var(p), false);
             pathC--;
@@ -735,6 +1108,9 @@ public class MiniSat2Solver extends MiniSatStyleSolver {
      * Performs an unconditional backtrack to level zero.
      */
     protected void completeBacktrack() {
+        if (this.pbPropagator != null) {
+            this.pbPropagator.backtrack(0);
+        }
         for (int v = 0; v < this.vars.size(); v++) {
             final MSVariable var = this.vars.get(v);
             var.assign(Tristate.UNDEF);
@@ -746,6 +1122,9 @@ public class MiniSat2Solver extends MiniSatStyleSolver {
         this.trail.clear();
         this.trailLim.clear();
         this.qhead = 0;
+        if (this.gauss != null) {
+            this.gauss.backtrack(0);
+        }
     }
 
     /**
@@ -753,7 +1132,8 @@ public class MiniSat2Solver extends MiniSatStyleSolver {
      * @param c the clause to remove
      */
     protected void simpleRemoveClause(final MSClause c) {
-        this.watches.get(not(c.get(0))).remove(new MSWatcher(c, c.get(1)));
-        this.watches.get(not(c.get(1))).remove(new MSWatcher(c, c.get(0)));
+        final LNGVector<MSWatchList> ws = c.size() == 2 ? this.watchesBin : this.watches;
+        ws.get(not(c.get(0))).remove(c);
+        ws.get(not(c.get(1))).remove(c);
     }
 }
@@ -35,7 +35,7 @@ import org.logicng.solvers.SATSolver;
 
 /**
  * The configuration object for a MiniSAT-style SAT solver.
- * @version 2.0.0
+ * @version 2.3.0
  * @since 1.0
  */
 public final class MiniSatConfig extends Configuration {
@@ -76,6 +76,37 @@ public final class MiniSatConfig extends Configuration {
         FACTORY_CNF, PG_ON_SOLVER, FULL_PG_ON_SOLVER
     }
 
+    /**
+     * The different storages for the clauses of the solver.
+     * <ul>
+     * <li> {@code OBJECTS} stores each clause in its own clause object
+     * <li> {@code ARENA} stores all clauses in one flat integer array and references them by their position
+     * in this array.  This reduces the number of objects and improves the memory locality for large formulas.
+     * Currently, this storage is only supported by the MiniSat solver style; Glucose and MiniCard always use
+     * clause objects.
+     * </ul>
+     */
+    public enum ClauseStorage {
+        OBJECTS, ARENA
+    }
+
+    /**
+     * The different heuristics for the selection of the next decision variable.
+     * <ul>
+     * <li> {@code VSIDS} bumps the activity of all variables in a conflict analysis and decays the activities
+     * exponentially (Variable State Independent Decaying Sum)
+     * <li> {@code LRB} rewards variables by the fraction of conflicts they participated in while they were assigned
+     * and averages these rewards exponentially (Learning Rate Branching)
+     * <li> {@code CHB} rewards all variables assigned by a propagation depending on how recently they participated
+     * in a conflict (Conflict History Based branching)
+     * <li> {@code VMTF} moves the variables of a conflict analysis to the front of a doubly-linked queue and always
+     * decides on the unassigned variable closest to the front (Variable Move To Front)
+     * </ul>
+     */
+    public enum DecisionHeuristic {
+        VSIDS, LRB, CHB, VMTF
+    }
+
     final double varDecay;
     final double varInc;
     final ClauseMinimization clauseMin;
@@ -93,6 +124,16 @@ public final class MiniSatConfig extends Configuration {
     final boolean bbInitialUBCheckForRotatableLiterals;
     final boolean bbCheckForComplementModelLiterals;
     final boolean bbCheckForRotatableLiterals;
+    final ClauseStorage clauseStorage;
+    final boolean preprocessing;
+    final int elimClauseLimit;
+    final int subsumptionLimit;
+    final boolean chronologicalBacktracking;
+    final int chronoBacktrackThreshold;
+    final boolean trailReuse;
+    final DecisionHeuristic decisionHeuristic;
+    final boolean gaussianElimination;
+    final boolean pbPropagation;
 
     /**
      * Constructs a new MiniSAT configuration from a given builder.
@@ -117,6 +158,16 @@ public final class MiniSatConfig extends Configuration {
         this.bbInitialUBCheckForRotatableLiterals = builder.bbInitialUBCheckForRotatableLiterals;
         this.bbCheckForComplementModelLiterals = builder.bbCheckForComplementModelLiterals;
         this.bbCheckForRotatableLiterals = builder.bbCheckForRotatableLiterals;
+        this.clauseStorage = builder.clauseStorage;
+        this.preprocessing = builder.preprocessing;
+        this.elimClauseLimit = builder.elimClauseLimit;
+        this.subsumptionLimit = builder.subsumptionLimit;
+        this.chronologicalBacktracking = builder.chronologicalBacktracking;
+        this.chronoBacktrackThreshold = builder.chronoBacktrackThreshold;
+        this.trailReuse = builder.trailReuse;
+        this.decisionHeuristic = builder.decisionHeuristic;
+        this.gaussianElimination = builder.gaussianElimination;
+        this.pbPropagation = builder.pbPropagation;
     }
 
     /**
@@ -167,6 +218,62 @@ public final class MiniSatConfig extends Configuration {
         return this.auxiliaryVariablesInModels;
     }
 
+    /**
+     * Returns the storage for the clauses of the solver.
+     * @return the storage for the clauses of the solver
+     */
+    public ClauseStorage getClauseStorage() {
+        return this.clauseStorage;
+    }
+
+    /**
+     * Returns whether the formula is preprocessed by variable elimination and subsumption before solving.
+     * @return {@code true} if the formula is preprocessed, {@code false} otherwise
+     */
+    public boolean preprocessing() {
+        return this.preprocessing;
+    }
+
+    /**
+     * Returns whether the solver backtracks chronologically after conflicts with a long backjump.
+     * @return {@code true} if chronological backtracking is activated, {@code false} otherwise
+     */
+    public boolean chronologicalBacktracking() {
+        return this.chronologicalBacktracking;
+    }
+
+    /**
+     * Returns whether the solver reuses its trail over restarts and over incremental calls with the same assumptions.
+     * @return {@code true} if trail reuse is activated, {@code false} otherwise
+     */
+    public boolean trailReuse() {
+        return this.trailReuse;
+    }
+
+    /**
+     * Returns the heuristic for the selection of the next decision variable.
+     * @return the decision heuristic
+     */
+    public DecisionHeuristic decisionHeuristic() {
+        return this.decisionHeuristic;
+    }
+
+    /**
+     * Returns whether XOR constraints are propagated natively by Gaussian elimination.
+     * @return {@code true} if Gaussian elimination is activated, {@code false} otherwise
+     */
+    public boolean gaussianElimination() {
+        return this.gaussianElimination;
+    }
+
+    /**
+     * Returns whether pseudo-Boolean constraints are propagated natively by the solver.
+     * @return {@code true} if native pseudo-Boolean propagation is activated, {@code false} otherwise
+     */
+    public boolean pbPropagation() {
+        return this.pbPropagation;
+    }
+
     @Override
     public String toString() {
         final StringBuilder sb = new StringBuilder("MiniSatConfig{").append(System.lineSeparator());
@@ -187,13 +294,23 @@ public final class MiniSatConfig extends Configuration {
         sb.append("bbInitialUBCheckForRotatableLiterals=").append(this.bbInitialUBCheckForRotatableLiterals).append(System.lineSeparator());
         sb.append("bbCheckForComplementModelLiterals=").append(this.bbCheckForComplementModelLiterals).append(System.lineSeparator());
         sb.append("bbCheckForRotatableLiterals=").append(this.bbCheckForRotatableLiterals).append(System.lineSeparator());
+        sb.append("clauseStorage=").append(this.clauseStorage).append(System.lineSeparator());
+        sb.append("preprocessing=").append(this.preprocessing).append(System.lineSeparator());
+        sb.append("elimClauseLimit=").append(this.elimClauseLimit).append(System.lineSeparator());
+        sb.append("subsumptionLimit=").append(this.subsumptionLimit).append(System.lineSeparator());
+        sb.append("chronologicalBacktracking=").append(this.chronologicalBacktracking).append(System.lineSeparator());
+        sb.append("chronoBacktrackThreshold=").append(this.chronoBacktrackThreshold).append(System.lineSeparator());
+        sb.append("trailReuse=").append(this.trailReuse).append(System.lineSeparator());
+        sb.append("decisionHeuristic=").append(this.decisionHeuristic).append(System.lineSeparator());
+        sb.append("gaussianElimination=").append(this.gaussianElimination).append(System.lineSeparator());
+        sb.append("pbPropagation=").append(this.pbPropagation).append(System.lineSeparator());
         sb.append("}");
         return sb.toString();
     }
 
     /**
      * The builder for a MiniSAT configuration.
-     * @version 2.0.0
+     * @version 2.3.0
      * @since 1.0
      */
     public static class Builder {
@@ -214,6 +331,16 @@ public final class MiniSatConfig extends Configuration {
         private boolean bbInitialUBCheckForRotatableLiterals = true;
         private boolean bbCheckForComplementModelLiterals = true;
         private boolean bbCheckForRotatableLiterals = true;
+        private ClauseStorage clauseStorage = ClauseStorage.OBJECTS;
+        private boolean preprocessing = false;
+        private int elimClauseLimit = 20;
+        private int subsumptionLimit = 1000;
+        private boolean chronologicalBacktracking = false;
+        private int chronoBacktrackThreshold = 100;
+        private boolean trailReuse = false;
+        private DecisionHeuristic decisionHeuristic = DecisionHeuristic.VSIDS;
+        private boolean gaussianElimination = false;
+        private boolean pbPropagation = false;
 
         private Builder() {
             // Initialize only via factory
@@ -406,6 +533,151 @@ public final class MiniSatConfig extends Configuration {
             return this;
         }
 
+        /**
+         * Sets the storage for the clauses of the solver.  The default value is {@code OBJECTS}.
+         * @param clauseStorage the clause storage
+         * @return the builder
+         */
+        public Builder clauseStorage(final ClauseStorage clauseStorage) {
+            this.clauseStorage = clauseStorage;
+            return this;
+        }
+
+        /**
+         * Sets whether the formula should be preprocessed before solving.  The preprocessing performs bounded variable
+         * elimination, backward subsumption, and self-subsuming resolution on the original clauses in the style of
+         * SatELite.  Models are extended to the eliminated variables, and an eliminated variable is restored when it
+         * occurs in a new clause or an assumption.  In incremental mode, the formula is only preprocessed until the
+         * first solver state is saved.
+         * <p>
+         * The preprocessing is only performed by the MiniSat solver with {@link ClauseStorage#OBJECTS} and without
+         * proof generation.  The default value is {@code false}.
+         * @param preprocessing {@code true} if the formula should be preprocessed, {@code false} otherwise
+         * @return the builder
+         */
+        public Builder preprocessing(final boolean preprocessing) {
+            this.preprocessing = preprocessing;
+            return this;
+        }
+
+        /**
+         * Sets the maximal size of a resolvent during the variable elimination.  A variable is not eliminated if one
+         * of its resolvents is larger.  The default value is 20.
+         * @param elimClauseLimit the maximal size of a resolvent
+         * @return the builder
+         */
+        public Builder elimClauseLimit(final int elimClauseLimit) {
+            this.elimClauseLimit = elimClauseLimit;
+            return this;
+        }
+
+        /**
+         * Sets the maximal size of an occurrence list which is checked for subsumed clauses.  The default value is
+         * 1000.
+         * @param subsumptionLimit the maximal size of a checked occurrence list
+         * @return the builder
+         */
+        public Builder subsumptionLimit(final int subsumptionLimit) {
+            this.subsumptionLimit = subsumptionLimit;
+            return this;
+        }
+
+        /**
+         * Sets whether the solver should backtrack chronologically if the backjump after a conflict would undo more
+         * than {@link #chronoBacktrackThreshold(int)} decision levels.  In this case only the last decision level is
+         * undone and the learnt clause is propagated out of order on its assertion level, which saves the repeated
+         * propagation of the skipped levels.
+         * <p>
+         * Chronological backtracking is only performed by the MiniSat solver with {@link ClauseStorage#OBJECTS} and
+         * the Glucose solver.  The default value is {@code false}.
+         * @param chronologicalBacktracking {@code true} if chronological backtracking should be activated,
+         *                                  {@code false} otherwise
+         * @return the builder
+         */
+        public Builder chronologicalBacktracking(final boolean chronologicalBacktracking) {
+            this.chronologicalBacktracking = chronologicalBacktracking;
+            return this;
+        }
+
+        /**
+         * Sets the minimal number of decision levels a backjump has to undo such that the solver backtracks
+         * chronologically instead.  This value is only used if chronological backtracking is activated.  The default
+         * value is 100.
+         * @param chronoBacktrackThreshold the minimal backjump distance for chronological backtracking
+         * @return the builder
+         */
+        public Builder chronoBacktrackThreshold(final int chronoBacktrackThreshold) {
+            this.chronoBacktrackThreshold = chronoBacktrackThreshold;
+            return this;
+        }
+
+        /**
+         * Sets whether the solver should reuse its trail.  On a restart, the decision levels which would be decided
+         * again in the same way are kept.  After a call to the solver, the decision levels of the assumptions are kept
+         * and reused by the next call as far as its assumptions start with the same literals.  Clauses can still be
+         * added between two calls, the solver only backtracks to level zero if the new clause is not watchable on the
+         * kept levels.
+         * <p>
+         * Trail reuse is only performed by the MiniSat solver with {@link ClauseStorage#OBJECTS} and the Glucose
+         * solver.  The default value is {@code false}.
+         * @param trailReuse {@code true} if trail reuse should be activated, {@code false} otherwise
+         * @return the builder
+         */
+        public Builder trailReuse(final boolean trailReuse) {
+            this.trailReuse = trailReuse;
+            return this;
+        }
+
+        /**
+         * Sets the heuristic for the selection of the next decision variable.  The learning rate based heuristics
+         * {@link DecisionHeuristic#LRB} and {@link DecisionHeuristic#CHB} and the queue based heuristic
+         * {@link DecisionHeuristic#VMTF} are only supported by the MiniSat solver with {@link ClauseStorage#OBJECTS}
+         * and the Glucose solver, all other solvers always use {@link DecisionHeuristic#VSIDS}.  The default value is
+         * {@code VSIDS}.
+         * @param decisionHeuristic the decision heuristic
+         * @return the builder
+         */
+        public Builder decisionHeuristic(final DecisionHeuristic decisionHeuristic) {
+            this.decisionHeuristic = decisionHeuristic;
+            return this;
+        }
+
+        /**
+         * Sets whether XOR constraints should be propagated natively by Gaussian elimination.  If activated, formulas
+         * which represent XOR constraints (e.g. created by {@link org.logicng.formulas.FormulaFactory#xor}) are not
+         * transformed to CNF but added as native XOR constraints to the solver.  During the search, the XOR
+         * constraints are kept in reduced row echelon form, so implications and conflicts of combinations of XOR
+         * constraints are detected.  This pays off for instances with many XOR constraints whose combination with
+         * the clauses is hard to refute, since the reasons of the combined constraints can get long.
+         * <p>
+         * Gaussian elimination is only supported by the MiniSat solver with {@link ClauseStorage#OBJECTS} and without
+         * proof generation.  The default value is {@code false}.
+         * @param gaussianElimination {@code true} if Gaussian elimination should be activated, {@code false} otherwise
+         * @return the builder
+         */
+        public Builder gaussianElimination(final boolean gaussianElimination) {
+            this.gaussianElimination = gaussianElimination;
+            return this;
+        }
+
+        /**
+         * Sets whether pseudo-Boolean constraints should be propagated natively by the solver.  If activated,
+         * pseudo-Boolean and cardinality constraints which are added to the solver are not encoded to CNF but added
+         * as native constraints which are propagated by a {@link PBPropagator} with a watched sum.  Implications and
+         * conflicts are explained by reason clauses which are generated on demand, so the constraints need neither
+         * encoding time nor auxiliary variables.  Constraints which are nested in other formulas are still encoded.
+         * <p>
+         * Native pseudo-Boolean propagation is only supported by the MiniSat solver with
+         * {@link ClauseStorage#OBJECTS} and without proof generation.  The default value is {@code false}.
+         * @param pbPropagation {@code true} if native pseudo-Boolean propagation should be activated, {@code false}
+         *                      otherwise
+         * @return the builder
+         */
+        public Builder pbPropagation(final boolean pbPropagation) {
+            this.pbPropagation = pbPropagation;
+            return this;
+        }
+
         /**
          * Builds the MiniSAT configuration.
          * @return the configuration
@@ -60,7 +60,7 @@ import org.logicng.propositions.Proposition;
 import org.logicng.solvers.datastructures.LNGHeap;
 import org.logicng.solvers.datastructures.MSClause;
 import org.logicng.solvers.datastructures.MSVariable;
-import org.logicng.solvers.datastructures.MSWatcher;
+import org.logicng.solvers.datastructures.MSWatchList;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -74,7 +74,7 @@ import java.util.TreeSet;
 
 /**
  * The super class for all MiniSAT-style solvers.
- * @version 2.1.0
+ * @version 2.3.0
  * @since 1.0
  */
 public abstract class MiniSatStyleSolver {
@@ -92,9 +92,11 @@ public abstract class MiniSatStyleSolver {
     protected int qhead;
     protected LNGVector<MSClause> clauses;
     protected LNGVector<MSClause> learnts;
-    protected LNGVector<LNGVector<MSWatcher>> watches;
+    protected LNGVector<MSWatchList> watches;
+    protected LNGVector<MSWatchList> watchesBin;
     protected LNGVector<MSVariable> vars;
     protected LNGHeap orderHeap;
+    protected BranchingHeuristic branchingHeuristic;
     protected LNGIntVector trail;
     protected LNGIntVector trailLim;
     protected LNGBooleanVector model;
@@ -121,6 +123,15 @@ public abstract class MiniSatStyleSolver {
     protected double learntsizeFactor;
     protected double learntsizeInc;
     protected boolean incremental;
+    protected boolean chronologicalBacktracking;
+    protected int chronoBacktrackThreshold;
+    protected boolean trailReuse;
+
+    // chronological backtracking and trail reuse
+    protected LNGIntVector keptLiterals;
+    protected LNGIntVector keptAssumptions;
+    protected long chronologicalBacktracks;
+    protected long savedPropagations;
 
     // mapping of variable names to variable indices
     protected Map<String, Integer> name2idx;
@@ -130,6 +141,9 @@ public abstract class MiniSatStyleSolver {
     protected SATHandler handler;
     protected boolean canceledByHandler;
 
+    // Exchange of learnt clauses with other solvers
+    protected LearntClauseExchange clauseExchange;
+
     // Proof generating information
     protected LNGVector<ProofInformation> pgOriginalClauses;
     protected LNGVector<LNGIntVector> pgProof;
@@ -236,8 +250,10 @@ public abstract class MiniSatStyleSolver {
         this.clauses = new LNGVector<>();
         this.learnts = new LNGVector<>();
         this.watches = new LNGVector<>();
+        this.watchesBin = new LNGVector<>();
         this.vars = new LNGVector<>();
         this.orderHeap = new LNGHeap(this);
+        this.branchingHeuristic = null;
         this.trail = new LNGIntVector();
         this.trailLim = new LNGIntVector();
         this.model = new LNGBooleanVector();
@@ -262,6 +278,10 @@ public abstract class MiniSatStyleSolver {
         this.computingBackbone = false;
         this.selectionOrder = new LNGIntVector();
         this.selectionOrderIdx = 0;
+        this.keptLiterals = new LNGIntVector();
+        this.keptAssumptions = new LNGIntVector();
+        this.chronologicalBacktracks = 0;
+        this.savedPropagations = 0;
     }
 
     /**
@@ -278,6 +298,9 @@ public abstract class MiniSatStyleSolver {
         this.learntsizeFactor = this.config.learntsizeFactor;
         this.learntsizeInc = this.config.learntsizeInc;
         this.incremental = this.config.incremental;
+        this.chronologicalBacktracking = this.config.chronologicalBacktracking;
+        this.chronoBacktrackThreshold = this.config.chronoBacktrackThreshold;
+        this.trailReuse = this.config.trailReuse;
     }
 
     /**
@@ -366,6 +389,41 @@ public abstract class MiniSatStyleSolver {
      */
     public abstract boolean addClause(final LNGIntVector ps, final Proposition proposition);
 
+    /**
+     * Sets the exchange of learnt clauses with other solvers working on the same formula.  The exchange is ignored if
+     * proof generation is enabled.
+     * @param clauseExchange the exchange or {@code null} if no clauses should be exchanged
+     */
+    public void setClauseExchange(final LearntClauseExchange clauseExchange) {
+        this.clauseExchange = this.config.proofGeneration ? null : clauseExchange;
+    }
+
+    /**
+     * Exports a learnt clause to the clause exchange if there is one and the clause is short enough.
+     * @param learntClause the learnt clause
+     */
+    protected void exportLearntClause(final LNGIntVector learntClause) {
+        if (this.clauseExchange != null && learntClause.size() <= this.clauseExchange.maxClauseSize()) {
+            this.clauseExchange.exportClause(this, learntClause);
+        }
+    }
+
+    /**
+     * Imports the clauses learnt by other solvers from the clause exchange if there is one.  The clauses are added as
+     * regular clauses, so this method must only be called on decision level 0.
+     * @return {@code false} if the formula became unsatisfiable by the imported clauses, {@code true} otherwise
+     */
+    protected boolean importLearntClauses() {
+        if (this.clauseExchange != null) {
+            for (final LNGIntVector clause : this.clauseExchange.importClauses(this)) {
+                if (!addClause(clause, null)) {
+                    return false;
+                }
+            }
+        }
+        return this.ok;
+    }
+
     /**
      * Solves the formula currently stored in the solver.  Returns {@link Tristate#TRUE} if the formula is satisfiable (SAT),
      * {@link Tristate#FALSE} if the formula is unsatisfiable (UNSAT), or {@link Tristate#UNDEF} if the computation was canceled
@@ -476,6 +534,16 @@ public abstract class MiniSatStyleSolver {
         return this.trailLim.size();
     }
 
+    /**
+     * Returns the number of clauses watching a given literal.  This is a cheap approximation of the number of
+     * occurrences of the negation of the literal and is used to preselect the variables of a lookahead.
+     * @param lit the literal
+     * @return the number of clauses watching the literal
+     */
+    protected int watchCount(final int lit) {
+        return this.watches.get(lit).size() + this.watchesBin.get(lit).size();
+    }
+
     /**
      * Helper function used to maintain an abstraction of levels involved during conflict analysis.
      * @param x a variable index
@@ -490,7 +558,9 @@ public abstract class MiniSatStyleSolver {
      * @param x the variable index
      */
     protected void insertVarOrder(final int x) {
-        if (!this.orderHeap.inHeap(x) && this.vars.get(x).decision()) {
+        if (this.branchingHeuristic != null && !this.branchingHeuristic.usesOrderHeap()) {
+            this.branchingHeuristic.insert(x);
+        } else if (!this.orderHeap.inHeap(x) && this.vars.get(x).decision()) {
             this.orderHeap.insert(x);
         }
     }
@@ -510,6 +580,10 @@ public abstract class MiniSatStyleSolver {
                 }
             }
         }
+        if (this.branchingHeuristic != null) {
+            final int next = this.branchingHeuristic.next();
+            return next == -1 ? -1 : mkLit(next, this.vars.get(next).polarity());
+        }
         int next = -1;
         while (next == -1 || this.vars.get(next).assignment() != UNDEF || !this.vars.get(next).decision()) {
             if (this.orderHeap.empty()) {
@@ -522,9 +596,14 @@ public abstract class MiniSatStyleSolver {
     }
 
     /**
-     * Decays the variable activity increment by the variable decay factor.
+     * Decays the variable activity increment by the variable decay factor.  This method is called once at the end of
+     * each conflict, so it also notifies an alternative branching heuristic about the conflict.
      */
     protected void varDecayActivity() {
+        if (this.branchingHeuristic != null) {
+            this.branchingHeuristic.conflict();
+            return;
+        }
         this.varInc *= (1 / this.varDecay);
     }
 
@@ -542,6 +621,10 @@ public abstract class MiniSatStyleSolver {
      * @param inc the increment value
      */
     protected void varBumpActivity(final int v, final double inc) {
+        if (this.branchingHeuristic != null) {
+            this.branchingHeuristic.bump(v);
+            return;
+        }
         final MSVariable var = this.vars.get(v);
         var.incrementActivity(inc);
         if (var.activity() > 1e100) {
@@ -559,6 +642,9 @@ public abstract class MiniSatStyleSolver {
      * Rebuilds the heap of decision variables.
      */
     protected void rebuildOrderHeap() {
+        if (this.branchingHeuristic != null && !this.branchingHeuristic.usesOrderHeap()) {
+            return;
+        }
         final LNGIntVector vs = new LNGIntVector();
         for (int v = 0; v < this.nVars(); v++) {
             if (this.vars.get(v).decision() && this.vars.get(v).assignment() == UNDEF) {
@@ -644,29 +730,279 @@ public abstract class MiniSatStyleSolver {
      */
     protected abstract void analyzeFinal(int p, final LNGIntVector outConflict);
 
+    /**
+     * Backtracks to a given decision level.  With chronological backtracking, literals which were propagated out of
+     * order on a level below the given level stay assigned and are propagated again.
+     * @param level the decision level
+     */
     protected void cancelUntil(final int level) {
         if (decisionLevel() > level) {
-            if (!this.computingBackbone) {
-                for (int c = this.trail.size() - 1; c >= this.trailLim.get(level); c--) {
-                    final int x = var(this.trail.get(c));
-                    final MSVariable v = this.vars.get(x);
-                    v.assign(Tristate.UNDEF);
-                    v.setPolarity(sign(this.trail.get(c)));
-                    insertVarOrder(x);
-                }
-            } else {
-                for (int c = this.trail.size() - 1; c >= this.trailLim.get(level); c--) {
-                    final int x = var(this.trail.get(c));
-                    final MSVariable v = this.vars.get(x);
+            this.keptLiterals.clear();
+            for (int c = this.trail.size() - 1; c >= this.trailLim.get(level); c--) {
+                final int x = var(this.trail.get(c));
+                final MSVariable v = this.vars.get(x);
+                if (this.chronologicalBacktracking && v.level() <= level) {
+                    this.keptLiterals.push(this.trail.get(c));
+                } else {
                     v.assign(Tristate.UNDEF);
                     v.setPolarity(!this.computingBackbone && sign(this.trail.get(c)));
+                    if (this.branchingHeuristic != null) {
+                        this.branchingHeuristic.unassigned(x);
+                    }
                     insertVarOrder(x);
                 }
             }
             this.qhead = this.trailLim.get(level);
             this.trail.removeElements(this.trail.size() - this.trailLim.get(level));
             this.trailLim.removeElements(this.trailLim.size() - level);
+            for (int c = this.keptLiterals.size() - 1; c >= 0; c--) {
+                this.trail.push(this.keptLiterals.get(c));
+            }
+        }
+    }
+
+    /**
+     * Returns the level on which a literal is implied by a given reason clause.  Without chronological backtracking
+     * this is always the current decision level, otherwise it is the highest level of the other literals of the clause
+     * which can be lower than the current decision level.
+     * @param lit    the implied literal
+     * @param reason the reason clause or {@code null} for a decision
+     * @return the level of the implied literal
+     */
+    protected int assignmentLevel(final int lit, final MSClause reason) {
+        if (!this.chronologicalBacktracking || reason == null) {
+            return decisionLevel();
+        }
+        final int decisionLevel = decisionLevel();
+        int level = 0;
+        for (int i = 0; i < reason.size() && level < decisionLevel; i++) {
+            final int l = reason.get(i);
+            if (l != lit && v(l).level() > level) {
+                level = v(l).level();
+            }
+        }
+        return level;
+    }
+
+    /**
+     * Computes the conflict level of a conflict clause for chronological backtracking, i.e. the highest level of its
+     * literals.  The clause is reordered such that the literals with the highest and the second-highest level are on
+     * the first two (watched) positions.  So if the second literal has a lower level than the returned conflict level,
+     * the first literal is the only literal on the conflict level.
+     * @param confl the conflict clause
+     * @return the conflict level
+     */
+    protected int conflictLevel(final MSClause confl) {
+        int max = 0;
+        for (int i = 1; i < confl.size(); i++) {
+            if (v(confl.get(i)).level() > v(confl.get(max)).level()) {
+                max = i;
+            }
+        }
+        swapWatch(confl, 0, max);
+        max = 1;
+        for (int i = 2; i < confl.size(); i++) {
+            if (v(confl.get(i)).level() > v(confl.get(max)).level()) {
+                max = i;
+            }
+        }
+        swapWatch(confl, 1, max);
+        return v(confl.get(0)).level();
+    }
+
+    /**
+     * Swaps the watched literal at a given position of a clause with another literal of the clause and updates the
+     * watch lists accordingly.
+     * @param c     the clause
+     * @param pos   the position of the watched literal (0 or 1)
+     * @param other the position of the other literal
+     */
+    private void swapWatch(final MSClause c, final int pos, final int other) {
+        if (pos == other) {
+            return;
+        }
+        final int lit = c.get(pos);
+        if (other > 1) {
+            this.watches.get(not(lit)).remove(c);
+            this.watches.get(not(c.get(other))).push(c, c.get(1 - pos));
+        }
+        c.set(pos, c.get(other));
+        c.set(other, lit);
+    }
+
+    /**
+     * Handles a conflict with chronological backtracking before it is analyzed.  If the conflict clause has only one
+     * literal on the conflict level, the clause was missed by the propagation of a lower level.  In this case the
+     * solver backtracks below the conflict level and propagates the clause.  Otherwise the solver backtracks to the
+     * conflict level such that the conflict can be analyzed as usual.
+     * @param confl the conflict clause
+     * @return the conflict level or -1 if the conflict was resolved by propagating the clause
+     */
+    protected int backtrackToConflictLevel(final MSClause confl) {
+        final int conflictLevel = conflictLevel(confl);
+        if (conflictLevel > 0 && v(confl.get(1)).level() < conflictLevel) {
+            cancelUntil(conflictLevel - 1);
+            uncheckedEnqueue(confl.get(0), confl);
+            return -1;
         }
+        cancelUntil(conflictLevel);
+        return conflictLevel;
+    }
+
+    /**
+     * Backtracks after the analysis of a conflict.  With chronological backtracking, only the last decision level is
+     * undone if the backjump to the assertion level would undo more than the configured number of levels.
+     * @param unit {@code true} if the learnt clause is a unit clause which is always asserted on level zero
+     */
+    protected void backjump(final boolean unit) {
+        if (this.chronologicalBacktracking && !unit && decisionLevel() - this.analyzeBtLevel > this.chronoBacktrackThreshold) {
+            this.chronologicalBacktracks++;
+            this.savedPropagations += this.trailLim.get(decisionLevel() - 1) - this.trailLim.get(this.analyzeBtLevel);
+            cancelUntil(decisionLevel() - 1);
+        } else {
+            cancelUntil(this.analyzeBtLevel);
+        }
+    }
+
+    /**
+     * Returns the level to which a restart backtracks.  With trail reuse, the levels of the assumptions are kept as
+     * well as all decision levels whose decision variable has a higher activity than the unassigned variable with the
+     * highest activity, since these decisions would be taken again in the same order after the restart.  With an
+     * alternative branching heuristic, its scores are used instead of the activities.
+     * @param level the level to which the restart backtracks without trail reuse
+     * @return the level to which the restart backtracks
+     */
+    protected int restartLevel(final int level) {
+        if (!this.trailReuse || !this.selectionOrder.empty() || decisionLevel() <= level) {
+            return level;
+        }
+        int reuseLevel = Math.max(level, Math.min(decisionLevel(), this.assumptions.size()));
+        final int next = nextDecisionVariable();
+        if (next == -1) {
+            reuseLevel = decisionLevel();
+        } else {
+            final double nextScore = decisionScore(next);
+            while (reuseLevel < decisionLevel() && decisionScore(var(this.trail.get(this.trailLim.get(reuseLevel)))) > nextScore) {
+                reuseLevel++;
+            }
+        }
+        this.savedPropagations += trailPosition(reuseLevel) - trailPosition(level);
+        return reuseLevel;
+    }
+
+    /**
+     * Returns the next decision variable of the branching heuristic without removing it from the variable order.
+     * @return the next decision variable or -1 if all decision variables are assigned
+     */
+    private int nextDecisionVariable() {
+        if (this.branchingHeuristic != null) {
+            return this.branchingHeuristic.peek();
+        }
+        while (!this.orderHeap.empty() && (this.vars.get(this.orderHeap.get(0)).assignment() != UNDEF
+                || !this.vars.get(this.orderHeap.get(0)).decision())) {
+            this.orderHeap.removeMin();
+        }
+        return this.orderHeap.empty() ? -1 : this.orderHeap.get(0);
+    }
+
+    /**
+     * Returns the score of a variable in the branching heuristic.  Variables with a higher score are decided first.
+     * @param v the variable index
+     * @return the score of the variable
+     */
+    private double decisionScore(final int v) {
+        return this.branchingHeuristic != null ? this.branchingHeuristic.score(v) : this.vars.get(v).activity();
+    }
+
+    /**
+     * Backtracks at the start of a call to the solver.  With trail reuse, the assumption levels of the last call are
+     * kept as far as the current assumptions start with the same literals.
+     */
+    protected void reuseAssumptionLevels() {
+        int level = 0;
+        while (level < decisionLevel() && level < this.assumptions.size() && this.assumptions.get(level) == this.keptAssumptions.get(level)) {
+            level++;
+        }
+        cancelUntil(level);
+        if (level > 0) {
+            this.savedPropagations += this.trail.size() - this.trailLim.get(0);
+        }
+    }
+
+    /**
+     * Backtracks at the end of a call to the solver.  With trail reuse, the assumption levels are kept for the next
+     * call, unless the call was canceled and a conflict might not have been resolved yet.
+     * @param status the result of the call
+     */
+    protected void keepAssumptionLevels(final Tristate status) {
+        if (!this.trailReuse || status == UNDEF || !this.ok) {
+            cancelUntil(0);
+            return;
+        }
+        cancelUntil(Math.min(decisionLevel(), this.assumptions.size()));
+        this.keptAssumptions.clear();
+        for (int i = 0; i < decisionLevel(); i++) {
+            this.keptAssumptions.push(this.assumptions.get(i));
+        }
+    }
+
+    /**
+     * Prepares a new clause for its addition on the kept assumption levels.  The clause is sorted and its duplicate
+     * literals are removed.  If the clause has at least two literals which are not false under the current assignment,
+     * these are moved to the first two positions such that the clause can be watched without backtracking.
+     * @param ps the literals of the clause
+     * @return {@code true} if the clause can be added without backtracking, {@code false} if the solver has to
+     * backtrack to level zero before the clause is added
+     */
+    protected boolean prepareClauseOnKeptLevels(final LNGIntVector ps) {
+        ps.sort();
+        int i;
+        int j;
+        int p;
+        for (i = 0, j = 0, p = LIT_UNDEF; i < ps.size(); i++) {
+            if (ps.get(i) == not(p)) {
+                return false;
+            } else if (ps.get(i) != p) {
+                p = ps.get(i);
+                ps.set(j++, p);
+            }
+        }
+        ps.removeElements(i - j);
+        int watched = 0;
+        for (i = 0; i < ps.size() && watched < 2; i++) {
+            if (value(ps.get(i)) != Tristate.FALSE) {
+                final int lit = ps.get(i);
+                ps.set(i, ps.get(watched));
+                ps.set(watched++, lit);
+            }
+        }
+        return watched == 2;
+    }
+
+    /**
+     * Returns the position on the trail where a given decision level ends.
+     * @param level the decision level
+     * @return the position on the trail
+     */
+    private int trailPosition(final int level) {
+        return level < decisionLevel() ? this.trailLim.get(level) : this.trail.size();
+    }
+
+    /**
+     * Returns the number of chronological backtracks since the creation of the solver.
+     * @return the number of chronological backtracks
+     */
+    public long chronologicalBacktracks() {
+        return this.chronologicalBacktracks;
+    }
+
+    /**
+     * Returns the number of literal propagations which were saved by chronological backtracking and trail reuse since
+     * the creation of the solver, i.e. the number of assigned literals which did not have to be propagated again.
+     * @return the number of saved propagations
+     */
+    public long savedPropagations() {
+        return this.savedPropagations;
     }
 
     /**
@@ -805,7 +1141,9 @@ public abstract class MiniSatStyleSolver {
         for (int i = 0; i < this.trail.size(); ++i) {
             final int lit = this.trail.get(i);
             if (v(lit).level() > 0) {
-                break;
+                if (!this.trailReuse) {
+                    break;
+                }
             } else {
                 upZeroLiterals.push(lit);
             }
@@ -1039,8 +1377,15 @@ public abstract class MiniSatStyleSolver {
             return false;
         }
         // A rotatable literal MUST NOT be unit
-        for (final MSWatcher watcher : this.watches.get(not(lit))) {
-            if (isUnit(lit, watcher.clause())) {
+        final MSWatchList ws = this.watches.get(not(lit));
+        for (int i = 0; i < ws.size(); i++) {
+            if (isUnit(lit, ws.clause(i))) {
+                return false;
+            }
+        }
+        final MSWatchList wbin = this.watchesBin.get(not(lit));
+        for (int i = 0; i < wbin.size(); i++) {
+            if (isUnit(lit, wbin.clause(i))) {
                 return false;
             }
         }
@@ -0,0 +1,286 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+
+package org.logicng.solvers.sat;
+
+import static org.logicng.solvers.sat.MiniSatStyleSolver.not;
+import static org.logicng.solvers.sat.MiniSatStyleSolver.var;
+
+import org.logicng.collections.LNGIntVector;
+import org.logicng.collections.LNGVector;
+import org.logicng.datastructures.Tristate;
+import org.logicng.solvers.datastructures.MSClause;
+
+/**
+ * A propagator for the native pseudo-Boolean constraints of the MiniSat solver.
+ * <p>
+ * All constraints are normalized to the form {@code c_1 * l_1 + ... + c_n * l_n >= k} with positive coefficients
+ * which are sorted in descending order.  Each constraint stores its slack, i.e. the sum of the coefficients of its
+ * literals which are not false minus the right-hand side.  Every literal of a constraint is watched: if it becomes
+ * false, the slack is decreased by its coefficient.  A negative slack is a conflict, and every unassigned literal whose
+ * coefficient exceeds the slack is implied.  On backtracking, the coefficients of the unassigned literals are added
+ * to the slack again.
+ * <p>
+ * Implications and conflicts are explained by clauses consisting of the implied literal and the false literals of
+ * the constraint.  These clauses are not attached to the solver, they only serve as reasons for the conflict
+ * analysis.
+ * @version 2.3.0
+ * @since 2.3.0
+ */
+public final class PBPropagator {
+
+    private final MiniSat2Solver s;
+    private final LNGVector<Constraint> constraints;
+    private LNGVector<LNGIntVector> occurrences;
+    private boolean dirty;
+    private int qhead;
+
+    private long numPropagations;
+    private long numConflicts;
+
+    /**
+     * Constructs a new pseudo-Boolean propagator for a given solver.
+     * @param solver the solver
+     */
+    PBPropagator(final MiniSat2Solver solver) {
+        this.s = solver;
+        this.constraints = new LNGVector<>();
+        this.occurrences = new LNGVector<>();
+        this.dirty = false;
+        this.qhead = 0;
+    }
+
+    /**
+     * Returns the number of pseudo-Boolean constraints.
+     * @return the number of pseudo-Boolean constraints
+     */
+    public int numConstraints() {
+        return this.constraints.size();
+    }
+
+    /**
+     * Returns the number of propagations by the pseudo-Boolean constraints.
+     * @return the number of propagations by the pseudo-Boolean constraints
+     */
+    public long numPropagations() {
+        return this.numPropagations;
+    }
+
+    /**
+     * Returns the number of conflicts found by the pseudo-Boolean constraints.
+     * @return the number of conflicts found by the pseudo-Boolean constraints
+     */
+    public long numConflicts() {
+        return this.numConflicts;
+    }
+
+    /**
+     * Returns {@code true} if a given variable occurs in a pseudo-Boolean constraint, {@code false} otherwise.
+     * @param var the variable index
+     * @return {@code true} if the variable occurs in a pseudo-Boolean constraint
+     */
+    boolean containsVariable(final int var) {
+        final int lit = MiniSatStyleSolver.mkLit(var, false);
+        return lit + 1 < this.occurrences.size() && (!this.occurrences.get(lit).empty() || !this.occurrences.get(lit + 1).empty());
+    }
+
+    /**
+     * Adds a new normalized pseudo-Boolean constraint {@code c_1 * l_1 + ... + c_n * l_n >= k}.  The coefficients
+     * have to be positive and sorted in descending order.  The occurrence lists are rebuilt before the next search.
+     * @param lits   the literals
+     * @param coeffs the coefficients
+     * @param rhs    the right-hand side
+     */
+    void add(final int[] lits, final long[] coeffs, final long rhs) {
+        this.constraints.push(new Constraint(lits, coeffs, rhs));
+        this.dirty = true;
+    }
+
+    /**
+     * Removes the constraints which were added after the constraint with the given index.  The occurrence lists are
+     * rebuilt before the next search and the constraints are not propagated until then.
+     * @param numConstraints the new number of constraints
+     */
+    void shrinkTo(final int numConstraints) {
+        this.constraints.shrinkTo(numConstraints);
+        this.dirty = true;
+    }
+
+    /**
+     * Returns {@code true} if the occurrence lists have to be rebuilt before the next search, {@code false} otherwise.
+     * @return {@code true} if the occurrence lists have to be rebuilt
+     */
+    boolean dirty() {
+        return this.dirty;
+    }
+
+    /**
+     * Rebuilds the occurrence lists, resets the slacks of all constraints, and propagates the literals which are
+     * implied independently of the current assignment.  The solver has to be on decision level 0 and all literals on
+     * the trail are propagated again by the next call of {@link #propagate()}.
+     * @return {@code false} if a constraint can never be satisfied, {@code true} otherwise
+     */
+    boolean rebuild() {
+        this.dirty = false;
+        this.qhead = 0;
+        this.occurrences = new LNGVector<>(2 * this.s.nVars());
+        for (int i = 0; i < 2 * this.s.nVars(); i++) {
+            this.occurrences.push(new LNGIntVector());
+        }
+        for (int ci = 0; ci < this.constraints.size(); ci++) {
+            final Constraint c = this.constraints.get(ci);
+            c.slack = -c.rhs;
+            for (int i = 0; i < c.lits.length; i++) {
+                c.slack += c.coeffs[i];
+                this.occurrences.get(c.lits[i]).push(ci);
+                this.occurrences.get(c.lits[i]).push(i);
+            }
+            if (c.slack < 0) {
+                return false;
+            }
+            propagateConstraint(c);
+        }
+        return true;
+    }
+
+    /**
+     * Propagates all literals on the trail of the solver which were not yet propagated by the constraints.
+     * @return the conflict clause if a conflict was found or {@code null} otherwise
+     */
+    MSClause propagate() {
+        while (this.qhead < this.s.trail.size()) {
+            final int falseLit = not(this.s.trail.get(this.qhead++));
+            if (falseLit >= this.occurrences.size()) {
+                continue;
+            }
+            final LNGIntVector occs = this.occurrences.get(falseLit);
+            for (int i = 0; i < occs.size(); i += 2) {
+                final Constraint c = this.constraints.get(occs.get(i));
+                c.slack -= c.coeffs[occs.get(i + 1)];
+            }
+            for (int i = 0; i < occs.size(); i += 2) {
+                final Constraint c = this.constraints.get(occs.get(i));
+                if (c.slack < 0) {
+                    this.numConflicts++;
+                    return explanation(c, -1);
+                }
+                if (c.slack < c.coeffs[0]) {
+                    propagateConstraint(c);
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Undoes the propagation of all literals from the given trail position on.  This method has to be called before
+     * the literals are removed from the trail.
+     * @param trailPosition the trail position
+     */
+    void backtrack(final int trailPosition) {
+        if (this.dirty) {
+            this.qhead = Math.min(this.qhead, trailPosition);
+            return;
+        }
+        while (this.qhead > trailPosition) {
+            final int falseLit = not(this.s.trail.get(--this.qhead));
+            if (falseLit >= this.occurrences.size()) {
+                continue;
+            }
+            final LNGIntVector occs = this.occurrences.get(falseLit);
+            for (int i = 0; i < occs.size(); i += 2) {
+                final Constraint c = this.constraints.get(occs.get(i));
+                c.slack += c.coeffs[occs.get(i + 1)];
+            }
+        }
+    }
+
+    /**
+     * Implies all unassigned literals of a constraint whose coefficient exceeds the slack of the constraint.
+     * @param c the constraint
+     */
+    private void propagateConstraint(final Constraint c) {
+        for (int i = 0; i < c.lits.length && c.coeffs[i] > c.slack; i++) {
+            if (this.s.value(c.lits[i]) == Tristate.UNDEF) {
+                this.numPropagations++;
+                this.s.uncheckedEnqueue(c.lits[i], explanation(c, c.lits[i]));
+            }
+        }
+    }
+
+    /**
+     * Returns the explanation of an implication or a conflict of a constraint, i.e. a clause consisting of the implied
+     * literal and the false literals of the constraint.  The literals of a conflict clause with the highest and the
+     * second-highest level are on the first two positions.
+     * @param c       the constraint
+     * @param implied the implied literal or -1 for a conflict
+     * @return the explanation
+     */
+    private MSClause explanation(final Constraint c, final int implied) {
+        final LNGIntVector lits = new LNGIntVector();
+        if (implied >= 0) {
+            lits.push(implied);
+        }
+        for (final int lit : c.lits) {
+            if (lit != implied && this.s.value(lit) == Tristate.FALSE) {
+                lits.push(lit);
+            }
+        }
+        if (implied < 0) {
+            for (int pos = 0; pos < 2 && pos < lits.size(); pos++) {
+                int max = pos;
+                for (int i = pos + 1; i < lits.size(); i++) {
+                    if (this.s.v(lits.get(i)).level() > this.s.v(lits.get(max)).level()) {
+                        max = i;
+                    }
+                }
+                final int tmp = lits.get(pos);
+                lits.set(pos, lits.get(max));
+                lits.set(max, tmp);
+            }
+        }
+        return new MSClause(lits, false);
+    }
+
+    /**
+     * A normalized pseudo-Boolean constraint.
+     */
+    private static final class Constraint {
+        private final int[] lits;
+        private final long[] coeffs;
+        private final long rhs;
+        private long slack;
+
+        private Constraint(final int[] lits, final long[] coeffs, final long rhs) {
+            this.lits = lits;
+            this.coeffs = coeffs;
+            this.rhs = rhs;
+        }
+    }
+}
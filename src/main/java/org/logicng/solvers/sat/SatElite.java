@@ -0,0 +1,697 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+
+package org.logicng.solvers.sat;
+
+import static org.logicng.solvers.sat.MiniSatStyleSolver.LIT_UNDEF;
+import static org.logicng.solvers.sat.MiniSatStyleSolver.mkLit;
+import static org.logicng.solvers.sat.MiniSatStyleSolver.not;
+import static org.logicng.solvers.sat.MiniSatStyleSolver.sign;
+import static org.logicng.solvers.sat.MiniSatStyleSolver.var;
+
+import org.logicng.collections.LNGBooleanVector;
+import org.logicng.collections.LNGIntVector;
+import org.logicng.collections.LNGVector;
+import org.logicng.datastructures.Tristate;
+import org.logicng.solvers.datastructures.MSClause;
+import org.logicng.solvers.datastructures.MSVariable;
+import org.logicng.solvers.datastructures.MSWatchList;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A SatELite-style preprocessor for the MiniSat solver.
+ * <p>
+ * The preprocessor works on the original clauses of the solver at decision level 0.  It removes satisfied clauses and
+ * false literals, performs backward subsumption and self-subsuming resolution, and eliminates variables by clause
+ * distribution if the number of resolvents does not exceed the number of removed clauses.  The clauses of an
+ * eliminated variable are stored, so models can be extended to the variable and the variable can be restored when it
+ * occurs in a new clause or an assumption.  Frozen variables are never eliminated.
+ * <p>
+ * Learnt clauses remain valid since the preprocessed formula is implied by the original formula over the remaining
+ * variables.  Only learnt clauses containing an eliminated variable are removed.
+ * @version 2.3.0
+ * @since 2.3.0
+ */
+public final class SatElite {
+
+    private final MiniSat2Solver solver;
+    private final int elimClauseLimit;
+    private final int subsumptionLimit;
+    private final LNGBooleanVector frozen;
+    private final List<Elimination> eliminations;
+    private final Map<Integer, Elimination> eliminationsByVar;
+    private final LNGIntVector restoreLog;
+    private boolean dirty;
+    private boolean locked;
+
+    private List<List<Clause>> occs;
+    private List<Clause> clauses;
+    private Deque<Clause> subsumptionQueue;
+    private LNGIntVector unitQueue;
+    private int[] marks;
+    private int stamp;
+
+    private int numEliminatedVars;
+    private int numSubsumedClauses;
+    private int numStrengthenedClauses;
+    private int numRuns;
+
+    /**
+     * Constructs a new preprocessor for a given solver.
+     * @param solver the solver
+     */
+    SatElite(final MiniSat2Solver solver) {
+        this.solver = solver;
+        this.elimClauseLimit = solver.config.elimClauseLimit;
+        this.subsumptionLimit = solver.config.subsumptionLimit;
+        this.frozen = new LNGBooleanVector();
+        this.eliminations = new ArrayList<>();
+        this.eliminationsByVar = new HashMap<>();
+        this.restoreLog = new LNGIntVector();
+        this.dirty = true;
+    }
+
+    /**
+     * Freezes or unfreezes a variable.  A frozen variable is not eliminated.
+     * @param var      the variable index
+     * @param isFrozen {@code true} if the variable should be frozen, {@code false} otherwise
+     */
+    public void setFrozen(final int var, final boolean isFrozen) {
+        if (this.frozen.size() <= var) {
+            this.frozen.growTo(var + 1, false);
+        }
+        this.frozen.set(var, isFrozen);
+    }
+
+    /**
+     * Returns whether a variable is frozen.
+     * @param var the variable index
+     * @return {@code true} if the variable is frozen, {@code false} otherwise
+     */
+    public boolean isFrozen(final int var) {
+        return var < this.frozen.size() && this.frozen.get(var);
+    }
+
+    /**
+     * Returns whether a variable is currently eliminated.
+     * @param var the variable index
+     * @return {@code true} if the variable is eliminated, {@code false} otherwise
+     */
+    public boolean isEliminated(final int var) {
+        final Elimination elimination = this.eliminationsByVar.get(var);
+        return elimination != null && elimination.active;
+    }
+
+    /**
+     * Returns the number of currently eliminated variables.
+     * @return the number of currently eliminated variables
+     */
+    public int numEliminatedVars() {
+        return this.numEliminatedVars;
+    }
+
+    /**
+     * Returns the number of clauses which were removed by subsumption.
+     * @return the number of subsumed clauses
+     */
+    public int numSubsumedClauses() {
+        return this.numSubsumedClauses;
+    }
+
+    /**
+     * Returns the number of clauses which were strengthened by self-subsuming resolution.
+     * @return the number of strengthened clauses
+     */
+    public int numStrengthenedClauses() {
+        return this.numStrengthenedClauses;
+    }
+
+    /**
+     * Returns the number of preprocessing runs.
+     * @return the number of preprocessing runs
+     */
+    public int numRuns() {
+        return this.numRuns;
+    }
+
+    /**
+     * Prepares a new clause for the solver.  Eliminated variables of the clause are restored.
+     * @param ps the literals of the clause
+     */
+    void newClause(final LNGIntVector ps) {
+        this.dirty = true;
+        restoreVariables(ps);
+    }
+
+    /**
+     * Prepares the assumptions of a solver call.  Eliminated variables of the assumptions are restored and all
+     * variables of the assumptions are frozen.
+     * @param assumptions the assumptions
+     */
+    void prepareAssumptions(final LNGIntVector assumptions) {
+        restoreVariables(assumptions);
+        for (int i = 0; i < assumptions.size(); i++) {
+            setFrozen(var(assumptions.get(i)), true);
+        }
+    }
+
+    /**
+     * Restores the eliminated variables of a given vector of literals.
+     * @param lits the literals
+     */
+    void restoreVariables(final LNGIntVector lits) {
+        for (int i = 0; i < lits.size(); i++) {
+            final Elimination elimination = this.eliminationsByVar.get(var(lits.get(i)));
+            if (elimination != null && elimination.active) {
+                restore(elimination);
+            }
+        }
+    }
+
+    /**
+     * Locks the preprocessor, i.e. no further preprocessing is performed.  This is required as soon as a solver state
+     * is saved, since loading the state relies on the order of the clauses.
+     */
+    void lock() {
+        this.locked = true;
+    }
+
+    /**
+     * Returns the size of the restore log.  The size is part of a saved solver state.
+     * @return the size of the restore log
+     */
+    int restoreLogSize() {
+        return this.restoreLog.size();
+    }
+
+    /**
+     * Eliminates the variables which were restored after a solver state was saved.  The clauses which were added to
+     * the solver in order to restore them must have been removed already.
+     * @param size the size of the restore log in the saved solver state
+     */
+    void undoRestores(final int size) {
+        for (int i = this.restoreLog.size() - 1; i >= size; i--) {
+            final Elimination elimination = this.eliminations.get(this.restoreLog.get(i));
+            elimination.active = true;
+            this.solver.vars.get(elimination.var).setDecision(false);
+            this.numEliminatedVars++;
+        }
+        this.restoreLog.shrinkTo(Math.min(size, this.restoreLog.size()));
+    }
+
+    /**
+     * Extends a model of the solver to the eliminated variables.
+     * @param model the model
+     */
+    void extendModel(final LNGBooleanVector model) {
+        for (int i = this.eliminations.size() - 1; i >= 0; i--) {
+            final Elimination elimination = this.eliminations.get(i);
+            if (!elimination.active) {
+                continue;
+            }
+            model.set(elimination.var, false);
+            for (final int[] clause : elimination.clauses) {
+                boolean satisfied = false;
+                int elimLit = LIT_UNDEF;
+                for (final int lit : clause) {
+                    if (var(lit) == elimination.var) {
+                        elimLit = lit;
+                    } else if (model.get(var(lit)) != sign(lit)) {
+                        satisfied = true;
+                        break;
+                    }
+                }
+                if (!satisfied && !sign(elimLit)) {
+                    model.set(elimination.var, true);
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Preprocesses the clauses of the solver if clauses were added since the last run and the preprocessor is not
+     * locked.  The solver must be on decision level 0.
+     * @return {@code false} if the preprocessing found the formula to be unsatisfiable, {@code true} otherwise
+     */
+    boolean preprocess() {
+        if (!this.dirty || this.locked || !this.solver.ok) {
+            return this.solver.ok;
+        }
+        this.dirty = false;
+        this.numRuns++;
+        final MiniSat2Solver s = this.solver;
+        if (s.propagate() != null) {
+            s.ok = false;
+            return false;
+        }
+        final int qhead = s.qhead;
+        for (int i = 0; i < s.trail.size(); i++) {
+            s.v(s.trail.get(i)).setReason(null);
+        }
+        initialize();
+        for (final MSClause c : s.clauses) {
+            final LNGIntVector lits = new LNGIntVector(c.size());
+            for (int i = 0; i < c.size(); i++) {
+                lits.push(c.get(i));
+            }
+            addClause(lits);
+        }
+        propagateUnits();
+        processSubsumptionQueue();
+        eliminateVariables();
+        rebuildSolver(qhead);
+        this.occs = null;
+        this.clauses = null;
+        this.subsumptionQueue = null;
+        this.unitQueue = null;
+        this.marks = null;
+        return s.ok;
+    }
+
+    private void initialize() {
+        final int nVars = this.solver.nVars();
+        this.occs = new ArrayList<>(2 * nVars);
+        for (int i = 0; i < 2 * nVars; i++) {
+            this.occs.add(new ArrayList<>());
+        }
+        this.clauses = new ArrayList<>();
+        this.subsumptionQueue = new ArrayDeque<>();
+        this.unitQueue = new LNGIntVector();
+        this.marks = new int[2 * nVars];
+        this.stamp = 0;
+    }
+
+    /**
+     * Adds a clause to the preprocessor.  Satisfied clauses are ignored and false literals are removed.
+     * @param lits the literals of the clause
+     */
+    private void addClause(final LNGIntVector lits) {
+        final LNGIntVector ps = new LNGIntVector(lits.size());
+        for (int i = 0; i < lits.size(); i++) {
+            final Tristate value = this.solver.value(lits.get(i));
+            if (value == Tristate.TRUE) {
+                return;
+            } else if (value == Tristate.UNDEF) {
+                ps.push(lits.get(i));
+            }
+        }
+        if (ps.empty()) {
+            this.solver.ok = false;
+        } else if (ps.size() == 1) {
+            enqueueUnit(ps.get(0));
+        } else {
+            final Clause c = new Clause(ps);
+            this.clauses.add(c);
+            for (int i = 0; i < ps.size(); i++) {
+                this.occs.get(ps.get(i)).add(c);
+            }
+            this.subsumptionQueue.add(c);
+        }
+    }
+
+    private void enqueueUnit(final int lit) {
+        final Tristate value = this.solver.value(lit);
+        if (value == Tristate.FALSE) {
+            this.solver.ok = false;
+        } else if (value == Tristate.UNDEF) {
+            this.solver.uncheckedEnqueue(lit, null);
+            this.unitQueue.push(lit);
+        }
+    }
+
+    /**
+     * Propagates the new units over the occurrence lists: satisfied clauses are removed and false literals are
+     * removed from their clauses.
+     */
+    private void propagateUnits() {
+        for (int i = 0; i < this.unitQueue.size() && this.solver.ok; i++) {
+            final int lit = this.unitQueue.get(i);
+            for (final Clause c : this.occs.get(lit)) {
+                deleteClause(c);
+            }
+            this.occs.get(lit).clear();
+            for (final Clause c : new ArrayList<>(this.occs.get(not(lit)))) {
+                if (!c.deleted) {
+                    strengthen(c, not(lit));
+                }
+            }
+        }
+        this.unitQueue.clear();
+    }
+
+    private void deleteClause(final Clause c) {
+        c.deleted = true;
+    }
+
+    /**
+     * Removes a literal from a clause.
+     * @param c   the clause
+     * @param lit the literal
+     */
+    private void strengthen(final Clause c, final int lit) {
+        final LNGIntVector lits = c.lits;
+        int j = 0;
+        for (int i = 0; i < lits.size(); i++) {
+            if (lits.get(i) != lit) {
+                lits.set(j++, lits.get(i));
+            }
+        }
+        lits.shrinkTo(j);
+        this.occs.get(lit).remove(c);
+        c.computeSignature();
+        if (lits.size() == 1) {
+            deleteClause(c);
+            enqueueUnit(lits.get(0));
+        } else {
+            this.subsumptionQueue.add(c);
+        }
+    }
+
+    /**
+     * Performs backward subsumption and self-subsuming resolution for all clauses in the subsumption queue.
+     */
+    private void processSubsumptionQueue() {
+        while (this.solver.ok && (!this.subsumptionQueue.isEmpty() || !this.unitQueue.empty())) {
+            propagateUnits();
+            final Clause c = this.subsumptionQueue.poll();
+            if (c == null || c.deleted) {
+                continue;
+            }
+            int best = c.lits.get(0);
+            for (int i = 1; i < c.lits.size(); i++) {
+                final int lit = c.lits.get(i);
+                if (occurrences(lit) < occurrences(best)) {
+                    best = lit;
+                }
+            }
+            if (occurrences(best) > this.subsumptionLimit) {
+                continue;
+            }
+            this.stamp++;
+            for (int i = 0; i < c.lits.size(); i++) {
+                this.marks[c.lits.get(i)] = this.stamp;
+            }
+            backwardSubsumption(c, best);
+            if (!c.deleted) {
+                backwardSubsumption(c, not(best));
+            }
+        }
+    }
+
+    private int occurrences(final int lit) {
+        return this.occs.get(lit).size() + this.occs.get(not(lit)).size();
+    }
+
+    /**
+     * Removes the clauses of an occurrence list which are subsumed by a given clause and strengthens the clauses
+     * which can be strengthened by self-subsuming resolution with the clause.  The literals of the clause must be
+     * marked with the current stamp.
+     * @param c   the clause
+     * @param lit the literal of the occurrence list
+     */
+    private void backwardSubsumption(final Clause c, final int lit) {
+        for (final Clause d : new ArrayList<>(this.occs.get(lit))) {
+            if (d == c || d.deleted || d.lits.size() < c.lits.size() || (c.signature & ~d.signature) != 0) {
+                continue;
+            }
+            int matches = 0;
+            int flipped = LIT_UNDEF;
+            for (int i = 0; i < d.lits.size(); i++) {
+                final int dLit = d.lits.get(i);
+                if (this.marks[dLit] == this.stamp) {
+                    matches++;
+                } else if (this.marks[not(dLit)] == this.stamp) {
+                    if (flipped != LIT_UNDEF) {
+                        flipped = LIT_UNDEF;
+                        matches = -1;
+                        break;
+                    }
+                    flipped = dLit;
+                }
+            }
+            if (flipped == LIT_UNDEF && matches == c.lits.size()) {
+                deleteClause(d);
+                this.numSubsumedClauses++;
+            } else if (flipped != LIT_UNDEF && matches == c.lits.size() - 1) {
+                strengthen(d, flipped);
+                this.numStrengthenedClauses++;
+                if (c.deleted || !this.solver.ok) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Eliminates variables by clause distribution in the order of their number of occurrences.
+     */
+    private void eliminateVariables() {
+        final MiniSat2Solver s = this.solver;
+        final List<Integer> candidates = new ArrayList<>();
+        for (int v = 0; v < s.nVars(); v++) {
+            final MSVariable var = s.vars.get(v);
+            if (var.decision() && var.assignment() == Tristate.UNDEF && !isFrozen(v) && !isEliminated(v)) {
+                candidates.add(v);
+            }
+        }
+        final long[] costs = new long[s.nVars()];
+        for (final int v : candidates) {
+            costs[v] = (long) this.occs.get(mkLit(v, false)).size() * this.occs.get(mkLit(v, true)).size();
+        }
+        candidates.sort((v1, v2) -> Long.compare(costs[v1], costs[v2]));
+        for (final int v : candidates) {
+            if (!s.ok) {
+                return;
+            }
+            if (s.vars.get(v).assignment() == Tristate.UNDEF) {
+                eliminate(v);
+                processSubsumptionQueue();
+            }
+        }
+    }
+
+    /**
+     * Eliminates a variable if the number of its non-tautological resolvents does not exceed the number of its
+     * clauses and no resolvent is larger than the clause limit.
+     * @param v the variable
+     */
+    private void eliminate(final int v) {
+        final List<Clause> pos = liveClauses(mkLit(v, false));
+        final List<Clause> neg = liveClauses(mkLit(v, true));
+        if (pos.isEmpty() && neg.isEmpty() || pos.size() + neg.size() > this.subsumptionLimit) {
+            return;
+        }
+        int numResolvents = 0;
+        final LNGIntVector resolvent = new LNGIntVector();
+        for (final Clause p : pos) {
+            for (final Clause n : neg) {
+                if (resolve(p, n, v, resolvent)) {
+                    if (++numResolvents > pos.size() + neg.size() || resolvent.size() > this.elimClauseLimit) {
+                        return;
+                    }
+                }
+            }
+        }
+        final List<int[]> elimClauses = new ArrayList<>(pos.size() + neg.size());
+        for (final Clause c : pos) {
+            elimClauses.add(c.lits.toArray());
+        }
+        for (final Clause c : neg) {
+            elimClauses.add(c.lits.toArray());
+        }
+        final Elimination elimination = new Elimination(v, elimClauses, this.eliminations.size());
+        this.eliminations.add(elimination);
+        this.eliminationsByVar.put(v, elimination);
+        this.solver.vars.get(v).setDecision(false);
+        this.numEliminatedVars++;
+        for (final Clause p : pos) {
+            for (final Clause n : neg) {
+                if (resolve(p, n, v, resolvent)) {
+                    addClause(new LNGIntVector(resolvent));
+                }
+            }
+        }
+        for (final Clause c : pos) {
+            deleteClause(c);
+        }
+        for (final Clause c : neg) {
+            deleteClause(c);
+        }
+        this.occs.get(mkLit(v, false)).clear();
+        this.occs.get(mkLit(v, true)).clear();
+    }
+
+    private List<Clause> liveClauses(final int lit) {
+        final List<Clause> occurrences = this.occs.get(lit);
+        occurrences.removeIf(c -> c.deleted);
+        return occurrences;
+    }
+
+    /**
+     * Computes the resolvent of two clauses on a variable.
+     * @param p         the clause with the positive literal
+     * @param n         the clause with the negative literal
+     * @param v         the variable
+     * @param resolvent the vector for the resolvent
+     * @return {@code false} if the resolvent is tautological, {@code true} otherwise
+     */
+    private boolean resolve(final Clause p, final Clause n, final int v, final LNGIntVector resolvent) {
+        resolvent.clear();
+        this.stamp++;
+        for (int i = 0; i < p.lits.size(); i++) {
+            final int lit = p.lits.get(i);
+            if (var(lit) != v) {
+                this.marks[lit] = this.stamp;
+                resolvent.push(lit);
+            }
+        }
+        for (int i = 0; i < n.lits.size(); i++) {
+            final int lit = n.lits.get(i);
+            if (var(lit) != v) {
+                if (this.marks[not(lit)] == this.stamp) {
+                    return false;
+                } else if (this.marks[lit] != this.stamp) {
+                    resolvent.push(lit);
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Replaces the clauses of the solver by the preprocessed clauses, removes the learnt clauses with eliminated
+     * variables, and rebuilds the watch lists.
+     * @param qhead the propagation head of the solver before the preprocessing
+     */
+    private void rebuildSolver(final int qhead) {
+        final MiniSat2Solver s = this.solver;
+        for (int i = 0; i < s.watches.size(); i++) {
+            s.watches.set(i, new MSWatchList());
+            s.watchesBin.set(i, new MSWatchList());
+        }
+        s.clausesLiterals = 0;
+        s.learntsLiterals = 0;
+        s.clauses = new LNGVector<>();
+        for (final Clause c : this.clauses) {
+            if (!c.deleted) {
+                final MSClause clause = new MSClause(c.lits, false);
+                s.clauses.push(clause);
+                s.attachClause(clause);
+            }
+        }
+        final LNGVector<MSClause> learnts = new LNGVector<>(s.learnts.size());
+        for (final MSClause c : s.learnts) {
+            boolean keep = true;
+            for (int i = 0; i < c.size() && keep; i++) {
+                keep = !isEliminated(var(c.get(i)));
+            }
+            if (keep) {
+                learnts.push(c);
+                s.attachClause(c);
+            }
+        }
+        s.learnts = learnts;
+        s.qhead = qhead;
+        if (s.ok && s.propagate() != null) {
+            s.ok = false;
+        }
+        s.unitClauses.clear();
+        for (int i = 0; i < s.trail.size(); i++) {
+            s.unitClauses.push(s.trail.get(i));
+        }
+        s.simpDBAssigns = -1;
+        s.rebuildOrderHeap();
+    }
+
+    /**
+     * Restores an eliminated variable by adding its clauses to the solver again.
+     * @param elimination the elimination of the variable
+     */
+    private void restore(final Elimination elimination) {
+        elimination.active = false;
+        this.numEliminatedVars--;
+        this.restoreLog.push(elimination.index);
+        final MSVariable var = this.solver.vars.get(elimination.var);
+        var.setDecision(true);
+        this.solver.insertVarOrder(elimination.var);
+        for (final int[] clause : elimination.clauses) {
+            this.solver.addClause(new LNGIntVector(clause), null);
+        }
+    }
+
+    /**
+     * A clause of the preprocessor.
+     */
+    private static final class Clause {
+        private final LNGIntVector lits;
+        private long signature;
+        private boolean deleted;
+
+        private Clause(final LNGIntVector lits) {
+            this.lits = lits;
+            computeSignature();
+        }
+
+        private void computeSignature() {
+            this.signature = 0;
+            for (int i = 0; i < this.lits.size(); i++) {
+                this.signature |= 1L << (var(this.lits.get(i)) & 63);
+            }
+        }
+    }
+
+    /**
+     * An eliminated variable together with the clauses which were removed by its elimination.
+     */
+    private static final class Elimination {
+        private final int var;
+        private final List<int[]> clauses;
+        private final int index;
+        private boolean active;
+
+        private Elimination(final int var, final List<int[]> clauses, final int index) {
+            this.var = var;
+            this.clauses = clauses;
+            this.index = index;
+            this.active = true;
+        }
+
+        @Override
+        public String toString() {
+            return "Elimination{var=" + this.var + ", clauses=" + this.clauses.size() + ", active=" + this.active + "}";
+        }
+    }
+}
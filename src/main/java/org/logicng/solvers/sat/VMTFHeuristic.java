@@ -0,0 +1,211 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+
+package org.logicng.solvers.sat;
+
+import org.logicng.collections.LNGIntVector;
+import org.logicng.collections.LNGLongVector;
+import org.logicng.datastructures.Tristate;
+import org.logicng.solvers.datastructures.MSVariable;
+
+/**
+ * The variable move to front heuristic (VMTF) by Ryan.
+ * <p>
+ * All variables are kept in a doubly-linked queue.  At the end of a conflict, the variables of the conflict analysis
+ * are moved to the front of the queue in the order of their former positions.  Each move assigns a new, strictly
+ * increasing stamp to the variable.  The next decision variable is the unassigned variable closest to the front.
+ * It is found by a search pointer which is moved towards the back and only moved to the front again if a variable
+ * with a larger stamp becomes unassigned.  So the queue does not need to be traversed from the front for each
+ * decision.
+ * @version 2.3.0
+ * @since 2.3.0
+ */
+final class VMTFHeuristic extends BranchingHeuristic {
+
+    private final LNGIntVector prev;
+    private final LNGIntVector next;
+    private final LNGLongVector stamps;
+    private final LNGIntVector bumped;
+    private final LNGLongVector sortedBumps;
+    private int first;
+    private int last;
+    private int search;
+    private long stamp;
+
+    /**
+     * Constructs a new VMTF heuristic for a given solver.
+     * @param solver the solver
+     */
+    VMTFHeuristic(final MiniSatStyleSolver solver) {
+        super(solver);
+        this.prev = new LNGIntVector();
+        this.next = new LNGIntVector();
+        this.stamps = new LNGLongVector();
+        this.bumped = new LNGIntVector();
+        this.sortedBumps = new LNGLongVector();
+        this.first = -1;
+        this.last = -1;
+        this.search = -1;
+        this.stamp = 0;
+    }
+
+    @Override
+    boolean usesOrderHeap() {
+        return false;
+    }
+
+    @Override
+    void newVar(final int v) {
+        this.prev.push(-1);
+        this.next.push(-1);
+        this.stamps.push(0);
+        enqueue(v);
+    }
+
+    @Override
+    void insert(final int v) {
+        if (this.search < 0 || this.stamps.get(v) > this.stamps.get(this.search)) {
+            this.search = v;
+        }
+    }
+
+    @Override
+    void bump(final int v) {
+        this.bumped.push(v);
+    }
+
+    @Override
+    void conflict() {
+        if (this.bumped.empty()) {
+            return;
+        }
+        this.sortedBumps.clear();
+        for (int i = 0; i < this.bumped.size(); i++) {
+            final int v = this.bumped.get(i);
+            this.sortedBumps.push(this.stamps.get(v) << 32 | v);
+        }
+        this.bumped.clear();
+        this.sortedBumps.sort();
+        for (int i = 0; i < this.sortedBumps.size(); i++) {
+            final int v = (int) this.sortedBumps.get(i);
+            if (v != this.last) {
+                dequeue(v);
+                enqueue(v);
+            }
+            if (this.solver.vars.get(v).assignment() == Tristate.UNDEF) {
+                this.search = v;
+            }
+        }
+    }
+
+    @Override
+    void shrink(final int numVars) {
+        for (int v = numVars; v < this.stamps.size(); v++) {
+            dequeue(v);
+        }
+        this.prev.shrinkTo(numVars);
+        this.next.shrinkTo(numVars);
+        this.stamps.shrinkTo(numVars);
+        this.bumped.clear();
+        this.search = this.last;
+    }
+
+    @Override
+    int peek() {
+        int v = this.search;
+        while (v >= 0) {
+            final MSVariable var = this.solver.vars.get(v);
+            if (var.assignment() == Tristate.UNDEF && var.decision()) {
+                break;
+            }
+            v = this.prev.get(v);
+        }
+        this.search = v;
+        return v;
+    }
+
+    @Override
+    int next() {
+        return peek();
+    }
+
+    @Override
+    double score(final int v) {
+        return this.stamps.get(v);
+    }
+
+    /**
+     * Appends a variable to the front of the queue and assigns it a new stamp.
+     * @param v the variable index
+     */
+    private void enqueue(final int v) {
+        if (this.stamp == Integer.MAX_VALUE) {
+            renumberStamps();
+        }
+        this.prev.set(v, this.last);
+        this.next.set(v, -1);
+        if (this.last >= 0) {
+            this.next.set(this.last, v);
+        } else {
+            this.first = v;
+        }
+        this.last = v;
+        this.stamps.set(v, ++this.stamp);
+    }
+
+    /**
+     * Removes a variable from the queue.
+     * @param v the variable index
+     */
+    private void dequeue(final int v) {
+        final int p = this.prev.get(v);
+        final int n = this.next.get(v);
+        if (p >= 0) {
+            this.next.set(p, n);
+        } else {
+            this.first = n;
+        }
+        if (n >= 0) {
+            this.prev.set(n, p);
+        } else {
+            this.last = p;
+        }
+    }
+
+    /**
+     * Renumbers the stamps of all variables in the order of the queue, such that the stamps can be packed together
+     * with the variable index in a single long value for sorting.
+     */
+    private void renumberStamps() {
+        this.stamp = 0;
+        for (int v = this.first; v >= 0; v = this.next.get(v)) {
+            this.stamps.set(v, ++this.stamp);
+        }
+    }
+}
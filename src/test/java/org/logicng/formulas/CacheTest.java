@@ -31,16 +31,28 @@ package org.logicng.formulas;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import org.junit.jupiter.api.Test;
+import org.logicng.datastructures.Tristate;
+import org.logicng.formulas.cache.CacheStatistics;
+import org.logicng.formulas.cache.FormulaCache;
 import org.logicng.formulas.cache.FunctionCacheEntry;
+import org.logicng.formulas.cache.LRUFormulaCache;
 import org.logicng.formulas.cache.PredicateCacheEntry;
 import org.logicng.formulas.cache.TransformationCacheEntry;
+import org.logicng.formulas.cache.UnboundedFormulaCache;
+import org.logicng.predicates.NNFPredicate;
+import org.logicng.solvers.MiniSat;
+import org.logicng.solvers.SATSolver;
+import org.logicng.transformations.cnf.PlaistedGreenbaumTransformation;
+import org.logicng.transformations.cnf.TseitinTransformation;
+import org.logicng.util.FormulaRandomizer;
+import org.logicng.util.FormulaRandomizerConfig;
 
 import java.util.Arrays;
 import java.util.List;
 
 /**
  * Unit tests for the package formulas.cache.
- * @version 2.0.0
+ * @version 2.3.0
  * @since 1.1
  */
 public class CacheTest {
@@ -82,4 +94,101 @@ public class CacheTest {
         assertThat(valuesFunc.contains(FunctionCacheEntry.valueOf("LITPROFILE"))).isTrue();
         assertThat(valuesFunc.contains(FunctionCacheEntry.valueOf("SUBFORMULAS"))).isTrue();
     }
+
+    @Test
+    public void testEvictable() {
+        assertThat(TransformationCacheEntry.NNF.evictable()).isTrue();
+        assertThat(TransformationCacheEntry.FACTORIZED_CNF.evictable()).isTrue();
+        assertThat(TransformationCacheEntry.TSEITIN.evictable()).isFalse();
+        assertThat(TransformationCacheEntry.TSEITIN_VARIABLE.evictable()).isFalse();
+        assertThat(TransformationCacheEntry.PLAISTED_GREENBAUM_POS.evictable()).isFalse();
+        assertThat(TransformationCacheEntry.PLAISTED_GREENBAUM_VARIABLE.evictable()).isFalse();
+        assertThat(PredicateCacheEntry.IS_CNF.evictable()).isFalse();
+        assertThat(PredicateCacheEntry.IS_SAT.evictable()).isTrue();
+        assertThat(FunctionCacheEntry.VARIABLES.evictable()).isTrue();
+    }
+
+    @Test
+    public void testUnboundedCache() {
+        final FormulaFactory f = new FormulaFactory();
+        final FormulaCache<Tristate> cache = new UnboundedFormulaCache<>(false);
+        final Variable a = f.variable("a");
+        final Variable b = f.variable("b");
+        assertThat(cache.get(a, PredicateCacheEntry.IS_SAT)).isNull();
+        cache.put(a, PredicateCacheEntry.IS_SAT, Tristate.TRUE);
+        cache.put(a, PredicateCacheEntry.IS_TAUTOLOGY, Tristate.FALSE);
+        cache.put(b, PredicateCacheEntry.IS_SAT, Tristate.TRUE);
+        assertThat(cache.get(a, PredicateCacheEntry.IS_SAT)).isEqualTo(Tristate.TRUE);
+        assertThat(cache.get(a)).hasSize(2);
+        assertThat(cache.size()).isEqualTo(2);
+        cache.put(a, PredicateCacheEntry.IS_SAT, null);
+        assertThat(cache.get(a, PredicateCacheEntry.IS_SAT)).isNull();
+        cache.remove(b);
+        assertThat(cache.get(b)).isNull();
+        assertThat(cache.statistics()).isEqualTo(new CacheStatistics(1, 2, 0, 1));
+        cache.clear();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    public void testLRUCache() {
+        final FormulaFactory f = new FormulaFactory();
+        final FormulaCache<Formula> cache = new LRUFormulaCache<>(2);
+        final Variable a = f.variable("a");
+        final Variable b = f.variable("b");
+        final Variable c = f.variable("c");
+        cache.put(a, TransformationCacheEntry.NNF, a);
+        cache.put(b, TransformationCacheEntry.NNF, b);
+        cache.put(a, TransformationCacheEntry.TSEITIN_VARIABLE, a);
+        assertThat(cache.get(a, TransformationCacheEntry.NNF)).isEqualTo(a);
+        cache.put(c, TransformationCacheEntry.NNF, c);
+        assertThat(cache.get(b, TransformationCacheEntry.NNF)).isNull();
+        assertThat(cache.get(a, TransformationCacheEntry.NNF)).isEqualTo(a);
+        assertThat(cache.get(c, TransformationCacheEntry.NNF)).isEqualTo(c);
+        assertThat(cache.get(a)).hasSize(2);
+        cache.put(b, TransformationCacheEntry.NNF, b);
+        cache.put(c, TransformationCacheEntry.NNF, c);
+        assertThat(cache.get(a, TransformationCacheEntry.NNF)).isNull();
+        assertThat(cache.get(a, TransformationCacheEntry.TSEITIN_VARIABLE)).isEqualTo(a);
+        final CacheStatistics statistics = cache.statistics();
+        assertThat(statistics.hits()).isEqualTo(4);
+        assertThat(statistics.misses()).isEqualTo(2);
+        assertThat(statistics.evictions()).isEqualTo(3);
+        assertThat(statistics.size()).isEqualTo(3);
+        assertThat(statistics.hitRatio()).isEqualTo(4.0 / 6);
+        cache.clear();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    public void testBoundedFactoryCaches() {
+        final FormulaFactory f = new FormulaFactory(FormulaFactoryConfig.builder().cacheSize(10).build());
+        final FormulaRandomizer randomizer = new FormulaRandomizer(f, FormulaRandomizerConfig.builder().seed(42).numVars(10).build());
+        final PlaistedGreenbaumTransformation pg = new PlaistedGreenbaumTransformation(0);
+        final TseitinTransformation tseitin = new TseitinTransformation(0);
+        for (int i = 0; i < 100; i++) {
+            final Formula formula = randomizer.formula(4);
+            formula.variables();
+            formula.nnf();
+            assertThat(formula.nnf().holds(NNFPredicate.get())).isTrue();
+            assertEquisatisfiableAndImplied(f, formula, formula.transform(pg));
+            assertEquisatisfiableAndImplied(f, formula, formula.transform(tseitin));
+            assertEquisatisfiableAndImplied(f, formula, formula.transform(pg));
+        }
+        assertThat(f.transformationCacheStatistics().evictions()).isPositive();
+        assertThat(f.functionCacheStatistics().evictions()).isPositive();
+        assertThat(f.transformationCacheStatistics().hits()).isPositive();
+        assertThat(new FormulaFactory().transformationCacheStatistics().evictions()).isZero();
+    }
+
+    private static void assertEquisatisfiableAndImplied(final FormulaFactory f, final Formula formula, final Formula cnf) {
+        final SATSolver solver = MiniSat.miniSat(f);
+        solver.add(formula);
+        final boolean formulaSat = solver.sat() == Tristate.TRUE;
+        solver.reset();
+        solver.add(cnf);
+        assertThat(solver.sat() == Tristate.TRUE).isEqualTo(formulaSat);
+        solver.add(formula.negate());
+        assertThat(solver.sat()).isEqualTo(Tristate.FALSE);
+    }
 }
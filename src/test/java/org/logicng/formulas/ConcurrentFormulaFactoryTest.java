@@ -0,0 +1,225 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+package org.logicng.formulas;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.logicng.io.parsers.ParserException;
+import org.logicng.predicates.CNFPredicate;
+import org.logicng.util.FormulaRandomizer;
+import org.logicng.util.FormulaRandomizerConfig;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Unit and stress tests for the class {@link ConcurrentFormulaFactory}.
+ * @version 2.3.0
+ * @since 2.3.0
+ */
+public class ConcurrentFormulaFactoryTest {
+
+    private static final int THREADS = 8;
+
+    @Test
+    public void testSameInstancesAcrossThreads() throws InterruptedException, ExecutionException {
+        final ConcurrentFormulaFactory f = new ConcurrentFormulaFactory();
+        final List<List<Formula>> results = runConcurrently(() -> generateFormulas(f, 42, 500));
+        final List<Formula> first = results.get(0);
+        for (final List<Formula> result : results) {
+            assertThat(result).hasSameSizeAs(first);
+            for (int i = 0; i < first.size(); i++) {
+                assertThat(result.get(i)).isSameAs(first.get(i));
+            }
+        }
+        final FormulaFactory sequential = new FormulaFactory();
+        generateFormulas(sequential, 42, 500);
+        assertThat(f.statistics()).isEqualTo(sequential.statistics());
+    }
+
+    @Test
+    public void testDifferentFormulasAcrossThreads() throws InterruptedException, ExecutionException {
+        final ConcurrentFormulaFactory f = new ConcurrentFormulaFactory();
+        final List<Callable<List<Formula>>> tasks = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            final int seed = i;
+            tasks.add(() -> generateFormulas(f, seed, 300));
+        }
+        final List<List<Formula>> results = runConcurrently(tasks);
+        for (final List<Formula> result : results) {
+            for (final Formula formula : result) {
+                assertThat(formula.factory()).isSameAs(f);
+                for (final Formula subformula : formula.apply(f.subformulaFunction())) {
+                    assertThat(rebuild(f, subformula)).isSameAs(subformula);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testConcurrentTransformations() throws InterruptedException, ExecutionException {
+        final ConcurrentFormulaFactory f = new ConcurrentFormulaFactory();
+        final List<Formula> formulas = generateFormulas(f, 17, 200);
+        final List<List<Formula>> results = runConcurrently(() -> {
+            final List<Formula> nnfs = new ArrayList<>();
+            for (final Formula formula : formulas) {
+                final Formula nnf = formula.nnf();
+                assertThat(formula.cnf().holds(CNFPredicate.get())).isTrue();
+                assertThat(formula.variables()).containsAll(nnf.variables());
+                nnfs.add(nnf);
+            }
+            return nnfs;
+        });
+        for (final List<Formula> result : results) {
+            for (int i = 0; i < formulas.size(); i++) {
+                assertThat(result.get(i)).isSameAs(results.get(0).get(i));
+            }
+        }
+    }
+
+    @Test
+    public void testConcurrentAuxiliaryVariables() throws InterruptedException, ExecutionException {
+        final ConcurrentFormulaFactory f = new ConcurrentFormulaFactory();
+        final List<List<Formula>> results = runConcurrently(() -> {
+            final List<Formula> vars = new ArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                vars.add(f.newCNFVariable());
+                vars.add(f.newCCVariable());
+                vars.add(f.newPBVariable());
+            }
+            return vars;
+        });
+        final Set<Formula> allVars = new HashSet<>();
+        for (final List<Formula> result : results) {
+            allVars.addAll(result);
+        }
+        assertThat(allVars).hasSize(THREADS * 3000);
+        assertThat(f.statistics().cnfCounter()).isEqualTo(THREADS * 1000);
+        assertThat(f.statistics().ccCounter()).isEqualTo(THREADS * 1000);
+        assertThat(f.statistics().pbCounter()).isEqualTo(THREADS * 1000);
+    }
+
+    @Test
+    public void testConcurrentParsing() throws InterruptedException, ExecutionException {
+        final ConcurrentFormulaFactory f = new ConcurrentFormulaFactory();
+        final List<List<Formula>> results = runConcurrently(() -> {
+            final List<Formula> parsed = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                parsed.add(f.parse(String.format("(a%d | ~b) & (c => d%d) & 2*a%d + 3*b <= 4", i, i, i)));
+            }
+            return parsed;
+        });
+        for (final List<Formula> result : results) {
+            assertThat(result).containsExactlyElementsOf(results.get(0));
+            for (int i = 0; i < result.size(); i++) {
+                assertThat(result.get(i)).isSameAs(results.get(0).get(i));
+            }
+        }
+    }
+
+    @Test
+    public void testClear() throws ParserException {
+        final ConcurrentFormulaFactory f = new ConcurrentFormulaFactory();
+        f.parse("a & (b | ~c)");
+        f.newCNFVariable();
+        f.clear();
+        assertThat(f.statistics().formulas()).isZero();
+        assertThat(f.statistics().cnfCounter()).isZero();
+        assertThat(f.parse("a & (b | ~c)").holds(CNFPredicate.get())).isTrue();
+    }
+
+    private static Formula rebuild(final FormulaFactory f, final Formula formula) {
+        switch (formula.type()) {
+            case LITERAL:
+                final Literal lit = (Literal) formula;
+                return f.literal(lit.name(), lit.phase());
+            case NOT:
+                return f.not(((Not) formula).operand());
+            case IMPL:
+            case EQUIV:
+                final BinaryOperator op = (BinaryOperator) formula;
+                return f.binaryOperator(formula.type(), op.left(), op.right());
+            case AND:
+            case OR:
+                final List<Formula> operands = new ArrayList<>();
+                formula.forEach(operands::add);
+                return f.naryOperator(formula.type(), operands);
+            default:
+                return formula;
+        }
+    }
+
+    private static List<Formula> generateFormulas(final FormulaFactory f, final long seed, final int count) {
+        final FormulaRandomizer randomizer = new FormulaRandomizer(f, FormulaRandomizerConfig.builder().seed(seed).numVars(20).build());
+        final List<Formula> formulas = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            formulas.add(randomizer.formula(4));
+        }
+        return formulas;
+    }
+
+    private static <T> List<T> runConcurrently(final Callable<T> task) throws InterruptedException, ExecutionException {
+        final List<Callable<T>> tasks = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            tasks.add(task);
+        }
+        return runConcurrently(tasks);
+    }
+
+    private static <T> List<T> runConcurrently(final List<Callable<T>> tasks) throws InterruptedException, ExecutionException {
+        final ExecutorService executor = Executors.newFixedThreadPool(tasks.size());
+        try {
+            final CountDownLatch start = new CountDownLatch(1);
+            final List<Future<T>> futures = new ArrayList<>();
+            for (final Callable<T> task : tasks) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+            final List<T> results = new ArrayList<>();
+            for (final Future<T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
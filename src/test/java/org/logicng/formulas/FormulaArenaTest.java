@@ -0,0 +1,228 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+package org.logicng.formulas;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.logicng.TestWithExampleFormulas;
+import org.logicng.collections.LNGIntVector;
+import org.logicng.io.parsers.ParserException;
+import org.logicng.predicates.CNFPredicate;
+import org.logicng.predicates.NNFPredicate;
+import org.logicng.predicates.satisfiability.SATPredicate;
+import org.logicng.predicates.satisfiability.TautologyPredicate;
+import org.logicng.util.FormulaRandomizer;
+import org.logicng.util.FormulaRandomizerConfig;
+
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * Unit tests for {@link FormulaArena}.
+ * @version 2.3.0
+ * @since 2.3.0
+ */
+public class FormulaArenaTest extends TestWithExampleFormulas {
+
+    @Test
+    public void testConstantsAndLiterals() {
+        final FormulaArena arena = new FormulaArena();
+        assertThat(arena.numNodes()).isEqualTo(2);
+        assertThat(arena.type(FormulaArena.FALSE)).isEqualTo(FType.FALSE);
+        assertThat(arena.type(FormulaArena.TRUE)).isEqualTo(FType.TRUE);
+        assertThat(arena.not(FormulaArena.TRUE)).isEqualTo(FormulaArena.FALSE);
+        final int a = arena.variable("a");
+        final int na = arena.literal("a", false);
+        assertThat(arena.variable("a")).isEqualTo(a);
+        assertThat(arena.type(a)).isEqualTo(FType.LITERAL);
+        assertThat(arena.name(na)).isEqualTo("a");
+        assertThat(arena.phase(a)).isTrue();
+        assertThat(arena.phase(na)).isFalse();
+        assertThat(arena.variableIndex(na)).isEqualTo(arena.variableIndex(a));
+        assertThat(arena.not(a)).isEqualTo(na);
+        assertThat(arena.not(na)).isEqualTo(a);
+        assertThat(arena.numVariables()).isEqualTo(1);
+        assertThat(arena.variableName(0)).isEqualTo("a");
+        assertThat(arena.numNodes()).isEqualTo(4);
+    }
+
+    @Test
+    public void testUniqueNodes() {
+        final FormulaArena arena = new FormulaArena();
+        final int a = arena.variable("a");
+        final int b = arena.variable("b");
+        final int c = arena.variable("c");
+        final int and = arena.and(a, b, c);
+        assertThat(arena.and(c, a, b)).isEqualTo(and);
+        assertThat(arena.and(a, arena.and(b, c))).isEqualTo(and);
+        assertThat(arena.type(and)).isEqualTo(FType.AND);
+        assertThat(arena.numOperands(and)).isEqualTo(3);
+        assertThat(arena.operand(and, 0)).isEqualTo(a);
+        assertThat(arena.operand(and, 2)).isEqualTo(c);
+        assertThat(arena.or(a, b)).isNotEqualTo(arena.and(a, b));
+        assertThat(arena.equivalence(a, b)).isEqualTo(arena.equivalence(b, a));
+        assertThat(arena.implication(a, b)).isNotEqualTo(arena.implication(b, a));
+        final int not = arena.not(and);
+        assertThat(arena.type(not)).isEqualTo(FType.NOT);
+        assertThat(arena.not(and)).isEqualTo(not);
+        assertThat(arena.not(not)).isEqualTo(and);
+    }
+
+    @Test
+    public void testSimplifications() {
+        final FormulaArena arena = new FormulaArena();
+        final int a = arena.variable("a");
+        final int na = arena.literal("a", false);
+        final int b = arena.variable("b");
+        assertThat(arena.and()).isEqualTo(FormulaArena.TRUE);
+        assertThat(arena.or()).isEqualTo(FormulaArena.FALSE);
+        assertThat(arena.and(a)).isEqualTo(a);
+        assertThat(arena.and(a, a, FormulaArena.TRUE)).isEqualTo(a);
+        assertThat(arena.and(a, FormulaArena.FALSE)).isEqualTo(FormulaArena.FALSE);
+        assertThat(arena.or(a, FormulaArena.TRUE)).isEqualTo(FormulaArena.TRUE);
+        assertThat(arena.and(a, b, na)).isEqualTo(FormulaArena.FALSE);
+        assertThat(arena.or(a, b, na)).isEqualTo(FormulaArena.TRUE);
+        final int or = arena.or(a, b);
+        assertThat(arena.and(or, arena.not(or))).isEqualTo(FormulaArena.FALSE);
+        assertThat(arena.implication(FormulaArena.FALSE, a)).isEqualTo(FormulaArena.TRUE);
+        assertThat(arena.implication(FormulaArena.TRUE, a)).isEqualTo(a);
+        assertThat(arena.implication(a, FormulaArena.FALSE)).isEqualTo(na);
+        assertThat(arena.implication(a, a)).isEqualTo(FormulaArena.TRUE);
+        assertThat(arena.equivalence(FormulaArena.TRUE, a)).isEqualTo(a);
+        assertThat(arena.equivalence(a, FormulaArena.FALSE)).isEqualTo(na);
+        assertThat(arena.equivalence(a, a)).isEqualTo(FormulaArena.TRUE);
+        assertThat(arena.equivalence(a, na)).isEqualTo(FormulaArena.FALSE);
+    }
+
+    @Test
+    public void testConversion() throws ParserException {
+        final FormulaArena arena = new FormulaArena();
+        final Formula formula = this.f.parse("(a => b) & ~(c | d) & (e <=> ~f) | $false");
+        final int node = arena.importFormula(formula);
+        assertThat(arena.toFormula(this.f, node)).isSameAs(formula);
+        assertThat(arena.importFormula(formula)).isEqualTo(node);
+        assertThat(arena.toFormula(this.f, arena.importFormula(this.TRUE))).isSameAs(this.TRUE);
+        assertThat(arena.toFormula(this.f, arena.importFormula(this.NA))).isSameAs(this.NA);
+        final FormulaFactory g = new FormulaFactory();
+        assertThat(arena.toFormula(g, node)).isEqualTo(g.parse("(a => b) & ~(c | d) & (e <=> ~f)"));
+        assertThatThrownBy(() -> arena.importFormula(this.PBC1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testSharedSubformulas() throws ParserException {
+        final FormulaArena arena = new FormulaArena();
+        final Formula shared = this.f.parse("(a | b) & (c | d) & (e => f)");
+        final Formula formula = this.f.and(this.f.or(shared, this.X), this.f.or(shared, this.Y), this.f.not(shared));
+        arena.importFormula(formula);
+        assertThat(arena.numNodes()).isEqualTo(2 + 8 + 3 + 1 + 4);
+    }
+
+    @Test
+    public void testNNF() throws ParserException {
+        final FormulaArena arena = new FormulaArena();
+        final int node = arena.importFormula(this.f.parse("~(a & (b => c)) | ~(d <=> ~e)"));
+        final Formula nnf = arena.toFormula(this.f, arena.nnf(node));
+        assertThat(nnf).isEqualTo(this.f.parse("~a | b & ~c | (~d | e) & (d | ~e)"));
+        assertThat(arena.nnf(node)).isEqualTo(arena.nnf(node));
+        assertThat(arena.nnf(arena.variable("a"))).isEqualTo(arena.variable("a"));
+    }
+
+    @Test
+    public void testCNF() throws ParserException {
+        final FormulaArena arena = new FormulaArena();
+        final int node = arena.importFormula(this.f.parse("a & b | ~(c => d)"));
+        final int cnf = arena.cnf(node);
+        assertThat(arena.isCNF(cnf)).isTrue();
+        assertThat(arena.isCNF(node)).isFalse();
+        assertThat(arena.toFormula(this.f, cnf)).isEqualTo(this.f.parse("(a | c) & (a | ~d) & (b | c) & (b | ~d)"));
+    }
+
+    @Test
+    public void testPlaistedGreenbaum() throws ParserException {
+        final FormulaArena arena = new FormulaArena();
+        final Formula formula = this.f.parse("(a & b | c & d) & (e | f & g) & h");
+        final int pg = arena.plaistedGreenbaumCNF(arena.importFormula(formula));
+        assertThat(arena.isCNF(pg)).isTrue();
+        final Formula cnf = arena.toFormula(this.f, pg);
+        assertThat(cnf.variables()).hasSize(formula.variables().size() + 3);
+        assertThat(this.f.and(cnf, this.f.not(formula)).holds(new SATPredicate(this.f))).isFalse();
+        final int clause = arena.importFormula(this.f.parse("a | ~b"));
+        assertThat(arena.plaistedGreenbaumCNF(clause)).isEqualTo(clause);
+    }
+
+    @Test
+    public void testVariables() throws ParserException {
+        final FormulaArena arena = new FormulaArena();
+        arena.variable("z");
+        final int node = arena.importFormula(this.f.parse("(a => ~b) & (~a | c) & ~(d <=> a)"));
+        final LNGIntVector variables = arena.variables(node);
+        assertThat(variables.size()).isEqualTo(4);
+        final SortedSet<String> names = new TreeSet<>();
+        for (int i = 0; i < variables.size(); i++) {
+            names.add(arena.variableName(variables.get(i)));
+        }
+        assertThat(names).containsExactly("a", "b", "c", "d");
+        assertThat(arena.variables(FormulaArena.TRUE).empty()).isTrue();
+    }
+
+    @Test
+    public void testRandomFormulas() {
+        final FormulaRandomizer randomizer = new FormulaRandomizer(this.f, FormulaRandomizerConfig.builder().seed(42).numVars(10).weightPbc(0).weightCc(0).weightAmo(0).weightExo(0).build());
+        final FormulaArena arena = new FormulaArena();
+        for (int i = 0; i < 200; i++) {
+            final Formula formula = randomizer.formula(4);
+            final int node = arena.importFormula(formula);
+            assertThat(equivalent(arena.toFormula(this.f, node), formula)).isTrue();
+            final Formula nnf = arena.toFormula(this.f, arena.nnf(node));
+            assertThat(nnf.holds(NNFPredicate.get())).isTrue();
+            assertThat(equivalent(nnf, formula)).isTrue();
+            final Formula pg = arena.toFormula(this.f, arena.plaistedGreenbaumCNF(node));
+            assertThat(pg.holds(CNFPredicate.get())).isTrue();
+            assertThat(pg.holds(new SATPredicate(this.f))).isEqualTo(formula.holds(new SATPredicate(this.f)));
+            assertThat(this.f.and(pg, this.f.not(formula)).holds(new SATPredicate(this.f))).isFalse();
+            final SortedSet<Variable> variables = new TreeSet<>();
+            final LNGIntVector indices = arena.variables(node);
+            for (int j = 0; j < indices.size(); j++) {
+                variables.add(this.f.variable(arena.variableName(indices.get(j))));
+            }
+            assertThat(variables).isEqualTo(formula.variables());
+            if (i % 4 == 0) {
+                final Formula cnf = arena.toFormula(this.f, arena.cnf(node));
+                assertThat(cnf.holds(CNFPredicate.get())).isTrue();
+                assertThat(equivalent(cnf, formula)).isTrue();
+            }
+        }
+    }
+
+    private boolean equivalent(final Formula f1, final Formula f2) {
+        return this.f.equivalence(f1, f2).holds(new TautologyPredicate(this.f));
+    }
+}
@@ -0,0 +1,174 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+package org.logicng.formulas;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.logicng.formulas.cache.CacheEntry;
+import org.logicng.formulas.cache.FunctionCacheEntry;
+import org.logicng.formulas.cache.TransformationCacheEntry;
+import org.logicng.formulas.cache.WeakFormulaCache;
+import org.logicng.io.parsers.ParserException;
+import org.logicng.util.FormulaRandomizer;
+import org.logicng.util.FormulaRandomizerConfig;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Unit tests for formula factories with weak unique tables.
+ * @version 2.3.0
+ * @since 2.3.0
+ */
+public class WeakUniqueTablesTest {
+
+    @Test
+    public void testWeakValueHashMap() {
+        final WeakValueHashMap<String, Formula> map = new WeakValueHashMap<>();
+        final FormulaFactory f = new FormulaFactory();
+        final Variable a = f.variable("a");
+        assertThat(map.putIfAbsent("a", a)).isNull();
+        assertThat(map.putIfAbsent("a", f.variable("b"))).isSameAs(a);
+        assertThat(map.get("a")).isSameAs(a);
+        assertThat(map.containsKey("a")).isTrue();
+        assertThat(map.containsKey("b")).isFalse();
+        assertThat(map).containsOnlyKeys("a").containsValue(a);
+        assertThat(map.put("a", f.variable("c"))).isSameAs(a);
+        assertThat(map.remove("a")).isEqualTo(f.variable("c"));
+        assertThat(map).isEmpty();
+        map.put("x", f.variable("x"));
+        map.clear();
+        assertThat(map.size()).isZero();
+    }
+
+    @Test
+    public void testUnusedFormulasAreCollected() {
+        final FormulaFactory f = new FormulaFactory(FormulaFactoryConfig.builder().weakUniqueTables(true).build());
+        final Formula kept = f.and(f.variable("a"), f.or(f.variable("b"), f.literal("c", false)));
+        final FormulaRandomizer randomizer = new FormulaRandomizer(f, FormulaRandomizerConfig.builder().seed(42).numVars(20).build());
+        for (int i = 0; i < 1000; i++) {
+            randomizer.formula(5).nnf();
+        }
+        final int before = f.statistics().formulas();
+        assertThat(awaitGarbageCollection(() -> f.statistics().formulas() < before / 2)).isTrue();
+        assertThat(f.and(f.variable("a"), f.or(f.variable("b"), f.literal("c", false)))).isSameAs(kept);
+        assertThat(f.or(f.literal("c", false), f.variable("b"))).isSameAs(((And) kept).operands[1]);
+        assertThat(((And) kept).operands[0]).isSameAs(f.variable("a"));
+    }
+
+    @Test
+    public void testCanonicalInstances() throws ParserException {
+        final FormulaFactory f = new FormulaFactory(FormulaFactoryConfig.builder().weakUniqueTables(true).build());
+        final List<Formula> formulas = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            formulas.add(f.parse(String.format("(a%d => b) & ~(c | d%d) & (e <=> f) & 2*a%d + b <= 2", i, i, i)));
+        }
+        awaitGarbageCollection(() -> false);
+        for (int i = 0; i < 100; i++) {
+            assertThat(f.parse(String.format("(a%d => b) & ~(c | d%d) & (e <=> f) & 2*a%d + b <= 2", i, i, i))).isSameAs(formulas.get(i));
+            assertThat(formulas.get(i).cnf().variables()).contains(f.variable("a" + i));
+        }
+    }
+
+    @Test
+    public void testCachesAreCollected() {
+        final FormulaFactory f = new FormulaFactory(FormulaFactoryConfig.builder().weakUniqueTables(true).build());
+        final Formula kept = f.not(f.and(f.variable("a"), f.variable("b")));
+        final Formula keptNNF = kept.nnf();
+        final FormulaRandomizer randomizer = new FormulaRandomizer(f, FormulaRandomizerConfig.builder().seed(42).numVars(20).build());
+        for (int i = 0; i < 1000; i++) {
+            final Formula formula = randomizer.formula(4);
+            formula.nnf();
+            formula.variables();
+        }
+        final int before = f.transformationCacheStatistics().size() + f.functionCacheStatistics().size();
+        assertThat(awaitGarbageCollection(() -> {
+            f.statistics(); // expunges the unique tables, so the operands of collected formulas can be collected, too
+            return f.transformationCacheStatistics().size() + f.functionCacheStatistics().size() < before / 2;
+        })).isTrue();
+        assertThat(kept.nnf()).isSameAs(keptNNF);
+    }
+
+    @Test
+    public void testWeakFormulaCache() {
+        final FormulaFactory f = new FormulaFactory();
+        final WeakFormulaCache<Formula> cache = new WeakFormulaCache<>();
+        final Variable a = f.variable("a");
+        final Formula notA = f.literal("a", false);
+        cache.put(a, TransformationCacheEntry.NNF, a);
+        cache.put(a, TransformationCacheEntry.AIG, notA);
+        assertThat(cache.get(a, TransformationCacheEntry.NNF)).isSameAs(a);
+        assertThat(cache.get(a, TransformationCacheEntry.AIG)).isSameAs(notA);
+        assertThat(cache.get(a, TransformationCacheEntry.TSEITIN)).isNull();
+        final Map<CacheEntry, Formula> entries = cache.get(a);
+        assertThat(entries).containsEntry(TransformationCacheEntry.NNF, a).containsEntry(TransformationCacheEntry.AIG, notA);
+        cache.put(a, TransformationCacheEntry.AIG, null);
+        assertThat(cache.get(a, TransformationCacheEntry.AIG)).isNull();
+        assertThat(cache.get(notA)).isNull();
+        assertThat(cache.statistics().hits()).isEqualTo(2);
+        assertThat(cache.statistics().misses()).isEqualTo(2);
+        cache.remove(a);
+        assertThat(cache.size()).isZero();
+        cache.put(notA, FunctionCacheEntry.DEPTH, a);
+        cache.clear();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    public void testConcurrentFormulaFactory() {
+        final FormulaFactory f = new ConcurrentFormulaFactory(FormulaFactoryConfig.builder().weakUniqueTables(true).build());
+        final Formula kept = f.and(f.variable("a"), f.variable("b"));
+        final FormulaRandomizer randomizer = new FormulaRandomizer(f, FormulaRandomizerConfig.builder().seed(42).numVars(20).build());
+        for (int i = 0; i < 1000; i++) {
+            randomizer.formula(4);
+        }
+        final int before = f.statistics().formulas();
+        assertThat(awaitGarbageCollection(() -> f.statistics().formulas() < before / 2)).isTrue();
+        assertThat(f.and(f.variable("b"), f.variable("a"))).isSameAs(kept);
+    }
+
+    private static boolean awaitGarbageCollection(final BooleanSupplier condition) {
+        for (int i = 0; i < 20; i++) {
+            System.gc();
+            if (condition.getAsBoolean()) {
+                return true;
+            }
+            try {
+                Thread.sleep(50);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return condition.getAsBoolean();
+    }
+}
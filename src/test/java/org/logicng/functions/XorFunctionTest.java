@@ -0,0 +1,133 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+package org.logicng.functions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.logicng.TestWithExampleFormulas;
+import org.logicng.datastructures.Assignment;
+import org.logicng.datastructures.XorConstraint;
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.Variable;
+import org.logicng.io.parsers.ParserException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Unit Tests for the class {@link XorFunction} and the creation of XOR constraints in the formula factory.
+ * @version 2.3.0
+ * @since 2.3.0
+ */
+public class XorFunctionTest extends TestWithExampleFormulas {
+
+    @Test
+    public void testFactory() {
+        assertThat(this.f.xor()).isEqualTo(this.FALSE);
+        assertThat(this.f.xor(this.A)).isEqualTo(this.A);
+        assertThat(this.f.xor(this.A, this.B)).isEqualTo(this.f.not(this.f.equivalence(this.A, this.B)));
+        assertThat(this.f.xor(this.A, this.B, this.C)).isEqualTo(this.f.equivalence(this.A, this.f.equivalence(this.B, this.C)));
+        assertThat(this.f.xor(this.A, this.A)).isEqualTo(this.FALSE);
+        assertThat(this.f.xor(this.A, this.NA)).isEqualTo(this.TRUE);
+        assertThat(this.f.xor(this.A, this.TRUE, this.B)).isEqualTo(this.f.equivalence(this.A, this.B));
+        assertThat(this.f.xor(Arrays.asList(this.A, this.B, this.C))).isEqualTo(this.f.xor(this.A, this.B, this.C));
+    }
+
+    @Test
+    public void testSemantics() {
+        final List<Variable> vars = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            vars.add(this.f.variable("v" + i));
+        }
+        for (int n = 1; n <= vars.size(); n++) {
+            final Formula xor = this.f.xor(vars.subList(0, n));
+            for (int bits = 0; bits < 1 << n; bits++) {
+                final Assignment assignment = new Assignment();
+                for (int i = 0; i < n; i++) {
+                    assignment.addLiteral((bits & (1 << i)) != 0 ? vars.get(i) : vars.get(i).negate());
+                }
+                assertThat(xor.evaluate(assignment)).isEqualTo(Integer.bitCount(bits) % 2 == 1);
+            }
+        }
+    }
+
+    @Test
+    public void testConstants() {
+        assertThat(this.TRUE.apply(XorFunction.get())).isEqualTo(new XorConstraint(new TreeSet<>(), false));
+        assertThat(this.FALSE.apply(XorFunction.get())).isEqualTo(new XorConstraint(new TreeSet<>(), true));
+    }
+
+    @Test
+    public void testLiterals() {
+        assertThat(this.A.apply(XorFunction.get())).isEqualTo(new XorConstraint(new TreeSet<>(Collections.singleton(this.A)), true));
+        assertThat(this.NA.apply(XorFunction.get())).isEqualTo(new XorConstraint(new TreeSet<>(Collections.singleton(this.A)), false));
+    }
+
+    @Test
+    public void testXorFormulas() throws ParserException {
+        final TreeSet<Variable> abc = new TreeSet<>(Arrays.asList(this.A, this.B, this.C));
+        assertThat(this.f.xor(this.A, this.B, this.C).apply(XorFunction.get())).isEqualTo(new XorConstraint(abc, true));
+        assertThat(this.f.xor(this.A, this.NB, this.C).apply(XorFunction.get())).isEqualTo(new XorConstraint(abc, false));
+        assertThat(this.f.not(this.f.xor(this.A, this.B, this.C)).apply(XorFunction.get())).isEqualTo(new XorConstraint(abc, false));
+        assertThat(this.f.parse("~(a <=> b) <=> (c <=> ~a)").apply(XorFunction.get()))
+                .isEqualTo(new XorConstraint(new TreeSet<>(Arrays.asList(this.B, this.C)), false));
+        assertThat(this.f.xor(this.A, this.B, this.C, this.X).apply(XorFunction.get()))
+                .isEqualTo(new XorConstraint(new TreeSet<>(Arrays.asList(this.A, this.B, this.C, this.X)), true));
+    }
+
+    @Test
+    public void testNoXorFormulas() {
+        assertThat(this.AND1.apply(XorFunction.get())).isNull();
+        assertThat(this.OR1.apply(XorFunction.get())).isNull();
+        assertThat(this.IMP1.apply(XorFunction.get())).isNull();
+        assertThat(this.PBC1.apply(XorFunction.get())).isNull();
+        assertThat(this.f.equivalence(this.A, this.AND1).apply(XorFunction.get())).isNull();
+        assertThat(this.f.not(this.OR1).apply(XorFunction.get())).isNull();
+    }
+
+    @Test
+    public void testConstraintFormula() {
+        final TreeSet<Variable> abc = new TreeSet<>(Arrays.asList(this.A, this.B, this.C));
+        final XorConstraint odd = new XorConstraint(abc, true);
+        final XorConstraint even = new XorConstraint(abc, false);
+        assertThat(odd.formula(this.f)).isEqualTo(this.f.xor(this.A, this.B, this.C));
+        assertThat(even.formula(this.f)).isEqualTo(this.f.not(this.f.xor(this.A, this.B, this.C)));
+        assertThat(odd.formula(this.f).apply(XorFunction.get())).isEqualTo(odd);
+        assertThat(even.formula(this.f).apply(XorFunction.get())).isEqualTo(even);
+        assertThat(odd.variables()).containsExactly(this.A, this.B, this.C);
+        assertThat(odd.rhs()).isTrue();
+        assertThat(odd).isNotEqualTo(even);
+        assertThat(odd.hashCode()).isEqualTo(new XorConstraint(abc, true).hashCode());
+        assertThat(odd.toString()).isEqualTo("XorConstraint{variables=[a, b, c], rhs=true}");
+    }
+}
@@ -0,0 +1,194 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+
+package org.logicng.io.readers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.logicng.datastructures.Assignment;
+import org.logicng.datastructures.Tristate;
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.FormulaFactory;
+import org.logicng.io.parsers.ParserException;
+import org.logicng.solvers.MiniSat;
+import org.logicng.solvers.sat.MiniSatConfig;
+import org.tukaani.xz.LZMA2Options;
+import org.tukaani.xz.XZOutputStream;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Unit Tests for the class {@link DimacsStreamReader}.
+ * @version 2.3.0
+ * @since 2.3.0
+ */
+public class DimacsStreamReaderTest {
+
+    @Test
+    public void testFormulasAsDimacsReader() throws IOException {
+        for (final File file : cnfFiles()) {
+            final FormulaFactory f = new FormulaFactory();
+            assertThat(DimacsStreamReader.readFormulas(file, f)).isEqualTo(DimacsReader.readCNF(file, f));
+        }
+    }
+
+    @Test
+    public void testSolver() throws IOException {
+        final Map<String, Boolean> expectedResults = expectedResults();
+        for (final File file : cnfFiles()) {
+            final FormulaFactory f = new FormulaFactory();
+            final MiniSat solver = MiniSat.miniSat(f);
+            final int numClauses = DimacsStreamReader.readCNF(file, solver);
+            assertThat(numClauses).isEqualTo(DimacsReader.readCNF(file, f).size());
+            assertThat(solver.sat() == Tristate.TRUE).isEqualTo(expectedResults.get(file.getName()));
+        }
+        final FormulaFactory f = new FormulaFactory();
+        final File file = new File("src/test/resources/sat/dp02s02.shuffled.cnf");
+        final List<Formula> clauses = DimacsReader.readCNF(file, f);
+        for (final MiniSat solver : Arrays.asList(MiniSat.miniSat(f), MiniSat.glucose(f), MiniSat.miniCard(f),
+                MiniSat.miniSat(f, MiniSatConfig.builder().clauseStorage(MiniSatConfig.ClauseStorage.ARENA).build()))) {
+            DimacsStreamReader.readCNF(file, solver);
+            assertThat(solver.sat()).isEqualTo(Tristate.TRUE);
+            final Assignment model = solver.model();
+            assertThat(clauses.stream().allMatch(clause -> clause.evaluate(model))).isTrue();
+        }
+    }
+
+    @Test
+    public void testIncrementalSolver() throws IOException, ParserException {
+        final FormulaFactory f = new FormulaFactory();
+        final MiniSat solver = MiniSat.miniSat(f);
+        solver.add(f.parse("x1 | ~x3"));
+        assertThat(solver.sat()).isEqualTo(Tristate.TRUE);
+        assertThat(DimacsStreamReader.readCNF(stream("p cnf 3 2\n-1 0\n3 2 0\n"), solver, "x")).isEqualTo(2);
+        assertThat(solver.sat()).isEqualTo(Tristate.TRUE);
+        assertThat(solver.model().literals()).containsExactlyInAnyOrder(f.literal("x1", false), f.variable("x2"), f.literal("x3", false));
+        DimacsStreamReader.readCNF(stream("-2 0"), solver, "x");
+        assertThat(solver.sat()).isEqualTo(Tristate.FALSE);
+    }
+
+    @Test
+    public void testFormulas() throws IOException, ParserException {
+        final FormulaFactory f = new FormulaFactory();
+        final String input = "c comment\np cnf 4 4\n1 -2\n 3 0 -4 0\n\r\n c another comment\n2 2 -1 0 4 1 -4 0\n%\n0\n";
+        assertThat(DimacsStreamReader.readFormulas(stream(input), f, "x")).containsExactly(
+                f.parse("x1 | ~x2 | x3"), f.parse("~x4"), f.parse("x2 | ~x1"), f.verum());
+        assertThat(DimacsStreamReader.readFormulas(stream(""), f, "x")).isEmpty();
+        assertThat(DimacsStreamReader.readFormulas(stream("0"), f, "x")).containsExactly(f.falsum());
+        assertThat(DimacsStreamReader.readFormulas(new File("src/test/resources/dimacs/malformed/contains-line-without-zero.cnf"), f, "x"))
+                .containsExactly(f.parse("x1 | x2"), f.verum());
+    }
+
+    @Test
+    public void testCompressed() throws IOException {
+        final File file = new File("src/test/resources/sat/dp02s02.shuffled.cnf");
+        final byte[] bytes = Files.readAllBytes(file.toPath());
+        final FormulaFactory f = new FormulaFactory();
+        final List<Formula> expected = DimacsReader.readCNF(file, f);
+
+        final ByteArrayOutputStream gzip = new ByteArrayOutputStream();
+        try (final OutputStream out = new GZIPOutputStream(gzip)) {
+            out.write(bytes);
+        }
+        assertThat(DimacsStreamReader.readFormulas(new ByteArrayInputStream(gzip.toByteArray()), f, "v")).isEqualTo(expected);
+
+        final ByteArrayOutputStream xz = new ByteArrayOutputStream();
+        try (final OutputStream out = new XZOutputStream(xz, new LZMA2Options())) {
+            out.write(bytes);
+        }
+        assertThat(DimacsStreamReader.readFormulas(new ByteArrayInputStream(xz.toByteArray()), f, "v")).isEqualTo(expected);
+
+        final MiniSat solver = MiniSat.miniSat(f);
+        assertThat(DimacsStreamReader.readCNF(new ByteArrayInputStream(gzip.toByteArray()), solver, "v")).isEqualTo(expected.size());
+        assertThat(solver.sat()).isEqualTo(Tristate.TRUE);
+    }
+
+    @Test
+    public void testExceptionalBehavior() {
+        final FormulaFactory f = new FormulaFactory();
+        assertThatThrownBy(() -> DimacsStreamReader.readFormulas(stream("1 2 0\n2 -3\n"), f, "v"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The last clause did not end with 0.");
+        assertThatThrownBy(() -> DimacsStreamReader.readFormulas(stream("1 2 x 0"), f, "v"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unexpected character 'x' at byte 4.");
+        assertThatThrownBy(() -> DimacsStreamReader.readFormulas(stream("1 2a 0"), f, "v"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unexpected character 'a' at byte 3.");
+        assertThatThrownBy(() -> DimacsStreamReader.readFormulas(stream("1 - 0"), f, "v"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Expected a variable index after '-' at byte 3.");
+        assertThatThrownBy(() -> DimacsStreamReader.readFormulas(stream("1 2147483648 0"), f, "v"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Variable index too large at byte 11.");
+        assertThatThrownBy(() -> DimacsStreamReader.readFormulas(stream("p dnf 2 1\n1 2 0"), f, "v"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Malformed problem line 'p dnf 2 1'.");
+        assertThatThrownBy(() -> DimacsStreamReader.readFormulas(stream("p cnf x 1\n1 2 0"), f, "v"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Malformed problem line 'p cnf x 1'.");
+    }
+
+    private static InputStream stream(final String input) {
+        return new ByteArrayInputStream(input.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static List<File> cnfFiles() {
+        final File[] files = new File("src/test/resources/sat").listFiles((dir, name) -> name.endsWith(".cnf"));
+        assert files != null;
+        return Arrays.asList(files);
+    }
+
+    private static Map<String, Boolean> expectedResults() throws IOException {
+        final Map<String, Boolean> expectedResults = new HashMap<>();
+        try (final BufferedReader reader = new BufferedReader(new FileReader("src/test/resources/sat/results.txt"))) {
+            while (reader.ready()) {
+                final String[] tokens = reader.readLine().split(";");
+                expectedResults.put(tokens[0], Boolean.valueOf(tokens[1]));
+            }
+        }
+        return expectedResults;
+    }
+}
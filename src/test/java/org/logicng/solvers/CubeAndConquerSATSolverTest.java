@@ -0,0 +1,222 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+
+package org.logicng.solvers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.logicng.collections.LNGIntVector;
+import org.logicng.datastructures.Assignment;
+import org.logicng.datastructures.Tristate;
+import org.logicng.formulas.CType;
+import org.logicng.formulas.CardinalityConstraint;
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.FormulaFactory;
+import org.logicng.formulas.Literal;
+import org.logicng.handlers.SATHandler;
+import org.logicng.handlers.TimeoutSATHandler;
+import org.logicng.io.parsers.ParserException;
+import org.logicng.io.readers.DimacsReader;
+import org.logicng.solvers.functions.UpZeroLiteralsFunction;
+import org.logicng.solvers.sat.GlucoseConfig;
+import org.logicng.solvers.sat.Lookahead;
+import org.logicng.solvers.sat.MiniSatConfig;
+import org.logicng.solvers.sat.MiniSatStyleSolver;
+import org.logicng.testutils.PigeonHoleGenerator;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+
+/**
+ * Unit tests for {@link CubeAndConquerSATSolver} and {@link Lookahead}.
+ * @version 2.3.0
+ * @since 2.3.0
+ */
+public class CubeAndConquerSATSolverTest {
+
+    private final FormulaFactory f = new FormulaFactory();
+
+    @Test
+    public void testConfig() {
+        assertThat(CubeAndConquerConfig.builder().parallelism(1).build().maxCubeDepth()).isEqualTo(4);
+        assertThat(CubeAndConquerConfig.builder().parallelism(4).build().maxCubeDepth()).isEqualTo(6);
+        assertThat(CubeAndConquerConfig.builder().parallelism(5).build().maxCubeDepth()).isEqualTo(7);
+        assertThat(CubeAndConquerConfig.builder().parallelism(0).build().parallelism()).isEqualTo(1);
+        final CubeAndConquerConfig config = CubeAndConquerConfig.builder()
+                .worker(PortfolioConfig.Worker.glucose(MiniSatConfig.builder().build(), GlucoseConfig.builder().build()))
+                .parallelism(3)
+                .maxCubeDepth(2)
+                .lookaheadCandidates(10)
+                .build();
+        assertThat(config.worker().solverStyle()).isEqualTo(MiniSat.SolverStyle.GLUCOSE);
+        assertThat(config.lookaheadCandidates()).isEqualTo(10);
+        assertThat(config.toString()).isEqualTo(String.format("CubeAndConquerConfig{%n" +
+                "worker=Worker{solverStyle=GLUCOSE}%n" +
+                "parallelism=3%n" +
+                "maxCubeDepth=2%n" +
+                "lookaheadCandidates=10%n" +
+                "}"));
+        assertThat(CubeAndConquerSATSolver.cubeAndConquer(this.f, config).getConfig()).isSameAs(config);
+    }
+
+    @Test
+    public void testLookahead() throws ParserException {
+        for (final MiniSatConfig.ClauseStorage storage : MiniSatConfig.ClauseStorage.values()) {
+            final MiniSat miniSat = MiniSat.miniSat(this.f, MiniSatConfig.builder().clauseStorage(storage).build());
+            miniSat.add(this.f.parse("(a | b) & (a | ~b) & (c | d | e) & (~c | d) & (~d | e | f)"));
+            final MiniSatStyleSolver solver = miniSat.underlyingSolver();
+            final LNGIntVector cube = new LNGIntVector();
+            final int lit = Lookahead.branchingLiteral(solver, cube, 10);
+            assertThat(cube.size()).isEqualTo(1);
+            assertThat(solver.nameForIdx(MiniSatStyleSolver.var(cube.get(0)))).isEqualTo("a");
+            assertThat(MiniSatStyleSolver.sign(cube.get(0))).isFalse();
+            assertThat(lit).isNotNegative();
+            assertThat(solver.nameForIdx(MiniSatStyleSolver.var(lit))).isIn("c", "d", "e", "f");
+            final LNGIntVector refuted = new LNGIntVector();
+            refuted.push(MiniSatStyleSolver.mkLit(solver.idxForName("d"), true));
+            refuted.push(MiniSatStyleSolver.mkLit(solver.idxForName("e"), true));
+            assertThat(Lookahead.branchingLiteral(solver, refuted, 10)).isEqualTo(Lookahead.CONFLICT);
+            final LNGIntVector full = new LNGIntVector();
+            for (final String name : Arrays.asList("a", "b", "c", "d", "e", "f")) {
+                full.push(MiniSatStyleSolver.mkLit(solver.idxForName(name), false));
+            }
+            assertThat(Lookahead.branchingLiteral(solver, full, 10)).isEqualTo(MiniSatStyleSolver.LIT_UNDEF);
+            assertThat(miniSat.sat()).isEqualTo(Tristate.TRUE);
+        }
+    }
+
+    @Test
+    public void testDimacsFiles() throws IOException {
+        final Map<String, Boolean> expectedResults = new HashMap<>();
+        try (final BufferedReader reader = new BufferedReader(new FileReader("src/test/resources/sat/results.txt"))) {
+            while (reader.ready()) {
+                final String[] tokens = reader.readLine().split(";");
+                expectedResults.put(tokens[0], Boolean.valueOf(tokens[1]));
+            }
+        }
+        final File[] files = new File("src/test/resources/sat").listFiles((dir, name) -> name.endsWith(".cnf"));
+        assert files != null;
+        for (final File file : files) {
+            final FormulaFactory f = new FormulaFactory();
+            final List<Formula> clauses = DimacsReader.readCNF(file, f);
+            final CubeAndConquerSATSolver solver = CubeAndConquerSATSolver.cubeAndConquer(f, CubeAndConquerConfig.builder()
+                    .parallelism(2).maxCubeDepth(3).build());
+            solver.add(clauses);
+            final boolean sat = solver.sat() == Tristate.TRUE;
+            assertThat(sat).isEqualTo(expectedResults.get(file.getName()));
+            assertThat(solver.numCubes()).isPositive();
+            if (sat) {
+                final Assignment model = solver.model();
+                assertThat(clauses.stream().allMatch(clause -> clause.evaluate(model))).isTrue();
+                assertThat(solver.assumptionCore()).isNull();
+            } else {
+                assertThat(solver.model()).isNull();
+                assertThat(solver.assumptionCore()).isEmpty();
+            }
+        }
+    }
+
+    @Test
+    public void testAssumptionCore() throws ParserException {
+        final CubeAndConquerSATSolver solver = CubeAndConquerSATSolver.cubeAndConquer(this.f, CubeAndConquerConfig.builder()
+                .parallelism(2).maxCubeDepth(3).build());
+        solver.add(this.f.parse("(~a | x) & (~b | ~x | y) & (~c | ~y) & (d | e | g) & (~d | h) & (~e | h | i)"));
+        final List<Literal> assumptions = Arrays.asList(this.f.variable("a"), this.f.variable("b"), this.f.variable("c"),
+                this.f.literal("h", false), this.f.literal("g", false));
+        assertThat(solver.sat(assumptions)).isEqualTo(Tristate.FALSE);
+        final SortedSet<Literal> core = solver.assumptionCore();
+        assertThat(core).contains(this.f.variable("a"), this.f.variable("b"), this.f.variable("c"));
+        assertThat(assumptions).containsAll(core);
+        assertThat(solver.sat(core)).isEqualTo(Tristate.FALSE);
+        assertThat(solver.sat(Arrays.asList(this.f.variable("a"), this.f.variable("b")))).isEqualTo(Tristate.TRUE);
+        assertThat(solver.model().positiveVariables()).contains(this.f.variable("x"), this.f.variable("y"));
+        assertThat(solver.assumptionCore()).isNull();
+        assertThat(solver.sat(this.f.variable("unknown"))).isEqualTo(Tristate.TRUE);
+        solver.add(this.f.parse("~h"));
+        assertThat(solver.sat(this.f.variable("a"))).isEqualTo(Tristate.TRUE);
+        solver.add(this.f.parse("~i & ~g"));
+        assertThat(solver.sat(this.f.variable("a"))).isEqualTo(Tristate.FALSE);
+        assertThat(solver.assumptionCore()).isEmpty();
+    }
+
+    @Test
+    public void testIncremental() throws ParserException {
+        final CubeAndConquerSATSolver solver = CubeAndConquerSATSolver.cubeAndConquer(this.f, CubeAndConquerConfig.builder()
+                .worker(PortfolioConfig.Worker.miniCard(MiniSatConfig.builder().build())).parallelism(2).build());
+        assertThatThrownBy(solver::model).isInstanceOf(IllegalStateException.class);
+        solver.add(this.f.parse("(a | b) & (~a | c) & (~b | c)"));
+        final SolverState state = solver.saveState();
+        solver.add(this.f.cc(CType.EQ, 2, this.f.variable("a"), this.f.variable("b"), this.f.variable("c")));
+        assertThat(solver.sat()).isEqualTo(Tristate.TRUE);
+        assertThat(solver.model().positiveVariables()).contains(this.f.variable("c"));
+        solver.add(this.f.parse("~c"));
+        assertThat(solver.sat()).isEqualTo(Tristate.FALSE);
+        solver.loadState(state);
+        assertThat(solver.sat()).isEqualTo(Tristate.TRUE);
+        assertThat(solver.sat(this.f.literal("c", false))).isEqualTo(Tristate.FALSE);
+        assertThat(solver.assumptionCore()).containsExactly(this.f.literal("c", false));
+        assertThat(solver.knownVariables()).containsExactly(this.f.variable("a"), this.f.variable("b"), this.f.variable("c"));
+        solver.reset();
+        assertThat(solver.sat()).isEqualTo(Tristate.TRUE);
+        assertThat(solver.knownVariables()).isEmpty();
+    }
+
+    @Test
+    public void testHandler() {
+        final CubeAndConquerSATSolver solver = CubeAndConquerSATSolver.cubeAndConquer(this.f, CubeAndConquerConfig.builder().parallelism(2).build());
+        solver.add(new PigeonHoleGenerator(this.f).generate(10));
+        final SATHandler handler = new TimeoutSATHandler(100);
+        assertThat(solver.sat(handler)).isEqualTo(Tristate.UNDEF);
+        assertThat(handler.aborted()).isTrue();
+        assertThatThrownBy(solver::model).isInstanceOf(IllegalStateException.class);
+        assertThat(solver.assumptionCore()).isNull();
+        final CubeAndConquerSATSolver small = CubeAndConquerSATSolver.cubeAndConquer(this.f, CubeAndConquerConfig.builder().parallelism(2).build());
+        small.add(new PigeonHoleGenerator(this.f).generate(6));
+        assertThat(small.sat()).isEqualTo(Tristate.FALSE);
+    }
+
+    @Test
+    public void testUnsupportedOperations() {
+        final CubeAndConquerSATSolver solver = CubeAndConquerSATSolver.cubeAndConquer(this.f, CubeAndConquerConfig.builder().parallelism(2)
+                .worker(PortfolioConfig.Worker.glucose(MiniSatConfig.builder().build(), GlucoseConfig.builder().build())).build());
+        assertThatThrownBy(() -> solver.execute(UpZeroLiteralsFunction.get())).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> solver.addIncrementalCC((CardinalityConstraint) this.f.cc(CType.LE, 1, this.f.variable("a"), this.f.variable("b"))))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(solver::saveState).isInstanceOf(UnsupportedOperationException.class);
+    }
+}
@@ -0,0 +1,221 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+
+package org.logicng.solvers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.logicng.datastructures.Assignment;
+import org.logicng.datastructures.Tristate;
+import org.logicng.formulas.CType;
+import org.logicng.formulas.CardinalityConstraint;
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.FormulaFactory;
+import org.logicng.formulas.Variable;
+import org.logicng.handlers.SATHandler;
+import org.logicng.handlers.TimeoutSATHandler;
+import org.logicng.io.parsers.ParserException;
+import org.logicng.io.readers.DimacsReader;
+import org.logicng.solvers.functions.UpZeroLiteralsFunction;
+import org.logicng.solvers.sat.GlucoseConfig;
+import org.logicng.solvers.sat.MiniSatConfig;
+import org.logicng.testutils.PigeonHoleGenerator;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Unit tests for {@link PortfolioSATSolver}.
+ * @version 2.3.0
+ * @since 2.3.0
+ */
+public class PortfolioSATSolverTest {
+
+    private final FormulaFactory f = new FormulaFactory();
+
+    @Test
+    public void testConfig() {
+        final PortfolioConfig defaultConfig = PortfolioConfig.builder().numWorkers(3).build();
+        assertThat(defaultConfig.workers()).extracting(PortfolioConfig.Worker::solverStyle)
+                .containsExactly(MiniSat.SolverStyle.MINISAT, MiniSat.SolverStyle.GLUCOSE, MiniSat.SolverStyle.MINICARD);
+        assertThat(defaultConfig.clauseSharing()).isFalse();
+        assertThat(defaultConfig.maxSharedClauseSize()).isEqualTo(8);
+        assertThat(PortfolioConfig.builder().numWorkers(100).build().workers()).hasSize(8);
+        assertThat(PortfolioConfig.builder().numWorkers(0).build().workers()).hasSize(1);
+        final PortfolioConfig config = PortfolioConfig.builder()
+                .worker(PortfolioConfig.Worker.miniSat(MiniSatConfig.builder().build()))
+                .worker(PortfolioConfig.Worker.glucose(MiniSatConfig.builder().build(), GlucoseConfig.builder().build()))
+                .clauseSharing(true)
+                .maxSharedClauseSize(4)
+                .build();
+        assertThat(config.workers()).hasSize(2);
+        assertThat(config.workers().get(0).glucoseConfig()).isNull();
+        assertThat(config.workers().get(1).glucoseConfig()).isNotNull();
+        assertThat(config.workers().get(1).toString()).isEqualTo("Worker{solverStyle=GLUCOSE}");
+        assertThat(config.toString()).isEqualTo(String.format("PortfolioConfig{%n" +
+                "workers=2%n" +
+                "clauseSharing=true%n" +
+                "maxSharedClauseSize=4%n" +
+                "}"));
+        final PortfolioSATSolver solver = PortfolioSATSolver.portfolio(this.f, config);
+        assertThat(solver.getConfig()).isSameAs(config);
+        assertThat(solver.workers()).hasSize(2);
+    }
+
+    @Test
+    public void testDimacsFiles() throws IOException {
+        final Map<String, Boolean> expectedResults = new HashMap<>();
+        try (final BufferedReader reader = new BufferedReader(new FileReader("src/test/resources/sat/results.txt"))) {
+            while (reader.ready()) {
+                final String[] tokens = reader.readLine().split(";");
+                expectedResults.put(tokens[0], Boolean.valueOf(tokens[1]));
+            }
+        }
+        final File[] files = new File("src/test/resources/sat").listFiles((dir, name) -> name.endsWith(".cnf"));
+        assert files != null;
+        for (final boolean clauseSharing : Arrays.asList(false, true)) {
+            for (final File file : files) {
+                final FormulaFactory f = new FormulaFactory();
+                final List<Formula> clauses = DimacsReader.readCNF(file, f);
+                final PortfolioSATSolver solver = PortfolioSATSolver.portfolio(f, PortfolioConfig.builder()
+                        .numWorkers(3).clauseSharing(clauseSharing).build());
+                solver.add(clauses);
+                final boolean sat = solver.sat() == Tristate.TRUE;
+                assertThat(sat).isEqualTo(expectedResults.get(file.getName()));
+                assertThat(solver.winner()).isNotNull();
+                if (sat) {
+                    final Assignment model = solver.model();
+                    assertThat(clauses.stream().allMatch(clause -> clause.evaluate(model))).isTrue();
+                } else {
+                    assertThat(solver.model()).isNull();
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testIncremental() throws ParserException {
+        final PortfolioSATSolver solver = PortfolioSATSolver.portfolio(this.f, PortfolioConfig.builder()
+                .worker(PortfolioConfig.Worker.miniSat(MiniSatConfig.builder().build()))
+                .worker(PortfolioConfig.Worker.miniCard(MiniSatConfig.builder().build()))
+                .worker(PortfolioConfig.Worker.miniSat(MiniSatConfig.builder().initialPhase(true).cnfMethod(MiniSatConfig.CNFMethod.FACTORY_CNF).build()))
+                .clauseSharing(true)
+                .build());
+        assertThatThrownBy(solver::model).isInstanceOf(IllegalStateException.class);
+        solver.add(this.f.parse("(a | b) & (~a | c) & (~b | c)"));
+        final SolverState state = solver.saveState();
+        solver.add(this.f.cc(CType.EQ, 2, this.f.variable("a"), this.f.variable("b"), this.f.variable("c")));
+        assertThat(solver.sat()).isEqualTo(Tristate.TRUE);
+        assertThat(solver.model().positiveVariables()).contains(this.f.variable("c"));
+        solver.add(this.f.parse("~c"));
+        assertThat(solver.sat()).isEqualTo(Tristate.FALSE);
+        solver.loadState(state);
+        assertThat(solver.sat()).isEqualTo(Tristate.TRUE);
+        assertThat(solver.sat(this.f.literal("c", false))).isEqualTo(Tristate.FALSE);
+        assertThat(solver.sat(Arrays.asList(this.f.variable("a"), this.f.literal("b", false)))).isEqualTo(Tristate.TRUE);
+        assertThat(solver.model(new Variable[]{this.f.variable("a"), this.f.variable("b")}).literals())
+                .containsExactlyInAnyOrder(this.f.variable("a"), this.f.literal("b", false));
+        solver.loadState(state);
+        assertThatThrownBy(() -> solver.loadState(new SolverState(42, new int[0]))).isInstanceOf(IllegalArgumentException.class);
+        assertThat(solver.knownVariables()).containsExactly(this.f.variable("a"), this.f.variable("b"), this.f.variable("c"));
+        solver.reset();
+        assertThat(solver.sat()).isEqualTo(Tristate.TRUE);
+        assertThat(solver.knownVariables()).isEmpty();
+        assertThatThrownBy(() -> solver.loadState(state)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testSelectionOrder() throws ParserException {
+        final PortfolioSATSolver solver = PortfolioSATSolver.portfolio(this.f, PortfolioConfig.builder().numWorkers(3).build());
+        solver.add(this.f.parse("a | b | c"));
+        assertThat(solver.satWithSelectionOrder(Arrays.asList(this.f.literal("a", false), this.f.literal("b", false))))
+                .isEqualTo(Tristate.TRUE);
+        assertThat(solver.model().literals()).contains(this.f.literal("a", false), this.f.literal("b", false), this.f.variable("c"));
+    }
+
+    @Test
+    public void testHandler() {
+        final PortfolioSATSolver solver = PortfolioSATSolver.portfolio(this.f, PortfolioConfig.builder().numWorkers(4).build());
+        solver.add(new PigeonHoleGenerator(this.f).generate(10));
+        final SATHandler handler = new TimeoutSATHandler(100);
+        assertThat(solver.sat(handler)).isEqualTo(Tristate.UNDEF);
+        assertThat(handler.aborted()).isTrue();
+        assertThat(solver.winner()).isNull();
+        assertThatThrownBy(solver::model).isInstanceOf(IllegalStateException.class);
+        final CountingHandler countingHandler = new CountingHandler();
+        final PortfolioSATSolver small = PortfolioSATSolver.portfolio(this.f, PortfolioConfig.builder().numWorkers(4).build());
+        small.add(new PigeonHoleGenerator(this.f).generate(5));
+        assertThat(small.sat(countingHandler)).isEqualTo(Tristate.FALSE);
+        assertThat(countingHandler.started).isEqualTo(1);
+        assertThat(countingHandler.finished).isEqualTo(1);
+        assertThat(countingHandler.conflicts).isGreaterThan(0);
+    }
+
+    @Test
+    public void testUnsupportedOperations() {
+        final PortfolioSATSolver solver = PortfolioSATSolver.portfolio(this.f, PortfolioConfig.builder().numWorkers(2).build());
+        assertThatThrownBy(() -> solver.execute(UpZeroLiteralsFunction.get())).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> solver.addIncrementalCC((CardinalityConstraint) this.f.cc(CType.LE, 1, this.f.variable("a"), this.f.variable("b"))))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(solver::saveState).isInstanceOf(UnsupportedOperationException.class);
+        solver.add(this.f.variable("a"));
+        solver.sat();
+        assertThat(solver.workers().get(0).execute(UpZeroLiteralsFunction.get())).containsExactly(this.f.variable("a"));
+    }
+
+    private static final class CountingHandler implements SATHandler {
+        private int started;
+        private int finished;
+        private int conflicts;
+
+        @Override
+        public void started() {
+            this.started++;
+        }
+
+        @Override
+        public boolean detectedConflict() {
+            this.conflicts++;
+            return true;
+        }
+
+        @Override
+        public void finishedSolving() {
+            this.finished++;
+        }
+    }
+}
@@ -36,7 +36,7 @@ import org.logicng.datastructures.Tristate;
 
 /**
  * Unit tests for the toString() methods of the solver data structures.
- * @version 2.0.0
+ * @version 2.3.0
  * @since 1.0
  */
 public class SolversDatastructuresTest {
@@ -65,6 +65,57 @@ public class SolversDatastructuresTest {
         assertThat(queue.toString()).isEqualTo(expected);
     }
 
+    @Test
+    public void testMSClauseArena() {
+        final MSClauseArena arena = new MSClauseArena(0);
+        final int c1 = arena.alloc(new LNGIntVector(new int[]{2, 4, 6}), false);
+        final int c2 = arena.alloc(new LNGIntVector(new int[]{1, 3}), true);
+        arena.setActivity(c2, 42.5);
+        assertThat(arena.size(c1)).isEqualTo(3);
+        assertThat(arena.get(c1, 2)).isEqualTo(6);
+        assertThat(arena.learnt(c1)).isFalse();
+        assertThat(arena.learnt(c2)).isTrue();
+        assertThat(arena.activity(c2)).isEqualTo(42.5);
+        arena.pop(c2);
+        assertThat(arena.size(c2)).isEqualTo(1);
+        assertThat(arena.activity(c2)).isEqualTo(42.5);
+        arena.free(c1);
+        assertThat(arena.deleted(c1)).isTrue();
+        assertThat(arena.toString()).isEqualTo("MSClauseArena{size=9, wasted=5}");
+        final MSClauseArena to = new MSClauseArena(arena.size() - arena.wasted());
+        final int newC2 = arena.relocate(c2, to);
+        assertThat(arena.relocate(c2, to)).isEqualTo(newC2);
+        assertThat(newC2).isZero();
+        assertThat(to.get(newC2, 0)).isEqualTo(1);
+        assertThat(to.activity(newC2)).isEqualTo(42.5);
+        assertThat(to.toString()).isEqualTo("MSClauseArena{size=4, wasted=0}");
+    }
+
+    @Test
+    public void testMSWatchList() {
+        final MSClause c1 = new MSClause(new LNGIntVector(new int[]{2, 4, 6}), false);
+        final MSClause c2 = new MSClause(new LNGIntVector(new int[]{3, 5}), false);
+        final MSWatchList ws = new MSWatchList(1);
+        assertThat(ws.empty()).isTrue();
+        ws.push(c1, 4);
+        ws.push(c2, 5);
+        ws.push(c1, 6);
+        assertThat(ws.size()).isEqualTo(3);
+        assertThat(ws.clause(1)).isSameAs(c2);
+        assertThat(ws.blocker(1)).isEqualTo(5);
+        ws.move(2, 1);
+        assertThat(ws.clause(1)).isSameAs(c1);
+        assertThat(ws.blocker(1)).isEqualTo(6);
+        ws.set(0, c2, 3);
+        ws.removeElements(1);
+        assertThat(ws.toString()).isEqualTo("MSWatchList{size=2, blockers=[3, 6]}");
+        assertThat(ws.remove(c2)).isTrue();
+        assertThat(ws.remove(c2)).isFalse();
+        assertThat(ws.clause(0)).isSameAs(c1);
+        ws.clear();
+        assertThat(ws.empty()).isTrue();
+    }
+
     @Test
     public void testMSClause() {
         final LNGIntVector vec = new LNGIntVector();
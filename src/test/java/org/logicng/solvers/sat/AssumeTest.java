@@ -57,7 +57,7 @@ public class AssumeTest {
     public AssumeTest() {
         this.f = new FormulaFactory();
         this.parser = new PropositionalParser(this.f);
-        this.solvers = new SATSolver[6];
+        this.solvers = new SATSolver[8];
         this.solvers[0] = MiniSat.miniSat(this.f, MiniSatConfig.builder().incremental(true).build());
         this.solvers[1] = MiniSat.miniSat(this.f, MiniSatConfig.builder().incremental(false).build());
         this.solvers[2] = MiniSat.glucose(this.f, MiniSatConfig.builder().incremental(true).build(),
@@ -66,6 +66,8 @@ public class AssumeTest {
                 GlucoseConfig.builder().build());
         this.solvers[4] = MiniSat.miniCard(this.f, MiniSatConfig.builder().incremental(true).build());
         this.solvers[5] = MiniSat.miniCard(this.f, MiniSatConfig.builder().incremental(false).build());
+        this.solvers[6] = MiniSat.miniSat(this.f, MiniSatConfig.builder().incremental(true).clauseStorage(MiniSatConfig.ClauseStorage.ARENA).build());
+        this.solvers[7] = MiniSat.miniSat(this.f, MiniSatConfig.builder().incremental(false).clauseStorage(MiniSatConfig.ClauseStorage.ARENA).build());
     }
 
     @Test
@@ -0,0 +1,222 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+package org.logicng.solvers.sat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.logicng.datastructures.Tristate.FALSE;
+import static org.logicng.datastructures.Tristate.TRUE;
+import static org.logicng.solvers.sat.MiniSatConfig.DecisionHeuristic.CHB;
+import static org.logicng.solvers.sat.MiniSatConfig.DecisionHeuristic.LRB;
+import static org.logicng.solvers.sat.MiniSatConfig.DecisionHeuristic.VMTF;
+import static org.logicng.solvers.sat.MiniSatConfig.DecisionHeuristic.VSIDS;
+
+import org.junit.jupiter.api.Test;
+import org.logicng.datastructures.Assignment;
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.FormulaFactory;
+import org.logicng.formulas.Variable;
+import org.logicng.io.readers.DimacsReader;
+import org.logicng.solvers.MiniSat;
+import org.logicng.solvers.SolverState;
+import org.logicng.util.FormulaRandomizer;
+import org.logicng.util.FormulaRandomizerConfig;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+
+/**
+ * Unit tests for the decision heuristics LRB, CHB, and VMTF of {@link MiniSat2Solver} and {@link GlucoseSyrup}.
+ * @version 2.3.0
+ * @since 2.3.0
+ */
+public class BranchingHeuristicTest {
+
+    private static final MiniSatConfig.DecisionHeuristic[] HEURISTICS = {LRB, CHB, VMTF};
+
+    private static MiniSatConfig.Builder config(final MiniSatConfig.DecisionHeuristic heuristic, final boolean incremental) {
+        return MiniSatConfig.builder().incremental(incremental).decisionHeuristic(heuristic);
+    }
+
+    private static List<MiniSat> solvers(final FormulaFactory f) {
+        final List<MiniSat> solvers = new ArrayList<>();
+        for (final MiniSatConfig.DecisionHeuristic heuristic : HEURISTICS) {
+            solvers.add(MiniSat.miniSat(f, config(heuristic, true).build()));
+            solvers.add(MiniSat.glucose(f, config(heuristic, false).build(), GlucoseConfig.builder().build()));
+        }
+        solvers.add(MiniSat.miniSat(f, config(VMTF, false).preprocessing(true).build()));
+        solvers.add(MiniSat.miniSat(f, config(LRB, true).chronologicalBacktracking(true).chronoBacktrackThreshold(0).trailReuse(true).build()));
+        solvers.add(MiniSat.glucose(f, config(CHB, false).chronologicalBacktracking(true).chronoBacktrackThreshold(0).trailReuse(true).build(),
+                GlucoseConfig.builder().inprocessing(true).build()));
+        return solvers;
+    }
+
+    @Test
+    public void testConfig() {
+        assertThat(MiniSatConfig.builder().build().decisionHeuristic()).isEqualTo(VSIDS);
+        assertThat(new MiniSat2Solver(config(VSIDS, true).build()).branchingHeuristic).isNull();
+        assertThat(new MiniSat2Solver(config(LRB, true).build()).branchingHeuristic).isInstanceOf(LRBHeuristic.class);
+        assertThat(new MiniSat2Solver(config(CHB, true).build()).branchingHeuristic).isInstanceOf(CHBHeuristic.class);
+        assertThat(new MiniSat2Solver(config(VMTF, true).build()).branchingHeuristic).isInstanceOf(VMTFHeuristic.class);
+        assertThat(new GlucoseSyrup(config(VMTF, false).build(), GlucoseConfig.builder().build()).branchingHeuristic)
+                .isInstanceOf(VMTFHeuristic.class);
+        assertThat(new MiniCard(config(LRB, true).build()).branchingHeuristic).isNull();
+        assertThat(new MiniSat2Solver(config(LRB, true).build()).branchingHeuristic.usesOrderHeap()).isTrue();
+        assertThat(new MiniSat2Solver(config(VMTF, true).build()).branchingHeuristic.usesOrderHeap()).isFalse();
+    }
+
+    @Test
+    public void testVMTFQueue() {
+        final MiniSat2Solver solver = new MiniSat2Solver(config(VMTF, true).build());
+        final BranchingHeuristic heuristic = solver.branchingHeuristic;
+        for (int i = 0; i < 4; i++) {
+            solver.newVar(true, true);
+        }
+        assertThat(heuristic.peek()).isEqualTo(3);
+        heuristic.bump(2);
+        heuristic.bump(0);
+        heuristic.conflict();
+        assertThat(heuristic.peek()).isEqualTo(2);
+        assertThat(heuristic.score(2)).isGreaterThan(heuristic.score(0));
+        assertThat(heuristic.score(0)).isGreaterThan(heuristic.score(3));
+        solver.trailLim.push(solver.trail.size());
+        solver.uncheckedEnqueue(MiniSatStyleSolver.mkLit(0, false), null);
+        solver.uncheckedEnqueue(MiniSatStyleSolver.mkLit(2, false), null);
+        assertThat(heuristic.next()).isEqualTo(3);
+        solver.uncheckedEnqueue(MiniSatStyleSolver.mkLit(3, false), null);
+        assertThat(heuristic.next()).isEqualTo(1);
+        solver.cancelUntil(0);
+        assertThat(heuristic.next()).isEqualTo(2);
+        solver.vars.get(2).setDecision(false);
+        assertThat(heuristic.next()).isEqualTo(0);
+    }
+
+    @Test
+    public void testLRBScores() {
+        final MiniSat2Solver solver = new MiniSat2Solver(config(LRB, true).build());
+        final BranchingHeuristic heuristic = solver.branchingHeuristic;
+        for (int i = 0; i < 3; i++) {
+            solver.newVar(true, true);
+        }
+        solver.trailLim.push(solver.trail.size());
+        solver.uncheckedEnqueue(MiniSatStyleSolver.mkLit(0, false), null);
+        solver.uncheckedEnqueue(MiniSatStyleSolver.mkLit(1, false), null);
+        heuristic.bump(0);
+        heuristic.conflict();
+        heuristic.bump(0);
+        heuristic.conflict();
+        solver.cancelUntil(0);
+        assertThat(heuristic.score(0)).isCloseTo(0.4, within(1e-5));
+        assertThat(heuristic.score(1)).isZero();
+        assertThat(heuristic.peek()).isEqualTo(0);
+        heuristic.conflict();
+        assertThat(heuristic.next()).isEqualTo(0);
+        assertThat(heuristic.score(0)).isCloseTo(0.4 * 0.95, within(1e-5));
+    }
+
+    @Test
+    public void testDimacsFiles() throws IOException {
+        final FormulaFactory f = new FormulaFactory();
+        final Map<String, Boolean> expectedResults = new HashMap<>();
+        try (final BufferedReader reader = new BufferedReader(new FileReader("src/test/resources/sat/results.txt"))) {
+            while (reader.ready()) {
+                final String[] tokens = reader.readLine().split(";");
+                expectedResults.put(tokens[0], Boolean.valueOf(tokens[1]));
+            }
+        }
+        final File[] files = new File("src/test/resources/sat").listFiles();
+        assert files != null;
+        for (final MiniSat solver : solvers(f)) {
+            for (final File file : files) {
+                if (file.getName().endsWith(".cnf")) {
+                    final List<Formula> formulas = DimacsReader.readCNF(file, f);
+                    solver.add(formulas);
+                    final boolean expected = expectedResults.get(file.getName());
+                    assertThat(solver.sat()).isEqualTo(expected ? TRUE : FALSE);
+                    if (expected) {
+                        final Assignment model = solver.model();
+                        for (final Formula formula : formulas) {
+                            assertThat(formula.evaluate(model)).isTrue();
+                        }
+                    }
+                    solver.reset();
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testLoadState() {
+        final FormulaFactory f = new FormulaFactory();
+        for (final MiniSatConfig.DecisionHeuristic heuristic : HEURISTICS) {
+            final MiniSat solver = MiniSat.miniSat(f, config(heuristic, true).build());
+            solver.add(f.or(f.variable("a"), f.variable("b")));
+            final SolverState state = solver.saveState();
+            solver.add(f.or(f.literal("a", false), f.variable("c")));
+            solver.add(f.or(f.literal("c", false), f.variable("d")));
+            solver.add(f.literal("d", false));
+            assertThat(solver.sat()).isEqualTo(TRUE);
+            assertThat(solver.model().literals()).contains(f.literal("a", false), f.variable("b"));
+            solver.loadState(state);
+            assertThat(solver.underlyingSolver().nVars()).isEqualTo(2);
+            solver.add(f.literal("b", false));
+            assertThat(solver.sat()).isEqualTo(TRUE);
+            assertThat(solver.model().literals()).containsExactlyInAnyOrder(f.variable("a"), f.literal("b", false));
+            solver.add(f.literal("a", false));
+            assertThat(solver.sat()).isEqualTo(FALSE);
+        }
+    }
+
+    @Test
+    public void testRandomFormulas() {
+        final FormulaFactory f = new FormulaFactory();
+        for (int i = 0; i < 100; i++) {
+            final FormulaRandomizer randomizer = new FormulaRandomizer(f, FormulaRandomizerConfig.builder().numVars(8).weightPbc(1).seed(i * 41).build());
+            final Formula formula = randomizer.formula(4);
+            final MiniSat reference = MiniSat.miniSat(f);
+            reference.add(formula);
+            final SortedSet<Variable> variables = formula.variables();
+            final Set<Assignment> expected = new HashSet<>(reference.enumerateAllModels(variables));
+            for (final MiniSat solver : solvers(f)) {
+                solver.add(formula);
+                assertThat(solver.sat()).isEqualTo(reference.sat());
+                assertThat(solver.backbone(variables)).isEqualTo(reference.backbone(variables));
+                assertThat(new HashSet<>(solver.enumerateAllModels(variables))).isEqualTo(expected);
+            }
+        }
+    }
+}
@@ -0,0 +1,247 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+
+package org.logicng.solvers.sat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.logicng.datastructures.Tristate.FALSE;
+import static org.logicng.datastructures.Tristate.TRUE;
+
+import org.junit.jupiter.api.Test;
+import org.logicng.collections.LNGIntVector;
+import org.logicng.datastructures.Assignment;
+import org.logicng.datastructures.Tristate;
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.FormulaFactory;
+import org.logicng.formulas.Literal;
+import org.logicng.formulas.Variable;
+import org.logicng.handlers.SATHandler;
+import org.logicng.io.readers.DimacsReader;
+import org.logicng.solvers.MiniSat;
+import org.logicng.util.FormulaRandomizer;
+import org.logicng.util.FormulaRandomizerConfig;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.SortedSet;
+
+/**
+ * Unit tests for the chronological backtracking and the trail reuse of {@link MiniSat2Solver} and
+ * {@link GlucoseSyrup}.
+ * @version 2.3.0
+ * @since 2.3.0
+ */
+public class ChronologicalBacktrackingTest {
+
+    private static MiniSatConfig config(final boolean incremental) {
+        return MiniSatConfig.builder().incremental(incremental).chronologicalBacktracking(true).chronoBacktrackThreshold(0).trailReuse(true).build();
+    }
+
+    private static List<MiniSat> solvers(final FormulaFactory f) {
+        final List<MiniSat> solvers = new ArrayList<>();
+        solvers.add(MiniSat.miniSat(f, config(true)));
+        solvers.add(MiniSat.miniSat(f, config(false)));
+        solvers.add(MiniSat.glucose(f, config(false), GlucoseConfig.builder().build()));
+        return solvers;
+    }
+
+    @Test
+    public void testConfig() {
+        final MiniSatConfig config = MiniSatConfig.builder().build();
+        assertThat(config.chronologicalBacktracking()).isFalse();
+        assertThat(config.trailReuse()).isFalse();
+        assertThat(config(true).chronologicalBacktracking()).isTrue();
+        assertThat(config(true).trailReuse()).isTrue();
+        final MiniSat2Solver solver = new MiniSat2Solver(config);
+        solver.newVar(true, true);
+        solver.newVar(true, true);
+        solver.addClause(clause(1, 2), null);
+        assertThat(solver.solve(null, clause(1))).isEqualTo(TRUE);
+        assertThat(solver.decisionLevel()).isZero();
+        assertThat(solver.chronologicalBacktracks()).isZero();
+        assertThat(solver.savedPropagations()).isZero();
+    }
+
+    @Test
+    public void testDimacsFiles() throws IOException {
+        final FormulaFactory f = new FormulaFactory();
+        final Map<String, Boolean> expectedResults = new HashMap<>();
+        try (final BufferedReader reader = new BufferedReader(new FileReader("src/test/resources/sat/results.txt"))) {
+            while (reader.ready()) {
+                final String[] tokens = reader.readLine().split(";");
+                expectedResults.put(tokens[0], Boolean.valueOf(tokens[1]));
+            }
+        }
+        final File[] files = new File("src/test/resources/sat").listFiles();
+        assert files != null;
+        for (final MiniSat solver : solvers(f)) {
+            long chronologicalBacktracks = 0;
+            for (final File file : files) {
+                if (file.getName().endsWith(".cnf")) {
+                    final List<Formula> formulas = DimacsReader.readCNF(file, f);
+                    solver.add(formulas);
+                    final boolean expected = expectedResults.get(file.getName());
+                    assertThat(solver.sat()).isEqualTo(expected ? TRUE : FALSE);
+                    if (expected) {
+                        final Assignment model = solver.model();
+                        for (final Formula formula : formulas) {
+                            assertThat(formula.evaluate(model)).isTrue();
+                        }
+                    }
+                    chronologicalBacktracks += solver.underlyingSolver().chronologicalBacktracks();
+                    solver.reset();
+                }
+            }
+            assertThat(chronologicalBacktracks).isGreaterThan(0);
+        }
+    }
+
+    @Test
+    public void testAssumptionLevelsAreKept() {
+        final MiniSat2Solver solver = new MiniSat2Solver(config(true));
+        for (int i = 0; i < 6; i++) {
+            solver.newVar(true, true);
+        }
+        solver.addClause(clause(-1, 2), null);
+        solver.addClause(clause(-2, 3), null);
+        solver.addClause(clause(4, 5, 6), null);
+        assertThat(solver.solve(null, clause(1, 4))).isEqualTo(TRUE);
+        assertThat(solver.decisionLevel()).isEqualTo(2);
+        assertThat(solver.solve(null, clause(1, 5))).isEqualTo(TRUE);
+        assertThat(solver.savedPropagations()).isEqualTo(3);
+        assertThat(solver.decisionLevel()).isEqualTo(2);
+        assertThat(solver.upZeroLiterals().empty()).isTrue();
+
+        solver.addClause(clause(-5, 4, 6), null);
+        assertThat(solver.decisionLevel()).isEqualTo(2);
+        assertThat(solver.solve(null, clause(1, 5))).isEqualTo(TRUE);
+        assertThat(solver.model().get(3) || solver.model().get(5)).isTrue();
+
+        solver.addClause(clause(-3, -6), null);
+        assertThat(solver.decisionLevel()).isZero();
+        solver.addClause(clause(-3, -4), null);
+        assertThat(solver.solve(null, clause(1, 5))).isEqualTo(FALSE);
+        assertThat(solver.solve(null)).isEqualTo(TRUE);
+        assertThat(solver.decisionLevel()).isZero();
+
+        solver.addClause(clause(-4), null);
+        assertThat(solver.upZeroLiterals().toArray()).contains(clause(-1).get(0), clause(-4).get(0));
+        assertThat(solver.solve(null, clause(1, 4))).isEqualTo(FALSE);
+    }
+
+    @Test
+    public void testCanceledCall() {
+        final FormulaFactory f = new FormulaFactory();
+        final MiniSat solver = MiniSat.glucose(f, config(false), GlucoseConfig.builder().build());
+        solver.add(f.and(f.or(f.literal("a", false), f.variable("c")), f.or(f.literal("a", false), f.literal("c", false)),
+                f.or(f.variable("a"), f.variable("b"))));
+        final SATHandler handler = new SATHandler() {
+            @Override
+            public boolean detectedConflict() {
+                return false;
+            }
+        };
+        assertThat(solver.sat(f.variable("b"))).isEqualTo(TRUE);
+        assertThat(solver.underlyingSolver().decisionLevel()).isEqualTo(1);
+        assertThat(solver.sat(handler, f.variable("a"))).isEqualTo(Tristate.UNDEF);
+        assertThat(solver.underlyingSolver().decisionLevel()).isZero();
+        assertThat(solver.sat(f.variable("a"))).isEqualTo(FALSE);
+    }
+
+    @Test
+    public void testIncrementalAssumptions() throws IOException {
+        final FormulaFactory f = new FormulaFactory();
+        final List<Formula> formulas = DimacsReader.readCNF("src/test/resources/sat/apex7_gr_rcs_w5.shuffled.cnf", f);
+        final List<Variable> variables = new ArrayList<>(f.and(formulas).variables());
+        final MiniSat reference = MiniSat.miniSat(f);
+        reference.add(formulas);
+        for (final MiniSat solver : solvers(f)) {
+            solver.add(formulas);
+            final Random random = new Random(42);
+            final List<Literal> prefix = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                prefix.add(variables.get(random.nextInt(variables.size())).negate());
+            }
+            for (int i = 0; i < 50; i++) {
+                final List<Literal> assumptions = new ArrayList<>(prefix.subList(0, random.nextInt(prefix.size() + 1)));
+                final Variable var = variables.get(random.nextInt(variables.size()));
+                assumptions.add(random.nextBoolean() ? var : var.negate());
+                final Tristate result = solver.sat(assumptions);
+                assertThat(result).isEqualTo(reference.sat(assumptions));
+                if (result == TRUE) {
+                    final Assignment model = solver.model();
+                    for (final Literal assumption : assumptions) {
+                        assertThat(assumption.evaluate(model)).isTrue();
+                    }
+                    for (final Formula formula : formulas) {
+                        assertThat(formula.evaluate(model)).isTrue();
+                    }
+                }
+            }
+            assertThat(solver.underlyingSolver().savedPropagations()).isGreaterThan(0);
+        }
+    }
+
+    @Test
+    public void testRandomFormulas() {
+        final FormulaFactory f = new FormulaFactory();
+        for (int i = 0; i < 200; i++) {
+            final FormulaRandomizer randomizer = new FormulaRandomizer(f, FormulaRandomizerConfig.builder().numVars(8).weightPbc(1).seed(i * 37).build());
+            final Formula formula = randomizer.formula(4);
+            final MiniSat reference = MiniSat.miniSat(f);
+            reference.add(formula);
+            final SortedSet<Variable> variables = formula.variables();
+            final Set<Assignment> expected = new HashSet<>(reference.enumerateAllModels(variables));
+            for (final MiniSat solver : solvers(f)) {
+                solver.add(formula);
+                assertThat(solver.sat()).isEqualTo(reference.sat());
+                assertThat(solver.backbone(variables)).isEqualTo(reference.backbone(variables));
+                assertThat(new HashSet<>(solver.enumerateAllModels(variables))).isEqualTo(expected);
+            }
+        }
+    }
+
+    private static LNGIntVector clause(final int... lits) {
+        final LNGIntVector c = new LNGIntVector(lits.length);
+        for (final int l : lits) {
+            final int var = Math.abs(l) - 1;
+            c.push(l > 0 ? var * 2 : (var * 2) ^ 1);
+        }
+        return c;
+    }
+}
@@ -58,6 +58,12 @@ public class ConfigurationsTest extends TestWithExampleFormulas {
                 .lsInc(1.5)
                 .incremental(false)
                 .initialPhase(true)
+                .chronologicalBacktracking(true)
+                .chronoBacktrackThreshold(50)
+                .trailReuse(true)
+                .decisionHeuristic(MiniSatConfig.DecisionHeuristic.LRB)
+                .gaussianElimination(true)
+                .pbPropagation(true)
                 .build();
         final String expected = String.format("MiniSatConfig{%n" +
                 "varDecay=1.2%n" +
@@ -77,6 +83,16 @@ public class ConfigurationsTest extends TestWithExampleFormulas {
                 "bbInitialUBCheckForRotatableLiterals=true%n" +
                 "bbCheckForComplementModelLiterals=true%n" +
                 "bbCheckForRotatableLiterals=true%n" +
+                "clauseStorage=OBJECTS%n" +
+                "preprocessing=false%n" +
+                "elimClauseLimit=20%n" +
+                "subsumptionLimit=1000%n" +
+                "chronologicalBacktracking=true%n" +
+                "chronoBacktrackThreshold=50%n" +
+                "trailReuse=true%n" +
+                "decisionHeuristic=LRB%n" +
+                "gaussianElimination=true%n" +
+                "pbPropagation=true%n" +
                 "}");
         assertThat(config.toString()).isEqualTo(expected);
     }
@@ -97,6 +113,18 @@ public class ConfigurationsTest extends TestWithExampleFormulas {
                 .reduceOnSize(true)
                 .reduceOnSizeSize(10)
                 .maxVarDecay(0.99)
+                .inprocessing(true)
+                .inprocessingInterval(1000)
+                .inprocessingTimeBudget(5)
+                .vivification(false)
+                .learntSubsumption(true)
+                .failedLiteralProbing(false)
+                .learntDatabase(GlucoseConfig.LearntDatabase.TIERED)
+                .coreLBD(3)
+                .tier2LBD(7)
+                .tier2UnusedConflicts(20000)
+                .tier2ReduceInterval(5000)
+                .localReduceInterval(8000)
                 .build();
         final String expected = String.format("GlucoseConfig{%n" +
                 "lbLBDMinimizingClause=3%n" +
@@ -112,6 +140,18 @@ public class ConfigurationsTest extends TestWithExampleFormulas {
                 "reduceOnSize=true%n" +
                 "reduceOnSizeSize=10%n" +
                 "maxVarDecay=0.99%n" +
+                "inprocessing=true%n" +
+                "inprocessingInterval=1000%n" +
+                "inprocessingTimeBudget=5%n" +
+                "vivification=false%n" +
+                "learntSubsumption=true%n" +
+                "failedLiteralProbing=false%n" +
+                "learntDatabase=TIERED%n" +
+                "coreLBD=3%n" +
+                "tier2LBD=7%n" +
+                "tier2UnusedConflicts=20000%n" +
+                "tier2ReduceInterval=5000%n" +
+                "localReduceInterval=8000%n" +
                 "}");
         assertThat(config.toString()).isEqualTo(expected);
     }
@@ -0,0 +1,262 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+package org.logicng.solvers.sat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.logicng.datastructures.Tristate.FALSE;
+import static org.logicng.datastructures.Tristate.TRUE;
+import static org.logicng.solvers.sat.MiniSatStyleSolver.mkLit;
+
+import org.junit.jupiter.api.Test;
+import org.logicng.collections.LNGIntVector;
+import org.logicng.datastructures.Assignment;
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.FormulaFactory;
+import org.logicng.formulas.Literal;
+import org.logicng.formulas.Variable;
+import org.logicng.solvers.MiniSat;
+import org.logicng.solvers.SolverState;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * Unit tests for the native XOR constraints of {@link MiniSat2Solver} which are propagated by
+ * {@link GaussianElimination}.
+ * @version 2.3.0
+ * @since 2.3.0
+ */
+public class GaussianEliminationTest {
+
+    private static MiniSatConfig.Builder config() {
+        return MiniSatConfig.builder().gaussianElimination(true);
+    }
+
+    private static List<MiniSat> solvers(final FormulaFactory f) {
+        final List<MiniSat> solvers = new ArrayList<>();
+        solvers.add(MiniSat.miniSat(f, config().build()));
+        solvers.add(MiniSat.miniSat(f, config().incremental(false).build()));
+        solvers.add(MiniSat.miniSat(f, config().preprocessing(true).build()));
+        solvers.add(MiniSat.miniSat(f, config().chronologicalBacktracking(true).chronoBacktrackThreshold(0).trailReuse(true)
+                .decisionHeuristic(MiniSatConfig.DecisionHeuristic.VMTF).build()));
+        return solvers;
+    }
+
+    private static LNGIntVector lits(final int... lits) {
+        return new LNGIntVector(lits);
+    }
+
+    private static List<Formula> randomInstance(final FormulaFactory f, final Random random, final int numVars,
+                                                final int numXors, final int numClauses) {
+        final List<Variable> vars = new ArrayList<>();
+        for (int i = 0; i < numVars; i++) {
+            vars.add(f.variable("v" + i));
+        }
+        final List<Formula> formulas = new ArrayList<>();
+        for (int i = 0; i < numXors; i++) {
+            final List<Literal> operands = new ArrayList<>();
+            final int size = 2 + random.nextInt(4);
+            for (int j = 0; j < size; j++) {
+                final Variable var = vars.get(random.nextInt(numVars));
+                operands.add(random.nextBoolean() ? var : var.negate());
+            }
+            formulas.add(f.xor(operands));
+        }
+        for (int i = 0; i < numClauses; i++) {
+            final List<Literal> operands = new ArrayList<>();
+            for (int j = 0; j < 3; j++) {
+                final Variable var = vars.get(random.nextInt(numVars));
+                operands.add(random.nextBoolean() ? var : var.negate());
+            }
+            formulas.add(f.or(operands));
+        }
+        return formulas;
+    }
+
+    @Test
+    public void testConfig() {
+        assertThat(MiniSatConfig.builder().build().gaussianElimination()).isFalse();
+        assertThat(new MiniSat2Solver(MiniSatConfig.builder().build()).gaussianElimination()).isNull();
+        assertThat(new MiniSat2Solver(config().build()).gaussianElimination()).isNotNull();
+        assertThat(new MiniSat2Solver(config().proofGeneration(true).build()).gaussianElimination()).isNull();
+        assertThatThrownBy(() -> new MiniSat2Solver(MiniSatConfig.builder().build()).addXor(lits(0, 2), true))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void testXorsOnSolver() {
+        final FormulaFactory f = new FormulaFactory();
+        final MiniSat solver = MiniSat.miniSat(f, config().build());
+        final GaussianElimination gauss = ((MiniSat2Solver) solver.underlyingSolver()).gaussianElimination();
+        solver.add(f.xor(f.variable("a"), f.variable("b")));
+        solver.add(f.or(f.variable("a"), f.variable("b"), f.variable("c")));
+        assertThat(gauss.numXorConstraints()).isZero();
+        solver.add(f.xor(f.variable("a"), f.variable("b"), f.variable("c")));
+        solver.add(f.not(f.xor(f.variable("b"), f.variable("c"), f.literal("d", false))));
+        assertThat(gauss.numXorConstraints()).isEqualTo(2);
+        assertThat(solver.sat()).isEqualTo(TRUE);
+        final Assignment model = solver.model();
+        assertThat(f.xor(f.variable("a"), f.variable("b"), f.variable("c")).evaluate(model)).isTrue();
+        assertThat(f.xor(f.variable("b"), f.variable("c"), f.variable("d")).evaluate(model)).isTrue();
+        solver.add(f.xor(f.variable("a"), f.variable("d")));
+        assertThat(solver.sat()).isEqualTo(FALSE);
+    }
+
+    @Test
+    public void testPropagation() {
+        final MiniSat2Solver solver = new MiniSat2Solver(config().build());
+        for (int i = 0; i < 4; i++) {
+            solver.newVar(true, true);
+        }
+        solver.addXor(lits(mkLit(0, false), mkLit(1, false), mkLit(2, false)), true);
+        solver.addXor(lits(mkLit(1, false), mkLit(2, true), mkLit(3, false)), true);
+        assertThat(solver.solve(null)).isEqualTo(TRUE);
+        final GaussianElimination gauss = solver.gaussianElimination();
+        assertThat(gauss.numRows()).isEqualTo(2);
+        solver.cancelUntil(0);
+        solver.trailLim.push(solver.trail.size());
+        solver.uncheckedEnqueue(mkLit(0, false), null);
+        final long propagations = gauss.numPropagations();
+        assertThat(solver.propagate()).isNull();
+        assertThat(solver.value(mkLit(3, true))).isEqualTo(TRUE);
+        assertThat(solver.vars.get(3).reason()).isNotNull();
+        assertThat(gauss.numPropagations()).isEqualTo(propagations + 1);
+        solver.uncheckedEnqueue(mkLit(1, false), null);
+        assertThat(solver.propagate()).isNull();
+        assertThat(solver.value(mkLit(2, false))).isEqualTo(TRUE);
+        solver.cancelUntil(0);
+        solver.trailLim.push(solver.trail.size());
+        solver.uncheckedEnqueue(mkLit(1, false), null);
+        solver.uncheckedEnqueue(mkLit(2, false), null);
+        solver.uncheckedEnqueue(mkLit(3, false), null);
+        assertThat(solver.propagate()).isNotNull();
+        assertThat(gauss.numConflicts()).isEqualTo(1);
+    }
+
+    @Test
+    public void testInconsistentXors() {
+        final MiniSat2Solver solver = new MiniSat2Solver(config().build());
+        for (int i = 0; i < 4; i++) {
+            solver.newVar(true, true);
+        }
+        assertThat(solver.addXor(lits(mkLit(0, false), mkLit(0, true)), true)).isTrue();
+        assertThat(solver.gaussianElimination().numXorConstraints()).isZero();
+        solver.addXor(lits(mkLit(0, false), mkLit(1, false), mkLit(2, false)), true);
+        solver.addXor(lits(mkLit(1, false), mkLit(2, false), mkLit(3, false)), true);
+        final int[] state = solver.saveState();
+        assertThat(state).hasSize(10);
+        assertThat(state[8]).isEqualTo(2);
+        solver.addXor(lits(mkLit(0, false), mkLit(3, false)), true);
+        assertThat(solver.solve(null)).isEqualTo(FALSE);
+        solver.loadState(state);
+        assertThat(solver.solve(null)).isEqualTo(TRUE);
+        assertThat(solver.gaussianElimination().numXorConstraints()).isEqualTo(2);
+        assertThat(solver.addXor(lits(mkLit(1, false), mkLit(1, false)), true)).isFalse();
+        assertThat(solver.solve(null)).isEqualTo(FALSE);
+    }
+
+    @Test
+    public void testSaveAndLoadState() {
+        final FormulaFactory f = new FormulaFactory();
+        final Variable a = f.variable("a");
+        final Variable b = f.variable("b");
+        final Variable c = f.variable("c");
+        final Variable d = f.variable("d");
+        final MiniSat solver = MiniSat.miniSat(f, config().build());
+        solver.add(f.xor(a, b, c));
+        final SolverState state = solver.saveState();
+        solver.add(f.xor(b, c, d));
+        solver.add(a);
+        assertThat(solver.sat()).isEqualTo(TRUE);
+        assertThat(solver.model().literals()).contains(a, d);
+        solver.add(d.negate());
+        assertThat(solver.sat()).isEqualTo(FALSE);
+        solver.loadState(state);
+        solver.add(a);
+        solver.add(b);
+        assertThat(solver.sat()).isEqualTo(TRUE);
+        assertThat(solver.model().literals()).containsExactlyInAnyOrder(a, b, c);
+        assertThat(solver.sat(c.negate())).isEqualTo(FALSE);
+    }
+
+    @Test
+    public void testRandomInstances() {
+        final FormulaFactory f = new FormulaFactory();
+        for (int i = 0; i < 200; i++) {
+            final Random random = new Random(i * 31);
+            final List<Formula> formulas = randomInstance(f, random, 10, 2 + random.nextInt(8), random.nextInt(15));
+            final MiniSat reference = MiniSat.miniSat(f);
+            reference.add(formulas);
+            final SortedSet<Variable> variables = new TreeSet<>();
+            for (final Formula formula : formulas) {
+                variables.addAll(formula.variables());
+            }
+            final Set<Assignment> expected = new HashSet<>(reference.enumerateAllModels(variables));
+            for (final MiniSat solver : solvers(f)) {
+                solver.add(formulas);
+                assertThat(solver.sat()).isEqualTo(reference.sat());
+                if (solver.sat() == TRUE) {
+                    final Assignment model = solver.model();
+                    for (final Formula formula : formulas) {
+                        assertThat(formula.evaluate(model)).isTrue();
+                    }
+                }
+                assertThat(solver.backbone(variables)).isEqualTo(reference.backbone(variables));
+                assertThat(new HashSet<>(solver.enumerateAllModels(variables))).isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    public void testLargeRandomInstances() {
+        final FormulaFactory f = new FormulaFactory();
+        for (int i = 0; i < 20; i++) {
+            final Random random = new Random(i * 17);
+            final List<Formula> formulas = randomInstance(f, random, 100, 60 + random.nextInt(30), 250 + random.nextInt(150));
+            final MiniSat reference = MiniSat.miniSat(f);
+            reference.add(formulas);
+            for (final MiniSat solver : solvers(f)) {
+                solver.add(formulas);
+                assertThat(solver.sat()).isEqualTo(reference.sat());
+                if (solver.sat() == TRUE) {
+                    final Assignment model = solver.model();
+                    for (final Formula formula : formulas) {
+                        assertThat(formula.evaluate(model)).isTrue();
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,234 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+
+package org.logicng.solvers.sat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.logicng.datastructures.Tristate.FALSE;
+import static org.logicng.datastructures.Tristate.TRUE;
+
+import org.junit.jupiter.api.Test;
+import org.logicng.collections.LNGIntVector;
+import org.logicng.datastructures.Assignment;
+import org.logicng.explanations.UNSATCore;
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.FormulaFactory;
+import org.logicng.formulas.Literal;
+import org.logicng.formulas.Variable;
+import org.logicng.io.readers.DimacsReader;
+import org.logicng.propositions.Proposition;
+import org.logicng.solvers.MiniSat;
+import org.logicng.solvers.datastructures.MSClause;
+import org.logicng.util.FormulaRandomizer;
+import org.logicng.util.FormulaRandomizerConfig;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Unit tests for {@link GlucoseInprocessor}.
+ * @version 2.3.0
+ * @since 2.3.0
+ */
+public class GlucoseInprocessorTest {
+
+    private static GlucoseConfig config(final int interval) {
+        return GlucoseConfig.builder().inprocessing(true).inprocessingInterval(interval).inprocessingTimeBudget(50).build();
+    }
+
+    @Test
+    public void testConfig() {
+        final MiniSat plain = MiniSat.glucose(new FormulaFactory());
+        assertThat(((GlucoseSyrup) plain.underlyingSolver()).inprocessor()).isNull();
+        final MiniSat solver = MiniSat.glucose(new FormulaFactory(), MiniSatConfig.builder().build(), config(100));
+        assertThat(((GlucoseSyrup) solver.underlyingSolver()).inprocessor()).isNotNull();
+        assertThat(config(100).inprocessing()).isTrue();
+        assertThat(GlucoseConfig.builder().build().inprocessing()).isFalse();
+    }
+
+    @Test
+    public void testFailedLiteralProbing() {
+        final GlucoseSyrup solver = new GlucoseSyrup(MiniSatConfig.builder().incremental(false).build(),
+                GlucoseConfig.builder().inprocessing(true).vivification(false).learntSubsumption(false).build());
+        for (int i = 0; i < 4; i++) {
+            solver.newVar(true, true);
+        }
+        solver.addClause(clause(-1, 2), null);
+        solver.addClause(clause(-1, 3), null);
+        solver.addClause(clause(-2, -3, 4), null);
+        solver.addClause(clause(-2, -3, -4), null);
+        final GlucoseInprocessor inprocessor = solver.inprocessor();
+        assertThat(inprocessor.inprocess()).isTrue();
+        assertThat(inprocessor.numRuns()).isEqualTo(1);
+        assertThat(inprocessor.numFailedLiterals()).isEqualTo(1);
+        assertThat(solver.value(clause(-1).get(0))).isEqualTo(TRUE);
+        assertThat(solver.solve(null)).isEqualTo(TRUE);
+        assertThat(solver.model().get(0)).isFalse();
+    }
+
+    @Test
+    public void testVivification() {
+        final GlucoseSyrup solver = new GlucoseSyrup(MiniSatConfig.builder().incremental(false).build(),
+                GlucoseConfig.builder().inprocessing(true).failedLiteralProbing(false).learntSubsumption(false).build());
+        for (int i = 0; i < 5; i++) {
+            solver.newVar(true, true);
+        }
+        solver.addClause(clause(1, 2), null);
+        solver.addClause(clause(1, 2, 3, 4, 5), null);
+        solver.addClause(clause(-3, 4, 5), null);
+        final GlucoseInprocessor inprocessor = solver.inprocessor();
+        assertThat(inprocessor.inprocess()).isTrue();
+        assertThat(inprocessor.numVivifiedClauses()).isEqualTo(1);
+        assertThat(inprocessor.numRemovedLiterals()).isEqualTo(3);
+        assertThat(solver.clauses.size()).isEqualTo(3);
+        assertThat(solver.solve(null, clause(-1, -2))).isEqualTo(FALSE);
+        assertThat(solver.solve(null, clause(-1))).isEqualTo(TRUE);
+    }
+
+    @Test
+    public void testLearntSubsumption() {
+        final GlucoseSyrup solver = new GlucoseSyrup(MiniSatConfig.builder().incremental(false).build(),
+                GlucoseConfig.builder().inprocessing(true).failedLiteralProbing(false).vivification(false).build());
+        for (int i = 0; i < 5; i++) {
+            solver.newVar(true, true);
+        }
+        solver.addClause(clause(1, 2, 3, 4, 5), null);
+        addLearnt(solver, clause(1, 2, 3));
+        addLearnt(solver, clause(1, 2, 3, 4));
+        addLearnt(solver, clause(3, 2, 1));
+        addLearnt(solver, clause(1, 4, 5));
+        final GlucoseInprocessor inprocessor = solver.inprocessor();
+        assertThat(inprocessor.inprocess()).isTrue();
+        assertThat(inprocessor.numSubsumedLearnts()).isEqualTo(2);
+        assertThat(solver.learnts.size()).isEqualTo(2);
+        assertThat(solver.solve(null)).isEqualTo(TRUE);
+    }
+
+    @Test
+    public void testDimacsFiles() throws IOException {
+        final FormulaFactory f = new FormulaFactory();
+        final MiniSat solver = MiniSat.glucose(f, MiniSatConfig.builder().incremental(false).build(), config(100));
+        final Map<String, Boolean> expectedResults = new HashMap<>();
+        try (final BufferedReader reader = new BufferedReader(new FileReader("src/test/resources/sat/results.txt"))) {
+            while (reader.ready()) {
+                final String[] tokens = reader.readLine().split(";");
+                expectedResults.put(tokens[0], Boolean.valueOf(tokens[1]));
+            }
+        }
+        int runs = 0;
+        final File[] files = new File("src/test/resources/sat").listFiles();
+        assert files != null;
+        for (final File file : files) {
+            if (file.getName().endsWith(".cnf")) {
+                final List<Formula> formulas = DimacsReader.readCNF(file, f);
+                solver.add(formulas);
+                final boolean expected = expectedResults.get(file.getName());
+                assertThat(solver.sat()).isEqualTo(expected ? TRUE : FALSE);
+                if (expected) {
+                    final Assignment model = solver.model();
+                    for (final Formula formula : formulas) {
+                        assertThat(formula.evaluate(model)).isTrue();
+                    }
+                }
+                runs += ((GlucoseSyrup) solver.underlyingSolver()).inprocessor().numRuns();
+                solver.reset();
+            }
+        }
+        assertThat(runs).isGreaterThan(0);
+    }
+
+    @Test
+    public void testProofGeneration() throws IOException {
+        final FormulaFactory f = new FormulaFactory();
+        int runs = 0;
+        for (final String file : new String[]{"3col40_5_10.shuffled.cnf", "x1_16.shuffled.cnf", "grid_10_20.shuffled.cnf", "ca064.shuffled.cnf",
+                "term1_gr_rcs_w3.shuffled.cnf"}) {
+            final List<Formula> cnf = DimacsReader.readCNF("src/test/resources/sat/" + file, f);
+            final MiniSat solver = MiniSat.glucose(f, MiniSatConfig.builder().proofGeneration(true).incremental(false).build(), config(1));
+            solver.add(cnf);
+            assertThat(solver.sat()).isEqualTo(FALSE);
+            runs += ((GlucoseSyrup) solver.underlyingSolver()).inprocessor().numRuns();
+            final UNSATCore<Proposition> core = solver.unsatCore();
+            final List<Formula> coreFormulas = new ArrayList<>();
+            for (final Proposition proposition : core.propositions()) {
+                coreFormulas.add(proposition.formula());
+            }
+            assertThat(cnf).containsAll(coreFormulas);
+            final MiniSat checker = MiniSat.miniSat(f);
+            checker.add(coreFormulas);
+            assertThat(checker.sat()).isEqualTo(FALSE);
+        }
+        assertThat(runs).isGreaterThan(0);
+    }
+
+    @Test
+    public void testIncrementalWithAssumptions() {
+        final FormulaFactory f = new FormulaFactory();
+        for (int i = 0; i < 100; i++) {
+            final FormulaRandomizer randomizer = new FormulaRandomizer(f, FormulaRandomizerConfig.builder().numVars(20).seed(i * 17).build());
+            final Formula formula = f.and(randomizer.constraintSet(30, 3));
+            final MiniSat reference = MiniSat.miniSat(f);
+            final MiniSat solver = MiniSat.glucose(f, MiniSatConfig.builder().incremental(true).build(), config(1));
+            reference.add(formula);
+            solver.add(formula);
+            for (int j = 0; j < 5; j++) {
+                final List<Literal> assumptions = new ArrayList<>();
+                for (final Variable var : randomizer.formula(1).variables()) {
+                    assumptions.add(j % 2 == 0 ? var : var.negate());
+                }
+                assertThat(solver.sat(assumptions)).isEqualTo(reference.sat(assumptions));
+                if (reference.sat(assumptions) == TRUE) {
+                    assertThat(formula.evaluate(solver.model())).isTrue();
+                }
+            }
+        }
+    }
+
+    private static LNGIntVector clause(final int... lits) {
+        final LNGIntVector c = new LNGIntVector(lits.length);
+        for (final int l : lits) {
+            final int var = Math.abs(l) - 1;
+            c.push(l > 0 ? var * 2 : (var * 2) ^ 1);
+        }
+        return c;
+    }
+
+    private static void addLearnt(final GlucoseSyrup solver, final LNGIntVector lits) {
+        final MSClause c = new MSClause(lits, true);
+        c.setLBD(lits.size());
+        solver.learnts.push(c);
+        solver.attachClause(c);
+    }
+}
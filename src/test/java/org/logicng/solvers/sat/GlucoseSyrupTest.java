@@ -30,14 +30,30 @@ package org.logicng.solvers.sat;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.logicng.solvers.sat.GlucoseSyrup.TIER_2;
+import static org.logicng.solvers.sat.GlucoseSyrup.TIER_LOCAL;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.logicng.collections.LNGIntVector;
+import org.logicng.datastructures.Tristate;
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.FormulaFactory;
+import org.logicng.formulas.Literal;
+import org.logicng.formulas.Variable;
+import org.logicng.io.readers.DimacsReader;
+import org.logicng.solvers.MiniSat;
+import org.logicng.solvers.datastructures.MSClause;
+import org.logicng.util.FormulaRandomizer;
+import org.logicng.util.FormulaRandomizerConfig;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Unit tests for the class {@link GlucoseSyrup}
- * @version 2.0.0
+ * @version 2.3.0
  * @since 1.1
  */
 public class GlucoseSyrupTest {
@@ -88,7 +104,102 @@ public class GlucoseSyrupTest {
         assertThat(this.gs.toString()).isEqualTo(expected);
     }
 
-    private LNGIntVector clause(final int... lits) {
+    @Test
+    public void testTieredLearnts() throws IOException {
+        final FormulaFactory f = new FormulaFactory();
+        final GlucoseConfig config = GlucoseConfig.builder().learntDatabase(GlucoseConfig.LearntDatabase.TIERED)
+                .tier2UnusedConflicts(200).tier2ReduceInterval(100).localReduceInterval(300).build();
+        final String[] files = {"avg-checker-4-23.shuffled.cnf", "ca064.shuffled.cnf", "grid_10_20.shuffled.cnf", "bart30.shuffled.cnf"};
+        final Tristate[] expected = {Tristate.FALSE, Tristate.FALSE, Tristate.FALSE, Tristate.TRUE};
+        for (int i = 0; i < files.length; i++) {
+            final List<Formula> cnf = DimacsReader.readCNF("src/test/resources/sat/" + files[i], f);
+            final MiniSat solver = MiniSat.glucose(f, MiniSatConfig.builder().incremental(false).build(), config);
+            solver.add(cnf);
+            assertThat(solver.sat()).isEqualTo(expected[i]);
+            if (expected[i] == Tristate.TRUE) {
+                for (final Formula formula : cnf) {
+                    assertThat(formula.evaluate(solver.model())).isTrue();
+                }
+            }
+            final GlucoseSyrup glucose = (GlucoseSyrup) solver.underlyingSolver();
+            for (final MSClause c : glucose.learnts) {
+                final int tier = glucose.learntTier(c.lbd());
+                assertThat(c.tier() == tier || c.tier() == TIER_LOCAL && tier == TIER_2).isTrue();
+            }
+        }
+    }
+
+    @Test
+    public void testTieredLearntsLocalReduction() {
+        final GlucoseSyrup solver = new GlucoseSyrup(MiniSatConfig.builder().build(),
+                GlucoseConfig.builder().learntDatabase(GlucoseConfig.LearntDatabase.TIERED).tier2UnusedConflicts(10).build());
+        for (int i = 0; i < 8; i++) {
+            solver.newVar(true, true);
+        }
+        final MSClause core = learnt(solver, 2, clause(1, 2, 3));
+        final MSClause tier2 = learnt(solver, 5, clause(1, 2, 4, 5, 6));
+        final MSClause unused = learnt(solver, 5, clause(2, 3, 4, 5, 6));
+        final List<MSClause> local = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            final MSClause c = learnt(solver, 7, clause(1, 3, 4, 5, 6, 7, 8 - i % 2));
+            c.incrementActivity(i + 1);
+            local.add(c);
+        }
+        solver.conflicts = 20;
+        solver.reduceTiers();
+        assertThat(unused.tier()).isEqualTo(TIER_2);
+        solver.conflicts = solver.tier2ReduceInterval;
+        tier2.setTouched(solver.conflicts - 5);
+        solver.reduceTiers();
+        assertThat(core.tier()).isEqualTo(GlucoseSyrup.TIER_CORE);
+        assertThat(tier2.tier()).isEqualTo(TIER_2);
+        assertThat(unused.tier()).isEqualTo(TIER_LOCAL);
+        solver.reduceLocalLearnts();
+        assertThat(solver.learnts.size()).isEqualTo(5);
+        assertThat(solver.learnts.get(0)).isSameAs(core);
+        assertThat(solver.learnts.get(1)).isSameAs(tier2);
+        assertThat(solver.learnts.get(2)).isSameAs(local.get(1));
+        assertThat(solver.learnts.get(3)).isSameAs(local.get(2));
+        assertThat(solver.learnts.get(4)).isSameAs(local.get(3));
+        assertThat(solver.solve(null)).isEqualTo(Tristate.TRUE);
+    }
+
+    @Test
+    public void testTieredLearntsIncremental() {
+        final FormulaFactory f = new FormulaFactory();
+        final GlucoseConfig config = GlucoseConfig.builder().learntDatabase(GlucoseConfig.LearntDatabase.TIERED)
+                .tier2UnusedConflicts(20).tier2ReduceInterval(10).localReduceInterval(30).build();
+        for (int i = 0; i < 50; i++) {
+            final FormulaRandomizer randomizer = new FormulaRandomizer(f, FormulaRandomizerConfig.builder().numVars(25).seed(i * 13).build());
+            final Formula formula = f.and(randomizer.constraintSet(40, 3));
+            final MiniSat reference = MiniSat.miniSat(f);
+            final MiniSat solver = MiniSat.glucose(f, MiniSatConfig.builder().incremental(true).build(), config);
+            reference.add(formula);
+            solver.add(formula);
+            for (int j = 0; j < 10; j++) {
+                final List<Literal> assumptions = new ArrayList<>();
+                for (final Variable var : randomizer.formula(1).variables()) {
+                    assumptions.add(j % 2 == 0 ? var : var.negate());
+                }
+                final Tristate result = reference.sat(assumptions);
+                assertThat(solver.sat(assumptions)).isEqualTo(result);
+                if (result == Tristate.TRUE) {
+                    assertThat(formula.evaluate(solver.model())).isTrue();
+                }
+            }
+        }
+    }
+
+    private static MSClause learnt(final GlucoseSyrup solver, final long lbd, final LNGIntVector lits) {
+        final MSClause c = new MSClause(lits, true);
+        c.setLBD(lbd);
+        c.setTier(solver.learntTier(lbd));
+        solver.learnts.push(c);
+        solver.attachClause(c);
+        return c;
+    }
+
+    private static LNGIntVector clause(final int... lits) {
         final LNGIntVector c = new LNGIntVector(lits.length);
         for (final int l : lits) {
             c.push(literal(l));
@@ -96,7 +207,7 @@ public class GlucoseSyrupTest {
         return c;
     }
 
-    private int literal(final int l) {
+    private static int literal(final int l) {
         return l < 0 ? (-l * 2) ^ 1 : l * 2;
     }
 }
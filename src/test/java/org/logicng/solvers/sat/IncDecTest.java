@@ -52,9 +52,10 @@ public class IncDecTest implements LogicNGTest {
     public IncDecTest() {
         this.f = new FormulaFactory();
         this.pg = new PigeonHoleGenerator(this.f);
-        this.solvers = new MiniSat[2];
+        this.solvers = new MiniSat[3];
         this.solvers[0] = MiniSat.miniSat(this.f, MiniSatConfig.builder().incremental(true).build());
         this.solvers[1] = MiniSat.miniCard(this.f, MiniSatConfig.builder().incremental(true).build());
+        this.solvers[2] = MiniSat.miniSat(this.f, MiniSatConfig.builder().incremental(true).clauseStorage(MiniSatConfig.ClauseStorage.ARENA).build());
     }
 
     @Test
@@ -39,12 +39,14 @@ import org.logicng.formulas.FormulaFactory;
 import org.logicng.io.parsers.ParserException;
 import org.logicng.solvers.MiniSat;
 import org.logicng.solvers.SATSolver;
+import org.logicng.solvers.datastructures.MSClauseArena;
+import org.logicng.testutils.PigeonHoleGenerator;
 
 import java.util.Arrays;
 
 /**
  * Some MiniSat specific unit tests.
- * @version 2.0.0
+ * @version 2.3.0
  * @since 1.0
  */
 public class MiniSatTest {
@@ -64,6 +66,33 @@ public class MiniSatTest {
         assertThat(solver.solve(null, clause(1, 2))).isEqualTo(FALSE);
     }
 
+    @Test
+    public void testAnalyzeFinalArena() {
+        final MiniSat2ArenaSolver solver = new MiniSat2ArenaSolver();
+        solver.newVar(true, true);
+        solver.newVar(true, true);
+        solver.newVar(true, true);
+        solver.newVar(true, true);
+        solver.addClause(clause(1, 2, 3), null);
+        solver.addClause(clause(-1, -2), null);
+        solver.addClause(clause(-1, -3), null);
+        solver.addClause(clause(-2, -3), null);
+        assertThat(solver.solve(null)).isEqualTo(TRUE);
+        assertThat(solver.solve(null, clause(1, 2))).isEqualTo(FALSE);
+        assertThat(solver.clauses()).hasSize(4);
+    }
+
+    @Test
+    public void testArenaGarbageCollection() {
+        final FormulaFactory f = new FormulaFactory();
+        final MiniSatConfig config = MiniSatConfig.builder().incremental(false).clauseStorage(MiniSatConfig.ClauseStorage.ARENA).build();
+        final MiniSat solver = MiniSat.miniSat(f, config);
+        solver.add(new PigeonHoleGenerator(f).generate(8));
+        assertThat(solver.sat()).isEqualTo(FALSE);
+        final MSClauseArena arena = ((MiniSat2ArenaSolver) solver.underlyingSolver()).arena();
+        assertThat(arena.wasted()).isLessThanOrEqualTo(arena.size() / 5);
+    }
+
     @Test
     public void testInvalidSaveState() {
         final MiniSat2Solver solver = new MiniSat2Solver(MiniSatConfig.builder().incremental(false).build());
@@ -74,6 +103,9 @@ public class MiniSatTest {
     public void testInvalidLoadState() {
         final MiniSat2Solver solver = new MiniSat2Solver(MiniSatConfig.builder().incremental(false).build());
         assertThatThrownBy(() -> solver.loadState(null)).isInstanceOf(IllegalStateException.class);
+        final MiniSat2ArenaSolver arenaSolver = new MiniSat2ArenaSolver(MiniSatConfig.builder().incremental(false).build());
+        assertThatThrownBy(arenaSolver::saveState).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> arenaSolver.loadState(null)).isInstanceOf(IllegalStateException.class);
     }
 
     @Test
@@ -0,0 +1,282 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+package org.logicng.solvers.sat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.logicng.datastructures.Tristate.FALSE;
+import static org.logicng.datastructures.Tristate.TRUE;
+import static org.logicng.solvers.sat.MiniSatStyleSolver.mkLit;
+
+import org.junit.jupiter.api.Test;
+import org.logicng.collections.LNGIntVector;
+import org.logicng.datastructures.Assignment;
+import org.logicng.datastructures.Tristate;
+import org.logicng.formulas.CType;
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.FormulaFactory;
+import org.logicng.formulas.Literal;
+import org.logicng.formulas.Variable;
+import org.logicng.solvers.MiniSat;
+import org.logicng.solvers.SolverState;
+import org.logicng.solvers.datastructures.MSClause;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * Unit tests for the native pseudo-Boolean constraints of {@link MiniSat2Solver} which are propagated by
+ * {@link PBPropagator}.
+ * @version 2.3.0
+ * @since 2.3.0
+ */
+public class PBPropagatorTest {
+
+    private static MiniSatConfig.Builder config() {
+        return MiniSatConfig.builder().pbPropagation(true);
+    }
+
+    private static List<MiniSat> solvers(final FormulaFactory f) {
+        final List<MiniSat> solvers = new ArrayList<>();
+        solvers.add(MiniSat.miniSat(f, config().build()));
+        solvers.add(MiniSat.miniSat(f, config().incremental(false).build()));
+        solvers.add(MiniSat.miniSat(f, config().preprocessing(true).build()));
+        solvers.add(MiniSat.miniSat(f, config().chronologicalBacktracking(true).chronoBacktrackThreshold(0).trailReuse(true)
+                .gaussianElimination(true).decisionHeuristic(MiniSatConfig.DecisionHeuristic.LRB).build()));
+        return solvers;
+    }
+
+    private static LNGIntVector vec(final int... elems) {
+        return new LNGIntVector(elems);
+    }
+
+    private static List<Formula> randomInstance(final FormulaFactory f, final Random random, final int numVars, final int numPBCs,
+                                                final int maxCoeff, final int numClauses) {
+        final List<Variable> vars = new ArrayList<>();
+        for (int i = 0; i < numVars; i++) {
+            vars.add(f.variable("v" + i));
+        }
+        final CType[] comparators = CType.values();
+        final List<Formula> formulas = new ArrayList<>();
+        for (int i = 0; i < numPBCs; i++) {
+            final List<Literal> literals = new ArrayList<>();
+            final List<Integer> coefficients = new ArrayList<>();
+            final int size = 1 + random.nextInt(Math.min(numVars, 8));
+            int sum = 0;
+            for (int j = 0; j < size; j++) {
+                final Variable var = vars.get(random.nextInt(numVars));
+                literals.add(random.nextBoolean() ? var : var.negate());
+                final int coeff = random.nextInt(2 * maxCoeff + 1) - maxCoeff;
+                coefficients.add(coeff);
+                sum += Math.abs(coeff);
+            }
+            final int rhs = sum == 0 ? 0 : random.nextInt(sum + 1) - sum / 2;
+            formulas.add(f.pbc(comparators[random.nextInt(comparators.length)], rhs, literals, coefficients));
+        }
+        for (int i = 0; i < numClauses; i++) {
+            final List<Literal> operands = new ArrayList<>();
+            for (int j = 0; j < 3; j++) {
+                final Variable var = vars.get(random.nextInt(numVars));
+                operands.add(random.nextBoolean() ? var : var.negate());
+            }
+            formulas.add(f.or(operands));
+        }
+        // make all variables known to every solver, even if a constraint simplifies to a constant or is encoded without them
+        final List<Literal> all = new ArrayList<>(vars);
+        all.add(f.variable("free"));
+        formulas.add(f.or(all));
+        return formulas;
+    }
+
+    @Test
+    public void testConfig() {
+        assertThat(MiniSatConfig.builder().build().pbPropagation()).isFalse();
+        assertThat(new MiniSat2Solver(MiniSatConfig.builder().build()).pbPropagator()).isNull();
+        assertThat(new MiniSat2Solver(config().build()).pbPropagator()).isNotNull();
+        assertThat(new MiniSat2Solver(config().proofGeneration(true).build()).pbPropagator()).isNull();
+        assertThatThrownBy(() -> new MiniSat2Solver(MiniSatConfig.builder().build()).addPBConstraint(vec(0, 2), vec(1, 1), CType.LE, 1))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void testPBCsOnSolver() {
+        final FormulaFactory f = new FormulaFactory();
+        final MiniSat solver = MiniSat.miniSat(f, config().build());
+        final PBPropagator propagator = ((MiniSat2Solver) solver.underlyingSolver()).pbPropagator();
+        final Variable a = f.variable("a");
+        final Variable b = f.variable("b");
+        final Variable c = f.variable("c");
+        solver.add(f.pbc(CType.LE, 7, new Literal[]{a, b, c}, new int[]{5, 4, 3}));
+        solver.add(f.cc(CType.GE, 2, a, b, c));
+        assertThat(propagator.numConstraints()).isEqualTo(2);
+        assertThat(solver.sat()).isEqualTo(TRUE);
+        assertThat(solver.model().literals()).containsExactlyInAnyOrder(a.negate(), b, c);
+        solver.add(f.or(b.negate(), c.negate()));
+        assertThat(solver.sat()).isEqualTo(FALSE);
+        assertThat(solver.underlyingSolver().nVars()).isEqualTo(3);
+    }
+
+    @Test
+    public void testNormalization() {
+        final MiniSat2Solver solver = new MiniSat2Solver(config().build());
+        for (int i = 0; i < 3; i++) {
+            solver.newVar(true, true);
+        }
+        final PBPropagator propagator = solver.pbPropagator();
+        assertThat(solver.addPBConstraint(vec(mkLit(0, false), mkLit(1, false)), vec(1, 1), CType.LE, 2)).isTrue();
+        assertThat(solver.addPBConstraint(vec(mkLit(0, false), mkLit(0, true)), vec(3, 3), CType.EQ, 3)).isTrue();
+        assertThat(propagator.numConstraints()).isZero();
+        assertThat(solver.addPBConstraint(vec(mkLit(0, false), mkLit(1, true), mkLit(2, false)), vec(-2, 3, 1), CType.EQ, 1)).isTrue();
+        assertThat(propagator.numConstraints()).isEqualTo(2);
+        assertThat(solver.solve(null)).isEqualTo(TRUE);
+        assertThat(solver.model().get(1)).isNotEqualTo(solver.model().get(0));
+        assertThat(solver.model().get(2)).isNotEqualTo(solver.model().get(0));
+        assertThat(solver.solve(null, vec(mkLit(0, false), mkLit(1, false)))).isEqualTo(FALSE);
+        assertThat(solver.addPBConstraint(vec(mkLit(0, false), mkLit(1, false)), vec(2, 1), CType.GT, 3)).isFalse();
+        assertThat(solver.solve(null)).isEqualTo(FALSE);
+    }
+
+    @Test
+    public void testPropagation() {
+        final MiniSat2Solver solver = new MiniSat2Solver(config().build());
+        for (int i = 0; i < 4; i++) {
+            solver.newVar(true, true);
+        }
+        solver.addPBConstraint(vec(mkLit(0, false), mkLit(1, false), mkLit(2, false), mkLit(3, false)), vec(5, 3, 2, 1), CType.GE, 7);
+        assertThat(solver.solve(null)).isEqualTo(TRUE);
+        final PBPropagator propagator = solver.pbPropagator();
+        assertThat(propagator.numPropagations()).isPositive();
+        solver.cancelUntil(0);
+        assertThat(solver.value(mkLit(0, false))).isEqualTo(TRUE);
+        solver.trailLim.push(solver.trail.size());
+        solver.uncheckedEnqueue(mkLit(1, true), null);
+        assertThat(solver.propagate()).isNull();
+        assertThat(solver.value(mkLit(2, false))).isEqualTo(TRUE);
+        assertThat(solver.value(mkLit(3, false))).isEqualTo(Tristate.UNDEF);
+        assertThat(solver.vars.get(2).reason().size()).isEqualTo(2);
+        solver.cancelUntil(0);
+        assertThat(solver.value(mkLit(2, false))).isEqualTo(Tristate.UNDEF);
+        solver.trailLim.push(solver.trail.size());
+        solver.uncheckedEnqueue(mkLit(3, true), null);
+        assertThat(solver.propagate()).isNull();
+        assertThat(solver.value(mkLit(1, false))).isEqualTo(Tristate.UNDEF);
+        assertThat(solver.value(mkLit(2, false))).isEqualTo(Tristate.UNDEF);
+        solver.trailLim.push(solver.trail.size());
+        solver.uncheckedEnqueue(mkLit(2, true), null);
+        assertThat(solver.propagate()).isNull();
+        assertThat(solver.value(mkLit(1, false))).isEqualTo(TRUE);
+        assertThat(solver.vars.get(1).reason().size()).isEqualTo(3);
+        solver.cancelUntil(1);
+        assertThat(solver.value(mkLit(1, false))).isEqualTo(Tristate.UNDEF);
+        solver.trailLim.push(solver.trail.size());
+        solver.uncheckedEnqueue(mkLit(1, true), null);
+        solver.uncheckedEnqueue(mkLit(2, true), null);
+        final long conflicts = propagator.numConflicts();
+        final MSClause conflict = solver.propagate();
+        assertThat(conflict).isNotNull();
+        assertThat(conflict.size()).isEqualTo(3);
+        assertThat(propagator.numConflicts()).isEqualTo(conflicts + 1);
+        solver.cancelUntil(0);
+        assertThat(solver.solve(null)).isEqualTo(TRUE);
+    }
+
+    @Test
+    public void testSaveAndLoadState() {
+        final FormulaFactory f = new FormulaFactory();
+        final Variable a = f.variable("a");
+        final Variable b = f.variable("b");
+        final Variable c = f.variable("c");
+        final MiniSat solver = MiniSat.miniSat(f, config().build());
+        solver.add(f.pbc(CType.GE, 4, new Literal[]{a, b, c}, new int[]{3, 2, 2}));
+        final SolverState state = solver.saveState();
+        solver.add(f.pbc(CType.LE, 3, new Literal[]{a, b, c}, new int[]{3, 2, 2}));
+        assertThat(solver.sat()).isEqualTo(FALSE);
+        solver.loadState(state);
+        assertThat(((MiniSat2Solver) solver.underlyingSolver()).pbPropagator().numConstraints()).isEqualTo(1);
+        solver.add(a.negate());
+        assertThat(solver.sat()).isEqualTo(TRUE);
+        assertThat(solver.model().literals()).containsExactlyInAnyOrder(a.negate(), b, c);
+        assertThat(solver.sat(b.negate())).isEqualTo(FALSE);
+    }
+
+    @Test
+    public void testRandomInstances() {
+        final FormulaFactory f = new FormulaFactory();
+        for (int i = 0; i < 200; i++) {
+            final Random random = new Random(i * 37);
+            final List<Formula> formulas = randomInstance(f, random, 8, 1 + random.nextInt(4), 1 + random.nextInt(6), random.nextInt(6));
+            final MiniSat reference = MiniSat.miniSat(f);
+            reference.add(formulas);
+            final SortedSet<Variable> variables = new TreeSet<>();
+            for (final Formula formula : formulas) {
+                variables.addAll(formula.variables());
+            }
+            variables.remove(f.variable("free"));
+            final Set<Assignment> expected = new HashSet<>(reference.enumerateAllModels(variables));
+            for (final MiniSat solver : solvers(f)) {
+                solver.add(formulas);
+                assertThat(solver.sat()).isEqualTo(reference.sat());
+                if (solver.sat() == TRUE) {
+                    final Assignment model = solver.model();
+                    for (final Formula formula : formulas) {
+                        assertThat(formula.evaluate(model)).isTrue();
+                    }
+                }
+                assertThat(solver.backbone(variables)).isEqualTo(reference.backbone(variables));
+                assertThat(new HashSet<>(solver.enumerateAllModels(variables))).isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    public void testLargeRandomInstances() {
+        final FormulaFactory f = new FormulaFactory();
+        for (int i = 0; i < 20; i++) {
+            final Random random = new Random(i * 13);
+            final List<Formula> formulas = randomInstance(f, random, 40, 8, 20, 100);
+            final MiniSat reference = MiniSat.miniSat(f);
+            reference.add(formulas);
+            for (final MiniSat solver : solvers(f)) {
+                solver.add(formulas);
+                assertThat(solver.sat()).isEqualTo(reference.sat());
+                if (solver.sat() == TRUE) {
+                    final Assignment model = solver.model();
+                    for (final Formula formula : formulas) {
+                        assertThat(formula.evaluate(model)).isTrue();
+                    }
+                }
+            }
+        }
+    }
+}
@@ -96,7 +96,7 @@ public class SATTest extends TestWithExampleFormulas implements LogicNGTest {
         this.f = new FormulaFactory();
         this.pg = new PigeonHoleGenerator(this.f);
         this.parser = new PropositionalParser(this.f);
-        this.solvers = new SATSolver[8];
+        this.solvers = new SATSolver[19];
         this.solvers[0] = MiniSat.miniSat(this.f, MiniSatConfig.builder().incremental(true).build());
         this.solvers[1] = MiniSat.miniSat(this.f, MiniSatConfig.builder().incremental(false).build());
         this.solvers[2] = MiniSat.glucose(this.f, MiniSatConfig.builder().incremental(false).build(),
@@ -105,9 +105,24 @@ public class SATTest extends TestWithExampleFormulas implements LogicNGTest {
         this.solvers[4] = MiniSat.miniCard(this.f, MiniSatConfig.builder().incremental(false).build());
         this.solvers[5] = MiniSat.miniSat(this.f, MiniSatConfig.builder().cnfMethod(MiniSatConfig.CNFMethod.PG_ON_SOLVER).build());
         this.solvers[6] = MiniSat.miniSat(this.f, MiniSatConfig.builder().cnfMethod(MiniSatConfig.CNFMethod.PG_ON_SOLVER).auxiliaryVariablesInModels(false).build());
-        this.solvers[7] = MiniSat.miniSat(this.f, MiniSatConfig.builder().cnfMethod(MiniSatConfig.CNFMethod.FULL_PG_ON_SOLVER).auxiliaryVariablesInModels(false).build());
+        this.solvers[7] = MiniSat.miniSat(this.f, MiniSatConfig.builder().incremental(true).clauseStorage(MiniSatConfig.ClauseStorage.ARENA).build());
+        this.solvers[8] = MiniSat.miniSat(this.f, MiniSatConfig.builder().incremental(false).clauseStorage(MiniSatConfig.ClauseStorage.ARENA).build());
+        this.solvers[9] = MiniSat.miniSat(this.f, MiniSatConfig.builder().incremental(true).preprocessing(true).build());
+        this.solvers[10] = MiniSat.miniSat(this.f, MiniSatConfig.builder().incremental(false).preprocessing(true).build());
+        this.solvers[11] = MiniSat.glucose(this.f, MiniSatConfig.builder().incremental(false).build(),
+                GlucoseConfig.builder().inprocessing(true).inprocessingInterval(100).build());
+        this.solvers[12] = MiniSat.glucose(this.f, MiniSatConfig.builder().incremental(false).build(),
+                GlucoseConfig.builder().learntDatabase(GlucoseConfig.LearntDatabase.TIERED).tier2ReduceInterval(100).localReduceInterval(300).build());
+        this.solvers[13] = MiniSat.miniSat(this.f, MiniSatConfig.builder().incremental(true).chronologicalBacktracking(true).chronoBacktrackThreshold(0).trailReuse(true).build());
+        this.solvers[14] = MiniSat.glucose(this.f, MiniSatConfig.builder().incremental(false).chronologicalBacktracking(true).chronoBacktrackThreshold(0).trailReuse(true).build(),
+                GlucoseConfig.builder().build());
+        this.solvers[15] = MiniSat.miniSat(this.f, MiniSatConfig.builder().incremental(true).decisionHeuristic(MiniSatConfig.DecisionHeuristic.LRB).build());
+        this.solvers[16] = MiniSat.glucose(this.f, MiniSatConfig.builder().incremental(false).decisionHeuristic(MiniSatConfig.DecisionHeuristic.CHB).build(),
+                GlucoseConfig.builder().build());
+        this.solvers[17] = MiniSat.miniSat(this.f, MiniSatConfig.builder().incremental(true).decisionHeuristic(MiniSatConfig.DecisionHeuristic.VMTF).build());
+        this.solvers[18] = MiniSat.miniSat(this.f, MiniSatConfig.builder().cnfMethod(MiniSatConfig.CNFMethod.FULL_PG_ON_SOLVER).auxiliaryVariablesInModels(false).build());
 
-        this.testStrings = new String[8];
+        this.testStrings = new String[19];
         this.testStrings[0] = "MiniSat2Solver{result=UNDEF, incremental=true}";
         this.testStrings[1] = "MiniSat2Solver{result=UNDEF, incremental=false}";
         this.testStrings[2] = "GlucoseSyrup{result=UNDEF, incremental=false}";
@@ -115,7 +130,18 @@ public class SATTest extends TestWithExampleFormulas implements LogicNGTest {
         this.testStrings[4] = "MiniCard{result=UNDEF, incremental=false}";
         this.testStrings[5] = "MiniSat2Solver{result=UNDEF, incremental=true}";
         this.testStrings[6] = "MiniSat2Solver{result=UNDEF, incremental=true}";
-        this.testStrings[7] = "MiniSat2Solver{result=UNDEF, incremental=true}";
+        this.testStrings[7] = "MiniSat2ArenaSolver{result=UNDEF, incremental=true}";
+        this.testStrings[8] = "MiniSat2ArenaSolver{result=UNDEF, incremental=false}";
+        this.testStrings[9] = "MiniSat2Solver{result=UNDEF, incremental=true}";
+        this.testStrings[10] = "MiniSat2Solver{result=UNDEF, incremental=false}";
+        this.testStrings[11] = "GlucoseSyrup{result=UNDEF, incremental=false}";
+        this.testStrings[12] = "GlucoseSyrup{result=UNDEF, incremental=false}";
+        this.testStrings[13] = "MiniSat2Solver{result=UNDEF, incremental=true}";
+        this.testStrings[14] = "GlucoseSyrup{result=UNDEF, incremental=false}";
+        this.testStrings[15] = "MiniSat2Solver{result=UNDEF, incremental=true}";
+        this.testStrings[16] = "GlucoseSyrup{result=UNDEF, incremental=false}";
+        this.testStrings[17] = "MiniSat2Solver{result=UNDEF, incremental=true}";
+        this.testStrings[18] = "MiniSat2Solver{result=UNDEF, incremental=true}";
     }
 
     @Test
@@ -969,7 +995,7 @@ public class SATTest extends TestWithExampleFormulas implements LogicNGTest {
     @Test
     public void testFormulaOnSolverWithContradiction() throws ParserException {
         for (final SATSolver solver : this.solvers) {
-            if (solver instanceof MiniSat) {
+            if (solver instanceof MiniSat && !((MiniSat) solver).getConfig().preprocessing()) {
                 solver.add(this.f.variable("A"));
                 solver.add(this.f.variable("B"));
                 solver.add(this.f.parse("C & (~A | ~B)"));
@@ -0,0 +1,241 @@
+///////////////////////////////////////////////////////////////////////////
+//                   __                _      _   ________               //
+//                  / /   ____  ____ _(_)____/ | / / ____/               //
+//                 / /   / __ \/ __ `/ / ___/  |/ / / __                 //
+//                / /___/ /_/ / /_/ / / /__/ /|  / /_/ /                 //
+//               /_____/\____/\__, /_/\___/_/ |_/\____/                  //
+//                           /____/                                      //
+//                                                                       //
+//               The Next Generation Logic Library                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+//                                                                       //
+//  Copyright 2015-20xx Christoph Zengler                                //
+//                                                                       //
+//  Licensed under the Apache License, Version 2.0 (the "License");      //
+//  you may not use this file except in compliance with the License.     //
+//  You may obtain a copy of the License at                              //
+//                                                                       //
+//  http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                       //
+//  Unless required by applicable law or agreed to in writing, software  //
+//  distributed under the License is distributed on an "AS IS" BASIS,    //
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or      //
+//  implied.  See the License for the specific language governing        //
+//  permissions and limitations under the License.                       //
+//                                                                       //
+///////////////////////////////////////////////////////////////////////////
+
+
+package org.logicng.solvers.sat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.logicng.datastructures.Tristate.FALSE;
+import static org.logicng.datastructures.Tristate.TRUE;
+
+import org.junit.jupiter.api.Test;
+import org.logicng.collections.LNGIntVector;
+import org.logicng.datastructures.Assignment;
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.FormulaFactory;
+import org.logicng.formulas.Variable;
+import org.logicng.io.parsers.ParserException;
+import org.logicng.io.parsers.PropositionalParser;
+import org.logicng.io.readers.DimacsReader;
+import org.logicng.solvers.MiniSat;
+import org.logicng.solvers.SolverState;
+import org.logicng.util.FormulaCornerCases;
+import org.logicng.util.FormulaRandomizer;
+import org.logicng.util.FormulaRandomizerConfig;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+
+/**
+ * Unit tests for {@link SatElite}.
+ * @version 2.3.0
+ * @since 2.3.0
+ */
+public class SatEliteTest {
+
+    private static MiniSatConfig config(final boolean incremental) {
+        return MiniSatConfig.builder().incremental(incremental).preprocessing(true).build();
+    }
+
+    @Test
+    public void testConfig() {
+        final MiniSat plain = MiniSat.miniSat(new FormulaFactory());
+        assertThat(((MiniSat2Solver) plain.underlyingSolver()).preprocessor()).isNull();
+        final MiniSat arena = MiniSat.miniSat(new FormulaFactory(),
+                MiniSatConfig.builder().preprocessing(true).clauseStorage(MiniSatConfig.ClauseStorage.ARENA).build());
+        assertThat(arena.underlyingSolver()).isInstanceOf(MiniSat2ArenaSolver.class);
+        final MiniSat proof = MiniSat.miniSat(new FormulaFactory(), MiniSatConfig.builder().preprocessing(true).proofGeneration(true).build());
+        assertThat(((MiniSat2Solver) proof.underlyingSolver()).preprocessor()).isNull();
+        final MiniSat solver = MiniSat.miniSat(new FormulaFactory(), config(false));
+        assertThat(((MiniSat2Solver) solver.underlyingSolver()).preprocessor()).isNotNull();
+    }
+
+    @Test
+    public void testElimination() {
+        final MiniSat2Solver solver = new MiniSat2Solver(config(false));
+        for (int i = 0; i < 5; i++) {
+            solver.newVar(true, true);
+        }
+        solver.addClause(clause(1, 2), null);
+        solver.addClause(clause(-1, 3), null);
+        solver.addClause(clause(-3, 4), null);
+        solver.addClause(clause(-4, 5), null);
+        solver.addClause(clause(1, 2, 3), null);
+        final SatElite preprocessor = solver.preprocessor();
+        preprocessor.setFrozen(4, true);
+        assertThat(preprocessor.isFrozen(4)).isTrue();
+        assertThat(preprocessor.isFrozen(3)).isFalse();
+        assertThat(solver.solve(null)).isEqualTo(TRUE);
+        assertThat(preprocessor.numRuns()).isEqualTo(1);
+        assertThat(preprocessor.numSubsumedClauses()).isGreaterThanOrEqualTo(1);
+        assertThat(preprocessor.numEliminatedVars()).isGreaterThan(0);
+        assertThat(preprocessor.isEliminated(4)).isFalse();
+        assertModel(solver, clause(1, 2), clause(-1, 3), clause(-3, 4), clause(-4, 5), clause(1, 2, 3));
+        assertThat(solver.solve(null, clause(-2, -5))).isEqualTo(FALSE);
+        assertThat(solver.solve(null, clause(-2))).isEqualTo(TRUE);
+        assertThat(solver.model().get(0)).isTrue();
+        assertThat(solver.model().get(4)).isTrue();
+        assertThat(preprocessor.numRuns()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    public void testRestoreOnNewClause() {
+        final MiniSat2Solver solver = new MiniSat2Solver(config(false));
+        for (int i = 0; i < 3; i++) {
+            solver.newVar(true, true);
+        }
+        solver.addClause(clause(1, 2), null);
+        solver.addClause(clause(-1, 3), null);
+        assertThat(solver.solve(null)).isEqualTo(TRUE);
+        final SatElite preprocessor = solver.preprocessor();
+        assertThat(preprocessor.numEliminatedVars()).isGreaterThan(0);
+        solver.addClause(clause(-1), null);
+        solver.addClause(clause(-2), null);
+        assertThat(preprocessor.isEliminated(0)).isFalse();
+        assertThat(preprocessor.isEliminated(1)).isFalse();
+        assertThat(solver.solve(null)).isEqualTo(FALSE);
+    }
+
+    @Test
+    public void testDimacsFiles() throws IOException {
+        final FormulaFactory f = new FormulaFactory();
+        final MiniSat solver = MiniSat.miniSat(f, config(false));
+        final Map<String, Boolean> expectedResults = new HashMap<>();
+        try (final BufferedReader reader = new BufferedReader(new FileReader("src/test/resources/sat/results.txt"))) {
+            while (reader.ready()) {
+                final String[] tokens = reader.readLine().split(";");
+                expectedResults.put(tokens[0], Boolean.valueOf(tokens[1]));
+            }
+        }
+        int eliminated = 0;
+        final File[] files = new File("src/test/resources/sat").listFiles();
+        assert files != null;
+        for (final File file : files) {
+            if (file.getName().endsWith(".cnf")) {
+                final List<Formula> formulas = DimacsReader.readCNF(file, f);
+                solver.add(formulas);
+                final boolean expected = expectedResults.get(file.getName());
+                assertThat(solver.sat()).isEqualTo(expected ? TRUE : FALSE);
+                if (expected) {
+                    final Assignment model = solver.model();
+                    for (final Formula formula : formulas) {
+                        assertThat(formula.evaluate(model)).isTrue();
+                    }
+                }
+                eliminated += ((MiniSat2Solver) solver.underlyingSolver()).preprocessor().numEliminatedVars();
+                solver.reset();
+            }
+        }
+        assertThat(eliminated).isGreaterThan(0);
+    }
+
+    @Test
+    public void testIncrementalSaveAndLoad() throws ParserException {
+        final FormulaFactory f = new FormulaFactory();
+        final PropositionalParser p = new PropositionalParser(f);
+        final MiniSat solver = MiniSat.miniSat(f, config(true));
+        solver.add(p.parse("(a | b) & (~a | c) & (~c | d) & (~d | e)"));
+        final SolverState state = solver.saveState();
+        final SatElite preprocessor = ((MiniSat2Solver) solver.underlyingSolver()).preprocessor();
+        assertThat(preprocessor.numRuns()).isEqualTo(1);
+        final int eliminated = preprocessor.numEliminatedVars();
+        assertThat(eliminated).isGreaterThan(0);
+        solver.add(p.parse("~a & ~b"));
+        assertThat(solver.sat()).isEqualTo(FALSE);
+        solver.loadState(state);
+        assertThat(preprocessor.numEliminatedVars()).isEqualTo(eliminated);
+        assertThat(solver.sat()).isEqualTo(TRUE);
+        assertThat(solver.sat(f.literal("b", false))).isEqualTo(TRUE);
+        assertThat(solver.model().evaluateLit(f.variable("e"))).isTrue();
+        solver.loadState(state);
+        assertThat(solver.sat(Arrays.asList(f.literal("a", false), f.literal("b", false)))).isEqualTo(FALSE);
+        assertThat(preprocessor.numRuns()).isEqualTo(1);
+    }
+
+    @Test
+    public void testRandomFormulas() {
+        final FormulaFactory f = new FormulaFactory();
+        for (int i = 0; i < 200; i++) {
+            final FormulaRandomizer randomizer = new FormulaRandomizer(f, FormulaRandomizerConfig.builder().numVars(8).weightPbc(1).seed(i * 31).build());
+            final Formula formula = randomizer.formula(4);
+            final MiniSat reference = MiniSat.miniSat(f);
+            final MiniSat solver = MiniSat.miniSat(f, config(i % 2 == 0));
+            reference.add(formula);
+            solver.add(formula);
+            final SortedSet<Variable> variables = formula.variables();
+            assertThat(solver.sat()).isEqualTo(reference.sat());
+            assertThat(solver.backbone(variables)).isEqualTo(reference.backbone(variables));
+            final Set<Assignment> expected = new HashSet<>(reference.enumerateAllModels(variables));
+            assertThat(new HashSet<>(solver.enumerateAllModels(variables))).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    public void testCornerCases() {
+        final FormulaFactory f = new FormulaFactory();
+        final FormulaCornerCases cornerCases = new FormulaCornerCases(f);
+        for (final Formula formula : cornerCases.cornerCases()) {
+            final MiniSat reference = MiniSat.miniSat(f);
+            final MiniSat solver = MiniSat.miniSat(f, config(true));
+            reference.add(formula);
+            solver.add(formula);
+            assertThat(solver.sat()).isEqualTo(reference.sat());
+            assertThat(new HashSet<>(solver.enumerateAllModels(formula.variables())))
+                    .isEqualTo(new HashSet<>(reference.enumerateAllModels(formula.variables())));
+        }
+    }
+
+    private static void assertModel(final MiniSat2Solver solver, final LNGIntVector... clauses) {
+        for (final LNGIntVector clause : clauses) {
+            boolean satisfied = false;
+            for (int i = 0; i < clause.size(); i++) {
+                final int lit = clause.get(i);
+                satisfied |= solver.model().get(lit >> 1) == ((lit & 1) == 0);
+            }
+            assertThat(satisfied).isTrue();
+        }
+    }
+
+    private static LNGIntVector clause(final int... lits) {
+        final LNGIntVector c = new LNGIntVector(lits.length);
+        for (final int l : lits) {
+            final int var = Math.abs(l) - 1;
+            c.push(l > 0 ? var * 2 : (var * 2) ^ 1);
+        }
+        return c;
+    }
+}